@@ -15,14 +15,84 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_PERMISSION_SIZE_ENV = "MESH_CACHE_PERMISSION_SIZE";
+
+	public static final String MESH_CACHE_AUTH_USER_SIZE_ENV = "MESH_CACHE_AUTH_USER_SIZE";
+
+	public static final String MESH_CACHE_LINK_PATH_SIZE_ENV = "MESH_CACHE_LINK_PATH_SIZE";
+
+	public static final String MESH_CACHE_WEBROOT_SEGMENT_SIZE_ENV = "MESH_CACHE_WEBROOT_SEGMENT_SIZE";
+
+	public static final String MESH_CACHE_WEBROOT_SEGMENT_WARMUP_ENV = "MESH_CACHE_WEBROOT_SEGMENT_WARMUP";
+
+	public static final String MESH_CACHE_NODE_RESPONSE_SIZE_ENV = "MESH_CACHE_NODE_RESPONSE_SIZE";
+
+	public static final String MESH_CACHE_NAVIGATION_SIZE_ENV = "MESH_CACHE_NAVIGATION_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_PERMISSION_CACHE_SIZE = 100_000;
+
+	private static final long DEFAULT_AUTH_USER_CACHE_SIZE = 10_000;
+
+	private static final long DEFAULT_LINK_PATH_CACHE_SIZE = 50_000;
+
+	private static final long DEFAULT_WEBROOT_SEGMENT_CACHE_SIZE = 100_000;
+
+	private static final boolean DEFAULT_WEBROOT_SEGMENT_CACHE_WARMUP = false;
+
+	private static final long DEFAULT_NODE_RESPONSE_CACHE_SIZE = 0;
+
+	private static final long DEFAULT_NAVIGATION_CACHE_SIZE = 0;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of elements for which the permissions are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PERMISSION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PERMISSION_SIZE_ENV, description = "Override the permission cache size.")
+	private long permissionCacheSize = DEFAULT_PERMISSION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of authenticated users which are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_AUTH_USER_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_AUTH_USER_SIZE_ENV, description = "Override the authenticated user cache size.")
+	private long authUserCacheSize = DEFAULT_AUTH_USER_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of resolved link paths which are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_PATH_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_PATH_SIZE_ENV, description = "Override the link path cache size.")
+	private long linkPathCacheSize = DEFAULT_LINK_PATH_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of webroot path segments which are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_WEBROOT_SEGMENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_WEBROOT_SEGMENT_SIZE_ENV, description = "Override the webroot segment cache size.")
+	private long webrootSegmentCacheSize = DEFAULT_WEBROOT_SEGMENT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether the webroot segment cache will be filled with the segments of the latest branches of all projects after startup. Default: "
+		+ DEFAULT_WEBROOT_SEGMENT_CACHE_WARMUP)
+	@EnvironmentVariable(name = MESH_CACHE_WEBROOT_SEGMENT_WARMUP_ENV, description = "Override the webroot segment cache warm-up flag.")
+	private boolean webrootSegmentCacheWarmUp = DEFAULT_WEBROOT_SEGMENT_CACHE_WARMUP;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of rendered node responses which are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NODE_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NODE_RESPONSE_SIZE_ENV, description = "Override the node response cache size.")
+	private long nodeResponseCacheSize = DEFAULT_NODE_RESPONSE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of navigation subtrees which are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NAVIGATION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NAVIGATION_SIZE_ENV, description = "Override the navigation cache size.")
+	private long navigationCacheSize = DEFAULT_NAVIGATION_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -37,6 +107,76 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getPermissionCacheSize() {
+		return permissionCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setPermissionCacheSize(long permissionCacheSize) {
+		this.permissionCacheSize = permissionCacheSize;
+		return this;
+	}
+
+	public long getAuthUserCacheSize() {
+		return authUserCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setAuthUserCacheSize(long authUserCacheSize) {
+		this.authUserCacheSize = authUserCacheSize;
+		return this;
+	}
+
+	public long getLinkPathCacheSize() {
+		return linkPathCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setLinkPathCacheSize(long linkPathCacheSize) {
+		this.linkPathCacheSize = linkPathCacheSize;
+		return this;
+	}
+
+	public long getWebrootSegmentCacheSize() {
+		return webrootSegmentCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setWebrootSegmentCacheSize(long webrootSegmentCacheSize) {
+		this.webrootSegmentCacheSize = webrootSegmentCacheSize;
+		return this;
+	}
+
+	public boolean isWebrootSegmentCacheWarmUp() {
+		return webrootSegmentCacheWarmUp;
+	}
+
+	@Setter
+	public CacheConfig setWebrootSegmentCacheWarmUp(boolean webrootSegmentCacheWarmUp) {
+		this.webrootSegmentCacheWarmUp = webrootSegmentCacheWarmUp;
+		return this;
+	}
+
+	public long getNodeResponseCacheSize() {
+		return nodeResponseCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setNodeResponseCacheSize(long nodeResponseCacheSize) {
+		this.nodeResponseCacheSize = nodeResponseCacheSize;
+		return this;
+	}
+
+	public long getNavigationCacheSize() {
+		return navigationCacheSize;
+	}
+
+	@Setter
+	public CacheConfig setNavigationCacheSize(long navigationCacheSize) {
+		this.navigationCacheSize = navigationCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
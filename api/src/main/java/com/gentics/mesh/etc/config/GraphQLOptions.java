@@ -2,6 +2,7 @@ package com.gentics.mesh.etc.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.annotation.Setter;
 import com.gentics.mesh.doc.GenerateDocumentation;
 import com.gentics.mesh.etc.config.env.EnvironmentVariable;
 import com.gentics.mesh.etc.config.env.Option;
@@ -13,13 +14,43 @@ import com.gentics.mesh.etc.config.env.Option;
 public class GraphQLOptions implements Option {
 	public static final long DEFAULT_SLOW_THRESHOLD = 60_000L;
 
+	public static final long DEFAULT_SCHEMA_CACHE_SIZE = 1000;
+
+	public static final long DEFAULT_QUERY_CACHE_SIZE = 1000;
+
+	public static final long DEFAULT_PERSISTED_QUERY_CACHE_SIZE = 1000;
+
 	public static final String MESH_GRAPHQL_SLOW_THRESHOLD_ENV = "MESH_GRAPHQL_SLOW_THRESHOLD";
 
+	public static final String MESH_GRAPHQL_SCHEMA_CACHE_SIZE_ENV = "MESH_GRAPHQL_SCHEMA_CACHE_SIZE";
+
+	public static final String MESH_GRAPHQL_QUERY_CACHE_SIZE_ENV = "MESH_GRAPHQL_QUERY_CACHE_SIZE";
+
+	public static final String MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE_ENV = "MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Threshold for logging slow graphql queries. Default: " + DEFAULT_SLOW_THRESHOLD + "ms")
 	@EnvironmentVariable(name = MESH_GRAPHQL_SLOW_THRESHOLD_ENV, description = "Override the configured slow graphQl query threshold.")
 	private Long slowThreshold = DEFAULT_SLOW_THRESHOLD;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of GraphQL schemas which are kept in the schema cache. A schema is cached per project, branch, API version and set of used schema versions. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_SCHEMA_CACHE_SIZE_ENV, description = "Override the configured GraphQL schema cache size.")
+	private long schemaCacheSize = DEFAULT_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of parsed and validated GraphQL query documents which are kept in the query cache. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_QUERY_CACHE_SIZE_ENV, description = "Override the configured GraphQL query cache size.")
+	private long queryCacheSize = DEFAULT_QUERY_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of persisted queries which can be referenced by their SHA-256 hash. A value of 0 will disable persisted queries. Default: "
+		+ DEFAULT_PERSISTED_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE_ENV, description = "Override the configured GraphQL persisted query cache size.")
+	private long persistedQueryCacheSize = DEFAULT_PERSISTED_QUERY_CACHE_SIZE;
+
 	/**
 	 * Get the threshold for logging slow graphQl queries (in milliseconds)
 	 * @return threshold in milliseconds
@@ -37,4 +68,61 @@ public class GraphQLOptions implements Option {
 		this.slowThreshold = slowThreshold;
 		return this;
 	}
+
+	/**
+	 * Get the maximum size of the GraphQL schema cache.
+	 * @return maximum amount of cached schemas
+	 */
+	public long getSchemaCacheSize() {
+		return schemaCacheSize;
+	}
+
+	/**
+	 * Set the maximum size of the GraphQL schema cache. A value of 0 disables the cache.
+	 * @param schemaCacheSize maximum amount of cached schemas
+	 * @return fluent API
+	 */
+	@Setter
+	public GraphQLOptions setSchemaCacheSize(long schemaCacheSize) {
+		this.schemaCacheSize = schemaCacheSize;
+		return this;
+	}
+
+	/**
+	 * Get the maximum size of the GraphQL query cache.
+	 * @return maximum amount of cached query documents
+	 */
+	public long getQueryCacheSize() {
+		return queryCacheSize;
+	}
+
+	/**
+	 * Set the maximum size of the GraphQL query cache. A value of 0 disables the cache.
+	 * @param queryCacheSize maximum amount of cached query documents
+	 * @return fluent API
+	 */
+	@Setter
+	public GraphQLOptions setQueryCacheSize(long queryCacheSize) {
+		this.queryCacheSize = queryCacheSize;
+		return this;
+	}
+
+	/**
+	 * Get the maximum amount of persisted queries.
+	 * @return maximum amount of persisted queries
+	 */
+	public long getPersistedQueryCacheSize() {
+		return persistedQueryCacheSize;
+	}
+
+	/**
+	 * Set the maximum amount of persisted queries. A value of 0 disables persisted queries.
+	 * @param persistedQueryCacheSize maximum amount of persisted queries
+	 * @return fluent API
+	 */
+	@Setter
+	public GraphQLOptions setPersistedQueryCacheSize(long persistedQueryCacheSize) {
+		this.persistedQueryCacheSize = persistedQueryCacheSize;
+		return this;
+	}
 }
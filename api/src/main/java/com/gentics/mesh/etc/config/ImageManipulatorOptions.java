@@ -20,11 +20,15 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
 	public static final String MESH_IMAGE_CACHE_DIRECTORY_ENV = "MESH_IMAGE_CACHE_DIRECTORY";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
+	public static final String MESH_IMAGE_CACHE_MAX_AGE_ENV = "MESH_IMAGE_CACHE_MAX_AGE";
 
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	public static final String DEFAULT_IMAGE_CACHE_DIRECTORY = "data" + File.separator + "binaryImageCache";
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 0;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_AGE = 0;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
 
@@ -33,6 +37,18 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_CACHE_DIRECTORY_ENV, description = "Override the path for image cache directory.")
 	private String imageCacheDirectory = DEFAULT_IMAGE_CACHE_DIRECTORY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size of the image cache directory in bytes. The least recently used image variants will be removed when the size is exceeded. A value of 0 disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache directory.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the time in milliseconds after which image variants which have not been used are removed from the image cache. A value of 0 disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_AGE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_AGE_ENV, description = "Override the maximum age of unused image variants in the image cache.")
+	private long imageCacheMaxAge = DEFAULT_IMAGE_CACHE_MAX_AGE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the maximum allowed image resize width. Resizing is a memory intensive operation and thus this limit can help avoid memory issues. Default: "
 		+ DEFAULT_MAX_WIDTH)
@@ -66,6 +82,26 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
+	public long getImageCacheMaxAge() {
+		return imageCacheMaxAge;
+	}
+
+	@Setter
+	public ImageManipulatorOptions setImageCacheMaxAge(long imageCacheMaxAge) {
+		this.imageCacheMaxAge = imageCacheMaxAge;
+		return this;
+	}
+
 	public Integer getMaxHeight() {
 		return maxHeight;
 	}
@@ -40,6 +40,8 @@ public abstract class MeshOptions implements Option {
 	public static final String MESH_INITIAL_ADMIN_PASSWORD_FORCE_RESET_ENV = "MESH_INITIAL_ADMIN_PASSWORD_FORCE_RESET";
 	public static final String MESH_MAX_PURGE_BATCH_SIZE = "MESH_MAX_PURGE_BATCH_SIZE";
 	private static final String MESH_MAX_MIGRATION_BATCH_SIZE = "MESH_MAX_MIGRATION_BATCH_SIZE";
+	private static final String MESH_MIGRATION_THREADS = "MESH_MIGRATION_THREADS";
+	private static final String MESH_JOB_CONCURRENCY = "MESH_JOB_CONCURRENCY";
 
 	// TODO remove this setting. There should not be a default max depth. This is no longer needed once we remove the expand all parameter
 	private int defaultMaxDepth = DEFAULT_MAX_DEPTH;
@@ -143,6 +145,18 @@ public abstract class MeshOptions implements Option {
 	@EnvironmentVariable(name = MESH_MAX_MIGRATION_BATCH_SIZE, description = "Override the maximum migration batch size")
 	private int migrationMaxBatchSize = 50;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of threads which are used to migrate the contents of a schema migration. The contents are partitioned by their node and each partition is migrated by a dedicated thread. "
+		+ "Parallel migrations should only be used when writes are not synchronized, since the migration threads would otherwise wait for each other. Default: 1")
+	@EnvironmentVariable(name = MESH_MIGRATION_THREADS, description = "Override the amount of schema migration threads.")
+	private int migrationThreads = 1;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The maximum amount of jobs which are processed concurrently by this instance. Jobs which affect the same project are never processed concurrently. "
+		+ "In clustered mode, the jobs of different projects are additionally distributed across the cluster instances. Default: 1")
+	@EnvironmentVariable(name = MESH_JOB_CONCURRENCY, description = "Override the maximum amount of concurrently processed jobs.")
+	private int jobConcurrency = 1;
+
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("GraphQL options.")
 	private GraphQLOptions graphQLOptions = new GraphQLOptions();
@@ -520,6 +534,26 @@ public abstract class MeshOptions implements Option {
 		this.migrationMaxBatchSize = migrationMaxBatchSize;
 	}
 
+	public int getMigrationThreads() {
+		return migrationThreads;
+	}
+
+	@Setter
+	public MeshOptions setMigrationThreads(int migrationThreads) {
+		this.migrationThreads = migrationThreads;
+		return this;
+	}
+
+	public int getJobConcurrency() {
+		return jobConcurrency;
+	}
+
+	@Setter
+	public MeshOptions setJobConcurrency(int jobConcurrency) {
+		this.jobConcurrency = jobConcurrency;
+		return this;
+	}
+
 	/**
 	 * Validate this and the nested options.
 	 */
@@ -21,6 +21,7 @@ public class MeshUploadOptions implements Option {
 	public static final String DEFAULT_TEMP_DIR = "data" + File.separator + "tmp" + File.separator + "file-uploads";;
 	public static final int DEFAULT_DOCUMENT_PARSER_LIMIT = 40_000;
 	public static final boolean DEFAULT_UPLOAD_PARSER_FLAG = true;
+	public static final long DEFAULT_RESUMABLE_UPLOAD_TIMEOUT = 3600;
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
@@ -28,6 +29,7 @@ public class MeshUploadOptions implements Option {
 	public static final String MESH_BINARY_DOCUMENT_PARSER_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_ENV = "MESH_BINARY_DOCUMENT_PARSER";
 	public static final String MESH_BINARY_METADATA_WHITELIST_ENV = "MESH_BINARY_METADATA_WHITELIST";
+	public static final String MESH_BINARY_RESUMABLE_UPLOAD_TIMEOUT_ENV = "MESH_BINARY_RESUMABLE_UPLOAD_TIMEOUT";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_MB_LIMIT)
@@ -60,6 +62,11 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_METADATA_WHITELIST_ENV, description = "Override the metadata whitelist")
 	private Set<String> metadataWhitelist;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in seconds after which unfinished chunked streaming uploads are discarded. Default: " + DEFAULT_RESUMABLE_UPLOAD_TIMEOUT)
+	@EnvironmentVariable(name = MESH_BINARY_RESUMABLE_UPLOAD_TIMEOUT_ENV, description = "Override the timeout for unfinished chunked uploads.")
+	private long resumableUploadTimeout = DEFAULT_RESUMABLE_UPLOAD_TIMEOUT;
+
 	/**
 	 * Return the upload limit in bytes.
 	 * 
@@ -182,4 +189,25 @@ public class MeshUploadOptions implements Option {
 		this.metadataWhitelist = metadataWhitelist;
 		return this;
 	}
+
+	/**
+	 * Return the time in seconds after which unfinished chunked uploads are discarded.
+	 *
+	 * @return Timeout in seconds
+	 */
+	public long getResumableUploadTimeout() {
+		return resumableUploadTimeout;
+	}
+
+	/**
+	 * Set the time in seconds after which unfinished chunked uploads are discarded.
+	 *
+	 * @param resumableUploadTimeout
+	 *            Timeout in seconds
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setResumableUploadTimeout(long resumableUploadTimeout) {
+		this.resumableUploadTimeout = resumableUploadTimeout;
+		return this;
+	}
 }
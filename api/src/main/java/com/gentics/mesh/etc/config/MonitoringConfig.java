@@ -16,6 +16,9 @@ public class MonitoringConfig implements Option {
 	public static final String MESH_MONITORING_HTTP_PORT_ENV = "MESH_MONITORING_HTTP_PORT";
 	public static final String MESH_MONITORING_HTTP_HOST_ENV = "MESH_MONITORING_HTTP_HOST";
 	public static final String MESH_MONITORING_ENABLED_ENV = "MESH_MONITORING_ENABLED";
+	public static final String MESH_MONITORING_TX_PROFILER_ENABLED_ENV = "MESH_MONITORING_TX_PROFILER_ENABLED";
+	public static final String MESH_MONITORING_TX_PROFILER_THRESHOLD_ENV = "MESH_MONITORING_TX_PROFILER_THRESHOLD";
+	public static final String MESH_MONITORING_TX_PROFILER_BUFFER_SIZE_ENV = "MESH_MONITORING_TX_PROFILER_BUFFER_SIZE";
 
 	public static final boolean DEFAULT_MONITORING_ENABLED = true;
 
@@ -25,6 +28,12 @@ public class MonitoringConfig implements Option {
 
 	public static final boolean DEFAULT_JVM_METRICS_ENABLED = true;
 
+	public static final boolean DEFAULT_TX_PROFILER_ENABLED = false;
+
+	public static final long DEFAULT_TX_PROFILER_THRESHOLD = 1000;
+
+	public static final int DEFAULT_TX_PROFILER_BUFFER_SIZE = 100;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Enable or disable the monitoring system. Default is: " + DEFAULT_MONITORING_ENABLED)
 	@EnvironmentVariable(name = MESH_MONITORING_ENABLED_ENV, description = "Override the configured monitoring enabled flag.")
@@ -45,6 +54,24 @@ public class MonitoringConfig implements Option {
 	@EnvironmentVariable(name = "MESH_MONITORING_JVM_METRICS_ENABLED", description = "Override the configured JVM metrics enabled flag.")
 	private boolean jvmMetricsEnabled = DEFAULT_JVM_METRICS_ENABLED;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Enable or disable the profiling of transactions. The profiler counts the graph reads and writes, index lookups, retries, lock wait and commit time of each transaction. Default is: "
+		+ DEFAULT_TX_PROFILER_ENABLED)
+	@EnvironmentVariable(name = MESH_MONITORING_TX_PROFILER_ENABLED_ENV, description = "Override the configured transaction profiler enabled flag.")
+	private boolean txProfilerEnabled = DEFAULT_TX_PROFILER_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Duration in milliseconds after which a profiled transaction is recorded as slow transaction. Default is: "
+		+ DEFAULT_TX_PROFILER_THRESHOLD)
+	@EnvironmentVariable(name = MESH_MONITORING_TX_PROFILER_THRESHOLD_ENV, description = "Override the configured slow transaction threshold.")
+	private long txProfilerThreshold = DEFAULT_TX_PROFILER_THRESHOLD;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of slow transactions which are kept by the transaction profiler. Older transactions will be discarded. Default is: "
+		+ DEFAULT_TX_PROFILER_BUFFER_SIZE)
+	@EnvironmentVariable(name = MESH_MONITORING_TX_PROFILER_BUFFER_SIZE_ENV, description = "Override the configured amount of recorded slow transactions.")
+	private int txProfilerBufferSize = DEFAULT_TX_PROFILER_BUFFER_SIZE;
+
 	public MonitoringConfig() {
 	}
 
@@ -88,8 +115,44 @@ public class MonitoringConfig implements Option {
 		return this;
 	}
 
+	public boolean isTxProfilerEnabled() {
+		return txProfilerEnabled;
+	}
+
+	@Setter
+	public MonitoringConfig setTxProfilerEnabled(boolean txProfilerEnabled) {
+		this.txProfilerEnabled = txProfilerEnabled;
+		return this;
+	}
+
+	public long getTxProfilerThreshold() {
+		return txProfilerThreshold;
+	}
+
+	@Setter
+	public MonitoringConfig setTxProfilerThreshold(long txProfilerThreshold) {
+		this.txProfilerThreshold = txProfilerThreshold;
+		return this;
+	}
+
+	public int getTxProfilerBufferSize() {
+		return txProfilerBufferSize;
+	}
+
+	@Setter
+	public MonitoringConfig setTxProfilerBufferSize(int txProfilerBufferSize) {
+		this.txProfilerBufferSize = txProfilerBufferSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (getTxProfilerThreshold() < 0) {
+			throw new IllegalArgumentException("The transaction profiler threshold must not be negative.");
+		}
+		if (getTxProfilerBufferSize() <= 0) {
+			throw new IllegalArgumentException("The transaction profiler buffer size must be greater than zero.");
+		}
 	}
 
 }
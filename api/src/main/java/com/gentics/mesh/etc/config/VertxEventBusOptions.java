@@ -23,6 +23,10 @@ public class VertxEventBusOptions implements Option {
 
 	public final static String MESH_VERTX_EVENT_BUS_ERROR_THRESHOLD_ENV = "MESH_VERTX_EVENT_BUS_ERROR_THRESHOLD";
 
+	public final static String MESH_VERTX_EVENT_BUS_BATCH_EVENTS_ENV = "MESH_VERTX_EVENT_BUS_BATCH_EVENTS";
+
+	public final static boolean DEFAULT_BATCH_EVENTS = false;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the check interval for the Vert.x eventBus in ms. If set to a positive value, "
 			+ "Mesh will regularly send test events over the eventBus. Default is: " + DEFAULT_CHECK_INTERVAL + " ms.")
@@ -43,6 +47,13 @@ public class VertxEventBusOptions implements Option {
 	@EnvironmentVariable(name = MESH_VERTX_EVENT_BUS_ERROR_THRESHOLD_ENV, description = "Override the Vert.x eventBus error threshold in ms.")
 	private int errorThreshold = DEFAULT_ERROR_THRESHOLD;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If enabled, consecutive events of the same type which are created by a single operation will be sent as a single eventBus message. "
+			+ "This reduces the load on the eventBus for operations which affect many elements. Consumers of the eventBus which are not part of Mesh need to unpack the events. Default is: "
+			+ DEFAULT_BATCH_EVENTS)
+	@EnvironmentVariable(name = MESH_VERTX_EVENT_BUS_BATCH_EVENTS_ENV, description = "Override the Vert.x eventBus batch events flag.")
+	private boolean batchEvents = DEFAULT_BATCH_EVENTS;
+
 	public int getCheckInterval() {
 		return checkInterval;
 	}
@@ -70,6 +81,15 @@ public class VertxEventBusOptions implements Option {
 		return this;
 	}
 
+	public boolean isBatchEvents() {
+		return batchEvents;
+	}
+
+	public VertxEventBusOptions setBatchEvents(boolean batchEvents) {
+		this.batchEvents = batchEvents;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 		if (checkInterval > 0) {
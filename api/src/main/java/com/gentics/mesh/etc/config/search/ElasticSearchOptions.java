@@ -23,7 +23,10 @@ public class ElasticSearchOptions implements Option {
 
 	public static final int DEFAULT_BULK_LIMIT = 100;
 	public static final int DEFAULT_BULK_LENGTH_LIMIT = 5_000_000;
+	public static final int DEFAULT_BULK_CONCURRENCY = 1;
 	public static final int DEFAULT_SYNC_BATCH_SIZE = 50_000;
+	public static final int DEFAULT_SYNC_CONCURRENCY = 2;
+	public static final int DEFAULT_SYNC_CHECKSUM_LEAF_SIZE = 1_000;
 
 	public static final int DEFAULT_EVENT_BUFFER_SIZE = 1000;
 	public static final int DEFAULT_BULK_DEBOUNCE_TIME = 2000;
@@ -42,6 +45,10 @@ public class ElasticSearchOptions implements Option {
 	public static final long DEFAULT_INDEX_CHECK_INTERVAL = 60 * 1000;
 	public static final long DEFAULT_INDEX_MAPPING_CACHE_TIMEOUT = 60 * 60 * 1000;
 
+	public static final String SEARCH_TYPE_QUERY_THEN_FETCH = "query_then_fetch";
+	public static final String SEARCH_TYPE_DFS_QUERY_THEN_FETCH = "dfs_query_then_fetch";
+	public static final String DEFAULT_SEARCH_TYPE = SEARCH_TYPE_DFS_QUERY_THEN_FETCH;
+
 	public static final String MESH_ELASTICSEARCH_URL_ENV = "MESH_ELASTICSEARCH_URL";
 	public static final String MESH_ELASTICSEARCH_USERNAME_ENV = "MESH_ELASTICSEARCH_USERNAME";
 	public static final String MESH_ELASTICSEARCH_PASSWORD_ENV = "MESH_ELASTICSEARCH_PASSWORD";
@@ -52,6 +59,7 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
 	public static final String MESH_ELASTICSEARCH_BULK_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
+	public static final String MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_BULK_CONCURRENCY";
 	public static final String MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV = "MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE";
 	public static final String MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME";
@@ -61,11 +69,14 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_MAPPING_MODE_ENV = "MESH_ELASTICSEARCH_MAPPING_MODE";
 	public static final String MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV = "MESH_ELASTICSEARCH_COMPLIANCE_MODE";
 	public static final String MESH_ELASTICSEARCH_SYNC_BATCH_SIZE_ENV = "MESH_ELASTICSEARCH_SYNC_BATCH_SIZE";
+	public static final String MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_SYNC_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_SYNC_CHECKSUM_LEAF_SIZE_ENV = "MESH_ELASTICSEARCH_SYNC_CHECKSUM_LEAF_SIZE";
 	public static final String MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION_ENV = "MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION";
 	public static final String MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS_ENV = "MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS";
 
 	public static final String MESH_ELASTICSEARCH_INDEX_CHECK_INTERVAL_ENV = "MESH_ELASTICSEARCH_INDEX_CHECK_INTERVAL";
 	public static final String MESH_ELASTICSEARCH_INDEX_MAPPING_CACHE_TIMEOUT_ENV = "MESH_ELASTICSEARCH_INDEX_MAPPING_CACHE_TIMEOUT";
+	public static final String MESH_ELASTICSEARCH_SEARCH_TYPE_ENV = "MESH_ELASTICSEARCH_SEARCH_TYPE";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -119,6 +130,13 @@ public class ElasticSearchOptions implements Option {
 		+ DEFAULT_BULK_LENGTH_LIMIT)
 	private long bulkLengthLimit = DEFAULT_BULK_LENGTH_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of bulk requests which are sent to Elasticsearch concurrently. Requests which affect the same document are never sent concurrently. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV, description = "Override the amount of concurrent bulk requests. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Upper limit for mesh events that are to be mapped to elastic search requests. Default: "
 		+ DEFAULT_EVENT_BUFFER_SIZE)
@@ -176,6 +194,17 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_BATCH_SIZE_ENV, description = "Override the search sync batch size")
 	private int syncBatchSize = DEFAULT_SYNC_BATCH_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of buckets which are synchronized concurrently by the index sync. Default: " + DEFAULT_SYNC_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV, description = "Override the search sync concurrency.")
+	private int syncConcurrency = DEFAULT_SYNC_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of elements for which the index sync compares the versions of the single documents. Larger buckets are first compared by checksums and are only split into smaller buckets if the checksums differ. Set to 0 in order to always compare the versions of all documents. Default: "
+		+ DEFAULT_SYNC_CHECKSUM_LEAF_SIZE)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_CHECKSUM_LEAF_SIZE_ENV, description = "Override the search sync checksum leaf size.")
+	private int syncChecksumLeafSize = DEFAULT_SYNC_CHECKSUM_LEAF_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the interval of index checks in ms. Default: " + DEFAULT_INDEX_CHECK_INTERVAL)
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INDEX_CHECK_INTERVAL_ENV, description = "Override the interval for index checks")
@@ -186,6 +215,12 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INDEX_MAPPING_CACHE_TIMEOUT_ENV, description = "Override the timeout for the cache if index mappings")
 	private long indexMappingCacheTimeout = DEFAULT_INDEX_MAPPING_CACHE_TIMEOUT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the search type which is used for search queries. The type query_then_fetch saves the additional round-trip which is needed to collect the term frequencies of all shards for the scoring. Default: "
+		+ DEFAULT_SEARCH_TYPE)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SEARCH_TYPE_ENV, description = "Override the search type.")
+	private String searchType = DEFAULT_SEARCH_TYPE;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -310,6 +345,16 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public int getBulkConcurrency() {
+		return bulkConcurrency;
+	}
+
+	@Setter
+	public ElasticSearchOptions setBulkConcurrency(int bulkConcurrency) {
+		this.bulkConcurrency = bulkConcurrency;
+		return this;
+	}
+
 	public String getPrefix() {
 		return prefix;
 	}
@@ -414,7 +459,10 @@ public class ElasticSearchOptions implements Option {
 	 * Validate the options.
 	 */
 	public void validate(MeshOptions meshOptions) {
-
+		if (!SEARCH_TYPE_QUERY_THEN_FETCH.equals(searchType) && !SEARCH_TYPE_DFS_QUERY_THEN_FETCH.equals(searchType)) {
+			throw new IllegalArgumentException("The search type must be either {" + SEARCH_TYPE_QUERY_THEN_FETCH + "} or {"
+				+ SEARCH_TYPE_DFS_QUERY_THEN_FETCH + "} but was {" + searchType + "}");
+		}
 	}
 
 	/**
@@ -436,6 +484,38 @@ public class ElasticSearchOptions implements Option {
 		this.syncBatchSize = batchSize;
 	}
 
+	/**
+	 * Upper limit for the amount of buckets which are synchronized concurrently.
+	 * @return concurrency
+	 */
+	public int getSyncConcurrency() {
+		return syncConcurrency;
+	}
+
+	/**
+	 * Set the upper limit for the amount of buckets which are synchronized concurrently.
+	 * @param syncConcurrency concurrency
+	 */
+	public void setSyncConcurrency(int syncConcurrency) {
+		this.syncConcurrency = syncConcurrency;
+	}
+
+	/**
+	 * Maximum amount of elements for which the versions of the single documents are compared.
+	 * @return leaf size or 0 if checksums are not used
+	 */
+	public int getSyncChecksumLeafSize() {
+		return syncChecksumLeafSize;
+	}
+
+	/**
+	 * Set the maximum amount of elements for which the versions of the single documents are compared.
+	 * @param syncChecksumLeafSize leaf size or 0 in order to disable the use of checksums
+	 */
+	public void setSyncChecksumLeafSize(int syncChecksumLeafSize) {
+		this.syncChecksumLeafSize = syncChecksumLeafSize;
+	}
+
 	/**
 	 * Index check interval in ms
 	 * @return interval
@@ -467,4 +547,23 @@ public class ElasticSearchOptions implements Option {
 	public void setIndexMappingCacheTimeout(long indexMappingCacheTimeout) {
 		this.indexMappingCacheTimeout = indexMappingCacheTimeout;
 	}
+
+	/**
+	 * Search type which is used for search queries.
+	 * @return search type
+	 */
+	public String getSearchType() {
+		return searchType;
+	}
+
+	/**
+	 * Set the search type which is used for search queries.
+	 * @param searchType search type
+	 * @return Fluent API
+	 */
+	@Setter
+	public ElasticSearchOptions setSearchType(String searchType) {
+		this.searchType = searchType;
+		return this;
+	}
 }
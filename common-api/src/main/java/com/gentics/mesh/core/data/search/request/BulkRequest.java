@@ -2,7 +2,9 @@ package com.gentics.mesh.core.data.search.request;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.gentics.mesh.search.SearchProvider;
 
@@ -53,6 +55,15 @@ public class BulkRequest implements Bulkable {
 			.toList();
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		Set<String> keys = new HashSet<>();
+		for (Bulkable request : requests) {
+			keys.addAll(request.documentKeys());
+		}
+		return keys;
+	}
+
 	@Override
 	public String toString() {
 		return requests.size() + " bulked requests. " + requests;
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.search.request;
 
 import io.reactivex.Single;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +20,23 @@ public interface Bulkable extends SearchRequest {
 	 * @return
 	 */
 	long bulkLength();
+
+	/**
+	 * Returns the keys of the documents which are affected by the request. Requests which share a document key must not be sent to Elasticsearch
+	 * concurrently, since this could reorder the changes of the document.
+	 * 
+	 * @return
+	 */
+	Collection<String> documentKeys();
+
+	/**
+	 * Create the document key for the given index and document id.
+	 * 
+	 * @param transformedIndex
+	 * @param id
+	 * @return
+	 */
+	static String documentKey(String transformedIndex, String id) {
+		return transformedIndex + "/" + id;
+	}
 }
@@ -3,6 +3,8 @@ package com.gentics.mesh.core.data.search.request;
 import static com.gentics.mesh.util.RxUtil.NOOP;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.gentics.mesh.etc.config.search.ComplianceMode;
@@ -107,6 +109,11 @@ public class CreateDocumentRequest implements Bulkable {
 		return bulkPreamble.length() + doc.encode().length() + 2;
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return Collections.singletonList(Bulkable.documentKey(transformedIndex, id));
+	}
+
 	@Override
 	public String toString() {
 		return "CreateDocumentRequest{" +
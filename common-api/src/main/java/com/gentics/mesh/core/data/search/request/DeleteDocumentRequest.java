@@ -7,6 +7,7 @@ import io.reactivex.Single;
 import io.reactivex.functions.Action;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -88,6 +89,11 @@ public class DeleteDocumentRequest implements Bulkable {
 		return bulkString.length() + 1;
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return Collections.singletonList(Bulkable.documentKey(transformedIndex, id));
+	}
+
 	@Override
 	public String toString() {
 		return "DeleteDocumentRequest{" +
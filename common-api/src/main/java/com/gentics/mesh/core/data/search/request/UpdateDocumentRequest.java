@@ -7,6 +7,8 @@ import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -84,6 +86,11 @@ public class UpdateDocumentRequest implements Bulkable {
 		return bulkPreamble.length() + doc.encode().length() + 10;
 	}
 
+	@Override
+	public Collection<String> documentKeys() {
+		return Collections.singletonList(Bulkable.documentKey(transformedIndex, id));
+	}
+
 	@Override
 	public String toString() {
 		return "UpdateDocumentRequest{" +
@@ -0,0 +1,140 @@
+package com.gentics.mesh.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Envelope which contains multiple events for the same address. When batched event dispatching is enabled, consecutive events of an {@link EventQueueBatch}
+ * which share the same address are sent as a single eventbus message. Consumers use {@link #unpack(Message)} or {@link #unpack(JsonObject)} to handle the
+ * contained events one by one.
+ */
+public final class EventBatchEnvelope {
+
+	/**
+	 * Key of the array which contains the event payloads.
+	 */
+	public static final String EVENTS_KEY = "meshEventBatch";
+
+	private EventBatchEnvelope() {
+	}
+
+	/**
+	 * Create the envelope for the given event payloads.
+	 *
+	 * @param events
+	 * @return
+	 */
+	public static JsonObject wrap(List<JsonObject> events) {
+		return new JsonObject().put(EVENTS_KEY, new JsonArray(new ArrayList<>(events)));
+	}
+
+	/**
+	 * Check whether the given message body is an envelope.
+	 *
+	 * @param body
+	 * @return
+	 */
+	public static boolean isEnvelope(Object body) {
+		return body instanceof JsonObject && ((JsonObject) body).getValue(EVENTS_KEY) instanceof JsonArray;
+	}
+
+	/**
+	 * Return the event payloads of the given message body. Bodies which are no envelope are returned as is.
+	 *
+	 * @param body
+	 * @return
+	 */
+	public static List<JsonObject> unpack(JsonObject body) {
+		if (!isEnvelope(body)) {
+			return Collections.singletonList(body);
+		}
+		JsonArray events = body.getJsonArray(EVENTS_KEY);
+		List<JsonObject> list = new ArrayList<>(events.size());
+		for (int i = 0; i < events.size(); i++) {
+			list.add(events.getJsonObject(i));
+		}
+		return list;
+	}
+
+	/**
+	 * Return a message for every event in the given message. Messages which don't contain an envelope are returned as is.
+	 *
+	 * @param message
+	 * @return
+	 */
+	public static List<Message<JsonObject>> unpack(Message<JsonObject> message) {
+		if (!isEnvelope(message.body())) {
+			return Collections.singletonList(message);
+		}
+		List<JsonObject> events = unpack(message.body());
+		List<Message<JsonObject>> list = new ArrayList<>(events.size());
+		for (JsonObject event : events) {
+			list.add(new UnpackedMessage(message, event));
+		}
+		return list;
+	}
+
+	/**
+	 * Message for a single event of an envelope. All other information is taken from the message which contained the envelope.
+	 */
+	private static class UnpackedMessage implements Message<JsonObject> {
+
+		private final Message<JsonObject> envelope;
+
+		private final JsonObject body;
+
+		UnpackedMessage(Message<JsonObject> envelope, JsonObject body) {
+			this.envelope = envelope;
+			this.body = body;
+		}
+
+		@Override
+		public String address() {
+			return envelope.address();
+		}
+
+		@Override
+		public MultiMap headers() {
+			return envelope.headers();
+		}
+
+		@Override
+		public JsonObject body() {
+			return body;
+		}
+
+		@Override
+		public String replyAddress() {
+			return envelope.replyAddress();
+		}
+
+		@Override
+		public boolean isSend() {
+			return envelope.isSend();
+		}
+
+		@Override
+		public void reply(Object message, DeliveryOptions options) {
+			envelope.reply(message, options);
+		}
+
+		@Override
+		public <R> void replyAndRequest(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+			envelope.replyAndRequest(message, options, replyHandler);
+		}
+
+		@Override
+		public void fail(int failureCode, String message) {
+			envelope.fail(failureCode, message);
+		}
+	}
+}
@@ -25,11 +25,51 @@ public enum SimpleMetric implements Metric {
 
 	WRITE_LOCK_TIMEOUT_COUNT("write_lock_timeout", "Amount of timeouts of acquiring the write lock."),
 
+	PROJECT_WRITE_LOCK_WAITING_TIME("project_write_lock_waiting_time", "Tracks the time which is spent waiting on the write lock of a project."),
+
+	PROJECT_WRITE_LOCK_TIMEOUT_COUNT("project_write_lock_timeout", "Amount of timeouts of acquiring the write lock of a project."),
+
 	TOPOLOGY_LOCK_WAITING_TIME("topology_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
 	TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
 
-	GRAPHQL_TIME("graphql_time", "Timer which tracks duration of graphql requests.");
+	GRAPHQL_TIME("graphql_time", "Timer which tracks duration of graphql requests."),
+
+	GRAPHQL_PARSE_TIME("graphql_parse_time", "Timer which tracks the duration of parsing and validating graphql queries which were not found in the query cache."),
+
+	SEARCH_BULK_IN_FLIGHT("search_bulk_in_flight", "Amount of requests which are currently sent to Elasticsearch."),
+
+	SEARCH_BULK_QUEUED("search_bulk_queued", "Amount of generated Elasticsearch requests which have not yet been sent."),
+
+	SEARCH_BULK_LATENCY("search_bulk_latency", "Timer which tracks the duration of requests which are sent to Elasticsearch."),
+
+	IMAGE_CACHE_HIT("image_cache_hit", "Amount of image variant requests which could be served from the image cache."),
+
+	IMAGE_CACHE_MISS("image_cache_miss", "Amount of image variant requests which could not be served from the image cache."),
+
+	IMAGE_CACHE_BYTES("image_cache_bytes", "Total size of the image variants in the image cache."),
+
+	IMAGE_CACHE_EVICTION("image_cache_eviction", "Amount of image variants which were evicted from the image cache."),
+
+	IMAGE_RESIZE_QUEUE("image_resize_queue", "Amount of image resize operations which are currently queued or running."),
+
+	IMAGE_RESIZE_COALESCED("image_resize_coalesced", "Amount of image variant requests which waited for an identical resize operation instead of resizing the image again."),
+
+	JOB_QUEUE_DEPTH("job_queue_depth", "Amount of queued jobs per job type."),
+
+	JOB_WAIT_TIME("job_wait_time", "Timer which tracks the time between the creation and the start of jobs per job type."),
+
+	JOB_RUN_TIME("job_run_time", "Timer which tracks the duration of jobs per job type."),
+
+	WEBROOT_SEGMENT_CACHE_HIT("webroot_segment_cache_hit", "Amount of webroot path segments per project which could be resolved via the webroot segment cache."),
+
+	WEBROOT_SEGMENT_CACHE_MISS("webroot_segment_cache_miss", "Amount of webroot path segments per project which were not found in the webroot segment cache."),
+
+	NODE_RESPONSE_CACHE_SIZE("node_response_cache_size", "Amount of rendered node responses in the node response cache."),
+
+	NODE_RESPONSE_CACHE_BYTES("node_response_cache_bytes", "Total size of the rendered node responses in the node response cache."),
+
+	NODE_RESPONSE_CACHE_HIT_RATIO("node_response_cache_hit_ratio", "Ratio of node read requests which could be served from the node response cache.");
 
 	private String key;
 
@@ -6,8 +6,9 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.MeshAuthUserCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
-import com.gentics.mesh.core.data.user.MeshAuthUser;
+import com.gentics.mesh.core.data.user.MeshAuthUserSnapshot;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.http.MeshHeaders;
@@ -36,12 +37,16 @@ public class MeshAnonymousAuthHandler extends AuthHandlerImpl implements MeshAut
 
 	private MeshOptions options;
 
+	private MeshAuthUserCache authUserCache;
+
 	@Inject
-	public MeshAnonymousAuthHandler(MeshJWTAuthProvider authProvider, MeshOptions options, Database db, BootstrapInitializer boot) {
+	public MeshAnonymousAuthHandler(MeshJWTAuthProvider authProvider, MeshOptions options, Database db, BootstrapInitializer boot,
+		MeshAuthUserCache authUserCache) {
 		super(authProvider);
 		this.options = options;
 		this.db = db;
 		this.boot = boot;
+		this.authUserCache = authUserCache;
 	}
 
 	@Override
@@ -82,9 +87,9 @@ public class MeshAnonymousAuthHandler extends AuthHandlerImpl implements MeshAut
 			if (log.isDebugEnabled()) {
 				log.debug("Using anonymous user.");
 			}
-			MeshAuthUser anonymousUser = db.tx(tx -> {
-				return tx.userDao().findMeshAuthUserByUsername(ANONYMOUS_USERNAME);
-			});
+			MeshAuthUserSnapshot anonymousUser = authUserCache.getByUsername(ANONYMOUS_USERNAME, username -> db.tx(tx -> {
+				return MeshAuthUserSnapshot.of(tx.userDao().findMeshAuthUserByUsername(username));
+			}));
 			if (anonymousUser == null) {
 				if (log.isDebugEnabled()) {
 					log.debug("No anonymous user and authorization header was found. Can't authenticate request.");
@@ -92,7 +97,7 @@ public class MeshAnonymousAuthHandler extends AuthHandlerImpl implements MeshAut
 				handle401(rc);
 				return;
 			} else {
-				rc.setUser(anonymousUser);
+				rc.setUser(anonymousUser.getUser());
 			}
 			rc.next();
 		} else {
@@ -13,10 +13,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.AuthenticationResult;
+import com.gentics.mesh.cache.MeshAuthUserCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.data.user.MeshAuthUser;
+import com.gentics.mesh.core.data.user.MeshAuthUserSnapshot;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.rest.auth.TokenResponse;
 import com.gentics.mesh.etc.config.AuthenticationOptions;
@@ -62,12 +64,15 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private final MeshOptions meshOptions;
 
+	private final MeshAuthUserCache authUserCache;
+
 	@Inject
 	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database,
-		BootstrapInitializer boot) {
+		BootstrapInitializer boot, MeshAuthUserCache authUserCache) {
 		this.meshOptions = meshOptions;
 		this.passwordEncoder = passwordEncoder;
 		this.db = database;
+		this.authUserCache = authUserCache;
 
 		// Use the mesh JWT options in order to setup the JWTAuth provider
 		AuthenticationOptions options = meshOptions.getAuthenticationOptions();
@@ -248,37 +253,37 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	 * @throws Exception
 	 */
 	private User loadUserByJWT(JsonObject jwt) throws Exception {
-		return db.tx(tx -> {
-			String userUuid = jwt.getString(USERID_FIELD_NAME);
-			MeshAuthUser user = tx.userDao().findMeshAuthUserByUuid(userUuid);
-			if (user == null) {
-				if (log.isDebugEnabled()) {
-					log.debug("Could not load user with UUID {" + userUuid + "}.");
-				}
-				// TODO use NoStackTraceThrowable?
-				throw new Exception("Invalid credentials!");
+		String userUuid = jwt.getString(USERID_FIELD_NAME);
+		MeshAuthUserSnapshot user = authUserCache.getByUuid(userUuid, uuid -> db.tx(tx -> {
+			return MeshAuthUserSnapshot.of(tx.userDao().findMeshAuthUserByUuid(uuid));
+		}));
+		if (user == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Could not load user with UUID {" + userUuid + "}.");
 			}
+			// TODO use NoStackTraceThrowable?
+			throw new Exception("Invalid credentials!");
+		}
 
-			// TODO Re-enable isEnabled cache and check if User#delete behaviour changes
-			// if (!user.isEnabled()) {
-			// throw new Exception("User is disabled");
-			// }
+		// TODO Re-enable isEnabled cache and check if User#delete behaviour changes
+		// if (!user.isEnabled()) {
+		// throw new Exception("User is disabled");
+		// }
 
-			// Check whether the token might be an API key token
-			if (!jwt.containsKey("exp")) {
-				String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
-				// TODO: All tokens without exp must have a token code - See https://github.com/gentics/mesh/issues/412
-				if (apiKeyToken != null) {
-					String storedApiKey = user.getDelegate().getAPIKeyTokenCode();
-					// Verify that the API token is invalid.
-					if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
-						throw new Exception("API key token is invalid.");
-					}
+		// Check whether the token might be an API key token
+		if (!jwt.containsKey("exp")) {
+			String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
+			// TODO: All tokens without exp must have a token code - See https://github.com/gentics/mesh/issues/412
+			if (apiKeyToken != null) {
+				String storedApiKey = user.getAPIKeyTokenCode();
+				// Verify that the API token is invalid.
+				if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
+					throw new Exception("API key token is invalid.");
 				}
 			}
+		}
 
-			return user;
-		});
+		return user.getUser();
 	}
 
 	/**
@@ -11,6 +11,7 @@ import java.util.function.Function;
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventBatchEnvelope;
 import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
@@ -53,7 +54,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Duration expireAfterAccess, Vertx vertx, MeshOptions options, MetricsService metricsService,
 							   Predicate<Message<JsonObject>> filter,
-							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext, MeshEvent... events) {
+							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext, BiConsumer<K, V> removalListener, MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
 		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxSize);
@@ -63,7 +64,11 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		if (expireAfterAccess != null) {
 			cacheBuilder = cacheBuilder.expireAfterAccess(expireAfterAccess.getSeconds(), TimeUnit.SECONDS);
 		}
-		this.cache = cacheBuilder.build();
+		if (removalListener != null) {
+			this.cache = cacheBuilder.<K, V>removalListener((key, value, cause) -> removalListener.accept(key, value)).build();
+		} else {
+			this.cache = cacheBuilder.build();
+		}
 		this.filter = filter;
 		this.onNext = onNext;
 		registerEventHandlers(events);
@@ -194,6 +199,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private long maxSize = 1000;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
+		private BiConsumer<K, V> removalListener = null;
 		private MeshEvent[] events = null;
 		private Vertx vertx;
 		private Duration expireAfter;
@@ -211,7 +217,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, expireAfterAccess, vertx, options, metricsService, filter, onNext, events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, expireAfterAccess, vertx, options, metricsService, filter, onNext, removalListener, events);
 			if (disabled) {
 				c.disable();
 			}
@@ -250,6 +256,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Listener which will be invoked for every entry which was removed from the cache, either explicitly or due to eviction.
+		 * 
+		 * @param removalListener
+		 * @return Fluent API
+		 */
+		public Builder<K, V> removalListener(BiConsumer<K, V> removalListener) {
+			this.removalListener = removalListener;
+			return this;
+		}
+
 		/**
 		 * Disable the created cache.
 		 * 
@@ -341,7 +358,8 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	}
 
 	/**
-	 * Return an observable which emits eventbus messages for the given addresses.
+	 * Return an observable which emits eventbus messages for the given addresses. Messages which contain an {@link EventBatchEnvelope} are emitted once per
+	 * contained event.
 	 * 
 	 * @param eventBus
 	 *            Eventbus used for registration
@@ -353,7 +371,8 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		return Observable.fromArray(addresses)
 			.flatMap(meshEvent -> Observable.using(
 				() -> eventBus.<JsonObject>consumer(meshEvent.address),
-				consumer -> Observable.create(sub -> consumer.handler(sub::onNext)),
-				MessageConsumer::unregister));
+				consumer -> Observable.<Message<JsonObject>>create(sub -> consumer.handler(sub::onNext)),
+				MessageConsumer::unregister))
+			.flatMapIterable(EventBatchEnvelope::unpack);
 	}
 }
@@ -0,0 +1,409 @@
+package com.gentics.mesh.core.image.spi;
+
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_BYTES;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_EVICTION;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_HIT;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_CACHE_MISS;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RESIZE_COALESCED;
+import static com.gentics.mesh.metric.SimpleMetric.IMAGE_RESIZE_QUEUE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.image.CacheFileInfo;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * In-memory index of the image variants which are stored in the image cache directory.
+ *
+ * The index is built once by scanning the cache directory and afterwards maintained in memory, so that lookups don't need to access the filesystem. The least
+ * recently used variants are removed when the configured {@link ImageManipulatorOptions#getImageCacheMaxSize() maximum size} is exceeded or when they have not
+ * been used for the configured {@link ImageManipulatorOptions#getImageCacheMaxAge() maximum age}. Concurrent requests for the same variant which is not yet
+ * cached will share a single resize operation.
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	private static final String FILE_PREFIX = "image-";
+
+	private final Vertx vertx;
+
+	private final ImageManipulatorOptions options;
+
+	/**
+	 * Variants in access order. The eldest entry is the least recently used variant.
+	 */
+	private final LinkedHashMap<String, Variant> index = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<String, Single<String>> inProgress = new ConcurrentHashMap<>();
+
+	private final Completable loaded;
+
+	private final AtomicLong bytes;
+
+	private final AtomicLong queued;
+
+	private final Counter hits;
+
+	private final Counter misses;
+
+	private final Counter evictions;
+
+	private final Counter coalesced;
+
+	public ImageVariantCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		this.vertx = vertx;
+		this.options = options;
+		MeterRegistry registry = metrics == null ? new SimpleMeterRegistry() : metrics.getMetricRegistry();
+		this.bytes = registry.gauge(IMAGE_CACHE_BYTES.key(), new AtomicLong(0));
+		this.queued = registry.gauge(IMAGE_RESIZE_QUEUE.key(), new AtomicLong(0));
+		this.hits = registry.counter(IMAGE_CACHE_HIT.key());
+		this.misses = registry.counter(IMAGE_CACHE_MISS.key());
+		this.evictions = registry.counter(IMAGE_CACHE_EVICTION.key());
+		this.coalesced = registry.counter(IMAGE_RESIZE_COALESCED.key());
+		this.loaded = vertx.<Void>rxExecuteBlocking(bh -> {
+			try {
+				load();
+				bh.complete();
+			} catch (IOException e) {
+				bh.fail(e);
+			}
+		}, false)
+			.ignoreElement()
+			.doOnError(e -> log.error("Could not load the index of the image cache directory {" + options.getImageCacheDirectory() + "}", e))
+			.onErrorComplete()
+			.cache();
+	}
+
+	/**
+	 * Return the cache file for the given binary and image parameters. The path of variants which are not cached is returned without file extension.
+	 *
+	 * @param sha512sum
+	 *            Hashsum of the source binary
+	 * @param parameters
+	 *            Resize parameters
+	 * @return
+	 */
+	public Single<CacheFileInfo> get(String sha512sum, ImageManipulationParameters parameters) {
+		return loaded.andThen(Single.fromCallable(() -> {
+			Variant variant = lookup(key(sha512sum, parameters.getCacheKey()));
+			if (variant != null) {
+				hits.increment();
+				return new CacheFileInfo(variant.path, true);
+			}
+			misses.increment();
+			String basePath = basePath(sha512sum, parameters);
+			if (log.isDebugEnabled()) {
+				log.debug("No cache file found for base path {" + basePath + "}");
+			}
+			return new CacheFileInfo(basePath, false);
+		}));
+	}
+
+	/**
+	 * Return the path of the cached variant. Variants which are not cached are created using the given creator, which will be invoked with the path of the
+	 * cache file without file extension and has to return the path of the written file. Concurrent requests for the same variant will wait for the same
+	 * creation.
+	 *
+	 * @param sha512sum
+	 *            Hashsum of the source binary
+	 * @param parameters
+	 *            Resize parameters
+	 * @param creator
+	 *            Creator for the variant
+	 * @return Path of the cached variant
+	 */
+	public Single<String> getOrCreate(String sha512sum, ImageManipulationParameters parameters, Function<String, Single<String>> creator) {
+		return get(sha512sum, parameters).flatMap(info -> {
+			if (info.exists) {
+				return Single.just(info.path);
+			}
+			String key = key(sha512sum, parameters.getCacheKey());
+			AtomicBoolean created = new AtomicBoolean(false);
+			Single<String> creation = inProgress.computeIfAbsent(key, k -> {
+				// The variant may have been added after the lookup
+				String path = peek(k);
+				if (path != null) {
+					return Single.just(path);
+				}
+				created.set(true);
+				return queued(creator.apply(info.path))
+					.flatMap(createdPath -> vertx.fileSystem().rxProps(createdPath).map(props -> {
+						put(k, createdPath, props.size(), System.currentTimeMillis());
+						return createdPath;
+					}))
+					.doFinally(() -> inProgress.remove(k))
+					.cache();
+			});
+			if (!created.get()) {
+				coalesced.increment();
+			}
+			return creation;
+		});
+	}
+
+	/**
+	 * Track the given resize operation in the queue of resize operations.
+	 *
+	 * @param resize
+	 * @return
+	 */
+	public <T> Single<T> queued(Single<T> resize) {
+		return resize
+			.doOnSubscribe(ignore -> queued.incrementAndGet())
+			.doFinally(queued::decrementAndGet);
+	}
+
+	/**
+	 * Return the total size of the cached variants in bytes.
+	 *
+	 * @return
+	 */
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * Return the amount of cached variants.
+	 *
+	 * @return
+	 */
+	public int size() {
+		synchronized (index) {
+			return index.size();
+		}
+	}
+
+	/**
+	 * Return the path of the cache file without file extension.
+	 *
+	 * @param sha512sum
+	 * @param parameters
+	 * @return
+	 */
+	private String basePath(String sha512sum, ImageManipulationParameters parameters) {
+		String[] parts = sha512sum.split("(?<=\\G.{8})");
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(File.separator);
+		for (String part : parts) {
+			buffer.append(part + File.separator);
+		}
+		return Paths.get(options.getImageCacheDirectory(), buffer.toString(), FILE_PREFIX + parameters.getCacheKey()).toString();
+	}
+
+	private static String key(String sha512sum, String cacheKey) {
+		return sha512sum + "/" + cacheKey;
+	}
+
+	/**
+	 * Lookup the variant and mark it as used. Expired variants are removed. Variants whose file was removed from the cache directory (e.g. by clearing the
+	 * directory) are removed from the index.
+	 *
+	 * @param key
+	 * @return Found variant or null
+	 */
+	private Variant lookup(String key) {
+		long now = System.currentTimeMillis();
+		Variant variant;
+		synchronized (index) {
+			variant = index.get(key);
+			if (variant == null) {
+				return null;
+			}
+			if (isExpired(variant, now)) {
+				remove(key, variant);
+				delete(variant);
+				return null;
+			}
+			variant.lastAccess = now;
+		}
+		if (!Files.exists(Paths.get(variant.path))) {
+			if (log.isDebugEnabled()) {
+				log.debug("Cache file {" + variant.path + "} of the image variant was removed");
+			}
+			synchronized (index) {
+				remove(key, variant);
+			}
+			return null;
+		}
+		return variant;
+	}
+
+	/**
+	 * Remove the variant from the index, if the key is still mapped to it. Must be called while holding the lock of the index.
+	 *
+	 * @param key
+	 * @param variant
+	 */
+	private void remove(String key, Variant variant) {
+		if (index.remove(key, variant)) {
+			bytes.addAndGet(-variant.size);
+		}
+	}
+
+	/**
+	 * Return the path of the variant without marking it as used.
+	 *
+	 * @param key
+	 * @return
+	 */
+	private String peek(String key) {
+		synchronized (index) {
+			Variant variant = index.get(key);
+			return variant == null ? null : variant.path;
+		}
+	}
+
+	/**
+	 * Add the variant to the index and evict the least recently used variants if needed.
+	 *
+	 * @param key
+	 * @param path
+	 * @param size
+	 * @param lastAccess
+	 */
+	private void put(String key, String path, long size, long lastAccess) {
+		List<Variant> evicted = new ArrayList<>();
+		synchronized (index) {
+			Variant variant = new Variant(path, size, lastAccess);
+			Variant replaced = index.put(key, variant);
+			if (replaced != null) {
+				bytes.addAndGet(-replaced.size);
+				if (!replaced.path.equals(path)) {
+					evicted.add(replaced);
+				}
+			}
+			bytes.addAndGet(size);
+			evicted.addAll(evict(variant));
+		}
+		evicted.forEach(this::delete);
+	}
+
+	/**
+	 * Remove the least recently used variants from the index as long as the cache is too large or the variants are expired. Must be called while holding
+	 * the lock of the index.
+	 *
+	 * @param keep
+	 *            Variant which must not be evicted
+	 * @return Evicted variants
+	 */
+	private List<Variant> evict(Variant keep) {
+		List<Variant> evicted = new ArrayList<>();
+		long maxSize = options.getImageCacheMaxSize();
+		long now = System.currentTimeMillis();
+		Iterator<Variant> it = index.values().iterator();
+		while (it.hasNext()) {
+			Variant eldest = it.next();
+			if (eldest == keep) {
+				break;
+			}
+			boolean tooLarge = maxSize > 0 && bytes.get() > maxSize;
+			if (!tooLarge && !isExpired(eldest, now)) {
+				break;
+			}
+			it.remove();
+			bytes.addAndGet(-eldest.size);
+			evicted.add(eldest);
+		}
+		return evicted;
+	}
+
+	private boolean isExpired(Variant variant, long now) {
+		long maxAge = options.getImageCacheMaxAge();
+		return maxAge > 0 && now - variant.lastAccess > maxAge;
+	}
+
+	/**
+	 * Delete the file of the evicted variant.
+	 *
+	 * @param variant
+	 */
+	private void delete(Variant variant) {
+		evictions.increment();
+		if (log.isDebugEnabled()) {
+			log.debug("Evicting image variant {" + variant.path + "}");
+		}
+		vertx.fileSystem().rxDelete(variant.path).subscribe(() -> {
+		}, e -> log.warn("Could not delete evicted image variant {" + variant.path + "}", e));
+	}
+
+	/**
+	 * Build the index by scanning the cache directory. Variants are added in the order of their last modification.
+	 */
+	private void load() throws IOException {
+		Path root = Paths.get(options.getImageCacheDirectory());
+		if (!Files.isDirectory(root)) {
+			return;
+		}
+		List<Path> files;
+		try (Stream<Path> stream = Files.walk(root)) {
+			files = stream
+				.filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+				.filter(Files::isRegularFile)
+				.collect(Collectors.toList());
+		}
+		List<File> sorted = files.stream()
+			.map(Path::toFile)
+			.sorted(Comparator.comparingLong(File::lastModified))
+			.collect(Collectors.toList());
+		for (File file : sorted) {
+			Path parent = root.relativize(file.toPath().getParent());
+			String sha512sum = StreamSupport.stream(parent.spliterator(), false)
+				.map(Path::toString)
+				.collect(Collectors.joining());
+			String name = file.getName();
+			int extensionIndex = name.lastIndexOf('.');
+			String cacheKey = (extensionIndex > 0 ? name.substring(0, extensionIndex) : name).substring(FILE_PREFIX.length());
+			String key = key(sha512sum, cacheKey);
+			if (peek(key) != null) {
+				log.warn("More than one cache file found for hash {" + sha512sum + "} and key {" + cacheKey + "}. Using {" + file + "}. The cache directory {"
+					+ options.getImageCacheDirectory() + "} should be cleared");
+			}
+			put(key, file.getPath(), file.length(), file.lastModified());
+		}
+		log.info("Loaded " + size() + " image variants with " + getBytes() + " bytes from the image cache directory");
+	}
+
+	/**
+	 * Cached image variant.
+	 */
+	private static class Variant {
+		private final String path;
+		private final long size;
+		private volatile long lastAccess;
+
+		Variant(String path, long size, long lastAccess) {
+			this.path = path;
+			this.size = size;
+			this.lastAccess = lastAccess;
+		}
+	}
+}
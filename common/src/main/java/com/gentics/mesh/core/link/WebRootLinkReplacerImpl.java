@@ -6,9 +6,14 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,6 +21,7 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.LinkPathCache;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.HibNodeFieldContainer;
 import com.gentics.mesh.core.data.branch.HibBranch;
@@ -45,16 +51,24 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 	private static final String START_TAG = "{{mesh.link(";
 	private static final String END_TAG = ")}}";
 
+	/**
+	 * Pattern which matches (escaped) double quotes and single quotes of the link arguments.
+	 */
+	private static final Pattern LINK_QUOTES = Pattern.compile("\\\\\"|['\"]");
+
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacerImpl.class);
 
 	private final MeshOptions options;
 
 	private S3BinaryStorage s3BinaryStorage;
 
+	private final LinkPathCache linkPathCache;
+
 	@Inject
-	public WebRootLinkReplacerImpl(MeshOptions options, S3BinaryStorage s3BinaryStorage) {
+	public WebRootLinkReplacerImpl(MeshOptions options, S3BinaryStorage s3BinaryStorage, LinkPathCache linkPathCache) {
 		this.options = options;
 		this.s3BinaryStorage = s3BinaryStorage;
+		this.linkPathCache = linkPathCache;
 	}
 
 	@Override
@@ -64,12 +78,13 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
+		// 1. Tokenize the content
+		List<Object> segments = new ArrayList<>();
+		Set<String> uuids = new HashSet<>();
 		int pos = 0;
 		int lastPos = 0;
 		int length = content.length();
 
-		// 1. Tokenize the content
 		while (lastPos < length) {
 			pos = content.indexOf(START_TAG, lastPos);
 			if (pos == -1) {
@@ -93,33 +108,41 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 				segments.add(content.substring(lastPos, pos));
 			}
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
+			// 2. Parse the link. Strip away the quotes since we only care about the argument values. Double quotes may be escaped.
+			String link = LINK_QUOTES.matcher(content.substring(pos + START_TAG.length(), endPos)).replaceAll("");
 			String[] linkArguments = link.split(",");
 			if (linkArguments.length == 3) {
 				// Branch in link argument always comes last (third argument)
 				branch = linkArguments[2].trim();
 			}
+			String[] linkLanguageTags;
 			if (linkArguments.length >= 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
+				linkLanguageTags = new String[] { linkArguments[1].trim() };
 			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
-					languageTags.toArray(new String[languageTags.size()])));
+				linkLanguageTags = languageTags.toArray(new String[languageTags.size()]);
 			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+				linkLanguageTags = new String[0];
 			}
+			Link parsedLink = new Link(linkArguments[0].trim(), branch, linkLanguageTags);
+			uuids.add(parsedLink.uuid);
+			segments.add(parsedLink);
 
 			lastPos = endPos + END_TAG.length();
 		}
 
-		// 3.: Buildup the new content
+		// 3. Load all linked nodes at once
+		Map<String, HibNode> nodes = uuids.isEmpty() ? Collections.emptyMap() : Tx.get().nodeDao().findByUuidsGlobal(uuids);
+
+		// 4. Buildup the new content
 		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
+		for (Object segment : segments) {
+			if (segment instanceof Link) {
+				Link link = (Link) segment;
+				renderedContent.append(resolve(ac, link.branch, edgeType, link.uuid, nodes.get(link.uuid), type, projectName, false, link.languageTags));
+			} else {
+				renderedContent.append((String) segment);
+			}
+		}
 
 		return renderedContent.toString();
 	}
@@ -137,6 +160,27 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 		// Get rid of additional whitespaces
 		uuid = uuid.trim();
 		HibNode node = Tx.get().nodeDao().findByUuidGlobal(uuid);
+		return resolve(ac, branch, edgeType, uuid, node, type, projectName, forceAbsolute, languageTags);
+	}
+
+	/**
+	 * Resolve the link to the already loaded node.
+	 * 
+	 * @param ac
+	 * @param branch
+	 * @param edgeType
+	 * @param uuid
+	 *            Uuid of the target node
+	 * @param node
+	 *            Target node or null if the node could not be found
+	 * @param type
+	 * @param projectName
+	 * @param forceAbsolute
+	 * @param languageTags
+	 * @return
+	 */
+	private String resolve(InternalActionContext ac, String branch, ContainerType edgeType, String uuid, HibNode node, LinkType type,
+		String projectName, boolean forceAbsolute, String... languageTags) {
 		String language;
 		// check for null
 		if (node == null) {
@@ -226,7 +270,11 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 			log.debug("Resolving link to " + node.getUuid() + " in language " + Arrays.toString(languageTags) + " with type " + type.name());
 		}
 
-		String path = nodeDao.getPath(node, ac, branch.getUuid(), edgeType, languageTags);
+		String[] pathLanguageTags = languageTags;
+		ContainerType pathType = edgeType;
+		String path = linkPathCache.getPath(node.getUuid(), branch.getUuid(), edgeType, languageTags, () -> {
+			return nodeDao.getPath(node, ac, branch.getUuid(), pathType, pathLanguageTags);
+		});
 		if (path == null) {
 			path = "/error/404";
 		}
@@ -288,4 +336,22 @@ public class WebRootLinkReplacerImpl implements WebRootLinkReplacer {
 		}
 		return String.format("?%s=%s", VersioningParameters.BRANCH_QUERY_PARAM_KEY, branch.getName());
 	}
+
+	/**
+	 * Parsed mesh link.
+	 */
+	private static class Link {
+
+		private final String uuid;
+
+		private final String branch;
+
+		private final String[] languageTags;
+
+		Link(String uuid, String branch, String[] languageTags) {
+			this.uuid = uuid;
+			this.branch = branch;
+			this.languageTags = languageTags;
+		}
+	}
 }
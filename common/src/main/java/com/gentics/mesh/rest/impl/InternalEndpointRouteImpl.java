@@ -30,6 +30,7 @@ import org.raml.model.parameter.QueryParameter;
 import org.raml.model.parameter.UriParameter;
 
 import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.db.TxProfile;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.RestModel;
@@ -177,7 +178,7 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 	@Override
 	public InternalEndpointRoute handler(Handler<RoutingContext> requestHandler) {
 		validate();
-		route.handler(requestHandler);
+		route.handler(withTxOrigin(requestHandler));
 		return this;
 	}
 
@@ -218,16 +219,33 @@ public class InternalEndpointRouteImpl implements InternalEndpointRoute {
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler) {
-		route.blockingHandler(requestHandler);
+		route.blockingHandler(withTxOrigin(requestHandler));
 		return this;
 	}
 
 	@Override
 	public InternalEndpointRoute blockingHandler(Handler<RoutingContext> requestHandler, boolean ordered) {
-		route.blockingHandler(requestHandler, ordered);
+		route.blockingHandler(withTxOrigin(requestHandler), ordered);
 		return this;
 	}
 
+	/**
+	 * Wrap the handler so that the transactions which are started by the handler are tagged with the request.
+	 * 
+	 * @param requestHandler
+	 * @return
+	 */
+	private Handler<RoutingContext> withTxOrigin(Handler<RoutingContext> requestHandler) {
+		return rc -> {
+			String previous = TxProfile.setOrigin(rc.request().method() + " " + rc.request().path());
+			try {
+				requestHandler.handle(rc);
+			} finally {
+				TxProfile.setOrigin(previous);
+			}
+		};
+	}
+
 	@Override
 	public InternalEndpointRoute failureHandler(Handler<RoutingContext> failureHandler) {
 		route.failureHandler(failureHandler);
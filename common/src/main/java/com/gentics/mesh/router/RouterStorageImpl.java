@@ -16,6 +16,7 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.distributed.TopologyChangeReadonlyHandler;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventBatchEnvelope;
 import com.gentics.mesh.handler.VersionHandler;
 import com.gentics.mesh.handler.VersionHandlerImpl;
 import com.gentics.mesh.monitor.liveness.LivenessManager;
@@ -92,27 +93,26 @@ public class RouterStorageImpl implements RouterStorage {
 		ProjectsRouter projectsRouter = rootRouter.apiRouter().projectsRouter();
 		EventBus eb = vertx.eventBus();
 		eb.consumer(PROJECT_CREATED.address, (Message<JsonObject> rh) -> {
-			JsonObject json = rh.body();
-
-			// Check whether this is a local message. We only need to react on foreign messages.
-			// Local updates for project creation / deletion is already handled locally
-			String origin = json.getString("origin");
-			String nodeName = options.getNodeName();
-			if (nodeName.equals(origin)) {
-				rh.reply(true);
-				return;
-			}
-			String name = json.getString("name");
-			try {
-				routerStorageRegistry.addProject(name);
-				rh.reply(true);
-				if (log.isInfoEnabled()) {
-					log.info("Registered project {" + name + "}");
+			for (JsonObject json : EventBatchEnvelope.unpack(rh.body())) {
+				// Check whether this is a local message. We only need to react on foreign messages.
+				// Local updates for project creation / deletion is already handled locally
+				String origin = json.getString("origin");
+				String nodeName = options.getNodeName();
+				if (nodeName.equals(origin)) {
+					continue;
+				}
+				String name = json.getString("name");
+				try {
+					routerStorageRegistry.addProject(name);
+					if (log.isInfoEnabled()) {
+						log.info("Registered project {" + name + "}");
+					}
+				} catch (InvalidNameException e) {
+					rh.fail(400, e.getMessage());
+					throw error(BAD_REQUEST, "Error while adding project to router storage", e);
 				}
-			} catch (InvalidNameException e) {
-				rh.fail(400, e.getMessage());
-				throw error(BAD_REQUEST, "Error while adding project to router storage", e);
 			}
+			rh.reply(true);
 		});
 
 		eb.consumer(PROJECT_UPDATED.address, (Message<JsonObject> rh) -> {
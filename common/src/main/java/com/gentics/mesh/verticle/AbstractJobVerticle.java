@@ -12,7 +12,8 @@ import io.vertx.reactivex.RxHelper;
 
 /**
  * Basic implementation for a job verticle. These kinds of verticles can be used to process specific tasks in a modular fashion. Jobs can be triggered via a
- * specified eventbus address. Each job action is executed synchronously thus a global lock needs to be acquired for each action.
+ * specified eventbus address. If the verticle provides a {@link #getLockName() lock name}, a global lock needs to be acquired for each action, so that the
+ * actions are executed synchronously. Otherwise the action itself is responsible for the synchronization.
  * 
  * Although the jobs are running in a worker pool thread, the verticle itself is not a worker verticle (any more), because if it were, this would cause eventbus messages,
  * which are published during the job execution (e.g. "node.updated" during a node migration) to not call the handlers immediately (e.g. causing the updated node to be indexed in ES), but would cause
@@ -64,9 +65,11 @@ public abstract class AbstractJobVerticle extends AbstractVerticle {
 	/**
 	 * Name of the lock that is used to synchronize execution.
 	 * 
-	 * @return
+	 * @return Name of the lock or null if the actions are executed without a lock
 	 */
-	public abstract String getLockName();
+	public String getLockName() {
+		return null;
+	}
 
 	/**
 	 * Action which is being invoked.
@@ -74,9 +77,14 @@ public abstract class AbstractJobVerticle extends AbstractVerticle {
 	 * @param message
 	 */
 	public void invokeJobAction(Message<Object> message) {
-		log.info("Got job processing request. Getting lock to execute the request.");
 		Completable job = stopped ? Completable.error(new Throwable("Processing was stopped.")) : executeJob(message);
-		executeLocked(job, message);
+		if (getLockName() == null) {
+			log.info("Got job processing request.");
+			executeUnlocked(job, message);
+		} else {
+			log.info("Got job processing request. Getting lock to execute the request.");
+			executeLocked(job, message);
+		}
 	}
 
 	/**
@@ -95,6 +103,23 @@ public abstract class AbstractJobVerticle extends AbstractVerticle {
 		}
 	}
 
+	/**
+	 * Execute the action without acquiring a lock. The request is always accepted.
+	 * 
+	 * @param action
+	 * @param message
+	 */
+	protected void executeUnlocked(Completable action, Message<Object> message) {
+		if (message != null) {
+			message.reply(new JsonObject().put("status", STATUS_ACCEPTED));
+		}
+		action.subscribeOn(RxHelper.blockingScheduler(vertx)).subscribe(() -> {
+			log.debug("Action completed");
+		}, error -> {
+			log.error("Error while executing action", error);
+		});
+	}
+
 	/**
 	 * Acquire a cluster wide exclusive lock. By default the method will try to acquire the lock within 10s. The errorAction is invoked if the lock could not be
 	 * acquired by then.
@@ -0,0 +1,60 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the paths of resolved mesh links. The cache is invalidated by the same events as the {@link WebrootPathCacheImpl}.
+ */
+@Singleton
+public class LinkPathCacheImpl extends AbstractMeshCache<String, String> implements LinkPathCache {
+
+	private static final Logger log = LoggerFactory.getLogger(LinkPathCacheImpl.class);
+
+	@Inject
+	public LinkPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig().getLinkPathCacheSize()), registry, options.getCacheConfig().getLinkPathCacheSize());
+	}
+
+	private static EventAwareCache<String, String> createCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, String>builder()
+			.events(WebrootPathCacheImpl.EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing link path cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("linkpath")
+			.maxSize(maxSize)
+			.build();
+	}
+
+	@Override
+	public String getPath(String nodeUuid, String branchUuid, ContainerType type, String[] languageTags, Supplier<String> loader) {
+		return get(createCacheKey(nodeUuid, branchUuid, type, languageTags), key -> loader.get());
+	}
+
+	/**
+	 * Create the cache key.
+	 * 
+	 * @param nodeUuid
+	 * @param branchUuid
+	 * @param type
+	 * @param languageTags
+	 * @return
+	 */
+	private String createCacheKey(String nodeUuid, String branchUuid, ContainerType type, String[] languageTags) {
+		return nodeUuid + "-" + branchUuid + "-" + type.getCode() + "-" + String.join(",", languageTags);
+	}
+
+}
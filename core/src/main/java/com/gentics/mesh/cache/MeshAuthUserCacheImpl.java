@@ -0,0 +1,79 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.user.MeshAuthUserSnapshot;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the snapshots of authenticated users. The snapshots are cached by user uuid (used by the JWT authentication) and by username (used by
+ * the anonymous and OAuth2 authentication).
+ */
+@Singleton
+public class MeshAuthUserCacheImpl extends AbstractMeshCache<String, MeshAuthUserSnapshot> implements MeshAuthUserCache {
+
+	private static final Logger log = LoggerFactory.getLogger(MeshAuthUserCacheImpl.class);
+
+	private static final String UUID_KEY_PREFIX = "uuid:";
+
+	private static final String USERNAME_KEY_PREFIX = "username:";
+
+	private static final MeshEvent EVENTS[] = {
+		USER_UPDATED,
+		USER_DELETED,
+		GROUP_UPDATED,
+		GROUP_DELETED,
+		ROLE_UPDATED,
+		ROLE_DELETED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS
+	};
+
+	@Inject
+	public MeshAuthUserCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig().getAuthUserCacheSize()), registry, options.getCacheConfig().getAuthUserCacheSize());
+	}
+
+	private static EventAwareCache<String, MeshAuthUserSnapshot> createCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, MeshAuthUserSnapshot>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing auth user cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.maxSize(maxSize)
+			.name("authuser")
+			.build();
+	}
+
+	@Override
+	public MeshAuthUserSnapshot getByUuid(String uuid, Function<String, MeshAuthUserSnapshot> loader) {
+		return get(UUID_KEY_PREFIX + uuid, key -> loader.apply(uuid));
+	}
+
+	@Override
+	public MeshAuthUserSnapshot getByUsername(String username, Function<String, MeshAuthUserSnapshot> loader) {
+		return get(USERNAME_KEY_PREFIX + username, key -> loader.apply(username));
+	}
+}
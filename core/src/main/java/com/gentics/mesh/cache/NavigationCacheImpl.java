@@ -0,0 +1,80 @@
+package com.gentics.mesh.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for navigation subtrees. A navigation contains the rendered responses of all nodes of the subtree, thus the same events which clear the
+ * {@link NodeResponseCacheImpl} will clear the whole cache.
+ */
+@Singleton
+public class NavigationCacheImpl extends AbstractMeshCache<String, NavigationCache.Entry> implements NavigationCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NavigationCacheImpl.class);
+
+	@Inject
+	public NavigationCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options), registry, options.getCacheConfig().getNavigationCacheSize());
+	}
+
+	private static EventAwareCache<String, Entry> createCache(EventAwareCacheFactory factory, MeshOptions options) {
+		return factory.<String, Entry>builder()
+			.events(NodeResponseCacheImpl.EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing navigation cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("navigation")
+			.maxSize(options.getCacheConfig().getNavigationCacheSize())
+			.build();
+	}
+
+	/**
+	 * Create the cache key. The role set of the user is part of the key, since the children of the navigation are filtered by the user's permissions. All
+	 * request parameters are part of the key in their canonical order, since they control the depth of the navigation and which data is rendered.
+	 */
+	@Override
+	public String createKey(InternalActionContext ac, HibNode root, String branchUuid, ContainerType type, List<String> languages) {
+		Tx tx = Tx.get();
+		HibUser user = ac.getUser();
+		String roleSetId = user.isAdmin() ? "admin" : tx.permissionCache().getRoleSetId(user.getId(), () -> tx.userDao().getRolesHash(user));
+
+		Map<String, String> parameters = new TreeMap<>();
+		ac.getParameters().names().forEach(name -> parameters.put(name, String.join(",", ac.getParameters().getAll(name))));
+
+		StringBuilder key = new StringBuilder();
+		key.append(root.getUuid());
+		key.append("-").append(branchUuid);
+		key.append("-").append(type.getCode());
+		key.append("-").append(languages == null ? "" : String.join(",", languages));
+		key.append("-").append(roleSetId);
+		parameters.forEach((name, value) -> key.append("-").append(name).append("=").append(value));
+		return key.toString();
+	}
+
+	@Override
+	public void store(String key, String etag, NavigationResponse response) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(key, new Entry(etag, response));
+	}
+}
@@ -0,0 +1,168 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_FAMILY_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static com.gentics.mesh.metric.SimpleMetric.NODE_RESPONSE_CACHE_BYTES;
+import static com.gentics.mesh.metric.SimpleMetric.NODE_RESPONSE_CACHE_HIT_RATIO;
+import static com.gentics.mesh.metric.SimpleMetric.NODE_RESPONSE_CACHE_SIZE;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for serialized node responses. A rendered response may contain data of other elements (e.g. referenced nodes, tags, schema and user
+ * references), thus every event which may affect a response will clear the whole cache.
+ */
+@Singleton
+public class NodeResponseCacheImpl extends AbstractMeshCache<String, Buffer> implements NodeResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeResponseCacheImpl.class);
+
+	static final MeshEvent EVENTS[] = Stream.concat(Stream.of(WebrootPathCacheImpl.EVENTS), Stream.of(
+		NODE_TAGGED,
+		NODE_UNTAGGED,
+		NODE_REFERENCE_UPDATED,
+		SCHEMA_UPDATED,
+		MICROSCHEMA_UPDATED,
+		PROJECT_UPDATED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		TAG_UPDATED,
+		TAG_DELETED,
+		TAG_FAMILY_UPDATED,
+		TAG_FAMILY_DELETED,
+		USER_UPDATED,
+		USER_DELETED,
+		ROLE_PERMISSIONS_CHANGED)).toArray(MeshEvent[]::new);
+
+	private final State state;
+
+	@Inject
+	public NodeResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics) {
+		this(factory, registry, options, metrics, new State());
+	}
+
+	private NodeResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics, State state) {
+		super(createCache(factory, options, state), registry, options.getCacheConfig().getNodeResponseCacheSize());
+		this.state = state;
+		if (metrics.isEnabled()) {
+			MeterRegistry meterRegistry = metrics.getMetricRegistry();
+			meterRegistry.gauge(NODE_RESPONSE_CACHE_SIZE.key(), this, NodeResponseCacheImpl::size);
+			meterRegistry.gauge(NODE_RESPONSE_CACHE_BYTES.key(), state.bytes);
+			meterRegistry.gauge(NODE_RESPONSE_CACHE_HIT_RATIO.key(), state, State::hitRatio);
+		}
+	}
+
+	private static EventAwareCache<String, Buffer> createCache(EventAwareCacheFactory factory, MeshOptions options, State state) {
+		return factory.<String, Buffer>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing node response cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.removalListener((key, response) -> {
+				if (response != null) {
+					state.bytes.addAndGet(-response.length());
+				}
+			})
+			.name("noderesponse")
+			.maxSize(options.getCacheConfig().getNodeResponseCacheSize())
+			.build();
+	}
+
+	@Override
+	public Buffer getResponse(InternalActionContext ac, HibNode node, String etag, Supplier<Buffer> renderer) {
+		if (isDisabled()) {
+			return renderer.get();
+		}
+		String key = createCacheKey(ac, node, etag);
+		Buffer response = cache.get(key);
+		if (response != null) {
+			state.hits.increment();
+			return response;
+		}
+		state.misses.increment();
+		response = renderer.get();
+		state.bytes.addAndGet(response.length());
+		cache.put(key, response);
+		return response;
+	}
+
+	/**
+	 * Create the cache key. The role set of the user is part of the key, since referenced and expanded nodes are only rendered when the user is allowed to read
+	 * them. All request parameters are part of the key in their canonical order, since they control which data is rendered (e.g. language, fields, link
+	 * resolving, expansion and formatting).
+	 *
+	 * @param ac
+	 * @param node
+	 * @param etag
+	 * @return
+	 */
+	private String createCacheKey(InternalActionContext ac, HibNode node, String etag) {
+		Tx tx = Tx.get();
+		HibUser user = ac.getUser();
+		String roleSetId = user.isAdmin() ? "admin" : tx.permissionCache().getRoleSetId(user.getId(), () -> tx.userDao().getRolesHash(user));
+
+		Map<String, String> parameters = new TreeMap<>();
+		ac.getParameters().names().forEach(name -> parameters.put(name, String.join(",", ac.getParameters().getAll(name))));
+
+		StringBuilder key = new StringBuilder();
+		key.append(node.getUuid());
+		key.append("-").append(etag);
+		key.append("-").append(roleSetId);
+		parameters.forEach((name, value) -> key.append("-").append(name).append("=").append(value));
+		return key.toString();
+	}
+
+	/**
+	 * State which is shared with the listeners of the underlying cache.
+	 */
+	private static class State {
+
+		private final AtomicLong bytes = new AtomicLong();
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private double hitRatio() {
+			long hitCount = hits.sum();
+			long total = hitCount + misses.sum();
+			return total == 0 ? 0 : (double) hitCount / total;
+		}
+	}
+}
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -19,22 +21,37 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * The permissions are cached per element. Every element entry contains the permissions per role set id. Users with the same roles thus share the cached
+ * permissions. Changes of the permissions on an element only invalidate the entry of this element, changes of the role assignments only invalidate the role
+ * set ids of the users.
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<InternalPermission>> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<String, Map<String, EnumSet<InternalPermission>>> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	/**
+	 * Key of the element id in the body of the {@link MeshEvent#CLEAR_PERMISSION_STORE} event.
+	 */
+	private static final String ELEMENT_ID_KEY = "elementId";
+
+	/**
+	 * Key of the role sets flag in the body of the {@link MeshEvent#CLEAR_PERMISSION_STORE} event.
+	 */
+	private static final String ROLE_SETS_KEY = "roleSets";
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
-	private static final long CACHE_SIZE = 100_000;
+	private final EventAwareCache<String, String> roleSets;
 
 	private static final MeshEvent EVENTS[] = {
 		CLEAR_PERMISSION_STORE,
@@ -51,30 +68,75 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<Inter
 
 	@Inject
 	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory), registry, CACHE_SIZE);
+		super(createCache(factory, options.getCacheConfig().getPermissionCacheSize()), registry, options.getCacheConfig().getPermissionCacheSize());
 		this.vertx = vertx;
 		this.options = options;
+		this.roleSets = createRoleSetCache(factory, options.getCacheConfig().getPermissionCacheSize());
+		registry.register(roleSets);
 	}
 
-	private static EventAwareCache<String, EnumSet<InternalPermission>> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, EnumSet<InternalPermission>>builder()
+	private static EventAwareCache<String, Map<String, EnumSet<InternalPermission>>> createCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, Map<String, EnumSet<InternalPermission>>>builder()
 			.events(EVENTS)
 			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+				JsonObject body = event.body();
+				String elementId = body == null ? null : body.getString(ELEMENT_ID_KEY);
+				if (elementId != null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing permissions of element {" + elementId + "} due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate(elementId);
+				} else if (!isRoleSetEvent(body)) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
 				}
-				cache.invalidate();
 			})
 			.expireAfter(30, ChronoUnit.MINUTES)
-			.maxSize(CACHE_SIZE)
+			.maxSize(maxSize)
 			.name("permission")
 			.build();
 	}
 
+	private static EventAwareCache<String, String> createRoleSetCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, String>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				JsonObject body = event.body();
+				// Changes of the permissions of a single element don't affect the role sets
+				if (body == null || body.getString(ELEMENT_ID_KEY) == null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing role sets due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+				}
+			})
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.maxSize(maxSize)
+			.name("permission_roleset")
+			.build();
+	}
+
+	private static boolean isRoleSetEvent(JsonObject body) {
+		return body != null && body.getBoolean(ROLE_SETS_KEY, false);
+	}
+
 	@Override
-	public Boolean hasPermission(Object userId, InternalPermission permission, Object elementId) {
-		String key = createCacheKey(userId, elementId);
-		EnumSet<InternalPermission> cachedPermissions = cache.get(key);
+	public String getRoleSetId(Object userId, Supplier<String> roleSetLoader) {
+		if (isDisabled()) {
+			return roleSetLoader.get();
+		}
+		return roleSets.get(String.valueOf(userId), key -> roleSetLoader.get());
+	}
+
+	@Override
+	public Boolean hasPermission(String roleSetId, InternalPermission permission, Object elementId) {
+		Map<String, EnumSet<InternalPermission>> elementPermissions = get(createCacheKey(elementId));
+		if (elementPermissions == null) {
+			return null;
+		}
+		EnumSet<InternalPermission> cachedPermissions = elementPermissions.get(roleSetId);
 		if (cachedPermissions != null) {
 			return cachedPermissions.contains(permission);
 		} else {
@@ -84,19 +146,17 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<Inter
 
 	/**
 	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
+	 *
 	 * @param elementId
 	 * @return
 	 */
-	private String createCacheKey(Object userId, Object elementId) {
-		return userId + "-" + elementId;
+	private String createCacheKey(Object elementId) {
+		return String.valueOf(elementId);
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 *            Whether to publish an event to inform other nodes in the cluster
 	 */
@@ -104,6 +164,7 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<Inter
 	public void clear(boolean notify) {
 		// Invalidate locally
 		cache.invalidate();
+		roleSets.invalidate();
 		if (notify && options.getClusterOptions().isEnabled()) {
 			// Send the event to inform other to purge the stored permissions
 			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
@@ -120,9 +181,29 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, EnumSet<Inter
 	}
 
 	@Override
-	public void store(Object userId, EnumSet<InternalPermission> permission, Object elementId) {
+	public void invalidateElement(Object elementId, boolean notify) {
+		String key = createCacheKey(elementId);
+		cache.invalidate(key);
+		if (notify && options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, new JsonObject().put(ELEMENT_ID_KEY, key));
+		}
+	}
+
+	@Override
+	public void clearRoleSets(boolean notify) {
+		roleSets.invalidate();
+		if (notify && options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, new JsonObject().put(ROLE_SETS_KEY, true));
+		}
+	}
+
+	@Override
+	public void store(String roleSetId, EnumSet<InternalPermission> permission, Object elementId) {
+		if (isDisabled()) {
+			return;
+		}
 		// deduplicate the permission EnumSet and put it into the cache
-		cache.put(createCacheKey(userId, elementId), deduplicate(permission));
+		cache.get(createCacheKey(elementId), key -> new ConcurrentHashMap<>()).put(roleSetId, deduplicate(permission));
 	}
 
 	/**
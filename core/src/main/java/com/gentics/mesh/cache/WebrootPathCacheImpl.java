@@ -36,7 +36,7 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 
 	private static final Logger log = LoggerFactory.getLogger(WebrootPathCacheImpl.class);
 
-	private static final MeshEvent EVENTS[] = {
+	static final MeshEvent EVENTS[] = {
 		CLEAR_PATH_STORE,
 		NODE_UPDATED,
 		NODE_DELETED,
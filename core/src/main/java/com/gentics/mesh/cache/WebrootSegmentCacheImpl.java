@@ -0,0 +1,312 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.STARTUP;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+import static com.gentics.mesh.metric.SimpleMetric.WEBROOT_SEGMENT_CACHE_HIT;
+import static com.gentics.mesh.metric.SimpleMetric.WEBROOT_SEGMENT_CACHE_MISS;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.db.CommonTx;
+import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import dagger.Lazy;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for webroot path segments. The cache keys consist of the branch, the container type, the parent node and the segment. Node events only
+ * invalidate the entries which point to the affected node. All other events will clear the cache.
+ */
+@Singleton
+public class WebrootSegmentCacheImpl extends AbstractMeshCache<String, Object> implements WebrootSegmentCache {
+
+	private static final Logger log = LoggerFactory.getLogger(WebrootSegmentCacheImpl.class);
+
+	private static final MeshEvent EVENTS[] = {
+		CLEAR_PATH_STORE,
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		PROJECT_UPDATED,
+		STARTUP };
+
+	private static final Set<String> NODE_EVENTS = Set.of(
+		NODE_UPDATED.address,
+		NODE_DELETED.address,
+		NODE_PUBLISHED.address,
+		NODE_UNPUBLISHED.address,
+		NODE_MOVED.address,
+		NODE_CONTENT_CREATED.address,
+		NODE_CONTENT_DELETED.address);
+
+	private final long maxSize;
+
+	private final Lazy<Database> db;
+
+	private final Vertx vertx;
+
+	private final MetricsService metrics;
+
+	private final State state;
+
+	@Inject
+	public WebrootSegmentCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, Lazy<Database> db, Vertx vertx,
+		MetricsService metrics) {
+		this(factory, registry, options, db, vertx, metrics, new State());
+	}
+
+	private WebrootSegmentCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, Lazy<Database> db, Vertx vertx,
+		MetricsService metrics, State state) {
+		super(createCache(factory, options, state), registry, options.getCacheConfig().getWebrootSegmentCacheSize());
+		this.maxSize = options.getCacheConfig().getWebrootSegmentCacheSize();
+		this.db = db;
+		this.vertx = vertx;
+		this.metrics = metrics;
+		this.state = state;
+		if (options.getCacheConfig().isWebrootSegmentCacheWarmUp()) {
+			state.warmUp = this::warmUpAsync;
+		}
+	}
+
+	private static EventAwareCache<String, Object> createCache(EventAwareCacheFactory factory, MeshOptions options, State state) {
+		return factory.<String, Object>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				String address = event.address();
+				if (STARTUP.address.equals(address)) {
+					Runnable warmUp = state.warmUp;
+					if (warmUp != null) {
+						warmUp.run();
+					}
+					return;
+				}
+				if (PROJECT_UPDATED.address.equals(address)) {
+					// Project names are only used to tag the metrics
+					state.projectNames.clear();
+					return;
+				}
+				String uuid = event.body() == null ? null : event.body().getString("uuid");
+				if (uuid != null && NODE_EVENTS.contains(address)) {
+					if (log.isDebugEnabled()) {
+						log.debug("Invalidating webroot segments of node {" + uuid + "} due to received event from {" + address + "}");
+					}
+					Set<String> keys = state.nodeKeys.remove(uuid);
+					if (keys != null) {
+						keys.forEach(cache::invalidate);
+					}
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing webroot segment cache due to received event from {" + address + "}");
+					}
+					state.nodeKeys.clear();
+					cache.invalidate();
+				}
+			})
+			.name("webrootsegment")
+			.maxSize(options.getCacheConfig().getWebrootSegmentCacheSize())
+			.build();
+	}
+
+	/**
+	 * Run the warm-up on a worker thread.
+	 */
+	private void warmUpAsync() {
+		vertx.executeBlocking(promise -> {
+			warmUp();
+			promise.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Error while warming up the webroot segment cache", rh.cause());
+			}
+		});
+	}
+
+	@Override
+	public HibNode getChild(HibNode parent, String branchUuid, ContainerType type, String segment) {
+		if (isDisabled()) {
+			return null;
+		}
+		Object childId = cache.get(createCacheKey(branchUuid, type, parent.getUuid(), segment));
+		HibNode child = null;
+		if (childId != null) {
+			child = CommonTx.get().load(childId, parent.getClass());
+		}
+		if (metrics.isEnabled()) {
+			String projectName = state.projectNames.computeIfAbsent(branchUuid, key -> parent.getProject().getName());
+			metrics.getMetricRegistry().counter((child != null ? WEBROOT_SEGMENT_CACHE_HIT : WEBROOT_SEGMENT_CACHE_MISS).key(), "project", projectName)
+				.increment();
+		}
+		return child;
+	}
+
+	@Override
+	public void store(HibNode parent, String branchUuid, ContainerType type, String segment, HibNode child) {
+		if (isDisabled()) {
+			return;
+		}
+		// The index may reference evicted entries. It is reset once it grows too large.
+		if (state.nodeKeys.size() > 2 * maxSize) {
+			state.nodeKeys.clear();
+			cache.invalidate();
+		}
+		String key = createCacheKey(branchUuid, type, parent.getUuid(), segment);
+		state.nodeKeys.computeIfAbsent(child.getUuid(), uuid -> ConcurrentHashMap.newKeySet()).add(key);
+		cache.put(key, child.getId());
+	}
+
+	@Override
+	public void invalidate(HibNode parent, String branchUuid, ContainerType type, String segment) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.invalidate(createCacheKey(branchUuid, type, parent.getUuid(), segment));
+	}
+
+	@Override
+	public void invalidateNode(String nodeUuid) {
+		Set<String> keys = state.nodeKeys.remove(nodeUuid);
+		if (keys != null) {
+			keys.forEach(cache::invalidate);
+		}
+	}
+
+	@Override
+	public void clear() {
+		state.nodeKeys.clear();
+		super.clear();
+	}
+
+	@Override
+	public void warmUp() {
+		if (isDisabled()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		long count = db.get().tx(tx -> {
+			long stored = 0;
+			for (HibProject project : tx.projectDao().findAll()) {
+				String branchUuid = project.getLatestBranch().getUuid();
+				for (ContainerType type : new ContainerType[] { DRAFT, PUBLISHED }) {
+					stored += warmUp(project.getBaseNode(), branchUuid, type, maxSize - stored);
+					if (stored >= maxSize) {
+						return stored;
+					}
+				}
+			}
+			return stored;
+		});
+		log.info("Warmed up webroot segment cache with {" + count + "} segments in {" + (System.currentTimeMillis() - start) + "} ms");
+	}
+
+	/**
+	 * Traverse the tree below the base node breadth first and store the segments of all found nodes.
+	 *
+	 * @param baseNode
+	 * @param branchUuid
+	 * @param type
+	 * @param limit
+	 *            Maximum amount of segments to be stored
+	 * @return Amount of stored segments
+	 */
+	private long warmUp(HibNode baseNode, String branchUuid, ContainerType type, long limit) {
+		NodeDao nodeDao = CommonTx.get().nodeDao();
+		ContentDao contentDao = CommonTx.get().contentDao();
+		Deque<HibNode> queue = new ArrayDeque<>();
+		queue.add(baseNode);
+		long stored = 0;
+		while (!queue.isEmpty()) {
+			HibNode parent = queue.poll();
+			for (HibNode child : nodeDao.getChildren(parent, branchUuid)) {
+				boolean hasContent = false;
+				for (HibNodeFieldContainer container : contentDao.getFieldContainers(child, branchUuid, type)) {
+					hasContent = true;
+					String segment = contentDao.getSegmentFieldValue(container);
+					if (segment != null) {
+						store(parent, branchUuid, type, segment, child);
+						if (++stored >= limit) {
+							return stored;
+						}
+					}
+				}
+				if (hasContent) {
+					queue.add(child);
+				}
+			}
+		}
+		return stored;
+	}
+
+	/**
+	 * State which is shared between the cache instance and the event handling of the cache.
+	 */
+	private static class State {
+
+		/**
+		 * Keys of the cache entries per child node uuid. The index is used to invalidate the entries of single nodes and may contain keys of already
+		 * evicted entries.
+		 */
+		private final Map<String, Set<String>> nodeKeys = new ConcurrentHashMap<>();
+
+		/**
+		 * Names of the projects per branch uuid which are used to tag the metrics.
+		 */
+		private final Map<String, String> projectNames = new ConcurrentHashMap<>();
+
+		private volatile Runnable warmUp;
+	}
+
+	/**
+	 * Create the cache key.
+	 *
+	 * @param branchUuid
+	 * @param type
+	 * @param parentUuid
+	 * @param segment
+	 * @return
+	 */
+	private String createCacheKey(String branchUuid, ContainerType type, String parentUuid, String segment) {
+		return branchUuid + "-" + type.getCode() + "-" + parentUuid + "-" + segment;
+	}
+
+}
@@ -30,6 +30,7 @@ import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.auth.MeshAuthChainImpl;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
+import com.gentics.mesh.core.db.TxProfiler;
 import com.gentics.mesh.core.endpoint.admin.consistency.ConsistencyCheckHandler;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoHandler;
 import com.gentics.mesh.core.endpoint.admin.plugin.PluginHandler;
@@ -63,10 +64,12 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 
 	private HandlerUtilities handlerUtilities;
 
+	private TxProfiler txProfiler;
+
 	@Inject
 	public AdminEndpoint(MeshAuthChainImpl chain, AdminHandler adminHandler, JobHandler jobHandler, ConsistencyCheckHandler consistencyHandler,
 		PluginHandler pluginHandler, DebugInfoHandler debugInfoHandler, LocalConfigHandler localConfigHandler, ShutdownHandler shutdownHandler,
-		HandlerUtilities handlerUtilities) {
+		HandlerUtilities handlerUtilities, TxProfiler txProfiler) {
 		super("admin", chain);
 		this.adminHandler = adminHandler;
 		this.jobHandler = jobHandler;
@@ -76,6 +79,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		this.localConfigHandler = localConfigHandler;
 		this.shutdownHandler = shutdownHandler;
 		this.handlerUtilities = handlerUtilities;
+		this.txProfiler = txProfiler;
 	}
 
 	public AdminEndpoint() {
@@ -112,6 +116,7 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		addShutdownHandler();
 		addCoordinatorHandler();
 		addCacheHandler();
+		addSlowTransactionsHandler();
 	}
 
 	private void addSecurityLogger() {
@@ -477,6 +482,19 @@ public class AdminEndpoint extends AbstractInternalEndpoint {
 		});
 	}
 
+	private void addSlowTransactionsHandler() {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/transactions/slow");
+		endpoint.method(GET);
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.description(
+			"Returns the latest transactions of this instance which exceeded the configured threshold of the transaction profiler. The profiler needs to be enabled in the monitoring options.");
+		endpoint.exampleResponse(OK, adminExamples.createTxProfileListResponse(), "List of slow transactions.");
+		endpoint
+			.blockingHandler(rc -> handlerUtilities.requiresAdminRole(rc))
+			.handler(rc -> wrap(rc).send(txProfiler.toListResponse(), OK));
+	}
+
 	static Handler<RoutingContext> internalHandler(BiConsumer<RoutingContext, InternalActionContext> handler) {
 		return ctx -> handler.accept(ctx, new InternalRoutingActionContextImpl(ctx));
 	}
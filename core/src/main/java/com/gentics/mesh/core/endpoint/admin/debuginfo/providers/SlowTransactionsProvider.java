@@ -0,0 +1,36 @@
+package com.gentics.mesh.core.endpoint.admin.debuginfo.providers;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.db.TxProfiler;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoBufferEntry;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoEntry;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoProvider;
+
+import io.reactivex.Flowable;
+
+/**
+ * Provider for the slow transactions which were recorded by the transaction profiler.
+ */
+@Singleton
+public class SlowTransactionsProvider implements DebugInfoProvider {
+
+	private final TxProfiler txProfiler;
+
+	@Inject
+	public SlowTransactionsProvider(TxProfiler txProfiler) {
+		this.txProfiler = txProfiler;
+	}
+
+	@Override
+	public String name() {
+		return "slowTransactions";
+	}
+
+	@Override
+	public Flowable<DebugInfoEntry> debugInfoEntries(InternalActionContext ac) {
+		return Flowable.fromCallable(() -> DebugInfoBufferEntry.fromString("slowTransactions.json", txProfiler.toListResponse().toJson()));
+	}
+}
@@ -4,15 +4,18 @@ import javax.inject.Inject;
 
 import com.gentics.mesh.auth.MeshAuthChainImpl;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.event.EventBatchEnvelope;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.bridge.BridgeEventType;
 import io.vertx.ext.bridge.PermittedOptions;
+import io.vertx.ext.web.handler.sockjs.BridgeEvent;
 import io.vertx.ext.web.handler.sockjs.SockJSBridgeOptions;
 import io.vertx.ext.web.handler.sockjs.SockJSHandler;
 import io.vertx.ext.web.handler.sockjs.SockJSHandlerOptions;
@@ -74,6 +77,12 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 				User user = event.socket().webUser();
 				boolean isAuthenticated = user != null;
 				log.debug("Eventbridge creation. User was authenticated: " + isAuthenticated);
+				if (isAuthenticated && event.type() == BridgeEventType.RECEIVE && isEnvelope(event.getRawMessage())) {
+					// Clients receive the batched events one by one
+					unpack(event);
+					event.complete(false);
+					return;
+				}
 				event.complete(isAuthenticated);
 			});
 		}
@@ -86,4 +95,20 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 
 	}
 
+	private boolean isEnvelope(JsonObject rawMessage) {
+		return rawMessage != null && EventBatchEnvelope.isEnvelope(rawMessage.getValue("body"));
+	}
+
+	/**
+	 * Write the events of the {@link EventBatchEnvelope} in the given bridge event as separate messages to the socket.
+	 * 
+	 * @param event
+	 */
+	private void unpack(BridgeEvent event) {
+		JsonObject rawMessage = event.getRawMessage();
+		for (JsonObject body : EventBatchEnvelope.unpack(rawMessage.getJsonObject("body"))) {
+			event.socket().write(rawMessage.copy().put("body", body).toBuffer());
+		}
+	}
+
 }
@@ -15,6 +15,7 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -43,15 +44,26 @@ public abstract class AbstractCrudHandler<T extends HibCoreElement<RM>, RM exten
 		return actions;
 	}
 
+	/**
+	 * Return the scope of the write lock which is used when modifying elements. Handlers for elements which only affect a single project should use the scope
+	 * of the project.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	protected WriteLockScope writeLockScope(InternalActionContext ac) {
+		return WriteLockScope.GLOBAL;
+	}
+
 	@Override
 	public void handleCreate(InternalActionContext ac) {
-		utils.createElement(ac, crudActions());
+		utils.createOrUpdateElement(ac, null, null, crudActions(), writeLockScope(ac));
 	}
 
 	@Override
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		utils.deleteElement(ac, crudActions(), uuid);
+		utils.deleteElement(ac, null, crudActions(), uuid, writeLockScope(ac));
 	}
 
 	@Override
@@ -63,7 +75,7 @@ public abstract class AbstractCrudHandler<T extends HibCoreElement<RM>, RM exten
 	@Override
 	public void handleUpdate(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		utils.updateElement(ac, uuid, crudActions());
+		utils.createOrUpdateElement(ac, null, uuid, crudActions(), writeLockScope(ac));
 	}
 
 	@Override
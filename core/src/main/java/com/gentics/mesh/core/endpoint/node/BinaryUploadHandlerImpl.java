@@ -3,15 +3,25 @@ package com.gentics.mesh.core.endpoint.node;
 import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.rest.Messages.message;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -39,6 +49,9 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.endpoint.handler.AbstractHandler;
 import com.gentics.mesh.core.image.ImageManipulator;
 import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
@@ -55,13 +68,19 @@ import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
+import io.vertx.reactivex.core.RxHelper;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.file.FileSystem;
 
@@ -90,6 +109,10 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 
 	private final WriteLock writeLock;
 
+	private final StreamingUploadRegistry uploadRegistry;
+
+	private final Scheduler blockingScheduler;
+
 	@Inject
 	public BinaryUploadHandlerImpl(ImageManipulator imageManipulator,
 		Database db,
@@ -100,7 +123,8 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 		HandlerUtilities utils, Vertx rxVertx,
 		MeshOptions options,
 		Binaries binaries,
-		WriteLock writeLock) {
+		WriteLock writeLock,
+		StreamingUploadRegistry uploadRegistry) {
 		this.db = db;
 		this.boot = boot;
 
@@ -111,6 +135,8 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 		this.options = options;
 		this.binaries = binaries;
 		this.writeLock = writeLock;
+		this.uploadRegistry = uploadRegistry;
+		this.blockingScheduler = RxHelper.blockingScheduler(rxVertx, false);
 	}
 
 	private void validateFileUpload(FileUpload ul, String fieldName) {
@@ -121,9 +147,7 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 			if (log.isDebugEnabled()) {
 				log.debug("Upload size of {" + ul.size() + "} exceeds limit of {" + byteLimit + "} by {" + (ul.size() - byteLimit) + "} bytes.");
 			}
-			String humanReadableFileSize = org.apache.commons.io.FileUtils.byteCountToDisplaySize(ul.size());
-			String humanReadableUploadLimit = org.apache.commons.io.FileUtils.byteCountToDisplaySize(byteLimit);
-			throw error(BAD_REQUEST, "node_error_uploadlimit_reached", humanReadableFileSize, humanReadableUploadLimit);
+			throw uploadLimitError(ul.size(), byteLimit);
 		}
 
 		if (isEmpty(ul.fileName())) {
@@ -137,6 +161,12 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 		}
 	}
 
+	private GenericRestException uploadLimitError(long size, long byteLimit) {
+		String humanReadableFileSize = org.apache.commons.io.FileUtils.byteCountToDisplaySize(size);
+		String humanReadableUploadLimit = org.apache.commons.io.FileUtils.byteCountToDisplaySize(byteLimit);
+		return error(BAD_REQUEST, "node_error_uploadlimit_reached", humanReadableFileSize, humanReadableUploadLimit);
+	}
+
 	/**
 	 * Handle a request to create a new field.
 	 * 
@@ -178,8 +208,248 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 		UploadContext ctx = new UploadContext();
 		ctx.setUpload(ul);
 
+		processUpload(ac, ctx, hashUpload(ul), c -> storeUploadInTemp(c, c.getUpload(), c.getHash()), nodeUuid, fieldName, languageTag, nodeVersion)
+			.subscribe(model -> ac.send(model, CREATED), ac::fail);
+	}
+
+	/**
+	 * Handle a request which streams the binary data of the field in the request body. The hash and the size of the data are determined while the data is
+	 * received and the data is directly written into the temporary location of the binary storage.
+	 * 
+	 * If the request contains a Content-Range header, the body only contains a chunk of the data. The first chunk starts a new upload, whose id is returned
+	 * until the last chunk has been received. Further chunks must reference the upload id and start at the offset of the already received data.
+	 * 
+	 * @param ac
+	 * @param request
+	 *            Paused request which contains the data
+	 * @param nodeUuid
+	 *            UUID of the node which should be updated
+	 * @param fieldName
+	 *            Name of the field which should be updated
+	 */
+	public void handleStreamingUpload(InternalActionContext ac, HttpServerRequest request, String nodeUuid, String fieldName) {
+		validateParameter(nodeUuid, "uuid");
+		validateParameter(fieldName, "fieldName");
+
+		String languageTag = ac.getParameter("language");
+		if (isEmpty(languageTag)) {
+			throw error(BAD_REQUEST, "upload_error_stream_missing_parameter", "language");
+		}
+		String nodeVersion = ac.getParameter("nodeVersion");
+		if (isEmpty(nodeVersion)) {
+			throw error(BAD_REQUEST, "upload_error_stream_missing_parameter", "nodeVersion");
+		}
+		ContentRange range = ContentRange.parse(request.getHeader(HttpHeaders.CONTENT_RANGE));
+		long byteLimit = options.getUploadOptions().getByteLimit();
+		if (range != null && range.total > byteLimit) {
+			throw uploadLimitError(range.total, byteLimit);
+		}
+
+		// The node, the field and the permission are checked for every chunk before any data is written into the temporary location
+		checkUploadTarget(ac, nodeUuid, fieldName, languageTag)
+			.andThen(Single.defer(() -> receiveChunk(ac, request, nodeUuid, fieldName, languageTag, nodeVersion, range, byteLimit)))
+			// Discard the remaining data of rejected requests
+			.doOnError(e -> request.resume())
+			.subscribe(model -> ac.send(model, model instanceof NodeResponse ? CREATED : ACCEPTED), ac::fail);
+	}
+
+	/**
+	 * Receive the data of the request and write it into the temporary location of the binary storage. The upload is completed when the last chunk has been
+	 * received.
+	 * 
+	 * @return Updated node if the upload was completed or the state of the unfinished upload
+	 */
+	private Single<RestModel> receiveChunk(InternalActionContext ac, HttpServerRequest request, String nodeUuid, String fieldName, String languageTag,
+		String nodeVersion, ContentRange range, long byteLimit) {
+		String uploadId = ac.getParameter("uploadId");
+		StreamingUpload upload;
+		if (isEmpty(uploadId)) {
+			if (range != null && range.start != 0) {
+				throw error(BAD_REQUEST, "upload_error_offset_mismatch", "0", String.valueOf(range.start));
+			}
+			String fileName = ac.getParameter("filename");
+			if (isEmpty(fileName)) {
+				throw error(BAD_REQUEST, "upload_error_stream_missing_parameter", "filename");
+			}
+			String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+			if (isEmpty(contentType)) {
+				throw error(BAD_REQUEST, "field_binary_error_emptymimetype", fieldName);
+			}
+			upload = new StreamingUpload(nodeUuid, fieldName, fileName, contentType, range == null ? -1 : range.total);
+			if (range != null) {
+				uploadRegistry.register(upload);
+			}
+		} else {
+			upload = uploadRegistry.get(uploadId);
+			if (upload == null || !upload.getNodeUuid().equals(nodeUuid) || !upload.getFieldName().equals(fieldName)) {
+				throw error(NOT_FOUND, "upload_error_unknown_upload", uploadId);
+			}
+			if (range == null || range.total != upload.getTotal()) {
+				throw error(BAD_REQUEST, "upload_error_invalid_content_range", String.valueOf(request.getHeader(HttpHeaders.CONTENT_RANGE)));
+			}
+		}
+
+		if (!upload.begin()) {
+			throw error(CONFLICT, "upload_error_chunk_in_progress", upload.getId());
+		}
+		if (range != null && range.start != upload.getOffset()) {
+			upload.rollback();
+			throw error(BAD_REQUEST, "upload_error_offset_mismatch", String.valueOf(upload.getOffset()), String.valueOf(range.start));
+		}
+
+		long start = upload.getOffset();
+		Flowable<Buffer> body = io.vertx.reactivex.core.http.HttpServerRequest.newInstance(request).toFlowable()
+			.map(io.vertx.reactivex.core.buffer.Buffer::getDelegate)
+			.doOnNext(buffer -> {
+				upload.update(buffer);
+				if (upload.getOffset() > byteLimit) {
+					throw uploadLimitError(upload.getOffset(), byteLimit);
+				}
+				if (range != null && upload.getOffset() > range.end + 1) {
+					throw error(BAD_REQUEST, "upload_error_invalid_content_range", request.getHeader(HttpHeaders.CONTENT_RANGE));
+				}
+			});
+
+		return binaryStorage.storeInTemp(body, upload.getTemporaryId(), start)
+			// The upload is stored in the graph outside of the event loop
+			.observeOn(blockingScheduler)
+			.andThen(Single.defer(() -> {
+				if (range != null && upload.getOffset() != range.end + 1) {
+					throw error(BAD_REQUEST, "upload_error_invalid_content_range", request.getHeader(HttpHeaders.CONTENT_RANGE));
+				}
+				upload.commit();
+				if (!upload.isComplete()) {
+					return Single.just(Optional.<NodeResponse>empty());
+				}
+				uploadRegistry.remove(upload);
+				return completeStreamingUpload(ac, upload, languageTag, nodeVersion).map(Optional::of);
+			}))
+			.doOnError(e -> {
+				if (range == null) {
+					// Uploads without chunks can't be resumed
+					binaryStorage.purgeTemporaryUpload(upload.getTemporaryId()).onErrorComplete().subscribe();
+				} else {
+					upload.rollback();
+				}
+			})
+			.<RestModel>map(model -> model.isPresent() ? model.get() : uploadStatus(ac, upload));
+	}
+
+	/**
+	 * Handle a request which returns the state of an unfinished chunked upload. The state contains the offset at which the upload must be resumed.
+	 * 
+	 * @param ac
+	 * @param nodeUuid
+	 * @param fieldName
+	 */
+	public void handleStreamingUploadStatus(InternalActionContext ac, String nodeUuid, String fieldName) {
+		String uploadId = ac.getParameter("uploadId");
+		checkUploadTarget(ac, nodeUuid, fieldName, null)
+			.andThen(Single.fromCallable(() -> {
+				StreamingUpload upload = isEmpty(uploadId) ? null : uploadRegistry.get(uploadId);
+				if (upload == null || !upload.getNodeUuid().equals(nodeUuid) || !upload.getFieldName().equals(fieldName)) {
+					throw error(NOT_FOUND, "upload_error_unknown_upload", String.valueOf(uploadId));
+				}
+				return uploadStatus(ac, upload);
+			}))
+			.subscribe(model -> ac.send(model, OK), ac::fail);
+	}
+
+	/**
+	 * Check whether the user is allowed to update the node and whether the field is a binary field of the draft content in the given language.
+	 * 
+	 * @param ac
+	 * @param nodeUuid
+	 * @param fieldName
+	 * @param languageTag
+	 *            Language of the content or null if only the permission should be checked
+	 * @return
+	 */
+	private Completable checkUploadTarget(InternalActionContext ac, String nodeUuid, String fieldName, String languageTag) {
+		return db.singleTx(tx -> {
+			HibNode node = tx.nodeDao().loadObjectByUuid(tx.getProject(ac), ac, nodeUuid, UPDATE_PERM);
+			if (languageTag != null) {
+				HibNodeFieldContainer draft = tx.contentDao().getFieldContainer(node, languageTag, tx.getBranch(ac), DRAFT);
+				if (draft == null) {
+					throw error(NOT_FOUND, "error_language_not_found", languageTag);
+				}
+				checkBinaryField(draft.getSchemaContainerVersion().getSchema().getField(fieldName), fieldName);
+			}
+			return node.getUuid();
+		}).ignoreElement();
+	}
+
+	private void checkBinaryField(FieldSchema fieldSchema, String fieldName) {
+		if (fieldSchema == null) {
+			throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
+		}
+		if (!(fieldSchema instanceof BinaryFieldSchema)) {
+			// TODO Add support for other field types
+			throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
+		}
+	}
+
+	private GenericMessageResponse uploadStatus(InternalActionContext ac, StreamingUpload upload) {
+		GenericMessageResponse response = message(ac, "upload_chunk_received", String.valueOf(upload.getOffset()), String.valueOf(upload.getTotal()));
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("uploadId", upload.getId());
+		properties.put("offset", upload.getOffset());
+		properties.put("total", upload.getTotal());
+		response.setProperties(properties);
+		return response;
+	}
+
+	/**
+	 * Store the data of the completed upload in the graph. The data is already located in the temporary location of the binary storage.
+	 * 
+	 * @param ac
+	 * @param upload
+	 * @param languageTag
+	 * @param nodeVersion
+	 * @return
+	 */
+	private Single<NodeResponse> completeStreamingUpload(InternalActionContext ac, StreamingUpload upload, String languageTag, String nodeVersion) {
+		UploadContext ctx = new UploadContext(upload.getTemporaryId());
+		ctx.setStoredInTemp(true);
+		FileUpload ul = new StreamedFileUpload(upload, binaryStorage.getTemporaryLocalPath(upload.getTemporaryId()));
+		ctx.setUpload(ul);
+		return Single.defer(() -> {
+			validateFileUpload(ul, upload.getFieldName());
+			return processUpload(ac, ctx, Single.just(upload.getHash()), c -> {
+				if (c.isInvokeStore()) {
+					return Completable.complete();
+				}
+				// The binary has already been stored. The temporary data is no longer needed.
+				return binaryStorage.purgeTemporaryUpload(c.getTemporaryId()).doOnComplete(() -> c.setStoredInTemp(false));
+			}, upload.getNodeUuid(), upload.getFieldName(), languageTag, nodeVersion);
+		}).doOnError(e -> {
+			if (ctx.isStoredInTemp() && !ctx.isInvokeStore()) {
+				binaryStorage.purgeTemporaryUpload(ctx.getTemporaryId()).onErrorComplete().subscribe();
+			}
+		});
+	}
+
+	/**
+	 * Process the upload data, store the binary field in the graph and move the data into place.
+	 * 
+	 * @param ac
+	 * @param ctx
+	 * @param hashResult
+	 *            Hash of the upload data
+	 * @param storeInTemp
+	 *            Function which makes sure that the upload data is located in the temporary location of the binary storage if it needs to be stored
+	 * @param nodeUuid
+	 * @param fieldName
+	 * @param languageTag
+	 * @param nodeVersion
+	 * @return
+	 */
+	private Single<NodeResponse> processUpload(InternalActionContext ac, UploadContext ctx, Single<String> hashResult,
+		Function<UploadContext, Completable> storeInTemp, String nodeUuid, String fieldName, String languageTag, String nodeVersion) {
+		FileUpload ul = ctx.getUpload();
+
 		// First process the upload data
-		hashUpload(ul).flatMap(hash -> {
+		return hashResult.flatMap(hash -> {
 			return postProcessUpload(new BinaryDataProcessorContext(ac, nodeUuid, fieldName, ul, hash))
 				.toList()
 				.map(list -> Tuple.tuple(hash, list));
@@ -197,7 +467,7 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 				ctx.setInvokeStore();
 			}
 
-			return storeUploadInTemp(ctx, ul, hash)
+			return storeInTemp.apply(ctx)
 				.andThen(Single.defer(() -> storeUploadInGraph(ac, modifierList, ctx, nodeUuid, languageTag, nodeVersion, fieldName)));
 		}).onErrorResumeNext(e -> {
 			if (ctx.isInvokeStore()) {
@@ -205,6 +475,8 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 				if (log.isDebugEnabled()) {
 					log.debug("Error detected. Purging previously stored upload for tempId {}", tmpId, e);
 				}
+				// Don't purge the data twice
+				ctx.setStoredInTemp(false);
 				return binaryStorage.purgeTemporaryUpload(tmpId).doOnError(e1 -> {
 					log.error("Error while purging temporary upload for tempId {}", tmpId, e1);
 				}).onErrorComplete().andThen(Single.error(e));
@@ -222,8 +494,7 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 			} else {
 				return Single.just(n);
 			}
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
-
+		});
 	}
 
 	private Completable storeUploadInTemp(UploadContext ctx, FileUpload ul, String hash) {
@@ -319,14 +590,7 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 				}
 			}
 
-			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
-			if (fieldSchema == null) {
-				throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
-			}
-			if (!(fieldSchema instanceof BinaryFieldSchema)) {
-				// TODO Add support for other field types
-				throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
-			}
+			checkBinaryField(latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName), fieldName);
 
 			// Create a new node version field container to store the upload
 			HibNodeFieldContainer newDraftVersion = contentDao.createFieldContainer(node, languageTag, branch, ac.getUser(),
@@ -385,6 +649,10 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 	 */
 	private Observable<Consumer<HibBinaryField>> postProcessUpload(BinaryDataProcessorContext ctx) {
 		FileUpload upload = ctx.getUpload();
+		if (upload.uploadedFileName() == null) {
+			log.warn("The data of upload {" + upload.fileName() + "} is not stored locally. Skipping the processing of the data.");
+			return Observable.empty();
+		}
 		String contentType = upload.contentType();
 		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
 
@@ -401,4 +669,49 @@ public class BinaryUploadHandlerImpl extends AbstractHandler implements BinaryUp
 			}));
 	}
 
+	/**
+	 * Parsed Content-Range header of a chunk.
+	 */
+	static class ContentRange {
+
+		private static final Pattern PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+		final long start;
+
+		final long end;
+
+		final long total;
+
+		private ContentRange(long start, long end, long total) {
+			this.start = start;
+			this.end = end;
+			this.total = total;
+		}
+
+		/**
+		 * Parse the header value.
+		 * 
+		 * @param header
+		 * @return Parsed range or null if the header was not set
+		 */
+		static ContentRange parse(String header) {
+			if (header == null) {
+				return null;
+			}
+			Matcher matcher = PATTERN.matcher(header.trim());
+			if (!matcher.matches()) {
+				throw error(BAD_REQUEST, "upload_error_invalid_content_range", header);
+			}
+			try {
+				ContentRange range = new ContentRange(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3)));
+				if (range.start > range.end || range.end >= range.total) {
+					throw error(BAD_REQUEST, "upload_error_invalid_content_range", header);
+				}
+				return range;
+			} catch (NumberFormatException e) {
+				throw error(BAD_REQUEST, "upload_error_invalid_content_range", header);
+			}
+		}
+	}
+
 }
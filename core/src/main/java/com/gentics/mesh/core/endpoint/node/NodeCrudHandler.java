@@ -9,6 +9,7 @@ import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
@@ -16,6 +17,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import javax.inject.Inject;
 
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.action.NodeDAOActions;
 import com.gentics.mesh.core.data.HibLanguage;
@@ -35,7 +37,9 @@ import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
@@ -52,21 +56,29 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 
 	private final PageTransformer pageTransformer;
 
+	private final NodeResponseCache responseCache;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
 	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, WriteLock writeLock,
-		NodeDAOActions nodeActions, PageTransformer pageTransformer) {
+		NodeDAOActions nodeActions, PageTransformer pageTransformer, NodeResponseCache responseCache) {
 		super(db, utils, writeLock, nodeActions);
 		this.options = options;
 		this.pageTransformer = pageTransformer;
+		this.responseCache = responseCache;
+	}
+
+	@Override
+	protected WriteLockScope writeLockScope(InternalActionContext ac) {
+		return utils.projectScope(ac);
 	}
 
 	@Override
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
 				HibProject project = tx.getProject(ac);
@@ -96,7 +108,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleDeleteLanguage(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				HibNode node = crudActions().loadByUuid(context(tx, ac), uuid, DELETE_PERM, true);
 				HibLanguage language = tx.languageDao().findByLanguageTag(languageTag);
@@ -124,7 +136,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 		validateParameter(uuid, "uuid");
 		validateParameter(toUuid, "toUuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, (batch, tx) -> {
 				NodeDao nodeDao = tx.nodeDao();
 				HibProject project = tx.getProject(ac);
@@ -208,7 +220,28 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleRead(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 		InternalPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
-		utils.readElement(ac, uuid, crudActions(), requiredPermission);
+		if (responseCache.isDisabled()) {
+			utils.readElement(ac, uuid, crudActions(), requiredPermission);
+			return;
+		}
+
+		utils.syncTx(ac, tx -> {
+			// The permissions are checked for every request. Only the rendering of the response is cached.
+			HibNode node = crudActions().loadByUuid(context(tx, ac), uuid, requiredPermission, true);
+			String etag = crudActions().getETag(tx, ac, node);
+
+			// Handle etag
+			if (ac.getGenericParameters().getETag()) {
+				ac.setEtag(etag, true);
+				if (ac.matches(etag, true)) {
+					throw new NotModifiedException();
+				}
+			}
+			return responseCache.getResponse(ac, node, etag, () -> {
+				NodeResponse response = crudActions().transformToRestSync(tx, node, ac, 0);
+				return JsonUtil.toJsonBuffer(response, !ac.getGenericParameters().getPretty());
+			});
+		}, response -> ac.send(response, OK, APPLICATION_JSON_UTF8));
 	}
 
 	/**
@@ -254,7 +287,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 		validateParameter(uuid, "uuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, (batch, tx) -> {
 				TagDao tagDao = tx.tagDao();
 				NodeDao nodeDao = tx.nodeDao();
@@ -295,7 +328,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 		validateParameter(uuid, "uuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, (batch, tx) -> {
 				TagDao tagDao = tx.tagDao();
 				NodeDao nodeDao = tx.nodeDao();
@@ -348,7 +381,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handlePublish(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
 
@@ -373,7 +406,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleTakeOffline(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
 
@@ -419,7 +452,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handlePublish(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
 
@@ -446,7 +479,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleTakeOffline(InternalActionContext ac, String uuid, String languageTag) {
 		validateParameter(uuid, "uuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				NodeDao nodeDao = tx.nodeDao();
 
@@ -470,7 +503,7 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleBulkTagUpdate(InternalActionContext ac, String nodeUuid) {
 		validateParameter(nodeUuid, "nodeUuid");
 
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac))) {
 			utils.syncTx(ac, (batch, tx) -> {
 				NodeDao nodeDao = tx.nodeDao();
 
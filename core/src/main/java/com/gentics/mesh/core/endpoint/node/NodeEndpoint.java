@@ -26,6 +26,7 @@ import static com.gentics.mesh.example.ExampleUuids.NODE_DELOREAN_UUID;
 import static com.gentics.mesh.example.ExampleUuids.TAG_RED_UUID;
 import static com.gentics.mesh.example.ExampleUuids.UUID_1;
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
@@ -182,6 +183,46 @@ public class NodeEndpoint extends AbstractProjectEndpoint {
 			binaryUploadHandler.handleUpdateField(ac, uuid, fieldName, attributes);
 		});
 
+		InternalEndpointRoute fieldStream = createRoute();
+		fieldStream.path("/:nodeUuid/binary/:fieldName/stream");
+		fieldStream.addUriParameter("nodeUuid", "Uuid of the node.", NODE_DELOREAN_UUID);
+		fieldStream.addUriParameter("fieldName", "Name of the field which should be updated.", "binary");
+		fieldStream.addQueryParameter("language", "Language tag of the content which should be updated.", "en");
+		fieldStream.addQueryParameter("nodeVersion", "Version of the content which should be updated.", "1.0");
+		fieldStream.addQueryParameter("filename", "Filename of the uploaded data. Required for the first request of an upload.", "flower.jpg");
+		fieldStream.addQueryParameter("uploadId", "Id of the chunked upload which should be continued.", UUID_1);
+		fieldStream.method(POST);
+		fieldStream.produces(APPLICATION_JSON);
+		fieldStream.exampleResponse(CREATED, nodeExamples.getNodeResponseWithAllFields(), "The upload has been completed. The response contains the updated node.");
+		fieldStream.exampleResponse(ACCEPTED, miscExamples.createMessageResponse(), "The chunk has been received. The response contains the id and the offset of the upload.");
+		fieldStream.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The node, the field or the upload could not be found.");
+		fieldStream.description("Update the binaryfield with the given name by streaming the data in the request body. The mimetype of the data is taken from the Content-Type header. "
+			+ "Large files can be uploaded in chunks by adding a Content-Range header. The upload can be resumed with the returned upload id.");
+		fieldStream.events(NODE_UPDATED);
+		fieldStream.handler(rc -> {
+			String uuid = rc.request().getParam("nodeUuid");
+			String fieldName = rc.request().getParam("fieldName");
+			InternalActionContext ac = wrap(rc);
+			binaryUploadHandler.handleStreamingUpload(ac, rc.request(), uuid, fieldName);
+		});
+
+		InternalEndpointRoute fieldStreamStatus = createRoute();
+		fieldStreamStatus.path("/:nodeUuid/binary/:fieldName/stream");
+		fieldStreamStatus.addUriParameter("nodeUuid", "Uuid of the node.", NODE_DELOREAN_UUID);
+		fieldStreamStatus.addUriParameter("fieldName", "Name of the field.", "binary");
+		fieldStreamStatus.addQueryParameter("uploadId", "Id of the chunked upload.", UUID_1);
+		fieldStreamStatus.method(GET);
+		fieldStreamStatus.produces(APPLICATION_JSON);
+		fieldStreamStatus.exampleResponse(OK, miscExamples.createMessageResponse(), "The response contains the offset at which the upload must be continued.");
+		fieldStreamStatus.exampleResponse(NOT_FOUND, miscExamples.createMessageResponse(), "The upload could not be found.");
+		fieldStreamStatus.description("Return the state of an unfinished chunked upload of the binaryfield.");
+		fieldStreamStatus.handler(rc -> {
+			String uuid = rc.request().getParam("nodeUuid");
+			String fieldName = rc.request().getParam("fieldName");
+			InternalActionContext ac = wrap(rc);
+			binaryUploadHandler.handleStreamingUploadStatus(ac, uuid, fieldName);
+		});
+
 		InternalEndpointRoute imageTransform = createRoute();
 		imageTransform.path("/:nodeUuid/binaryTransform/:fieldName");
 		imageTransform.addUriParameter("nodeUuid", "Uuid of the node.", NODE_DELOREAN_UUID);
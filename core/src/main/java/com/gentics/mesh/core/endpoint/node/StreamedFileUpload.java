@@ -0,0 +1,67 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import io.vertx.ext.web.FileUpload;
+
+/**
+ * {@link FileUpload} for the data of a completed {@link StreamingUpload}. The data is located in the temporary location of the binary storage.
+ */
+public class StreamedFileUpload implements FileUpload {
+
+	private final String name;
+
+	private final String uploadedFileName;
+
+	private final String fileName;
+
+	private final long size;
+
+	private final String contentType;
+
+	public StreamedFileUpload(StreamingUpload upload, String uploadedFileName) {
+		this.name = upload.getFieldName();
+		this.uploadedFileName = uploadedFileName;
+		this.fileName = upload.getFileName();
+		this.size = upload.getOffset();
+		this.contentType = upload.getContentType();
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * Return the local path of the temporary upload data.
+	 *
+	 * @return Path or null if the binary storage does not store the data locally
+	 */
+	@Override
+	public String uploadedFileName() {
+		return uploadedFileName;
+	}
+
+	@Override
+	public String fileName() {
+		return fileName;
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public String contentType() {
+		return contentType;
+	}
+
+	@Override
+	public String contentTransferEncoding() {
+		return "binary";
+	}
+
+	@Override
+	public String charSet() {
+		return null;
+	}
+}
@@ -0,0 +1,179 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.gentics.mesh.util.FileUtils;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * State of a streaming upload. The SHA-512 hash and the size of the upload are updated while the data is received, so that the data does not need to be read
+ * again once the upload has been completed. Chunked uploads keep their state between the requests of the chunks.
+ */
+public class StreamingUpload {
+
+	private final String id;
+
+	private final String temporaryId;
+
+	private final String nodeUuid;
+
+	private final String fieldName;
+
+	private final String fileName;
+
+	private final String contentType;
+
+	private final long total;
+
+	private final AtomicBoolean busy = new AtomicBoolean();
+
+	private MessageDigest digest;
+
+	private long offset;
+
+	private MessageDigest checkpointDigest;
+
+	private long checkpointOffset;
+
+	/**
+	 * Create a new upload.
+	 *
+	 * @param nodeUuid
+	 * @param fieldName
+	 * @param fileName
+	 * @param contentType
+	 * @param total
+	 *            Total size of the upload or -1 if the size is not known
+	 */
+	public StreamingUpload(String nodeUuid, String fieldName, String fileName, String contentType, long total) {
+		this.id = UUIDUtil.randomUUID();
+		this.temporaryId = UUIDUtil.randomUUID();
+		this.nodeUuid = nodeUuid;
+		this.fieldName = fieldName;
+		this.fileName = fileName;
+		this.contentType = contentType;
+		this.total = total;
+		try {
+			this.digest = MessageDigest.getInstance("SHA-512");
+		} catch (NoSuchAlgorithmException e) {
+			throw error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e);
+		}
+	}
+
+	/**
+	 * Try to start receiving a chunk. Only one chunk of an upload can be received at the same time. The current state is kept as checkpoint, so that it can be
+	 * restored when receiving the chunk fails.
+	 *
+	 * @return false if another chunk is currently received
+	 */
+	public boolean begin() {
+		if (!busy.compareAndSet(false, true)) {
+			return false;
+		}
+		try {
+			checkpointDigest = (MessageDigest) digest.clone();
+		} catch (CloneNotSupportedException e) {
+			busy.set(false);
+			throw error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e);
+		}
+		checkpointOffset = offset;
+		return true;
+	}
+
+	/**
+	 * Update the hash and the size with the received data.
+	 *
+	 * @param buffer
+	 */
+	public void update(Buffer buffer) {
+		digest.update(buffer.getBytes());
+		offset += buffer.length();
+	}
+
+	/**
+	 * Finish receiving the current chunk.
+	 */
+	public void commit() {
+		checkpointDigest = null;
+		busy.set(false);
+	}
+
+	/**
+	 * Restore the state before the current chunk was received.
+	 */
+	public void rollback() {
+		if (checkpointDigest != null) {
+			digest = checkpointDigest;
+			offset = checkpointOffset;
+			checkpointDigest = null;
+		}
+		busy.set(false);
+	}
+
+	/**
+	 * Check whether all data of the upload has been received.
+	 *
+	 * @return
+	 */
+	public boolean isComplete() {
+		return total < 0 || offset == total;
+	}
+
+	/**
+	 * Return the hex encoded SHA-512 hash of the received data. This may only be called once, after the upload has been completed.
+	 *
+	 * @return
+	 */
+	public String getHash() {
+		return FileUtils.bytesToHex(digest.digest());
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getTemporaryId() {
+		return temporaryId;
+	}
+
+	public String getNodeUuid() {
+		return nodeUuid;
+	}
+
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Return the amount of received bytes.
+	 *
+	 * @return
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Return the total size of the upload.
+	 *
+	 * @return Size or -1 if the size is not known
+	 */
+	public long getTotal() {
+		return total;
+	}
+}
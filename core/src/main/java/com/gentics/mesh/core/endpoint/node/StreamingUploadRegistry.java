@@ -0,0 +1,72 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.storage.BinaryStorage;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Registry for unfinished chunked streaming uploads. Uploads which did not receive a chunk within the configured timeout are discarded and their temporary
+ * data is purged. The registry is local to the instance, thus all chunks of an upload must be sent to the same instance.
+ */
+@Singleton
+public class StreamingUploadRegistry {
+
+	private static final Logger log = LoggerFactory.getLogger(StreamingUploadRegistry.class);
+
+	private final Cache<String, StreamingUpload> uploads;
+
+	@Inject
+	public StreamingUploadRegistry(MeshOptions options, BinaryStorage binaryStorage) {
+		this.uploads = Caffeine.newBuilder()
+			.expireAfterAccess(options.getUploadOptions().getResumableUploadTimeout(), TimeUnit.SECONDS)
+			.<String, StreamingUpload>removalListener((id, upload, cause) -> {
+				if (cause != RemovalCause.EXPLICIT && upload != null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Discarding unfinished upload {" + id + "}");
+					}
+					binaryStorage.purgeTemporaryUpload(upload.getTemporaryId())
+						.subscribe(() -> {
+						}, e -> log.warn("Failed to purge unfinished upload {" + id + "}", e));
+				}
+			})
+			.build();
+	}
+
+	/**
+	 * Register the upload.
+	 *
+	 * @param upload
+	 */
+	public void register(StreamingUpload upload) {
+		uploads.put(upload.getId(), upload);
+	}
+
+	/**
+	 * Return the unfinished upload with the given id.
+	 *
+	 * @param id
+	 * @return Upload or null if the upload is not known or has expired
+	 */
+	public StreamingUpload get(String id) {
+		return uploads.getIfPresent(id);
+	}
+
+	/**
+	 * Remove the upload from the registry. The temporary data of the upload will not be purged.
+	 *
+	 * @param upload
+	 */
+	public void remove(StreamingUpload upload) {
+		uploads.invalidate(upload.getId());
+	}
+}
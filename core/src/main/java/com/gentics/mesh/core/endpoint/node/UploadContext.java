@@ -20,8 +20,19 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private boolean storedInTemp = false;
+
 	public UploadContext() {
-		this.temporaryId = UUIDUtil.randomUUID();
+		this(UUIDUtil.randomUUID());
+	}
+
+	/**
+	 * Create a context for an upload which uses the given temporary id.
+	 * 
+	 * @param temporaryId
+	 */
+	public UploadContext(String temporaryId) {
+		this.temporaryId = temporaryId;
 	}
 
 	public void setBinaryUuid(String binaryUuid) {
@@ -61,4 +72,17 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	/**
+	 * Set whether the upload data is currently stored in the temporary location of the binary storage.
+	 * 
+	 * @param storedInTemp
+	 */
+	public void setStoredInTemp(boolean storedInTemp) {
+		this.storedInTemp = storedInTemp;
+	}
+
+	public boolean isStoredInTemp() {
+		return storedInTemp;
+	}
+
 }
@@ -36,7 +36,7 @@ public class TagCrudHandler extends AbstractHandler {
 
 	private final HandlerUtilities utils;
 	private final MeshOptions options;
-	private final WriteLock globalLock;
+	private final WriteLock writeLock;
 	private final TagDAOActions tagActions;
 	private final TagFamilyDAOActions tagFamilyActions;
 	private final PageTransformer pageTransformer;
@@ -46,7 +46,7 @@ public class TagCrudHandler extends AbstractHandler {
 		TagFamilyDAOActions tagFamilyActions, PageTransformer pageTransformer) {
 		this.options = options;
 		this.utils = utils;
-		this.globalLock = writeLock;
+		this.writeLock = writeLock;
 		this.tagActions = tagActions;
 		this.tagFamilyActions = tagFamilyActions;
 		this.pageTransformer = pageTransformer;
@@ -66,7 +66,7 @@ public class TagCrudHandler extends AbstractHandler {
 		validateParameter(tagFamilyUuid, "tagFamilyUuid");
 		validateParameter(tagUuid, "tagUuid");
 
-		try (WriteLock lock = globalLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, utils.projectScope(ac))) {
 			utils.syncTx(ac, tx -> {
 				TagDao tagDao = tx.tagDao();
 				PagingParameters pagingParams = ac.getPagingParameters();
@@ -108,7 +108,7 @@ public class TagCrudHandler extends AbstractHandler {
 	public void handleCreate(InternalActionContext ac, String tagFamilyUuid) {
 		validateParameter(tagFamilyUuid, "tagFamilyUuid");
 
-		try (WriteLock lock = globalLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, utils.projectScope(ac))) {
 			utils.syncTx(ac, (batch, tx) -> {
 				TagDao tagDao = tx.tagDao();
 
@@ -143,7 +143,7 @@ public class TagCrudHandler extends AbstractHandler {
 		Function<Tx, Object> tagFamilyLoader = tx -> {
 			return tx.tagFamilyActions().loadByUuid(context(tx, ac), tagFamilyUuid, READ_PERM, true);
 		};
-		utils.createOrUpdateElement(ac, tagFamilyLoader, tagUuid, tagActions);
+		utils.createOrUpdateElement(ac, tagFamilyLoader, tagUuid, tagActions, utils.projectScope(ac));
 	}
 
 	/**
@@ -184,7 +184,7 @@ public class TagCrudHandler extends AbstractHandler {
 		Function<Tx, Object> tagFamilyLoader = tx -> {
 			return tagFamilyActions.loadByUuid(context(tx, ac), tagFamilyUuid, READ_PERM, true);
 		};
-		utils.deleteElement(ac, tagFamilyLoader, tagActions, tagUuid);
+		utils.deleteElement(ac, tagFamilyLoader, tagActions, tagUuid, utils.projectScope(ac));
 
 	}
 
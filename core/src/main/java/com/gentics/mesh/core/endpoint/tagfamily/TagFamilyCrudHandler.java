@@ -3,6 +3,7 @@ package com.gentics.mesh.core.endpoint.tagfamily;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.action.TagFamilyDAOActions;
 import com.gentics.mesh.core.data.tagfamily.HibTagFamily;
 import com.gentics.mesh.core.db.Database;
@@ -10,6 +11,7 @@ import com.gentics.mesh.core.endpoint.handler.AbstractCrudHandler;
 import com.gentics.mesh.core.rest.tag.TagFamilyResponse;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 
 /**
  * CRUD handler for the tag family REST endpoint operation.
@@ -22,4 +24,9 @@ public class TagFamilyCrudHandler extends AbstractCrudHandler<HibTagFamily, TagF
 		super(db, utils, writeLock, actions);
 	}
 
+	@Override
+	protected WriteLockScope writeLockScope(InternalActionContext ac) {
+		return utils.projectScope(ac);
+	}
+
 }
@@ -13,6 +13,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.MeshAuthUserCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.action.UserDAOActions;
@@ -47,11 +48,15 @@ public class UserCrudHandler extends AbstractCrudHandler<HibUser, UserResponse>
 
 	private MeshJWTAuthProvider authProvider;
 
+	private MeshAuthUserCache authUserCache;
+
 	@Inject
-	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock, UserDAOActions userActions) {
+	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock, UserDAOActions userActions,
+		MeshAuthUserCache authUserCache) {
 		super(db, utils, writeLock, userActions);
 		this.boot = boot;
 		this.authProvider = authProvider;
+		this.authUserCache = authUserCache;
 	}
 
 	/**
@@ -141,7 +146,7 @@ public class UserCrudHandler extends AbstractCrudHandler<HibUser, UserResponse>
 		validateParameter(userUuid, "The userUuid must not be empty");
 
 		try (WriteLock lock = writeLock.lock(ac)) {
-			utils.syncTx(ac, tx -> {
+			utils.syncTx(ac, (batch, tx) -> {
 				// 1. Load the user that should be used
 				HibUser user = tx.userDao().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
@@ -158,8 +163,14 @@ public class UserCrudHandler extends AbstractCrudHandler<HibUser, UserResponse>
 					response.setToken(apiToken);
 					return response;
 				});
+				// 4. Notify the cached authenticated users about the changed token
+				batch.add(user.onUpdated());
 				return apiKeyRespose;
-			}, model -> ac.send(model, CREATED));
+			}, model -> {
+				// The previous token must be rejected right away. Other instances will be notified via the update event.
+				authUserCache.clear();
+				ac.send(model, CREATED);
+			});
 		}
 	}
 
@@ -173,7 +184,7 @@ public class UserCrudHandler extends AbstractCrudHandler<HibUser, UserResponse>
 		validateParameter(userUuid, "The userUuid must not be empty");
 
 		try (WriteLock lock = writeLock.lock(ac)) {
-			utils.syncTx(ac, tx -> {
+			utils.syncTx(ac, (batch, tx) -> {
 				// 1. Load the user that should be used
 				HibUser user = tx.userDao().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
@@ -182,8 +193,13 @@ public class UserCrudHandler extends AbstractCrudHandler<HibUser, UserResponse>
 					user.resetAPIToken();
 					return message(ac, "api_key_invalidated");
 				});
+				// 3. Notify the cached authenticated users about the revoked token
+				batch.add(user.onUpdated());
 				return message;
-			}, model -> ac.send(model, CREATED));
+			}, model -> {
+				authUserCache.clear();
+				ac.send(model, CREATED);
+			});
 		}
 	}
 
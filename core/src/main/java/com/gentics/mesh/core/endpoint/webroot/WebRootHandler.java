@@ -34,7 +34,6 @@ import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.verticle.handler.HandlerUtilities;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.etc.config.MeshOptions;
-import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
 import com.gentics.mesh.path.impl.PathSegmentImpl;
@@ -134,7 +133,7 @@ public class WebRootHandler extends AbstractWebrootHandler {
 			}
 		}, model -> {
 			if (model != null) {
-				ac.send(JsonUtil.toJson(model),
+				ac.send(model,
 					HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
 			}
 		});
@@ -147,7 +146,7 @@ public class WebRootHandler extends AbstractWebrootHandler {
 			rc.mountPoint().length());
 
 		String uuid = null;
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, utils.projectScope(ac))) {
 			uuid = db.tx(tx -> {
 				ContentDao contentDao = tx.contentDao();
 
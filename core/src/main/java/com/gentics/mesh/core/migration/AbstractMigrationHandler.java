@@ -1,10 +1,20 @@
 package com.gentics.mesh.core.migration;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.inject.Provider;
@@ -51,6 +61,8 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
+	private static final String MIGRATION_THREAD_NAME_PREFIX = "mesh-migration-";
+
 	protected Database db;
 
 	protected BinaryUploadHandlerImpl binaryFieldHandler;
@@ -129,9 +141,90 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	@ParametersAreNonnullByDefault
 	protected <T> List<Exception> migrateLoop(Queue<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
 		TriConsumer<EventQueueBatch, List<T>, List<Exception>> migrator) {
+		List<Exception> errorsDetected = new ArrayList<>();
+		long count = migratePartition(0, containers, cause, status, migrator, errorsDetected);
+		log.info("Migration of " + count + " containers done..");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
+		return errorsDetected;
+	}
+
+	/**
+	 * Migrate all elements of the given partitions. Each partition is migrated by a dedicated thread, using its own transactions and its own migrator. The
+	 * completion counts of the partitions are stored as checkpoint in the job whenever the events of a partition are dispatched.
+	 * @param <T> type of migrated elements
+	 * @param partitions queues of elements to be migrated
+	 * @param cause information about the cause
+	 * @param status migration status (will be updated during the migration)
+	 * @param migratorFactory factory which creates the migrator for a partition
+	 * @return list of exceptions caught during the migration
+	 */
+	@ParametersAreNonnullByDefault
+	protected <T> List<Exception> migratePartitions(List<? extends Queue<T>> partitions, EventCauseInfo cause, MigrationStatusHandler status,
+		IntFunction<TriConsumer<EventQueueBatch, List<T>, List<Exception>>> migratorFactory) {
+		if (partitions.size() == 1) {
+			return migrateLoop(partitions.get(0), cause, status, migratorFactory.apply(0));
+		}
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(partitions.size(), runnable -> {
+			return new Thread(runnable, MIGRATION_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+		});
+		long count = 0;
+		try {
+			List<Future<Long>> results = new ArrayList<>();
+			for (int i = 0; i < partitions.size(); i++) {
+				int partition = i;
+				results.add(executor.submit(() -> {
+					return migratePartition(partition, partitions.get(partition), cause, status, migratorFactory.apply(partition), errorsDetected);
+				}));
+			}
+			for (Future<Long> result : results) {
+				try {
+					count += result.get();
+				} catch (ExecutionException e) {
+					Throwable error = e.getCause();
+					errorsDetected.add(error instanceof Exception ? (Exception) error : e);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					errorsDetected.add(e);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		log.info("Migration of " + count + " containers in " + partitions.size() + " partitions done..");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
+		return new ArrayList<>(errorsDetected);
+	}
+
+	/**
+	 * Split the given elements into the given amount of partitions. Elements with the same partition key will always be added to the same partition.
+	 * @param <T> type of the elements
+	 * @param elements elements to be partitioned
+	 * @param partitionCount amount of partitions
+	 * @param partitionKey function which returns the partition key of an element
+	 * @return list of partitions
+	 */
+	protected <T> List<Queue<T>> partition(Stream<T> elements, int partitionCount, Function<T, String> partitionKey) {
+		int count = Math.max(1, partitionCount);
+		List<Queue<T>> partitions = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			partitions.add(new ArrayDeque<>());
+		}
+		elements.forEach(element -> {
+			int partition = Math.floorMod(partitionKey.apply(element).hashCode(), count);
+			partitions.get(partition).add(element);
+		});
+		return partitions;
+	}
+
+	/**
+	 * Migrate all elements in the given queue of the partition.
+	 */
+	private <T> long migratePartition(int partition, Queue<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
+		TriConsumer<EventQueueBatch, List<T>, List<Exception>> migrator, List<Exception> errorsDetected) {
 		// Iterate over all containers and invoke a migration for each one
 		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
 		EventQueueBatch sqb = batchProvider.get();
 		sqb.setCause(cause);
 		int pollCount = options.getMigrationMaxBatchSize();
@@ -145,7 +238,7 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 					migrator.accept(containerBatch, containerList, errorsDetected);
 				});
 				sqb.addAll(containerBatch);
-				status.incCompleted(containerList.size());
+				status.incCompleted(partition, containerList.size());
 				count += containerList.size();
 				if (count % 50 == 0) {
 					log.info("Migrated containers: " + count);
@@ -161,6 +254,10 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 					sqb.dispatch();
 					sqb.clear();
 				});
+				// Store the progress so that it can be resumed
+				db.tx(() -> {
+					status.commit();
+				});
 			}
 		}
 		if (sqb.size() > 0) {
@@ -169,10 +266,7 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 				sqb.dispatch();
 			});
 		}
-
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
-		return errorsDetected;
+		return count;
 	}
 
 	/**
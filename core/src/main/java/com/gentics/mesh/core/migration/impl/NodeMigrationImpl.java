@@ -10,7 +10,6 @@ import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static com.gentics.mesh.metric.SimpleMetric.NODE_MIGRATION_PENDING;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -71,11 +70,13 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 
 	private final AtomicLong migrationGauge;
 	private final WriteLock writeLock;
+	private final MeshOptions options;
 
 	@Inject
 	public NodeMigrationImpl(Database db, BinaryUploadHandlerImpl nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
 							 WriteLock writeLock, MeshOptions options) {
 		super(db, nodeFieldAPIHandler, metrics, batchProvider, options);
+		this.options = options;
 		migrationGauge = metrics.longGauge(NODE_MIGRATION_PENDING);
 		this.writeLock = writeLock;
 	}
@@ -174,18 +175,26 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 
 			// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
 			// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-			Queue<? extends HibNodeFieldContainer> containers = db.tx(tx -> {
+			// The containers are partitioned by node, so that all containers of a node will be migrated by the same thread.
+			int threads = Math.max(1, options.getMigrationThreads());
+			List<Queue<HibNodeFieldContainer>> partitions = db.tx(tx -> {
 				SchemaDao schemaDao = tx.schemaDao();
-				return schemaDao.findDraftFieldContainers(fromVersion, branch.getUuid()).stream()
-						.collect(Collectors.toCollection(ArrayDeque::new));
+				ContentDao contentDao = tx.contentDao();
+				Stream<HibNodeFieldContainer> containers = schemaDao.findDraftFieldContainers(fromVersion, branch.getUuid()).stream()
+					.map(HibNodeFieldContainer.class::cast);
+				if (threads == 1) {
+					return partition(containers, 1, container -> "");
+				}
+				return partition(containers, threads, container -> contentDao.getNode(container).getUuid());
 			});
+			int containerCount = partitions.stream().mapToInt(Queue::size).sum();
 
 			if (metrics.isEnabled()) {
-				migrationGauge.set(containers.size());
+				migrationGauge.set(containerCount);
 			}
 
 			// No field containers, migration is done
-			if (containers.isEmpty()) {
+			if (containerCount == 0) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -195,23 +204,35 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, containerList, errors) -> {
-				try (WriteLock lock = writeLock.lock(context)) {
-					beforeBatchMigration(containerList, context);
-					List<Pair<HibNodeFieldContainer, HibNodeFieldContainer>> toPurge = new ArrayList<>();
-					for (HibNodeFieldContainer container : containerList) {
-						Pair<HibNodeFieldContainer, HibNodeFieldContainer> toPurgePair = migrateContainer(context, batch, container, errors, touchedFields);
-						if (toPurgePair != null) {
-							toPurge.add(toPurgePair);
+			// Restore the progress of a previously interrupted migration
+			if (status != null) {
+				db.tx(() -> {
+					status.setPartitionCount(partitions.size());
+					status.commit();
+				});
+			}
+
+			List<Exception> errorsDetected = migratePartitions(partitions, cause, status, partition -> {
+				NodeMigrationActionContext partitionContext = partition == 0 ? context : context.fork();
+				return (batch, containerList, errors) -> {
+					try (WriteLock lock = writeLock.lock(partitionContext)) {
+						beforeBatchMigration(containerList, partitionContext);
+						List<Pair<HibNodeFieldContainer, HibNodeFieldContainer>> toPurge = new ArrayList<>();
+						for (HibNodeFieldContainer container : containerList) {
+							Pair<HibNodeFieldContainer, HibNodeFieldContainer> toPurgePair = migrateContainer(partitionContext, batch, container, errors,
+								touchedFields);
+							if (toPurgePair != null) {
+								toPurge.add(toPurgePair);
+							}
 						}
-					}
 
-					List<HibNodeFieldContainer> toPurgeList = filterPurgeable(toPurge);
-					bulkPurge(toPurgeList);
-				}
-				if (metrics.isEnabled()) {
-					migrationGauge.decrementAndGet();
-				}
+						List<HibNodeFieldContainer> toPurgeList = filterPurgeable(toPurge);
+						bulkPurge(toPurgeList);
+					}
+					if (metrics.isEnabled()) {
+						migrationGauge.decrementAndGet();
+					}
+				};
 			});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
@@ -1,12 +1,17 @@
 package com.gentics.mesh.core.verticle.handler;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.PROJECT_WRITE_LOCK_TIMEOUT_COUNT;
+import static com.gentics.mesh.metric.SimpleMetric.PROJECT_WRITE_LOCK_WAITING_TIME;
 import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_TIMEOUT_COUNT;
 import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_WAITING_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.db.cluster.ClusterManager;
@@ -14,6 +19,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ILock;
+import com.hazelcast.core.ISemaphore;
 
 import dagger.Lazy;
 import io.micrometer.core.instrument.Counter;
@@ -21,19 +27,31 @@ import io.micrometer.core.instrument.Timer;
 
 /**
  * Generic application-based implementation of the WriteLock.
- * 
+ *
+ * By default all writes are synchronized using a single lock. When {@link #isSyncWritesPerProject()} is enabled, writes are synchronized per
+ * {@link WriteLockScope}: All writes hold at least one permit of a global semaphore. Writes with a project scope additionally lock the project, writes with the
+ * global scope acquire all permits of the global semaphore and thus wait until all other writes are done.
+ *
  * @author plyhun
  *
  */
 public abstract class AbstractGenericWriteLock implements WriteLock {
 
+	/**
+	 * Amount of permits of the global semaphore which is used when writes are synchronized per project.
+	 */
+	protected static final int GLOBAL_PERMITS = 1024;
+
 	protected ILock clusterLock;
 	protected final Semaphore localLock = new Semaphore(1);
+	protected final Map<String, Permits> scopedLocks = new ConcurrentHashMap<>();
 	protected final MeshOptions options;
 	protected final Lazy<HazelcastInstance> hazelcast;
 	protected final boolean isClustered;
 	protected final Timer writeLockTimer;
 	protected final Counter timeoutCount;
+	protected final Timer projectWriteLockTimer;
+	protected final Counter projectTimeoutCount;
 	protected final ClusterManager clusterManager;
 
 	public AbstractGenericWriteLock(MeshOptions options, Lazy<HazelcastInstance> hazelcast, MetricsService metricsService, ClusterManager clusterManager) {
@@ -42,6 +60,8 @@ public abstract class AbstractGenericWriteLock implements WriteLock {
 		this.isClustered = options.getClusterOptions().isEnabled();
 		this.writeLockTimer = metricsService.timer(WRITE_LOCK_WAITING_TIME);
 		this.timeoutCount = metricsService.counter(WRITE_LOCK_TIMEOUT_COUNT);
+		this.projectWriteLockTimer = metricsService.timer(PROJECT_WRITE_LOCK_WAITING_TIME);
+		this.projectTimeoutCount = metricsService.counter(PROJECT_WRITE_LOCK_TIMEOUT_COUNT);
 		this.clusterManager = clusterManager;
 	}
 
@@ -50,22 +70,27 @@ public abstract class AbstractGenericWriteLock implements WriteLock {
 		return true;
 	}
 
+	/**
+	 * Whether writes with a project scope only need to be synchronized with writes to the same project.
+	 *
+	 * @return
+	 */
+	protected boolean isSyncWritesPerProject() {
+		return false;
+	}
+
 	/**
 	 * Get the transaction timeout
-	 * 
+	 *
 	 * @return
 	 */
 	abstract protected long getSyncWritesTimeoutMillis();
 
+	/**
+	 * Locks are released by closing the lock which was returned by {@link #lock(InternalActionContext)}.
+	 */
 	@Override
 	public void close() {
-		if (isClustered) {
-			if (clusterLock != null && clusterLock.isLockedByCurrentThread()) {
-				clusterLock.unlock();
-			}
-		} else {
-			localLock.release();
-		}
 	}
 
 	/**
@@ -73,53 +98,237 @@ public abstract class AbstractGenericWriteLock implements WriteLock {
 	 */
 	@Override
 	public WriteLock lock(InternalActionContext ac) {
+		return lock(ac, WriteLockScope.GLOBAL);
+	}
+
+	/**
+	 * Locks writes for the given scope. Use this to prevent concurrent write transactions.
+	 */
+	@Override
+	public WriteLock lock(InternalActionContext ac, WriteLockScope scope) {
 		if (ac != null && ac.isSkipWriteLock()) {
-			return this;
+			return new AcquiredWriteLock(() -> {
+			});
+		}
+		// throw an error, if the cluster topology is currently locked and the option "topology change readonly" is activated
+		if (options.getClusterOptions().isTopologyChangeReadOnly() && clusterManager != null
+				&& clusterManager.isClusterTopologyLocked()) {
+			throw error(SERVICE_UNAVAILABLE, "error_cluster_topology_readonly").setLogStackTrace(false);
+		}
+
+		if (!isSyncWrites()) {
+			return new AcquiredWriteLock(() -> {
+			});
+		}
+		if (isSyncWritesPerProject()) {
+			return lockScoped(scope);
 		} else {
-			// throw an error, if the cluster topology is currently locked and the option "topology change readonly" is activated
-			if (options.getClusterOptions().isTopologyChangeReadOnly() && clusterManager != null
-					&& clusterManager.isClusterTopologyLocked()) {
-				throw error(SERVICE_UNAVAILABLE, "error_cluster_topology_readonly").setLogStackTrace(false);
+			return lockGlobal();
+		}
+	}
+
+	/**
+	 * Acquire the single lock which is used for all writes.
+	 *
+	 * @return
+	 */
+	private WriteLock lockGlobal() {
+		Timer.Sample timer = Timer.start();
+		long timeout = getSyncWritesTimeoutMillis();
+		try {
+			if (isClustered) {
+				if (clusterLock == null) {
+					HazelcastInstance hz = hazelcast.get();
+					if (hz != null) {
+						this.clusterLock = hz.getLock(GLOBAL_LOCK_KEY);
+					}
+				}
+				ILock lock = clusterLock;
+				if (lock == null) {
+					return new AcquiredWriteLock(() -> {
+					});
+				}
+				if (!lock.tryLock(timeout, TimeUnit.MILLISECONDS)) {
+					timeoutCount.increment();
+					throw new RuntimeException("Got timeout while waiting for write lock.");
+				}
+				return new AcquiredWriteLock(() -> {
+					if (lock.isLockedByCurrentThread()) {
+						lock.unlock();
+					}
+				});
+			} else {
+				if (!localLock.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+					timeoutCount.increment();
+					throw new RuntimeException("Got timeout while waiting for write lock.");
+				}
+				return new AcquiredWriteLock(localLock::release);
 			}
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} finally {
+			timer.stop(writeLockTimer);
+		}
+	}
 
-			if (isSyncWrites()) {
-				Timer.Sample timer = Timer.start();
-				long timeout = getSyncWritesTimeoutMillis();
-				if (isClustered) {
-					try {
-						if (clusterLock == null) {
-							HazelcastInstance hz = hazelcast.get();
-							if (hz != null) {
-								this.clusterLock = hz.getLock(GLOBAL_LOCK_KEY);
-							}
-						}
-						if (clusterLock != null) {
-							boolean isTimeout = !clusterLock.tryLock(timeout, TimeUnit.MILLISECONDS);
-							if (isTimeout) {
-								timeoutCount.increment();
-								throw new RuntimeException("Got timeout while waiting for write lock.");
-							}
-						}
-					} catch (InterruptedException e) {
-						throw new RuntimeException(e);
-					} finally {
-						timer.stop(writeLockTimer);
+	/**
+	 * Acquire the locks for the given scope.
+	 *
+	 * @param scope
+	 * @return
+	 */
+	private WriteLock lockScoped(WriteLockScope scope) {
+		Timer.Sample sample = Timer.start();
+		Timer timer = scope.isGlobal() ? writeLockTimer : projectWriteLockTimer;
+		Counter timeouts = scope.isGlobal() ? timeoutCount : projectTimeoutCount;
+		int globalPermits = scope.isGlobal() ? GLOBAL_PERMITS : 1;
+		long timeout = getSyncWritesTimeoutMillis();
+		long deadline = System.currentTimeMillis() + timeout;
+		try {
+			Permits global = permits(WriteLockScope.GLOBAL);
+			if (global == null) {
+				return new AcquiredWriteLock(() -> {
+				});
+			}
+			if (!global.tryAcquire(globalPermits, timeout)) {
+				timeouts.increment();
+				throw new RuntimeException("Got timeout while waiting for write lock.");
+			}
+			if (scope.isGlobal()) {
+				return new AcquiredWriteLock(() -> global.release(globalPermits));
+			}
+
+			Permits project = permits(scope);
+			boolean acquired = false;
+			try {
+				acquired = project.tryAcquire(1, Math.max(0, deadline - System.currentTimeMillis()));
+			} finally {
+				if (!acquired) {
+					global.release(globalPermits);
+				}
+			}
+			if (!acquired) {
+				timeouts.increment();
+				throw new RuntimeException("Got timeout while waiting for write lock of " + scope + ".");
+			}
+			return new AcquiredWriteLock(() -> {
+				project.release(1);
+				global.release(globalPermits);
+			});
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} finally {
+			sample.stop(timer);
+		}
+	}
+
+	/**
+	 * Return the permits for the given scope. The global scope has {@link #GLOBAL_PERMITS} permits, project scopes have a single permit. In clustered mode the
+	 * permits are shared across the cluster.
+	 *
+	 * @param scope
+	 * @return Permits or null if the cluster is not yet available
+	 */
+	private Permits permits(WriteLockScope scope) {
+		int count = scope.isGlobal() ? GLOBAL_PERMITS : 1;
+		if (!isClustered) {
+			return scopedLocks.computeIfAbsent(scope.key(), key -> {
+				Semaphore semaphore = new Semaphore(count, true);
+				return new Permits() {
+					@Override
+					public boolean tryAcquire(int permits, long timeoutMillis) throws InterruptedException {
+						return semaphore.tryAcquire(permits, timeoutMillis, TimeUnit.MILLISECONDS);
 					}
-				} else {
-					try {
-						boolean isTimeout = !localLock.tryAcquire(timeout, TimeUnit.MILLISECONDS);
-						if (isTimeout) {
-							timeoutCount.increment();
-							throw new RuntimeException("Got timeout while waiting for write lock.");
-						}
-					} catch (InterruptedException e) {
-						throw new RuntimeException(e);
-					} finally {
-						timer.stop(writeLockTimer);
+
+					@Override
+					public void release(int permits) {
+						semaphore.release(permits);
 					}
+				};
+			});
+		}
+		Permits permits = scopedLocks.get(scope.key());
+		if (permits != null) {
+			return permits;
+		}
+		HazelcastInstance hz = hazelcast.get();
+		if (hz == null) {
+			return null;
+		}
+		return scopedLocks.computeIfAbsent(scope.key(), key -> {
+			ISemaphore semaphore = hz.getSemaphore(key);
+			// Only the first member will initialize the semaphore
+			semaphore.init(count);
+			return new Permits() {
+				@Override
+				public boolean tryAcquire(int permits, long timeoutMillis) throws InterruptedException {
+					return semaphore.tryAcquire(permits, timeoutMillis, TimeUnit.MILLISECONDS);
 				}
+
+				@Override
+				public void release(int permits) {
+					semaphore.release(permits);
+				}
+			};
+		});
+	}
+
+	/**
+	 * Permits of a local or cluster-wide semaphore.
+	 */
+	protected interface Permits {
+
+		/**
+		 * Acquire the given amount of permits.
+		 *
+		 * @param permits
+		 * @param timeoutMillis
+		 * @return false if the permits could not be acquired within the timeout
+		 * @throws InterruptedException
+		 */
+		boolean tryAcquire(int permits, long timeoutMillis) throws InterruptedException;
+
+		/**
+		 * Release the given amount of permits.
+		 *
+		 * @param permits
+		 */
+		void release(int permits);
+	}
+
+	/**
+	 * Lock which was returned by {@link AbstractGenericWriteLock#lock(InternalActionContext, WriteLockScope)}. Closing the lock will release the acquired
+	 * locks exactly once.
+	 */
+	protected class AcquiredWriteLock implements WriteLock {
+
+		private final Runnable release;
+		private final AtomicBoolean released = new AtomicBoolean(false);
+
+		public AcquiredWriteLock(Runnable release) {
+			this.release = release;
+		}
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				release.run();
 			}
-			return this;
+		}
+
+		@Override
+		public WriteLock lock(InternalActionContext ac) {
+			return AbstractGenericWriteLock.this.lock(ac);
+		}
+
+		@Override
+		public WriteLock lock(InternalActionContext ac, WriteLockScope scope) {
+			return AbstractGenericWriteLock.this.lock(ac, scope);
+		}
+
+		@Override
+		public boolean isSyncWrites() {
+			return AbstractGenericWriteLock.this.isSyncWrites();
 		}
 	}
 }
@@ -8,19 +8,24 @@ import javax.inject.Singleton;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.jobs.JobProcessor;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.verticle.AbstractJobVerticle;
 
 import dagger.Lazy;
 import io.reactivex.Completable;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
 
 /**
- * Dedicated verticle which will process jobs.
+ * Dedicated verticle which will process jobs. The jobs are processed without a global lock, because the {@link JobProcessor} locks the projects whose jobs
+ * are processed. In clustered mode, a local job processing request is forwarded to the other instances, so that they can process the jobs of other
+ * projects.
  */
 @Singleton
 public class JobWorkerVerticleImpl extends AbstractJobVerticle implements JobWorkerVerticle {
 
-	private static final String GLOBAL_JOB_LOCK_NAME = "mesh.internal.joblock";
+	private static final String ORIGIN_HEADER = "origin";
 
 	public final static String PROJECT_UUID_HEADER = "projectUuid";
 
@@ -35,6 +40,7 @@ public class JobWorkerVerticleImpl extends AbstractJobVerticle implements JobWor
 	private Lazy<BootstrapInitializer> boot;
 	private JobProcessor jobProcessor;
 	private Database db;
+	private MessageConsumer<Object> clusterJobConsumer;
 
 	@Inject
 	public JobWorkerVerticleImpl(Database db, Lazy<BootstrapInitializer> boot, JobProcessor jobProcessor) {
@@ -45,17 +51,45 @@ public class JobWorkerVerticleImpl extends AbstractJobVerticle implements JobWor
 
 	@Override
 	public String getJobAdress() {
-		return JOB_WORKER_ADDRESS + boot.get().mesh().getOptions().getNodeName();
+		return JOB_WORKER_ADDRESS + getOptions().getNodeName();
 	}
 
 	@Override
-	public String getLockName() {
-		return GLOBAL_JOB_LOCK_NAME;
+	public void start() throws Exception {
+		super.start();
+		if (getOptions().getClusterOptions().isEnabled()) {
+			clusterJobConsumer = vertx.eventBus().consumer(JOB_WORKER_ADDRESS.address, message -> {
+				// Requests which were forwarded by this instance have already been handled
+				if (!getOptions().getNodeName().equals(message.headers().get(ORIGIN_HEADER))) {
+					invokeJobAction(message);
+				}
+			});
+		}
+	}
+
+	@Override
+	public void stop() throws Exception {
+		super.stop();
+		if (clusterJobConsumer != null) {
+			clusterJobConsumer.unregister();
+			clusterJobConsumer = null;
+		}
 	}
 
 	@Override
 	public Completable executeJob(Message<Object> message) {
-		return Completable.defer(() -> jobProcessor.process());
+		return Completable.defer(() -> {
+			MeshOptions options = getOptions();
+			if (options.getClusterOptions().isEnabled() && message != null && !JOB_WORKER_ADDRESS.address.equals(message.address())) {
+				DeliveryOptions deliveryOptions = new DeliveryOptions().addHeader(ORIGIN_HEADER, options.getNodeName());
+				vertx.eventBus().publish(JOB_WORKER_ADDRESS.address, null, deliveryOptions);
+			}
+			return jobProcessor.process();
+		});
+	}
+
+	private MeshOptions getOptions() {
+		return boot.get().mesh().getOptions();
 	}
 
 }
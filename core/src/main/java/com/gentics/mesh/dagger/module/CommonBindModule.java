@@ -7,10 +7,20 @@ import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.auth.oauth2.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.cache.CacheCollection;
 import com.gentics.mesh.cache.CacheCollectionImpl;
+import com.gentics.mesh.cache.LinkPathCache;
+import com.gentics.mesh.cache.LinkPathCacheImpl;
+import com.gentics.mesh.cache.MeshAuthUserCache;
+import com.gentics.mesh.cache.MeshAuthUserCacheImpl;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NavigationCacheImpl;
+import com.gentics.mesh.cache.NodeResponseCache;
+import com.gentics.mesh.cache.NodeResponseCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cache.WebrootPathCacheImpl;
+import com.gentics.mesh.cache.WebrootSegmentCache;
+import com.gentics.mesh.cache.WebrootSegmentCacheImpl;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.impl.BulkActionContextImpl;
 import com.gentics.mesh.core.action.BranchDAOActions;
@@ -150,6 +160,21 @@ public abstract class CommonBindModule {
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
+	@Binds
+	abstract MeshAuthUserCache bindMeshAuthUserCache(MeshAuthUserCacheImpl e);
+
+	@Binds
+	abstract LinkPathCache bindLinkPathCache(LinkPathCacheImpl e);
+
+	@Binds
+	abstract WebrootSegmentCache bindWebrootSegmentCache(WebrootSegmentCacheImpl e);
+
+	@Binds
+	abstract NodeResponseCache bindNodeResponseCache(NodeResponseCacheImpl e);
+
+	@Binds
+	abstract NavigationCache bindNavigationCache(NavigationCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
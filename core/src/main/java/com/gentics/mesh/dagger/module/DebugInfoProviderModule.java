@@ -11,6 +11,7 @@ import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.LocalConfigProvi
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.LogProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.MigrationStatusProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.PluginsProvider;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.SlowTransactionsProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.StatusProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.SystemInfoProvider;
 import com.gentics.mesh.core.endpoint.admin.debuginfo.providers.ThreadDumpProvider;
@@ -76,4 +77,8 @@ public abstract class DebugInfoProviderModule {
 	@Binds
 	@IntoSet
 	public abstract DebugInfoProvider localConfigProvider(LocalConfigProvider provider);
+
+	@Binds
+	@IntoSet
+	public abstract DebugInfoProvider slowTransactionsProvider(SlowTransactionsProvider provider);
 }
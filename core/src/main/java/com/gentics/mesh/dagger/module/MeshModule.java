@@ -11,6 +11,7 @@ import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.handler.impl.MeshBodyHandlerImpl;
 import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.metric.MetricsService;
 
 import dagger.Module;
 import dagger.Provides;
@@ -36,13 +37,15 @@ public class MeshModule {
 	 * 
 	 * @param vertx
 	 * @param options
-	 * @param boot
+	 * @param s3BinaryStorage
+	 * @param metrics
 	 * @return
 	 */
 	@Provides
 	@Singleton
-	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options, S3BinaryStorage s3BinaryStorage) {
-		return new ImgscalrImageManipulator(vertx, options, s3BinaryStorage);
+	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options, S3BinaryStorage s3BinaryStorage,
+		MetricsService metrics) {
+		return new ImgscalrImageManipulator(vertx, options, s3BinaryStorage, metrics);
 	}
 
 	/**
@@ -1,7 +1,9 @@
 package com.gentics.mesh.event.impl;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 
 import javax.inject.Inject;
 
@@ -12,6 +14,7 @@ import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventBatchEnvelope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 
@@ -80,20 +83,43 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 	@Override
 	public void dispatch() {
 		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
+		boolean batchEvents = options.getVertxOptions().getEventBusOptions().isBatchEvents();
+
+		// Identical consecutive events (e.g. multiple updates of the same element) are only sent once. Identical events which are not consecutive are all sent,
+		// since the events in between (e.g. the deletion of the created element) would otherwise be reordered.
+		Entry<String, JsonObject> previous = null;
+		MeshEvent currentEvent = null;
+		List<JsonObject> pending = new ArrayList<>();
+		for (MeshEventModel entry : getEntries()) {
 			entry.setCause(getCause());
 			MeshEvent event = entry.getEvent();
+			JsonObject json = JsonUtil.toJsonObject(entry);
+			Entry<String, JsonObject> current = new SimpleImmutableEntry<>(event.getAddress(), json);
+			if (current.equals(previous)) {
+				if (log.isTraceEnabled()) {
+					log.trace("Omitting duplicate event '{}'", event);
+				}
+				continue;
+			}
+			previous = current;
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
 			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				log.trace("Dispatching event '{}' with payload:\n{}", event, json.encodePrettily());
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json),
-					new DeliveryOptions().addHeader(SENDER_HEADER, options.getNodeName()));
-		});
+			if (!batchEvents) {
+				eventbus.publish(event.getAddress(), json, deliveryOptions());
+				continue;
+			}
+			// Only consecutive events are combined to retain the order of the events
+			if (event != currentEvent) {
+				publish(eventbus, currentEvent, pending);
+				currentEvent = event;
+			}
+			pending.add(json);
+		}
+		publish(eventbus, currentEvent, pending);
 		getEntries().clear();
 
 		getActions().forEach(action -> {
@@ -102,4 +128,30 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 		getActions().clear();
 	}
 
+	/**
+	 * Publish the pending events of the given type. Multiple events are sent within a single {@link EventBatchEnvelope}.
+	 * 
+	 * @param eventbus
+	 * @param event
+	 * @param pending
+	 */
+	private void publish(EventBus eventbus, MeshEvent event, List<JsonObject> pending) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		if (pending.size() == 1) {
+			eventbus.publish(event.getAddress(), pending.get(0), deliveryOptions());
+		} else {
+			if (log.isDebugEnabled()) {
+				log.debug("Dispatching {} events '{}' in a single message", pending.size(), event);
+			}
+			eventbus.publish(event.getAddress(), EventBatchEnvelope.wrap(pending), deliveryOptions());
+		}
+		pending.clear();
+	}
+
+	private DeliveryOptions deliveryOptions() {
+		return new DeliveryOptions().addHeader(SENDER_HEADER, options.getNodeName());
+	}
+
 }
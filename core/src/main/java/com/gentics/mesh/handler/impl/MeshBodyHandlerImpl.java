@@ -1,5 +1,9 @@
 package com.gentics.mesh.handler.impl;
 
+import java.util.regex.Pattern;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.impl.BodyHandlerImpl;
 
 /**
@@ -7,7 +11,23 @@ import io.vertx.ext.web.handler.impl.BodyHandlerImpl;
  */
 public class MeshBodyHandlerImpl extends BodyHandlerImpl {
 
+	/**
+	 * Streaming binary uploads read the body themselves. The body must neither be buffered nor be written to the uploads directory.
+	 */
+	private static final Pattern STREAMING_UPLOAD_PATH = Pattern.compile(".*/nodes/[^/]+/binary/[^/]+/stream$");
+
 	public MeshBodyHandlerImpl(String uploadsDirectory) {
 		setUploadsDirectory(uploadsDirectory);
 	}
+
+	@Override
+	public void handle(RoutingContext context) {
+		if (context.request().method() == HttpMethod.POST && STREAMING_UPLOAD_PATH.matcher(context.request().path()).matches()) {
+			// Keep the body until the upload handler consumes it
+			context.request().pause();
+			context.next();
+		} else {
+			super.handle(context);
+		}
+	}
 }
@@ -19,6 +19,7 @@ import com.gentics.mesh.core.rest.event.plugin.PluginEventModel;
 import com.gentics.mesh.core.rest.plugin.PluginStatus;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.plugin.GraphQLPluginRegistry;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.plugin.MeshPlugin;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 
@@ -202,7 +203,7 @@ public class DelegatingPluginRegistryImpl implements DelegatingPluginRegistry {
 		PluginEventModel model = new PluginEventModel();
 		model.setId(plugin.id());
 		model.setOrigin(options.getNodeName());
-		return new JsonObject(model.toJson());
+		return JsonUtil.toJsonObject(model);
 	}
 
 }
@@ -44,6 +44,7 @@ import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorMasterRes
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.localconfig.LocalConfigModel;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileListResponse;
 import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
 import com.gentics.mesh.core.rest.branch.BranchListResponse;
 import com.gentics.mesh.core.rest.branch.BranchResponse;
@@ -1227,6 +1228,12 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 		}
 	}
 
+	@Override
+	public MeshRequest<NodeResponse> streamNodeBinaryField(String projectName, String nodeUuid, String languageTag, String nodeVersion,
+		String fieldKey, InputStream fileData, long fileSize, String fileName, String contentType, ParameterProvider... parameters) {
+		return updateNodeBinaryField(projectName, nodeUuid, languageTag, nodeVersion, fieldKey, fileData, fileSize, fileName, contentType, parameters);
+	}
+
 	@Override
 	public MeshRequest<MeshBinaryResponse> downloadBinaryField(String projectName, String nodeUuid, String languageTag, String fieldKey,
 		ParameterProvider... parameters) {
@@ -1863,4 +1870,9 @@ public class MeshLocalClientImpl implements MeshLocalClient {
 	public MeshRequest<GenericMessageResponse> clearCache() {
 		return null;
 	}
+
+	@Override
+	public MeshRequest<TxProfileListResponse> slowTransactions() {
+		return null;
+	}
 }
@@ -8,8 +8,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -36,6 +41,8 @@ import com.gentics.mesh.core.db.GraphDBTx;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.db.TxAction;
 import com.gentics.mesh.core.db.TxAction0;
+import com.gentics.mesh.core.db.TxProfile;
+import com.gentics.mesh.core.db.TxProfiler;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigResponse;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterServerConfig;
@@ -67,6 +74,7 @@ import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -128,6 +136,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private final TransactionComponent.Factory txFactory;
 
+	private final TxProfiler txProfiler;
+
 	/**
 	 * Executor service for running the disk quota check
 	 */
@@ -165,7 +175,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 			OrientDBTypeHandler typeHandler, OrientDBIndexHandler indexHandler,
 			OrientDBClusterManagerImpl clusterManager, TxCleanupTask txCleanupTask,
 			Lazy<PermissionRoots> permissionRoots, WriteLock writeLock,
-			TransactionComponent.Factory txFactory, Mesh mesh
+			TransactionComponent.Factory txFactory, Mesh mesh, TxProfiler txProfiler
 	) {
 		super(vertx, mesh, metrics);
 		this.options = options;
@@ -179,6 +189,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 		this.txCleanUpTask = txCleanupTask;
 		this.writeLock = writeLock;
 		this.txFactory = txFactory;
+		this.txProfiler = txProfiler;
 	}
 
 	@Override
@@ -321,6 +332,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues) {
+		TxProfile.countIndexLookup();
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
@@ -329,6 +341,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public Iterable<Vertex> getVerticesForRange(Class<?> classOfVertex, String indexPostfix, String[] fieldNames, Object[] fieldValues,
 		String rangeKey, long start,
 		long end) {
+		TxProfile.countIndexLookup();
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
 		OrientVertexType elementType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
 		String indexName = classOfVertex.getSimpleName() + "_" + indexPostfix;
@@ -342,6 +355,28 @@ public class OrientDBDatabase extends AbstractDatabase {
 		}).iterator();
 	}
 
+	@Override
+	public Map<Object, List<Vertex>> getVertices(Class<?> classOfVertex, String indexPostfix, Collection<?> indexKeys) {
+		if (indexKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		TxProfile.countIndexLookup();
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OrientVertexType elementType = orientBaseGraph.getVertexType(classOfVertex.getSimpleName());
+		String indexName = classOfVertex.getSimpleName() + "_" + indexPostfix;
+		OIndex index = elementType.getClassIndex(indexName);
+		if (index == null) {
+			throw new IllegalStateException("The index {" + indexName + "} could not be found");
+		}
+		Map<Object, List<Vertex>> vertices = new LinkedHashMap<>();
+		OIndexCursor cursor = index.iterateEntries(indexKeys, true);
+		Map.Entry<Object, OIdentifiable> entry;
+		while ((entry = cursor.nextEntry()) != null) {
+			vertices.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(new OrientVertex(orientBaseGraph, entry.getValue()));
+		}
+		return vertices;
+	}
+
 	@Override
 	public <T extends VertexFrame> Result<T> getVerticesTraversal(Class<T> classOfVertex, String[] fieldNames, Object[] fieldValues) {
 		Stream<Vertex> stream = toStream(getVertices(classOfVertex, fieldNames, fieldValues));
@@ -381,6 +416,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public <T extends MeshElement> T findVertex(String fieldKey, Object fieldValue, Class<T> clazz) {
+		TxProfile.countIndexLookup();
 		FramedGraph graph = GraphDBTx.getGraphTx().getGraph();
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
 		Iterator<Vertex> it = orientBaseGraph.getVertices(clazz.getSimpleName(), new String[] { fieldKey }, new Object[] { fieldValue }).iterator();
@@ -403,8 +439,53 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return type.count();
 	}
 
+	@Override
+	public long countEdges(String indexName, Object indexKey) {
+		TxProfile.countIndexLookup();
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OIndex index = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(indexName);
+		if (index == null) {
+			return toStream(orientBaseGraph.getEdges(indexName, indexKey)).count();
+		}
+		Object value = index.get(indexKey);
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).size();
+		}
+		return value == null ? 0 : 1;
+	}
+
+	@Override
+	public Map<Object, List<Edge>> getEdges(String indexName, Collection<?> indexKeys) {
+		if (indexKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		TxProfile.countIndexLookup();
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		OIndex index = orientBaseGraph.getRawGraph().getMetadata().getIndexManager().getIndex(indexName);
+		Map<Object, List<Edge>> edges = new LinkedHashMap<>();
+		if (index == null) {
+			for (Object indexKey : indexKeys) {
+				List<Edge> edgesForKey = toStream(orientBaseGraph.getEdges(indexName, indexKey)).collect(Collectors.toList());
+				if (!edgesForKey.isEmpty()) {
+					edges.put(indexKey, edgesForKey);
+				}
+			}
+			return edges;
+		}
+		OIndexCursor cursor = index.iterateEntries(indexKeys, true);
+		Map.Entry<Object, OIdentifiable> entry;
+		while ((entry = cursor.nextEntry()) != null) {
+			Edge edge = orientBaseGraph.getEdge(entry.getValue().getIdentity());
+			if (edge != null) {
+				edges.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(edge);
+			}
+		}
+		return edges;
+	}
+
 	@Override
 	public <T extends EdgeFrame> T findEdge(String fieldKey, Object fieldValue, Class<T> clazz) {
+		TxProfile.countIndexLookup();
 		FramedGraph graph = GraphDBTx.getGraphTx().getGraph();
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
 		Iterator<Edge> it = orientBaseGraph.getEdges(fieldKey, fieldValue).iterator();
@@ -460,11 +541,26 @@ public class OrientDBDatabase extends AbstractDatabase {
 				i++;
 			}
 			sample.stop(this.topologyLockTimer);
+			TxProfile profile = TxProfile.current();
+			if (profile != null) {
+				profile.addLockWait(System.currentTimeMillis() - start);
+			}
 		}
 	}
 
 	@Override
 	public <T> T tx(TxAction<T> txHandler) {
+		TxProfile profile = txProfiler != null ? txProfiler.start() : null;
+		try {
+			return retryTx(txHandler, profile);
+		} finally {
+			if (profile != null) {
+				txProfiler.stop(profile);
+			}
+		}
+	}
+
+	private <T> T retryTx(TxAction<T> txHandler, TxProfile profile) {
 		/**
 		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
 		 * {@link OConcurrentModificationException} is thrown.
@@ -528,6 +624,9 @@ public class OrientDBDatabase extends AbstractDatabase {
 					txRetryCounter.increment();
 				}
 			}
+			if (!handlerFinished && profile != null) {
+				profile.retry();
+			}
 			if (handlerFinished) {
 				return handlerResult;
 			}
@@ -6,23 +6,35 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementIndex;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 
 /**
- * Cache for classes which were annotated with {@link GraphElement}.
+ * Cache for classes which were annotated with {@link GraphElement}. The classes are loaded from the {@link GraphElementIndex} which is generated at build
+ * time.
  */
 public class SimpleReflectionCache extends Reflections {
 
+	private static final Logger log = LoggerFactory.getLogger(SimpleReflectionCache.class);
+
 	private final Map<String, Set<String>> hierarchy;
 	private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
 
 	/**
 	 * Mapping for class FQN to actual class reference.
 	 */
-	private final Map<String, Class> classStringCache = new HashMap<>();
+	private final Map<String, Class> classStringCache = new ConcurrentHashMap<>();
+
+	private String[] basePaths = new String[0];
+
+	private volatile boolean scanned = false;
 
 	public SimpleReflectionCache() {
 		super();
@@ -31,12 +43,31 @@ public class SimpleReflectionCache extends Reflections {
 
 	public SimpleReflectionCache(String... basePaths) {
 		this();
+		this.basePaths = basePaths;
+		long start = System.currentTimeMillis();
+		Map<String, Class<?>> indexedClasses = GraphElementIndex.load(getClass().getClassLoader(), basePaths);
+		if (indexedClasses != null) {
+			classStringCache.putAll(indexedClasses);
+			log.info("Loaded {" + classStringCache.size() + "} graph element types from the index in {" + (System.currentTimeMillis() - start) + "} ms");
+		} else {
+			// Fallback for classpaths which do not provide the index (e.g. sources which were compiled without annotation processing)
+			scan();
+			log.info("Loaded {" + classStringCache.size() + "} graph element types by scanning the classpath in {" + (System.currentTimeMillis() - start)
+				+ "} ms");
+		}
+	}
+
+	private synchronized void scan() {
+		if (scanned) {
+			return;
+		}
 		for (String basePath : basePaths) {
 			Set<Class<?>> graphTypeClasses = new Reflections(basePath).getTypesAnnotatedWith(GraphElement.class);
 			for (Class<?> clazz : graphTypeClasses) {
-				classStringCache.put(clazz.getSimpleName(), clazz);
+				classStringCache.putIfAbsent(clazz.getSimpleName(), clazz);
 			}
 		}
+		scanned = true;
 	}
 
 	/**
@@ -98,7 +129,14 @@ public class SimpleReflectionCache extends Reflections {
 	 * @return
 	 */
 	public Class<?> forName(final String className) {
-		return this.classStringCache.get(className);
+		Class<?> clazz = this.classStringCache.get(className);
+		if (clazz == null && !scanned) {
+			// The class was not indexed
+			log.warn("The graph element type {" + className + "} was not found in the index. Scanning the classpath.");
+			scan();
+			clazz = this.classStringCache.get(className);
+		}
+		return clazz;
 	}
 
 }
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.core.db.TxProfile;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.OrientDBMeshOptions;
 import com.gentics.mesh.metric.MetricsService;
@@ -29,6 +30,8 @@ public class TxCleanupTask implements Handler<Long> {
 
 	private static final Map<Thread, Long> registeredThreads = new ConcurrentHashMap<>();
 
+	private static final Map<Thread, TxProfile> registeredProfiles = new ConcurrentHashMap<>();
+
 	private final Counter interruptCounter;
 
 	private GraphStorageOptions storageOptions;
@@ -58,7 +61,12 @@ public class TxCleanupTask implements Handler<Long> {
 				long limit = storageOptions.getTxCommitTimeout();
 				boolean exceedsLimit = dur > limit;
 				if (exceedsLimit) {
-					log.warn("Thread {} exceeds time limit of {} with duration {}.", entry.getKey(), limit, dur);
+					TxProfile profile = registeredProfiles.get(entry.getKey());
+					if (profile != null) {
+						log.warn("Thread {} exceeds time limit of {} with duration {}. Transaction: {}", entry.getKey(), limit, dur, profile);
+					} else {
+						log.warn("Thread {} exceeds time limit of {} with duration {}.", entry.getKey(), limit, dur);
+					}
 				}
 				return exceedsLimit;
 			}).map(Map.Entry::getKey)
@@ -79,12 +87,16 @@ public class TxCleanupTask implements Handler<Long> {
 	}
 
 	/**
-	 * Register the thread that runs a tx.
+	 * Register the thread that runs a tx. The profile of the tx will be logged when the tx exceeds the time limit.
 	 * 
 	 * @param thread
 	 */
 	public static void register(Thread thread) {
 		registeredThreads.put(thread, System.currentTimeMillis());
+		TxProfile profile = TxProfile.current();
+		if (profile != null) {
+			registeredProfiles.put(thread, profile);
+		}
 	}
 
 	/**
@@ -94,6 +106,7 @@ public class TxCleanupTask implements Handler<Long> {
 	 */
 	public static void unregister(Thread thread) {
 		registeredThreads.remove(thread);
+		registeredProfiles.remove(thread);
 	}
 
 	/**
@@ -15,6 +15,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.mesh.core.data.PersistenceClassMap;
 import com.gentics.mesh.core.db.GraphDBTx;
+import com.gentics.mesh.core.db.TxProfile;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.field.FieldType;
@@ -134,6 +135,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 			// Fetch the required index
 			OIndex index = edgeType.getClassIndex("e." + edgeLabel.toLowerCase() + "_" + indexPostfix);
 			if (index != null) {
+				TxProfile.countIndexLookup();
 				// Iterate over the sb-tree index entries
 				OIndexCursor cursor = index.iterateEntriesMajor(new OCompositeKey(key), true, false);
 				while (cursor.hasNext()) {
@@ -204,6 +206,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		if (elementType != null) {
 			OIndex index = elementType.getClassIndex(indexName);
 			if (index != null) {
+				TxProfile.countIndexLookup();
 				Object recordId = index.get(key);
 				if (recordId != null) {
 					if (recordId.equals(element.getElement().getId())) {
@@ -239,6 +242,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		if (vertexType != null) {
 			OIndex index = vertexType.getClassIndex(indexName);
 			if (index != null) {
+				TxProfile.countIndexLookup();
 				Object recordId = index.get(key);
 				if (recordId != null) {
 					return (T) graph.getFramedVertexExplicit(classOfT, recordId);
@@ -415,6 +419,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		if (vertexType != null) {
 			OIndex index = vertexType.getClassIndex(type);
 			if (index != null) {
+				TxProfile.countIndexLookup();
 				Object recordId = index.get(uuid);
 				if (recordId != null) {
 					return (T) graph.getFramedVertexExplicit(classOfT, recordId);
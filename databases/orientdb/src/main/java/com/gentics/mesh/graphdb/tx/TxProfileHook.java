@@ -0,0 +1,61 @@
+package com.gentics.mesh.graphdb.tx;
+
+import com.gentics.mesh.core.db.TxProfile;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+/**
+ * Record hook which counts the vertex and edge reads and writes of a transaction in the {@link TxProfile} of the transaction. The hook is only
+ * registered on the database of profiled transactions.
+ */
+public class TxProfileHook implements ORecordHook {
+
+	private final TxProfile profile;
+
+	public TxProfileHook(TxProfile profile) {
+		this.profile = profile;
+	}
+
+	@Override
+	public RESULT onTrigger(TYPE type, ORecord record) {
+		if (!(record instanceof ODocument)) {
+			return RESULT.RECORD_NOT_CHANGED;
+		}
+		OClass clazz = ((ODocument) record).getSchemaClass();
+		if (clazz == null) {
+			return RESULT.RECORD_NOT_CHANGED;
+		}
+		switch (type) {
+		case AFTER_READ:
+			if (clazz.isVertexType()) {
+				profile.vertexRead();
+			} else if (clazz.isEdgeType()) {
+				profile.edgeRead();
+			}
+			break;
+		case AFTER_CREATE:
+		case AFTER_UPDATE:
+		case AFTER_DELETE:
+			if (clazz.isVertexType()) {
+				profile.vertexWrite();
+			} else if (clazz.isEdgeType()) {
+				profile.edgeWrite();
+			}
+			break;
+		default:
+			break;
+		}
+		return RESULT.RECORD_NOT_CHANGED;
+	}
+
+	@Override
+	public void onUnregister() {
+	}
+
+	@Override
+	public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+		return DISTRIBUTED_EXECUTION_MODE.SOURCE_NODE;
+	}
+}
@@ -50,10 +50,12 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.GraphDBTx;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.db.TxData;
+import com.gentics.mesh.core.db.TxProfile;
 import com.gentics.mesh.etc.config.OrientDBMeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.cluster.TxCleanupTask;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.graphdb.tx.TxProfileHook;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.security.SecurityUtils;
 import com.orientechnologies.common.concur.ONeedRetryException;
@@ -77,6 +79,7 @@ import io.vertx.core.logging.LoggerFactory;
  * <li>Providing access to {@link TxData} via {@link #txData}</li>
  * <li>Handling topology locks before commit via {@link Database#blockingTopologyLockCheck()}</li>
  * <li>Register and Unregister of active Tx via {@link TxCleanupTask}</li>
+ * <li>Counting reads and writes for the {@link TxProfile} via {@link TxProfileHook}</li>
  * <li>Making Tx accessible via threadlocal {@link Tx#setActive(Tx)}
  * </ul>
  */
@@ -100,6 +103,10 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	private Timer commitTimer;
 
+	private TxProfileHook profileHook;
+
+	private OrientGraph profiledGraph;
+
 	@Inject
 	public OrientDBTx(OrientDBMeshOptions options, Database db, OrientDBBootstrapInitializer boot,
 		OrientDBDaoCollection daos, CacheCollection caches, SecurityUtils security, OrientStorage provider,
@@ -118,7 +125,14 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 			isWrapped = true;
 			init(activeTx.getGraph());
 		} else {
-			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
+			OrientGraph graph = (OrientGraph) provider.rawTx();
+			TxProfile profile = TxProfile.current();
+			if (profile != null) {
+				profileHook = new TxProfileHook(profile);
+				profiledGraph = graph;
+				graph.getRawGraph().registerHook(profileHook);
+			}
+			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph(graph, typeResolver);
 			init(transaction);
 		}
 		this.txData = txData;
@@ -139,11 +153,16 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 					Thread t = Thread.currentThread();
 					TxCleanupTask.register(t);
 					Timer.Sample sample = Timer.start();
+					long start = System.currentTimeMillis();
 					try {
 						commit();
 					} finally {
 						sample.stop(commitTimer);
 						TxCleanupTask.unregister(t);
+						TxProfile profile = TxProfile.current();
+						if (profile != null) {
+							profile.addCommitTime(System.currentTimeMillis() - start);
+						}
 					}
 				} catch (Exception e) {
 					rollback();
@@ -157,6 +176,9 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 			throw e;
 		} finally {
 			if (!isWrapped) {
+				if (profileHook != null) {
+					profiledGraph.getRawGraph().unregisterHook(profileHook);
+				}
 				// Restore the old graph that was previously swapped with the current graph
 				getGraph().shutdown();
 				Tx.setActive(null);
@@ -1,7 +1,6 @@
 package com.gentics.mesh.distributed;
 
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_CACHES;
-import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_LEFT;
@@ -72,11 +71,8 @@ public class DistributedEventManager {
 			handleClusterTopologyUpdate(handler);
 		});
 
-		// Register for events which are send whenever the permission store must be invalidated.
-		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
-			log.debug("Received permissionstore clear event");
-			permCache.get().clear(false);
-		});
+		// Events which are send whenever the permission store must be invalidated are handled by the permission cache itself,
+		// since they may only affect single elements or the role sets.
 
 		// Register for event to clear the caches
 		eb.consumer(CLEAR_CACHES.address, handler -> {
@@ -9,7 +9,11 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -41,6 +45,7 @@ import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.search.DevNullSearchProvider;
@@ -163,13 +168,7 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement<RM>, RM ext
 				log.debug("Using parsed query {" + request.encodePrettily() + "}");
 			}
 
-			JsonObject queryOption = new JsonObject();
-			queryOption.put("index",
-				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
-			log.debug("Using options {" + queryOption.encodePrettily() + "}");
-
-			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
+			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(createQueryOptions(indices), request);
 			return requestBuilder.async();
 		})).subscribe(response -> {
 			// JsonObject firstResponse = response.getJsonArray("responses").getJsonObject(0);
@@ -214,77 +213,63 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement<RM>, RM ext
 			throw new InvalidArgumentException("The pageSize must always be zero or greater than zero");
 		}
 
-		RL listResponse = classOfRL.newInstance();
-
-		waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			String searchQuery = ac.getBodyAsString();
-			if (log.isDebugEnabled()) {
-				log.debug("Invoking search with query {" + searchQuery + "} for {" + classOfRL.getName() + "}");
-			}
-
-			Set<String> indices = indexHandler.getIndicesForSearch(ac);
-
-			// Add permission checks to the query
-			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage);
-
-			// Add paging to query. Internally we start with page 0
-			applyPagingParams(request, pagingInfo);
-
-			if (log.isDebugEnabled()) {
-				log.debug("Using parsed query {" + request.encodePrettily() + "}");
-			}
-
-			JsonObject queryOption = new JsonObject();
-			queryOption.put("index",
-				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
-			log.debug("Using options {" + queryOption.encodePrettily() + "}");
+		if (ac.getSearchParameters().isSource()) {
+			search(ac, classOfRL, filterLanguage, pagingInfo)
+				.map(response -> toSourceListResponse(response, pagingInfo))
+				.onErrorResumeNext(error -> {
+					return Single.error(mapToMeshError(error));
+				}).subscribe(json -> {
+					ac.send(json.encode(), OK);
+				}, error -> {
+					log.error("Error while processing search response items", error);
+					ac.fail(error);
+				});
+			return;
+		}
 
-			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
-			return requestBuilder.async();
-		})).flatMapObservable(response -> {
-			JsonArray responses = response.getJsonArray("responses");
-			JsonObject firstResponse = responses.getJsonObject(0);
-
-			// Process the nested error
-			JsonObject errorInfo = firstResponse.getJsonObject("error");
-			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
-			}
+		RL listResponse = classOfRL.newInstance();
 
-			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
+		search(ac, classOfRL, filterLanguage, pagingInfo).flatMapObservable(response -> {
+			JsonObject hitsInfo = getHitsInfo(response);
 			JsonArray hits = hitsInfo.getJsonArray("hits");
 
 			List<RM> list = new ArrayList<>();
 			db.tx(tx -> {
+				// Load the elements of all hits at once. A node is found once for each of its languages.
+				Set<String> uuids = new LinkedHashSet<>();
 				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = elementLoader.apply(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
-						// Reduce the total count
-						long total = extractTotalCount(hitsInfo);
-						switch (complianceMode) {
-						case ES_6:
-							hitsInfo.put("total", total - 1);
-							break;
-						case ES_7:
-							hitsInfo.put("total", new JsonObject().put("value", total - 1));
-							break;
-						default:
-							throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+					uuids.add(getUuid(hits.getJsonObject(i)));
+				}
+				Map<String, T> elements = loadElements(uuids, elementLoader);
+				List<T> foundElements = new ArrayList<>(elements.values());
+				beforeTransform(foundElements, ac);
+				try {
+					for (int i = 0; i < hits.size(); i++) {
+						JsonObject hit = hits.getJsonObject(i);
+						String uuid = getUuid(hit);
+						String language = getLanguage(hit);
+
+						T element = elements.get(uuid);
+						if (element == null) {
+							log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
+							// Reduce the total count
+							long total = extractTotalCount(hitsInfo);
+							switch (complianceMode) {
+							case ES_6:
+								hitsInfo.put("total", total - 1);
+								break;
+							case ES_7:
+								hitsInfo.put("total", new JsonObject().put("value", total - 1));
+								break;
+							default:
+								throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+							}
+						} else {
+							list.add(actions.transformToRestSync(tx, element, ac, 0, language));
 						}
-					} else {
-						list.add(actions.transformToRestSync(tx, element, ac, 0, language));
 					}
+				} finally {
+					afterTransform(foundElements, ac);
 				}
 				return list;
 			});
@@ -305,6 +290,155 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement<RM>, RM ext
 		});
 	}
 
+	/**
+	 * Invoke the search query of the request.
+	 *
+	 * @param ac
+	 * @param classOfRL
+	 * @param filterLanguage
+	 * @param pagingInfo
+	 * @return Response of the multi search request
+	 */
+	private Single<JsonObject> search(InternalActionContext ac, Class<?> classOfRL, boolean filterLanguage, PagingParameters pagingInfo) {
+		return waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
+			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+			String searchQuery = ac.getBodyAsString();
+			if (log.isDebugEnabled()) {
+				log.debug("Invoking search with query {" + searchQuery + "} for {" + classOfRL.getName() + "}");
+			}
+
+			Set<String> indices = indexHandler.getIndicesForSearch(ac);
+
+			// Add permission checks to the query
+			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage);
+
+			// Add paging to query. Internally we start with page 0
+			applyPagingParams(request, pagingInfo);
+
+			if (log.isDebugEnabled()) {
+				log.debug("Using parsed query {" + request.encodePrettily() + "}");
+			}
+
+			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(createQueryOptions(indices), request);
+			return requestBuilder.async();
+		}));
+	}
+
+	/**
+	 * Return the hits info of the first response of the multi search response.
+	 *
+	 * @param response
+	 * @return
+	 */
+	private JsonObject getHitsInfo(JsonObject response) {
+		JsonArray responses = response.getJsonArray("responses");
+		JsonObject firstResponse = responses.getJsonObject(0);
+
+		// Process the nested error
+		JsonObject errorInfo = firstResponse.getJsonObject("error");
+		if (errorInfo != null) {
+			throw mapError(errorInfo);
+		}
+		return firstResponse.getJsonObject("hits");
+	}
+
+	/**
+	 * Create a list response which contains the indexed documents of the hits. The documents were already filtered by the role permissions of the query.
+	 *
+	 * @param response
+	 * @param pagingInfo
+	 * @return
+	 */
+	private JsonObject toSourceListResponse(JsonObject response, PagingParameters pagingInfo) {
+		JsonObject hitsInfo = getHitsInfo(response);
+		JsonArray hits = hitsInfo.getJsonArray("hits");
+		JsonArray data = new JsonArray();
+		for (int i = 0; i < hits.size(); i++) {
+			JsonObject source = hits.getJsonObject(i).getJsonObject("_source", new JsonObject());
+			// The role uuids are only needed for the permission filter
+			source.remove("_roleUuids");
+			data.add(source);
+		}
+		return new JsonObject()
+			.put("data", data)
+			.put("_metainfo", JsonUtil.toJsonObject(extractMetaInfo(hitsInfo, pagingInfo)));
+	}
+
+	/**
+	 * Create the options of the multi search request for the given indices.
+	 *
+	 * @param indices
+	 * @return
+	 */
+	protected JsonObject createQueryOptions(Set<String> indices) {
+		JsonObject queryOption = new JsonObject();
+		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
+		queryOption.put("search_type", options.getSearchOptions().getSearchType());
+		log.debug("Using options {" + queryOption.encodePrettily() + "}");
+		return queryOption;
+	}
+
+	/**
+	 * Load the elements with the given uuids. Handlers may override this in order to load all elements with a single lookup.
+	 *
+	 * @param uuids
+	 * @param elementLoader
+	 *            Loader for a single element
+	 * @return Found elements per uuid
+	 */
+	protected Map<String, T> loadElements(Collection<String> uuids, Function<String, T> elementLoader) {
+		Map<String, T> elements = new HashMap<>(uuids.size());
+		for (String uuid : uuids) {
+			T element = elementLoader.apply(uuid);
+			if (element != null) {
+				elements.put(uuid, element);
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Invoked before the found elements are transformed. Handlers may load data which is needed for the transformation of all elements at once.
+	 *
+	 * @param elements
+	 * @param ac
+	 */
+	protected void beforeTransform(List<T> elements, InternalActionContext ac) {
+	}
+
+	/**
+	 * Invoked after the found elements were transformed.
+	 *
+	 * @param elements
+	 * @param ac
+	 */
+	protected void afterTransform(List<T> elements, InternalActionContext ac) {
+	}
+
+	/**
+	 * Return the uuid of the element of the hit. The document id of hits for nodes contains the language as suffix.
+	 *
+	 * @param hit
+	 * @return
+	 */
+	protected String getUuid(JsonObject hit) {
+		String id = hit.getString("_id");
+		int pos = id.indexOf("-");
+		return pos > 0 ? id.substring(0, pos) : id;
+	}
+
+	/**
+	 * Return the language of the hit.
+	 *
+	 * @param hit
+	 * @return Language or null if the document id contains no language
+	 */
+	protected String getLanguage(JsonObject hit) {
+		String id = hit.getString("_id");
+		int pos = id.indexOf("-");
+		return pos > 0 ? id.substring(pos + 1) : null;
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
@@ -376,13 +510,8 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement<RM>, RM ext
 			log.debug("Using parsed query {" + queryJson.encodePrettily() + "}");
 		}
 
-		JsonObject queryOption = new JsonObject();
-		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
-		log.debug("Using options {" + queryOption.encodePrettily() + "}");
-
 		// Prepare the request
-		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, queryJson);
+		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(createQueryOptions(indices), queryJson);
 		Single<Page<? extends T>> result = requestBuilder.async()
 			.map(response -> {
 				JsonArray responses = response.getJsonArray("responses");
@@ -398,14 +527,13 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement<RM>, RM ext
 					List<T> elementList = new ArrayList<>();
 					JsonObject hitsInfo = firstResponse.getJsonObject("hits");
 					JsonArray hits = hitsInfo.getJsonArray("hits");
+					List<String> uuids = new ArrayList<>(hits.size());
 					for (int i = 0; i < hits.size(); i++) {
-						JsonObject hit = hits.getJsonObject(i);
-						String id = hit.getString("_id");
-						int pos = id.indexOf("-");
-						String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-						// Locate the node
-						T element = indexHandler.elementLoader().apply(uuid);
+						uuids.add(getUuid(hits.getJsonObject(i)));
+					}
+					Map<String, T> elements = loadElements(new LinkedHashSet<>(uuids), indexHandler.elementLoader());
+					for (String uuid : uuids) {
+						T element = elements.get(uuid);
 						if (element != null) {
 							elementList.add(element);
 						}
@@ -0,0 +1,67 @@
+package com.gentics.mesh.search.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Order independent checksum over the document ids and versions within a bucket. The checksum is used by the index sync in order to detect buckets which are
+ * already in sync without holding the versions of all documents of the bucket in memory.
+ */
+public class BucketChecksum {
+
+	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+	private long count;
+
+	private long checksum;
+
+	/**
+	 * Add the document to the checksum.
+	 * 
+	 * @param documentId
+	 * @param version
+	 */
+	public void add(String documentId, String version) {
+		count++;
+		// The sum does not depend on the order in which the documents are added
+		checksum += HASH_FUNCTION.newHasher()
+			.putString(documentId, StandardCharsets.UTF_8)
+			.putByte((byte) 0)
+			.putString(String.valueOf(version), StandardCharsets.UTF_8)
+			.hash().asLong();
+	}
+
+	/**
+	 * Return the amount of added documents.
+	 * 
+	 * @return
+	 */
+	public long count() {
+		return count;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof BucketChecksum)) {
+			return false;
+		}
+		BucketChecksum other = (BucketChecksum) obj;
+		return count == other.count && checksum == other.checksum;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(count, checksum);
+	}
+
+	@Override
+	public String toString() {
+		return "BucketChecksum [count=" + count + ", checksum=" + Long.toHexString(checksum) + "]";
+	}
+}
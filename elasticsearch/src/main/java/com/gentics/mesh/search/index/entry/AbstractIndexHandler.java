@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -22,6 +23,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.index.BucketChecksum;
 import com.gentics.mesh.search.index.BucketManager;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
@@ -37,6 +39,7 @@ import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -107,8 +110,8 @@ public abstract class AbstractIndexHandler<T extends HibBaseElement> implements
 		log.info("Handling index sync on handler {" + getClass().getName() + "}");
 		return buckets.flatMap(bucket -> {
 			log.info("Handling sync of {" + bucket + "}");
-			return diffAndSync(indexName, projectUuid, bucket);
-		}, 1);
+			return diffAndSync(indexName, projectUuid, bucket).subscribeOn(Schedulers.io());
+		}, getSyncConcurrency());
 		} else {
 			return Flowable.empty();
 	}
@@ -180,6 +183,15 @@ public abstract class AbstractIndexHandler<T extends HibBaseElement> implements
 			}).flatMapPublisher(x -> x);
 	}
 
+	/**
+	 * Return the amount of buckets which are synchronized concurrently.
+	 * 
+	 * @return
+	 */
+	protected int getSyncConcurrency() {
+		return Math.max(1, options.getSearchOptions().getSyncConcurrency());
+	}
+
 	protected T getElement(String elementUuid) {
 		return elementLoader().apply(elementUuid);
 	}
@@ -204,80 +216,120 @@ public abstract class AbstractIndexHandler<T extends HibBaseElement> implements
 	 * @param bucket
 	 * @return
 	 */
-	// TODO Async
 	public Single<Map<String, String>> loadVersionsFromIndex(String indexName, Bucket bucket) {
 		return Single.fromCallable(() -> {
-			String fullIndexName = searchProvider.installationPrefix() + indexName;
 			Map<String, String> versions = new HashMap<>();
-			log.debug("Loading document info from index {" + fullIndexName + "} in bucket {" + bucket + "}");
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			JsonObject query = new JsonObject();
-			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-			query.put("_source", new JsonArray().add("uuid").add("version"));
-			query.put("query", bucket.rangeQuery());
-			query.put("sort", new JsonArray().add("_doc"));
-
-			System.out.println(query.encodePrettily());
-			log.trace("Using query {\n" + query.encodePrettily() + "\n");
-			RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-			JsonObject result = new JsonObject();
-			try {
-				result = builder.sync();
-				if (log.isTraceEnabled()) {
-					log.trace("Got response {" + result.encodePrettily() + "}");
+			scrollIndex(indexName, bucket, hits -> processHits(hits, versions));
+			return versions;
+		});
+	}
+
+	/**
+	 * Load the checksum over the documentIds and versions of the documents within the bucket range from the given search index. The documents are streamed
+	 * and are not kept in memory.
+	 * 
+	 * @param indexName
+	 * @param bucket
+	 * @return
+	 */
+	public Single<BucketChecksum> loadChecksumFromIndex(String indexName, Bucket bucket) {
+		return Single.fromCallable(() -> {
+			BucketChecksum checksum = new BucketChecksum();
+			scrollIndex(indexName, bucket, hits -> {
+				for (int i = 0; i < hits.size(); i++) {
+					JsonObject hit = hits.getJsonObject(i);
+					checksum.add(getDocumentId(hit), hit.getJsonObject("_source").getString("version"));
 				}
-				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-				processHits(hits, versions);
-
-				// Check whether we need to process more scrolls
-				if (hits.size() != 0) {
-					String nextScrollId = result.getString("_scroll_id");
-					try {
-						while (true) {
-							final String currentScroll = nextScrollId;
-							log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-							JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
-							JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-							if (log.isTraceEnabled()) {
-								log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-							}
-							if (scrollHits.size() != 0) {
-								processHits(scrollHits, versions);
-								// Update the scrollId for the next fetch
-								nextScrollId = scrollResult.getString("_scroll_id");
-								if (log.isDebugEnabled()) {
-									log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-								}
-							} else {
-								// The scroll yields no more data. We are done
-								break;
+			});
+			return checksum;
+		});
+	}
+
+	/**
+	 * Scroll over the uuids and versions of the documents within the bucket range of the given search index.
+	 * 
+	 * @param indexName
+	 * @param bucket
+	 * @param hitsHandler
+	 *            Handler which is invoked for every fetched batch of hits
+	 */
+	// TODO Async
+	private void scrollIndex(String indexName, Bucket bucket, Consumer<JsonArray> hitsHandler) {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		log.debug("Loading document info from index {" + fullIndexName + "} in bucket {" + bucket + "}");
+		ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+		JsonObject query = new JsonObject();
+		query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
+		query.put("_source", new JsonArray().add("uuid").add("version"));
+		query.put("query", bucket.rangeQuery());
+		query.put("sort", new JsonArray().add("_doc"));
+
+		log.trace("Using query {\n" + query.encodePrettily() + "\n");
+		RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
+		JsonObject result = new JsonObject();
+		try {
+			result = builder.sync();
+			if (log.isTraceEnabled()) {
+				log.trace("Got response {" + result.encodePrettily() + "}");
+			}
+			JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
+			hitsHandler.accept(hits);
+
+			// Check whether we need to process more scrolls
+			if (hits.size() != 0) {
+				String nextScrollId = result.getString("_scroll_id");
+				try {
+					while (true) {
+						final String currentScroll = nextScrollId;
+						log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
+						JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
+						JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
+						if (log.isTraceEnabled()) {
+							log.trace("Got response {" + scrollHits.encodePrettily() + "}");
+						}
+						if (scrollHits.size() != 0) {
+							hitsHandler.accept(scrollHits);
+							// Update the scrollId for the next fetch
+							nextScrollId = scrollResult.getString("_scroll_id");
+							if (log.isDebugEnabled()) {
+								log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
 							}
+						} else {
+							// The scroll yields no more data. We are done
+							break;
 						}
-					} finally {
-						// Clearing used scroll in order to free memory in ES
-						client.clearScroll(nextScrollId).sync();
 					}
+				} finally {
+					// Clearing used scroll in order to free memory in ES
+					client.clearScroll(nextScrollId).sync();
 				}
-			} catch (HttpErrorException e) {
-				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-				log.error(e);
-				throw e;
 			}
-
-			return versions;
-		});
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + indexName + "}", e.toString());
+			log.error(e);
+			throw e;
+		}
 	}
 
 	protected void processHits(JsonArray hits, Map<String, String> versions) {
 		for (int i = 0; i < hits.size(); i++) {
 			JsonObject hit = hits.getJsonObject(i);
 			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
 			String version = source.getString("version");
-			versions.put(uuid, version);
+			versions.put(getDocumentId(hit), version);
 		}
 	}
 
+	/**
+	 * Return the id of the document of the given search hit.
+	 * 
+	 * @param hit
+	 * @return
+	 */
+	protected String getDocumentId(JsonObject hit) {
+		return hit.getJsonObject("_source").getString("uuid");
+	}
+
 	@Override
 	public Completable init() {
 		// Create the indices
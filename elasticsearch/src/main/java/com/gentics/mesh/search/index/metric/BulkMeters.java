@@ -0,0 +1,76 @@
+package com.gentics.mesh.search.index.metric;
+
+import static com.gentics.mesh.metric.SimpleMetric.SEARCH_BULK_IN_FLIGHT;
+import static com.gentics.mesh.metric.SimpleMetric.SEARCH_BULK_LATENCY;
+import static com.gentics.mesh.metric.SimpleMetric.SEARCH_BULK_QUEUED;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Metric meters which track the requests that are dispatched to Elasticsearch.
+ */
+public class BulkMeters {
+
+	private final AtomicLong inFlight;
+	private final AtomicLong queued;
+	private final Timer latency;
+
+	public BulkMeters(MetricsService metrics) {
+		inFlight = metrics.longGauge(SEARCH_BULK_IN_FLIGHT);
+		queued = metrics.longGauge(SEARCH_BULK_QUEUED);
+		latency = metrics.timer(SEARCH_BULK_LATENCY);
+	}
+
+	/**
+	 * Add the given amount to the queued counter.
+	 * 
+	 * @param amount
+	 */
+	public void addQueued(long amount) {
+		queued.addAndGet(amount);
+	}
+
+	/**
+	 * Track a request which has been sent to Elasticsearch.
+	 * 
+	 * @param queuedAmount
+	 *            Amount of requests which are no longer queued
+	 */
+	public void started(long queuedAmount) {
+		queued.addAndGet(-queuedAmount);
+		inFlight.incrementAndGet();
+	}
+
+	/**
+	 * Track a request which has been completed.
+	 * 
+	 * @param sample
+	 *            Sample which was started when the request was sent
+	 */
+	public void completed(Timer.Sample sample) {
+		inFlight.decrementAndGet();
+		sample.stop(latency);
+	}
+
+	/**
+	 * Return the amount of requests which are currently in flight.
+	 * 
+	 * @return
+	 */
+	public long getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * Return the amount of queued requests.
+	 * 
+	 * @return
+	 */
+	public long getQueued() {
+		return queued.get();
+	}
+}
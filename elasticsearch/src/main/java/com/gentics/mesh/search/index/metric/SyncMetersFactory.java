@@ -18,9 +18,12 @@ public class SyncMetersFactory {
 
 	private final Map<String, SyncMeters> meters = new ConcurrentHashMap<>();
 
+	private final BulkMeters bulkMeters;
+
 	@Inject
 	public SyncMetersFactory(MetricsService registry) {
 		this.registry = registry;
+		this.bulkMeters = new BulkMeters(registry);
 	}
 
 	/**
@@ -33,6 +36,15 @@ public class SyncMetersFactory {
 		return meters.computeIfAbsent(type, k -> new SyncMeters(registry, k));
 	}
 
+	/**
+	 * Return the meters for the requests which are dispatched to Elasticsearch.
+	 * 
+	 * @return
+	 */
+	public BulkMeters getBulkMeters() {
+		return bulkMeters;
+	}
+
 	/**
 	 * Reset all meters.
 	 */
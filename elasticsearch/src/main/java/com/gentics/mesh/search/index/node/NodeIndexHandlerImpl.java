@@ -55,6 +55,7 @@ import com.gentics.mesh.core.search.index.node.NodeContainerMappingProvider;
 import com.gentics.mesh.core.search.index.node.NodeIndexHandler;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.index.BucketChecksum;
 import com.gentics.mesh.search.index.BucketManager;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
@@ -66,6 +67,7 @@ import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -86,6 +88,11 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 
 	private static final Logger log = LoggerFactory.getLogger(NodeIndexHandlerImpl.class);
 
+	/**
+	 * Amount of sub buckets into which a bucket with differing checksums is split.
+	 */
+	private static final int CHECKSUM_BUCKET_FANOUT = 8;
+
 	@Inject
 	public NodeContainerTransformer transformer;
 
@@ -344,58 +351,88 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 					.flatMap(branch -> branch.findActiveSchemaVersions().stream()
 						.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
 							.map(type -> diffAndSync(project, branch, version, type, indexPattern)))))
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
+				// The buckets of each index are synchronized concurrently. Handling the indices one after another keeps the memory usage bounded.
+				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::concat));
 		}));
 	}
 
 	/**
+	 * Load the contents of the bucket which belong to the given index.
 	 *
 	 * @param branch
 	 * @param version
 	 * @param type
 	 * @param bucket
-	 * @return indexName -> documentName -> NodeGraphFieldContainer
+	 * @param indexName
+	 * @return documentName -> NodeGraphFieldContainer
 	 */
-	private Map<String, Map<String, HibNodeFieldContainer>> loadVersionsFromGraph(HibBranch branch, HibSchemaVersion version, ContainerType type,
-		Bucket bucket) {
+	private Map<String, HibNodeFieldContainer> loadVersionsFromGraph(HibBranch branch, HibSchemaVersion version, ContainerType type,
+		Bucket bucket, String indexName) {
+		return db.tx(tx -> {
+			CommonTx ctx = (CommonTx) tx;
+			ContentDao contentDao = ctx.contentDao();
+			return streamContents(ctx, branch, version, type, bucket, indexName)
+				.collect(Collectors.toMap(c -> getDocumentId(contentDao, c), Function.identity()));
+		});
+	}
+
+	/**
+	 * Compute the checksum over the contents of the bucket which belong to the given index. The contents are streamed and are not kept in memory.
+	 *
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @param bucket
+	 * @param indexName
+	 * @return
+	 */
+	private BucketChecksum loadChecksumFromGraph(HibBranch branch, HibSchemaVersion version, ContainerType type, Bucket bucket, String indexName) {
 		return db.tx(tx -> {
 			CommonTx ctx = (CommonTx) tx;
 			ContentDao contentDao = ctx.contentDao();
-			PersistingSchemaDao schemaDao = ctx.schemaDao();
 			String branchUuid = branch.getUuid();
-			List<String> indexLanguages = version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList());
-
-			return schemaDao.getFieldContainers(version, branchUuid, bucket)
-				.filter(c -> contentDao.isType(c, type, branchUuid))
-				.map(HibNodeFieldContainer.class::cast)
-				.collect(Collectors.groupingBy(content -> {
-					String languageTag = content.getLanguageTag();
-					return ContentDao.composeIndexName(
-						branch.getProject().getUuid(),
-						branchUuid,
-						version.getUuid(),
-						type,
-						indexLanguages.contains(languageTag)
-							? languageTag
-							: null, version.getMicroschemaVersionHash(branch));
-				},
-					Collectors.toMap(c -> contentDao.getNode(c).getUuid() + "-" + c.getLanguageTag(), Function.identity())));
+			BucketChecksum checksum = new BucketChecksum();
+			streamContents(ctx, branch, version, type, bucket, indexName)
+				.forEach(c -> checksum.add(getDocumentId(contentDao, c), generateVersion(c, branchUuid, type)));
+			return checksum;
 		});
 	}
 
+	private Stream<HibNodeFieldContainer> streamContents(CommonTx tx, HibBranch branch, HibSchemaVersion version, ContainerType type, Bucket bucket,
+		String indexName) {
+		ContentDao contentDao = tx.contentDao();
+		PersistingSchemaDao schemaDao = tx.schemaDao();
+		String branchUuid = branch.getUuid();
+		String projectUuid = branch.getProject().getUuid();
+		String microschemaVersionHash = version.getMicroschemaVersionHash(branch);
+		List<String> indexLanguages = version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList());
+
+		return schemaDao.getFieldContainers(version, branchUuid, bucket)
+			.filter(c -> contentDao.isType(c, type, branchUuid))
+			.map(HibNodeFieldContainer.class::cast)
+			.filter(content -> {
+				String languageTag = content.getLanguageTag();
+				return indexName.equals(ContentDao.composeIndexName(
+					projectUuid,
+					branchUuid,
+					version.getUuid(),
+					type,
+					indexLanguages.contains(languageTag)
+						? languageTag
+						: null, microschemaVersionHash));
+			});
+	}
+
+	private String getDocumentId(ContentDao contentDao, HibNodeFieldContainer content) {
+		return contentDao.getNode(content).getUuid() + "-" + content.getLanguageTag();
+	}
+
 	/**
-	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
+	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. The id also contains the language.
 	 */
 	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
-		}
+	protected String getDocumentId(JsonObject hit) {
+		return hit.getString("_id");
 	}
 
 	private Flowable<SearchRequest> diffAndSync(HibProject project, HibBranch branch, HibSchemaVersion version, ContainerType type, Optional<Pattern> indexPattern) {
@@ -418,62 +455,112 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 		return buckets.flatMap(bucket -> {
 			log.info("Handling sync of {} for project {}, branch {}, version {} of schema {}, type {}", bucket,
 					projectName, branchName, versionNumber, schemaName, typeName);
-			return diffAndSync(project, branch, version, type, bucket, indexPattern);
-		}, 1);
+			return diffAndSync(project, branch, version, type, bucket, indexPattern).subscribeOn(Schedulers.io());
+		}, getSyncConcurrency());
 	}
 
 	private Flowable<SearchRequest> diffAndSync(HibProject project, HibBranch branch, HibSchemaVersion version, ContainerType type, Bucket bucket, Optional<Pattern> indexPattern) {
-		return Flowable.defer(() -> {
-			Map<String, Map<String, HibNodeFieldContainer>> sourceNodesPerIndex = loadVersionsFromGraph(branch, version, type, bucket);
-			return Flowable.fromIterable(getIndexNames(project, branch, version, type))
-				.filter(indexName -> {
-					boolean match = indexPattern.orElse(MATCH_ALL).matcher(indexName).matches();
-					if (!match && log.isDebugEnabled()) {
-						log.debug("Index {} does not match pattern {} and will be omitted from sync", indexName, indexPattern);
-					}
-					return match;
-				})
-				.flatMap(indexName -> loadVersionsFromIndex(indexName, bucket).flatMapPublisher(sinkVersions -> {
-					log.debug("Handling index sync on handler {" + getClass().getName() + "} for bucket {" + bucket + "}");
-					Map<String, HibNodeFieldContainer> sourceNodes = sourceNodesPerIndex.getOrDefault(indexName, Collections.emptyMap());
-					String branchUuid = branch.getUuid();
-
-					Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
-						.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
-
-					// 3. Diff the maps
-					MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-					if (diff.areEqual()) {
-						return Flowable.empty();
-					}
-					Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-					Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-					Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
+		return Flowable.defer(() -> Flowable.fromIterable(getIndexNames(project, branch, version, type))
+			.filter(indexName -> {
+				boolean match = indexPattern.orElse(MATCH_ALL).matcher(indexName).matches();
+				if (!match && log.isDebugEnabled()) {
+					log.debug("Index {} does not match pattern {} and will be omitted from sync", indexName, indexPattern);
+				}
+				return match;
+			})
+			.concatMap(indexName -> {
+				if (options.getSearchOptions().getSyncChecksumLeafSize() > 0) {
+					return diffChecksumsAndSync(branch, version, type, bucket, indexName);
+				} else {
+					return diffVersionsAndSync(branch, version, type, bucket, indexName);
+				}
+			}));
+	}
+
+	/**
+	 * Compare the checksums of the bucket in the graph and in the index. Buckets with differing checksums are split into sub buckets until the versions of the
+	 * single documents can be compared within the configured leaf size.
+	 *
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @param bucket
+	 * @param indexName
+	 * @return
+	 */
+	private Flowable<SearchRequest> diffChecksumsAndSync(HibBranch branch, HibSchemaVersion version, ContainerType type, Bucket bucket, String indexName) {
+		return loadChecksumFromIndex(indexName, bucket).flatMapPublisher(sinkChecksum -> {
+			BucketChecksum sourceChecksum = loadChecksumFromGraph(branch, version, type, bucket, indexName);
+			if (sourceChecksum.equals(sinkChecksum)) {
+				if (log.isDebugEnabled()) {
+					log.debug("Checksums of {" + bucket + "} match. Index {" + indexName + "} is in sync for this bucket.");
+				}
+				return Flowable.empty();
+			}
+			long count = Math.max(sourceChecksum.count(), sinkChecksum.count());
+			if (count > options.getSearchOptions().getSyncChecksumLeafSize() && bucket.end() > bucket.start()) {
+				if (log.isDebugEnabled()) {
+					log.debug("Checksums of {" + bucket + "} differ for index {" + indexName + "}. Graph: {" + sourceChecksum + "}, index: {" + sinkChecksum
+						+ "}. Splitting the bucket.");
+				}
+				return Flowable.fromIterable(bucket.split(CHECKSUM_BUCKET_FANOUT))
+					.concatMap(subBucket -> diffChecksumsAndSync(branch, version, type, subBucket, indexName));
+			}
+			return diffVersionsAndSync(branch, version, type, bucket, indexName);
+		});
+	}
+
+	/**
+	 * Compare the versions of all documents of the bucket in the graph and in the index.
+	 *
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @param bucket
+	 * @param indexName
+	 * @return
+	 */
+	private Flowable<SearchRequest> diffVersionsAndSync(HibBranch branch, HibSchemaVersion version, ContainerType type, Bucket bucket, String indexName) {
+		return loadVersionsFromIndex(indexName, bucket).flatMapPublisher(sinkVersions -> {
+			log.debug("Handling index sync on handler {" + getClass().getName() + "} for bucket {" + bucket + "}");
+			Map<String, HibNodeFieldContainer> sourceNodes = loadVersionsFromGraph(branch, version, type, bucket, indexName);
+			String branchUuid = branch.getUuid();
 
-					log.debug("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-					log.debug("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-					log.debug("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
+			Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
 
-					meters.getInsertMeter().addPending(needInsertionInES.size());
-					meters.getDeleteMeter().addPending(needRemovalInES.size());
-					meters.getUpdateMeter().addPending(needUpdateInEs.size());
+			// 3. Diff the maps
+			MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
+			if (diff.areEqual()) {
+				return Flowable.empty();
+			}
+			Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
+			Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
+			Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
 
-					io.reactivex.functions.Function<Action, io.reactivex.functions.Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-						JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-						return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-					};
+			log.debug("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
+			log.debug("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
+			log.debug("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
 
-					Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-						.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
+			meters.getInsertMeter().addPending(needInsertionInES.size());
+			meters.getDeleteMeter().addPending(needRemovalInES.size());
+			meters.getUpdateMeter().addPending(needUpdateInEs.size());
 
-					Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-						.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
+			io.reactivex.functions.Function<Action, io.reactivex.functions.Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
+				JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
+				return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
+			};
 
-					Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-						.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+			Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
+				.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
 
-					return Flowable.merge(toInsert, toUpdate, toDelete);
-				}));
+			Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
+				.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
+
+			Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
+				.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+
+			return Flowable.merge(toInsert, toUpdate, toDelete);
 		});
 	}
 
@@ -6,16 +6,18 @@ import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshErr
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import org.apache.commons.lang3.StringUtils;
-
 import com.gentics.elasticsearch.client.ElasticsearchClient;
 import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
@@ -30,6 +32,7 @@ import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.PageImpl;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.db.Database;
+import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.PagingMetaInfo;
 import com.gentics.mesh.core.rest.node.NodeResponse;
@@ -97,13 +100,8 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 			log.debug("Using parsed query {" + queryJson.encodePrettily() + "}");
 		}
 
-		JsonObject queryOption = new JsonObject();
-		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
-		log.debug("Using options {" + queryOption.encodePrettily() + "}");
-
 		try {
-			RequestBuilder<JsonObject> searchRequest = client.multiSearch(queryOption, queryJson);
+			RequestBuilder<JsonObject> searchRequest = client.multiSearch(createQueryOptions(indices), queryJson);
 			JsonObject response = searchRequest.sync();
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
@@ -122,16 +120,17 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 				long totalCount = extractTotalCount(hitsInfo);
 				List<NodeContent> elementList = new ArrayList<>();
 				JsonArray hits = hitsInfo.getJsonArray("hits");
+				Set<String> uuids = new HashSet<>();
+				for (int i = 0; i < hits.size(); i++) {
+					uuids.add(getUuid(hits.getJsonObject(i)));
+				}
+				Map<String, HibNode> elements = loadElements(uuids, getIndexHandler().elementLoader());
 				for (int i = 0; i < hits.size(); i++) {
 					JsonObject hit = hits.getJsonObject(i);
+					String languageTag = getLanguage(hit);
+					String uuid = getUuid(hit);
 
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String languageTag = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					HibNode element = getIndexHandler().elementLoader().apply(uuid);
+					HibNode element = elements.get(uuid);
 					if (element == null) {
 						log.warn("Object could not be found for uuid {" + uuid + "}");
 						totalCount--;
@@ -179,6 +178,29 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 
 	}
 
+	/**
+	 * Load all nodes with a single index lookup. Nodes are always loaded by their uuid regardless of the project, thus the loader for single nodes is not
+	 * needed.
+	 */
+	@Override
+	protected Map<String, HibNode> loadElements(Collection<String> uuids, Function<String, HibNode> elementLoader) {
+		return Tx.get().nodeDao().findByUuidsGlobal(uuids);
+	}
+
+	@Override
+	protected void beforeTransform(List<HibNode> elements, InternalActionContext ac) {
+		Tx.get().nodeDao().beforeTransformPage(toPage(elements), ac);
+	}
+
+	@Override
+	protected void afterTransform(List<HibNode> elements, InternalActionContext ac) {
+		Tx.get().nodeDao().afterTransformPage(toPage(elements), ac);
+	}
+
+	private Page<HibNode> toPage(List<HibNode> elements) {
+		return new PageImpl<>(elements, elements.size(), 1, 1, (long) elements.size());
+	}
+
 	@Override
 	public NodeIndexHandlerImpl getIndexHandler() {
 		return (NodeIndexHandlerImpl) super.getIndexHandler();
@@ -26,10 +26,14 @@ import com.gentics.mesh.core.rest.event.search.SearchIndexSyncEventModel;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.EventBatchEnvelope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
+import com.gentics.mesh.search.index.metric.BulkMeters;
+import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.gentics.mesh.search.verticle.bulk.BulkDispatcher;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
@@ -62,7 +66,7 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  * <li>Event received</li>
  * <li>Generate necessary requests out of the event</li>
  * <li>Bulk bulkable requests together</li>
- * <li>Send request to elasticsearch</li>
+ * <li>Send request to elasticsearch. Up to {@link ElasticSearchOptions#getBulkConcurrency()} requests are sent concurrently, see {@link BulkDispatcher}</li>
  * </ol>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
@@ -76,6 +80,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private final RequestDelegator delegator;
 	private final String nodeName;
 	private final boolean clusteringEnabled;
+	private final BulkMeters bulkMeters;
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
@@ -90,7 +95,8 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		IdleChecker idleChecker,
 		SyncEventHandler syncEventHandler,
 										MeshOptions options,
-										RequestDelegator delegator) {
+										RequestDelegator delegator,
+										SyncMetersFactory syncMetersFactory) {
 		this.mainEventhandler = mainEventhandler;
 		this.searchProvider = searchProvider;
 		this.idleChecker = idleChecker;
@@ -99,6 +105,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		this.delegator = delegator;
 		this.nodeName = options.getNodeName();
 		this.clusteringEnabled = options.getClusterOptions().isEnabled();
+		this.bulkMeters = syncMetersFactory.getBulkMeters();
 	}
 
 	@Override
@@ -117,17 +124,19 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		// message header identifying the sender.
 		vertxHandlers = mainEventhandler.handledEvents()
 			.stream()
-			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message) && isLocal(message)) {
-					idleChecker.incrementAndGetTransformations();
-					// Only continue processing the event if elasticsearch is available.
-					elasticsearchAvailable.filter(available -> available)
-						.firstOrError()
-						.subscribe(ignore -> {
-							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
-							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
-						});
+			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, envelope -> {
+				for (Message<JsonObject> message : EventBatchEnvelope.unpack(envelope)) {
+					if (!stopped.get() && !isDroppedEvent(message) && isLocal(message)) {
+						idleChecker.incrementAndGetTransformations();
+						// Only continue processing the event if elasticsearch is available.
+						elasticsearchAvailable.filter(available -> available)
+							.firstOrError()
+							.subscribe(ignore -> {
+								waitForSync.set(false);
+								log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
+								requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
+							});
+					}
 				}
 			}))
 			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<JsonObject>>) MessageConsumer::new)
@@ -215,13 +224,13 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			Duration.ofMillis(options.getBulkDebounceTime()),
 			options.getBulkLimit(),
 			options.getBulkLengthLimit());
+		BulkDispatcher dispatcher = new BulkDispatcher(options.getBulkConcurrency(), bulkMeters);
 		requests
 			.compose(this::bufferEvents)
 			.concatMap(this::generateRequests, 1)
 			.lift(bulker)
-			.concatMap(request -> this.sendRequest(request)
-				// To make sure the subscription stays alive
-				.onErrorResumeNext(Flowable.empty()), 1)
+			// Errors of the sent requests are handled by the dispatcher to make sure the subscription stays alive
+			.concatMapCompletable(request -> dispatcher.dispatch(request, this::sendRequest), 1)
 			// To make sure the subscription stays alive
 			.doOnError(err -> log.info("Error at end of ES process chain", err))
 			.retry()
@@ -269,7 +278,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 				log.info("Elasticsearch is available again. Starting sync.");
 				elasticsearchAvailable.onNext(available);
 			});
-		vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, new JsonObject(JsonUtil.toJson(new SearchIndexSyncEventModel())));
+		vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, JsonUtil.toJsonObject(new SearchIndexSyncEventModel()));
 	}
 
 	/**
@@ -392,6 +401,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 						log.trace("Request+{}", request);
 					}
 					idleChecker.addAndGetRequests(request.requestCount());
+					bulkMeters.addQueued(request.requestCount());
 				})
 				.retryWhen(retryWithDelay(
 					Duration.ofMillis(options.getRetryInterval()),
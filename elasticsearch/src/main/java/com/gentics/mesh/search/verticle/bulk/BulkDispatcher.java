@@ -0,0 +1,173 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.search.index.metric.BulkMeters;
+
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+import io.reactivex.Flowable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Dispatches the requests which are emitted by the {@link BulkOperator} to Elasticsearch. Up to the configured amount of requests will be sent concurrently.
+ * The following rules are used to keep the order of the changes:
+ * <ul>
+ * <li>A bulkable request will not be sent as long as another request which affects one of its documents is in flight.</li>
+ * <li>Non-bulkable requests (e.g. index creation) will only be sent once all other requests have completed. No other request will be sent until they have
+ * completed.</li>
+ * <li>Requests are dispatched in the order in which they have been received. A request which has to wait will also hold back all following requests.</li>
+ * </ul>
+ * The {@link Completable} which is returned by {@link #dispatch(SearchRequest, Function)} completes as soon as the request has been sent. It is meant to be
+ * used with <code>concatMapCompletable</code> so that the upstream is only requested once the previous request could be dispatched.
+ */
+public class BulkDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(BulkDispatcher.class);
+
+	private final int concurrency;
+	private final BulkMeters meters;
+
+	private final Set<String> inFlightKeys = new HashSet<>();
+	private int inFlight = 0;
+	private boolean exclusive = false;
+	private Waiting waiting;
+
+	public BulkDispatcher(int concurrency, BulkMeters meters) {
+		this.concurrency = Math.max(1, concurrency);
+		this.meters = meters;
+	}
+
+	/**
+	 * Wait until the request may be sent and send it by subscribing to the flowable which is returned by the sender.
+	 *
+	 * @param request
+	 * @param sender
+	 * @return Completable which completes once the request has been sent
+	 */
+	public Completable dispatch(SearchRequest request, Function<SearchRequest, Flowable<?>> sender) {
+		return admit(request).andThen(Completable.fromAction(() -> {
+			meters.started(request.requestCount());
+			Timer.Sample sample = Timer.start();
+			sender.apply(request)
+				.ignoreElements()
+				.onErrorComplete()
+				.doFinally(() -> {
+					meters.completed(sample);
+					release(request);
+				})
+				.subscribe();
+		}));
+	}
+
+	/**
+	 * Return a completable which completes once the request may be sent.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private Completable admit(SearchRequest request) {
+		return Completable.create(emitter -> {
+			boolean admitted;
+			synchronized (this) {
+				admitted = tryAdmit(request);
+				if (!admitted) {
+					log.trace("Holding back request {} until conflicting requests have completed", request);
+					waiting = new Waiting(request, emitter);
+				}
+			}
+			if (admitted) {
+				emitter.onComplete();
+			} else {
+				emitter.setCancellable(() -> {
+					synchronized (this) {
+						if (waiting != null && waiting.emitter == emitter) {
+							waiting = null;
+						}
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Release the resources of the completed request and admit the waiting request if possible.
+	 *
+	 * @param request
+	 */
+	private void release(SearchRequest request) {
+		Waiting admitted = null;
+		synchronized (this) {
+			inFlight--;
+			if (request instanceof Bulkable) {
+				inFlightKeys.removeAll(((Bulkable) request).documentKeys());
+			} else {
+				exclusive = false;
+			}
+			if (waiting != null && tryAdmit(waiting.request)) {
+				admitted = waiting;
+				waiting = null;
+			}
+		}
+		if (admitted != null) {
+			admitted.emitter.onComplete();
+		}
+	}
+
+	/**
+	 * Check whether the request may be sent and reserve the resources for it. Must be called while holding the lock.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private boolean tryAdmit(SearchRequest request) {
+		if (exclusive || inFlight >= concurrency) {
+			return false;
+		}
+		if (request instanceof Bulkable) {
+			Collection<String> keys = ((Bulkable) request).documentKeys();
+			for (String key : keys) {
+				if (inFlightKeys.contains(key)) {
+					return false;
+				}
+			}
+			inFlightKeys.addAll(keys);
+		} else {
+			if (inFlight > 0) {
+				return false;
+			}
+			exclusive = true;
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * Return the amount of requests which are currently in flight.
+	 *
+	 * @return
+	 */
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * A request which waits for being admitted.
+	 */
+	private static class Waiting {
+		private final SearchRequest request;
+		private final CompletableEmitter emitter;
+
+		Waiting(SearchRequest request, CompletableEmitter emitter) {
+			this.request = request;
+			this.emitter = emitter;
+		}
+	}
+}
@@ -36,7 +36,6 @@ import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.Vertx;
-import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -64,7 +63,7 @@ public class SyncEventHandler implements EventHandler {
 	public static void invokeSync(Vertx vertx, String indexPattern) {
 		SearchIndexSyncEventModel eventModel = new SearchIndexSyncEventModel().setIndexPattern(indexPattern);
 		log.info("Sending sync event for index pattern {}", eventModel.getIndexPattern());
-		vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, new JsonObject(JsonUtil.toJson(eventModel)));
+		vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, JsonUtil.toJsonObject(eventModel));
 	}
 
 	/**
@@ -0,0 +1,95 @@
+package com.gentics.madl.annotations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.gentics.madl.annotations.processor.GraphElementProcessor;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Index of the classes which were annotated with {@link GraphElement} and of their sub types. The index files are generated by the
+ * {@link GraphElementProcessor} at build time and replace the scanning of the classpath.
+ */
+public final class GraphElementIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphElementIndex.class);
+
+	/**
+	 * Location of the index files. Every module which contains graph elements provides its own index file.
+	 */
+	public static final String INDEX_LOCATION = "META-INF/madl/graph-elements";
+
+	private GraphElementIndex() {
+	}
+
+	/**
+	 * Load the indexed graph element classes of the given packages.
+	 *
+	 * @param classLoader
+	 *            Class loader which is used to locate the index files and to load the classes
+	 * @param basePaths
+	 *            Packages which contain the graph elements
+	 * @return Map of the simple class names to the classes or null if no index file could be found
+	 */
+	public static Map<String, Class<?>> load(ClassLoader classLoader, String... basePaths) {
+		Enumeration<URL> indexFiles;
+		try {
+			indexFiles = classLoader.getResources(INDEX_LOCATION);
+		} catch (IOException e) {
+			log.warn("Could not locate the graph element index files", e);
+			return null;
+		}
+		if (!indexFiles.hasMoreElements()) {
+			return null;
+		}
+
+		Map<String, Class<?>> classes = new HashMap<>();
+		while (indexFiles.hasMoreElements()) {
+			URL indexFile = indexFiles.nextElement();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexFile.openStream(), StandardCharsets.UTF_8))) {
+				String className;
+				while ((className = reader.readLine()) != null) {
+					className = className.trim();
+					if (!className.isEmpty() && matches(className, basePaths)) {
+						add(classes, classLoader, className);
+					}
+				}
+			} catch (IOException e) {
+				throw new RuntimeException("Could not read the graph element index {" + indexFile + "}", e);
+			}
+		}
+		return classes;
+	}
+
+	private static boolean matches(String className, String... basePaths) {
+		for (String basePath : basePaths) {
+			if (className.startsWith(basePath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void add(Map<String, Class<?>> classes, ClassLoader classLoader, String className) {
+		Class<?> clazz;
+		try {
+			clazz = Class.forName(className, false, classLoader);
+		} catch (ClassNotFoundException e) {
+			// Index files of incremental builds may still list removed classes
+			log.warn("The indexed graph element {" + className + "} could not be found");
+			return;
+		}
+		Class<?> previous = classes.putIfAbsent(clazz.getSimpleName(), clazz);
+		if (previous != null && !previous.equals(clazz)) {
+			log.warn("The graph elements {" + previous.getName() + "} and {" + className + "} share the same simple name. Using {" + previous.getName() + "}");
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.gentics.madl.annotations.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementIndex;
+
+/**
+ * Annotation processor which writes the {@link GraphElementIndex} of a module. The index contains all compiled types which are annotated with
+ * {@link GraphElement} or which extend or implement such a type.
+ */
+@SupportedAnnotationTypes("*")
+public class GraphElementProcessor extends AbstractProcessor {
+
+	private final Set<String> classNames = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			if (!classNames.isEmpty()) {
+				writeIndex();
+			}
+		} else {
+			for (Element element : roundEnv.getRootElements()) {
+				collect(element);
+			}
+		}
+		// Other processors may handle the same annotations
+		return false;
+	}
+
+	private void collect(Element element) {
+		if (!(element instanceof TypeElement)) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		if (isGraphElement(type)) {
+			classNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+		}
+		for (Element enclosed : type.getEnclosedElements()) {
+			collect(enclosed);
+		}
+	}
+
+	private boolean isGraphElement(TypeElement type) {
+		if (type.getAnnotation(GraphElement.class) != null) {
+			return true;
+		}
+		if (isGraphElement(type.getSuperclass())) {
+			return true;
+		}
+		for (TypeMirror iface : type.getInterfaces()) {
+			if (isGraphElement(iface)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isGraphElement(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+		return isGraphElement((TypeElement) ((DeclaredType) type).asElement());
+	}
+
+	/**
+	 * Write the index. Entries of an existing index are kept, since incremental builds only process the changed sources.
+	 */
+	private void writeIndex() {
+		try {
+			readExistingIndex();
+			FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", GraphElementIndex.INDEX_LOCATION);
+			try (Writer writer = index.openWriter()) {
+				for (String className : classNames) {
+					writer.write(className);
+					writer.write("\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the graph element index: " + e.getMessage());
+		}
+	}
+
+	private void readExistingIndex() {
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", GraphElementIndex.INDEX_LOCATION);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (!line.trim().isEmpty()) {
+						classNames.add(line.trim());
+					}
+				}
+			}
+		} catch (IOException e) {
+			// No index has been written yet
+		}
+	}
+}
@@ -8,9 +8,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.reflections.Reflections;
 
 import com.gentics.madl.annotations.GraphElement;
+import com.gentics.madl.annotations.GraphElementIndex;
 
 /**
- * Type cache which also provides resolving methods which cache the result.
+ * Type cache which also provides resolving methods which cache the result. The classes are resolved via the {@link GraphElementIndex}. The classpath is only
+ * scanned if a class is not indexed.
  */
 public class ElementTypeClassCache {
 
@@ -19,6 +21,10 @@ public class ElementTypeClassCache {
 
 	public ElementTypeClassCache(String... packagePaths) {
 		this.basePaths = packagePaths;
+		Map<String, Class<?>> indexedClasses = GraphElementIndex.load(getClass().getClassLoader(), packagePaths);
+		if (indexedClasses != null) {
+			classStringCache.putAll(indexedClasses);
+		}
 	}
 
 	public Class<?> forName(final String className) {
@@ -0,0 +1,34 @@
+package com.gentics.madl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.gentics.madl.annotations.GraphElementIndex;
+import com.gentics.madl.test.model.TestVertex;
+
+public class GraphElementIndexTest {
+
+	@Test
+	public void testIndex() {
+		Map<String, Class<?>> classes = GraphElementIndex.load(getClass().getClassLoader(), "com.gentics.madl.test.model");
+		assertNotNull("The index should have been generated during the compilation", classes);
+		assertEquals(TestVertex.class, classes.get("TestVertex"));
+	}
+
+	@Test
+	public void testBasePathFilter() {
+		Map<String, Class<?>> classes = GraphElementIndex.load(getClass().getClassLoader(), "com.gentics.madl.bogus");
+		assertNotNull(classes);
+		assertTrue(classes.isEmpty());
+	}
+
+	@Test
+	public void testTypeCache() {
+		assertEquals(TestVertex.class, new ElementTypeClassCache("com.gentics.madl.test.model").forName("TestVertex"));
+	}
+}
@@ -0,0 +1,29 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+/**
+ * Cache for the webroot paths of nodes which are used when resolving mesh links. The cache shares its invalidation with the {@link WebrootPathCache}.
+ */
+public interface LinkPathCache extends MeshCache<String, String> {
+
+	/**
+	 * Return the cached path of the node.
+	 * 
+	 * @param nodeUuid
+	 *            Uuid of the target node
+	 * @param branchUuid
+	 *            Uuid of the used branch
+	 * @param type
+	 *            Type of the resolved content
+	 * @param languageTags
+	 *            Language tags which are used to resolve the path
+	 * @param loader
+	 *            Loader which is used when the path is not cached. The loader may return null if the path could not be resolved
+	 * @return Path or null if the path could not be resolved
+	 */
+	String getPath(String nodeUuid, String branchUuid, ContainerType type, String[] languageTags, Supplier<String> loader);
+
+}
@@ -0,0 +1,32 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.user.MeshAuthUserSnapshot;
+
+/**
+ * Cache for the snapshots of authenticated users. The cache is used to authenticate requests without loading the user from the graph. Entries are invalidated
+ * whenever users, groups or roles are changed.
+ */
+public interface MeshAuthUserCache extends MeshCache<String, MeshAuthUserSnapshot> {
+
+	/**
+	 * Return the cached snapshot of the user with the given uuid.
+	 *
+	 * @param uuid
+	 * @param loader
+	 *            Loader which is used when the user is not cached. The loader may return null if the user could not be found
+	 * @return Snapshot or null if the user could not be found
+	 */
+	MeshAuthUserSnapshot getByUuid(String uuid, Function<String, MeshAuthUserSnapshot> loader);
+
+	/**
+	 * Return the cached snapshot of the user with the given username.
+	 *
+	 * @param username
+	 * @param loader
+	 *            Loader which is used when the user is not cached. The loader may return null if the user could not be found
+	 * @return Snapshot or null if the user could not be found
+	 */
+	MeshAuthUserSnapshot getByUsername(String username, Function<String, MeshAuthUserSnapshot> loader);
+}
@@ -0,0 +1,68 @@
+package com.gentics.mesh.cache;
+
+import java.util.List;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+
+/**
+ * Cache for navigation subtrees. A subtree is keyed by the root node, the branch, the container type, the languages, the role set of the requesting user and
+ * the request parameters (e.g. the maximum depth), since all of them affect which nodes are part of the navigation and how they are rendered. The cache does
+ * not check the permission on the root node, thus the caller must load the root node with the required permission before the cache is used.
+ */
+public interface NavigationCache extends MeshCache<String, NavigationCache.Entry> {
+
+	/**
+	 * Create the key of the navigation subtree. An active transaction is required in order to determine the role set of the user.
+	 *
+	 * @param ac
+	 *            Context of the request which provides the user and the parameters
+	 * @param root
+	 *            Root node of the navigation
+	 * @param branchUuid
+	 *            Uuid of the used branch
+	 * @param type
+	 *            Type of the used contents
+	 * @param languages
+	 *            Requested languages
+	 * @return
+	 */
+	String createKey(InternalActionContext ac, HibNode root, String branchUuid, ContainerType type, List<String> languages);
+
+	/**
+	 * Store the navigation subtree.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #createKey(InternalActionContext, HibNode, String, ContainerType, List)}
+	 * @param etag
+	 *            ETag of the navigation
+	 * @param response
+	 *            Rendered navigation. The response must not be modified once it was stored.
+	 */
+	void store(String key, String etag, NavigationResponse response);
+
+	/**
+	 * Cached navigation subtree.
+	 */
+	class Entry {
+
+		private final String etag;
+
+		private final NavigationResponse response;
+
+		public Entry(String etag, NavigationResponse response) {
+			this.etag = etag;
+			this.response = response;
+		}
+
+		public String getETag() {
+			return etag;
+		}
+
+		public NavigationResponse getResponse() {
+			return response;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.node.HibNode;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Cache for serialized node responses. The responses are keyed by the ETag of the node, the role set of the requesting user and the request parameters, since
+ * all of them affect the rendered response. The cache does not check any permissions, thus the caller must load the node with the required permission before
+ * the cache is used.
+ */
+public interface NodeResponseCache extends MeshCache<String, Buffer> {
+
+	/**
+	 * Return the cached response for the node or render and store it. An active transaction is required.
+	 *
+	 * @param ac
+	 *            Context of the request which provides the user and the parameters
+	 * @param node
+	 *            Node which was loaded for the request
+	 * @param etag
+	 *            ETag of the node for the request
+	 * @param renderer
+	 *            Renderer which is used to create the response when it is not cached
+	 * @return Serialized response
+	 */
+	Buffer getResponse(InternalActionContext ac, HibNode node, String etag, Supplier<Buffer> renderer);
+
+}
@@ -1,40 +1,87 @@
 package com.gentics.mesh.cache;
 
 import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import com.gentics.mesh.core.data.perm.InternalPermission;
 
 /**
- * Permission cache for user perms on elements.
+ * Permission cache for user perms on elements. The permissions are cached per element and role set, so that users which share the same roles also share the
+ * cached permissions. The role set of a user is identified by a canonical role set id (see {@link #getRoleSetId(Object, Supplier)}).
  */
-public interface PermissionCache extends MeshCache<String, EnumSet<InternalPermission>> {
+public interface PermissionCache extends MeshCache<String, Map<String, EnumSet<InternalPermission>>> {
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
 	/**
-	 * Check whether the element with the given id has the permission.
-	 * 
+	 * Invalidate the cached permissions on the element with the given id and send an event to inform other instances.
+	 *
+	 * @param elementId
+	 */
+	default void invalidateElement(Object elementId) {
+		invalidateElement(elementId, true);
+	}
+
+	/**
+	 * Invalidate the cached permissions on the element with the given id.
+	 *
+	 * @param elementId
+	 * @param notify
+	 *            Whether to publish an event to inform other nodes in the cluster
+	 */
+	void invalidateElement(Object elementId, boolean notify);
+
+	/**
+	 * Invalidate the cached role sets of all users and send an event to inform other instances. This needs to be done whenever the roles of users change.
+	 */
+	default void clearRoleSets() {
+		clearRoleSets(true);
+	}
+
+	/**
+	 * Invalidate the cached role sets of all users.
+	 *
+	 * @param notify
+	 *            Whether to publish an event to inform other nodes in the cluster
+	 */
+	void clearRoleSets(boolean notify);
+
+	/**
+	 * Return the role set id of the user with the given id.
+	 *
 	 * @param userId
 	 *            User id
+	 * @param roleSetLoader
+	 *            Loader for the role set id which is used when the role set of the user is not cached
+	 * @return Canonical id of the set of roles of the user
+	 */
+	String getRoleSetId(Object userId, Supplier<String> roleSetLoader);
+
+	/**
+	 * Check whether the element with the given id has the permission.
+	 *
+	 * @param roleSetId
+	 *            Role set id of the user
 	 * @param permission
 	 * @param elementId
 	 * @return true, if permission is granted, false if it is not granted and null if not cached
 	 */
-	Boolean hasPermission(Object userId, InternalPermission permission, Object elementId);
+	Boolean hasPermission(String roleSetId, InternalPermission permission, Object elementId);
 
 	/**
 	 * Store the permission in the perm store.
-	 * 
-	 * @param userId
-	 *            User id
+	 *
+	 * @param roleSetId
+	 *            Role set id of the user
 	 * @param permissions
 	 * @param elementId
 	 */
-	void store(Object userId, EnumSet<InternalPermission> permissions, Object elementId);
+	void store(String roleSetId, EnumSet<InternalPermission> permissions, Object elementId);
 
 }
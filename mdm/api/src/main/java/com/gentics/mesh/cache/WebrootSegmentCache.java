@@ -0,0 +1,61 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+/**
+ * Cache for single webroot path segments. The cache maps the segment of a child node below a parent node to the child node and thus forms a path trie per
+ * branch. Entries are only invalidated for the nodes which were affected by an event. A cached child node must still be verified by the caller since the
+ * segment or the parent of the child may have changed in the meantime.
+ */
+public interface WebrootSegmentCache extends MeshCache<String, Object> {
+
+	/**
+	 * Return the cached child of the parent node for the given segment. An active transaction is required in order to load the child.
+	 *
+	 * @param parent
+	 *            Parent node
+	 * @param branchUuid
+	 *            Uuid of the used branch
+	 * @param type
+	 *            Type of the resolved content
+	 * @param segment
+	 *            Decoded path segment
+	 * @return Child node or null if no child is cached
+	 */
+	HibNode getChild(HibNode parent, String branchUuid, ContainerType type, String segment);
+
+	/**
+	 * Store the child of the parent node for the given segment.
+	 *
+	 * @param parent
+	 * @param branchUuid
+	 * @param type
+	 * @param segment
+	 * @param child
+	 */
+	void store(HibNode parent, String branchUuid, ContainerType type, String segment, HibNode child);
+
+	/**
+	 * Remove the entry for the given segment.
+	 *
+	 * @param parent
+	 * @param branchUuid
+	 * @param type
+	 * @param segment
+	 */
+	void invalidate(HibNode parent, String branchUuid, ContainerType type, String segment);
+
+	/**
+	 * Remove all entries which point to the node with the given uuid.
+	 *
+	 * @param nodeUuid
+	 */
+	void invalidateNode(String nodeUuid);
+
+	/**
+	 * Fill the cache with the segments of the latest branches of all projects. The warm-up stops once the maximum size of the cache has been reached.
+	 */
+	void warmUp();
+
+}
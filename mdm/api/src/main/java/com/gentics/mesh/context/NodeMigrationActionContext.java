@@ -54,4 +54,11 @@ public interface NodeMigrationActionContext extends InternalActionContext {
 	 * Validate that all needed information is present in the context.
 	 */
 	void validate();
+
+	/**
+	 * Create a new context for the same migration, which can be used by another migration thread. The encountered conflicts are shared with this context.
+	 * 
+	 * @return forked context
+	 */
+	NodeMigrationActionContext fork();
 }
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import io.vertx.core.json.JsonObject;
@@ -80,6 +82,25 @@ public class Bucket {
 		return bucketId <= end && bucketId >= start;
 	}
 
+	/**
+	 * Split the bucket into sub buckets which together cover the range of this bucket. The sub buckets keep the number of this bucket.
+	 * 
+	 * @param count
+	 *            Amount of sub buckets. Less buckets will be returned if the range of the bucket is smaller.
+	 * @return
+	 */
+	public List<Bucket> split(int count) {
+		long size = (long) end - start + 1;
+		int parts = (int) Math.max(1, Math.min(count, size));
+		List<Bucket> buckets = new ArrayList<>(parts);
+		for (int i = 0; i < parts; i++) {
+			int subStart = (int) (start + size * i / parts);
+			int subEnd = (int) (start + size * (i + 1) / parts - 1);
+			buckets.add(new Bucket(subStart, subEnd, bucketNo, totalBuckets));
+		}
+		return buckets;
+	}
+
 	/**
 	 * Return the current number of this bucket (Useful for progress handling).
 	 * 
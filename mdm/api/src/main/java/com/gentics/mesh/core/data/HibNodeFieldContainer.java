@@ -114,6 +114,20 @@ public interface HibNodeFieldContainer extends HibFieldContainer, HibEditorTrack
 	 */
 	HibNodeFieldContainer getPreviousVersion();
 
+	/**
+	 * Find the container with the given version in the chain of previous versions, starting with this container.
+	 *
+	 * @param version
+	 * @return Found container or null when the chain does not contain the version
+	 */
+	default HibNodeFieldContainer findPreviousVersion(VersionNumber version) {
+		HibNodeFieldContainer container = this;
+		while (container != null && !version.equals(container.getVersion())) {
+			container = container.getPreviousVersion();
+		}
+		return container;
+	}
+
 	/**
 	 * Make this container a clone of the given container. Property Vertices are reused.
 	 *
@@ -419,17 +419,24 @@ public interface ContentDao {
 
 		// TODO refactor the type handling and don't return INITIAL.
 		ContainerType type = forVersion(version);
+		VersionNumber versionNumber = null;
+		if (type == INITIAL) {
+			try {
+				versionNumber = new VersionNumber(version);
+			} catch (IllegalArgumentException e) {
+				// No container can match a malformed version
+				return null;
+			}
+		}
 
 		for (String languageTag : languageTags) {
 
 			// Don't start the version lookup using the initial version. Instead start at the end of the chain and use the DRAFT version instead.
 			fieldContainer = getFieldContainer(node, languageTag, branchUuid, type == INITIAL ? DRAFT : type);
 
-			// Traverse the chain downwards and stop once we found our target version or we reached the end.
+			// Search the chain downwards and stop once we found our target version or we reached the end.
 			if (fieldContainer != null && type == INITIAL) {
-				while (fieldContainer != null && !version.equals(fieldContainer.getVersion().toString())) {
-					fieldContainer = fieldContainer.getPreviousVersion();
-				}
+				fieldContainer = fieldContainer.findPreviousVersion(versionNumber);
 			}
 
 			// We found a container for one of the languages
@@ -440,6 +447,26 @@ public interface ContentDao {
 		return fieldContainer;
 	}
 
+	/**
+	 * Select the container of the first language for which a container exists. This applies the language fallback of
+	 * {@link #findVersion(HibNode, List, String, String)} to containers which were already loaded.
+	 *
+	 * @param containers
+	 *            Loaded containers of a node
+	 * @param languageTags
+	 * @return Next matching field container or null when no language matches
+	 */
+	default HibNodeFieldContainer findForLanguages(List<? extends HibNodeFieldContainer> containers, List<String> languageTags) {
+		for (String languageTag : languageTags) {
+			for (HibNodeFieldContainer container : containers) {
+				if (languageTag.equals(container.getLanguageTag())) {
+					return container;
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Iterate the version chain from the back in order to find the given version.
 	 *
@@ -47,6 +47,22 @@ public interface DaoTransformable<T, R extends RestModel> {
 	 */
 	R transformToRestSync(T element, InternalActionContext ac, int level, String... languageTags);
 
+	/**
+	 * Invoked before the elements of a page are transformed. Implementations may load data which is needed for the transformation of all elements at once.
+	 *
+	 * @param page
+	 * @param ac
+	 */
+	default void beforeTransformPage(Page<? extends HibCoreElement<? extends RestModel>> page, InternalActionContext ac) {}
+
+	/**
+	 * Invoked after the elements of a page were transformed.
+	 *
+	 * @param page
+	 * @param ac
+	 */
+	default void afterTransformPage(Page<? extends HibCoreElement<? extends RestModel>> page, InternalActionContext ac) {}
+
 	/**
 	 * Invoked before retrieving etags for a page
 	 * @param page
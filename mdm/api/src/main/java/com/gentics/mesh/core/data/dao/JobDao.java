@@ -13,6 +13,8 @@ import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -49,6 +51,14 @@ public interface JobDao extends DaoGlobal<HibJob>, DaoTransformable<HibJob, JobR
 	 */
 	Page<? extends HibJob> findAllNoPerm(InternalActionContext ac, PagingParameters pagingInfo, Predicate<HibJob> extraFilter);
 
+	/**
+	 * Find all jobs with the given status. The jobs are located via an index, thus this method can be used to find pending jobs without loading all jobs.
+	 * 
+	 * @param status
+	 * @return
+	 */
+	Result<? extends HibJob> findByStatus(JobStatus status);
+
 	/**
 	 * Enqueue the microschema/micronode migration.
 	 * 
@@ -396,6 +396,15 @@ public interface NodeDao extends Dao<HibNode>, DaoTransformable<HibNode, NodeRes
 	 */
 	HibNode findByUuidGlobal(String uuid);
 
+	/**
+	 * Find the nodes with the given UUIDs globally. The lookup is done in one step which avoids the overhead of separate lookups for each uuid.<br>
+	 * <b>Attention: this method serves administration and link resolving purposes. Don't use it for the node manipulation or general retrieval!</b><br>
+	 * 
+	 * @param uuids
+	 * @return Map of the found nodes by uuid. Uuids for which no node could be found are not contained
+	 */
+	Map<String, HibNode> findByUuidsGlobal(Collection<String> uuids);
+
 	/**
 	 * Count all the nodes globally.<br>
 	 * <b>Attention: this method serves administration purposes!</b>
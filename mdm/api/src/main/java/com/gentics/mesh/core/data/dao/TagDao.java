@@ -1,6 +1,8 @@
 package com.gentics.mesh.core.data.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.branch.HibBranch;
@@ -162,6 +164,15 @@ public interface TagDao extends DaoGlobal<HibTag>, DaoTransformable<HibTag, TagR
 	 */
 	Result<HibTag> getTags(HibNode node, HibBranch branch);
 
+	/**
+	 * Return the tags that were assigned to the given nodes in the given branch. The tags of all nodes are loaded at once.
+	 *
+	 * @param nodes
+	 * @param branch
+	 * @return Tags per node. Nodes without tags are mapped to an empty list
+	 */
+	Map<HibNode, List<HibTag>> getTags(Collection<HibNode> nodes, HibBranch branch);
+
 	/**
 	 * Return a page of all visible tags that are assigned to the node.
 	 *
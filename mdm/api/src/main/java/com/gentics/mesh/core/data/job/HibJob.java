@@ -17,6 +17,7 @@ import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.job.JobWarningList;
+import com.gentics.mesh.core.rest.job.MigrationCheckpoint;
 import com.gentics.mesh.handler.VersionUtils;
 import com.gentics.mesh.util.DateUtils;
 
@@ -48,6 +49,8 @@ public interface HibJob extends HibCoreElement<JobResponse>, HibCreatorTracking
 
 	String WARNING_PROPERTY_KEY = "warnings";
 
+	String CHECKPOINT_PROPERTY_KEY = "checkpoint";
+
 	String ERROR_DETAIL_MAX_LENGTH_MSG = "..." + System.lineSeparator() +
 			"For further details concerning this error please refer to the logs.";
 
@@ -353,6 +356,20 @@ public interface HibJob extends HibCoreElement<JobResponse>, HibCreatorTracking
 	 */
 	void setWarnings(JobWarningList warnings);
 
+	/**
+	 * Return the stored migration checkpoint.
+	 * 
+	 * @return Checkpoint or null if no checkpoint was stored
+	 */
+	MigrationCheckpoint getCheckpoint();
+
+	/**
+	 * Set the migration checkpoint.
+	 * 
+	 * @param checkpoint
+	 */
+	void setCheckpoint(MigrationCheckpoint checkpoint);
+
 	@Override
 	default String getAPIPath(InternalActionContext ac) {
 		return VersionUtils.baseRoute(ac) + "/admin/jobs/" + getUuid();
@@ -22,7 +22,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total amount of pages which the resources that provided this page could return.
 	 * 
-	 * @return
+	 * @return Page count or -1 if the total count was not determined
 	 */
 	long getPageCount();
 
@@ -36,7 +36,7 @@ public interface Page<T> extends Iterable<T> {
 	/**
 	 * Return the total item count which the resource that provided this page could return.
 	 * 
-	 * @return
+	 * @return Total count or -1 if the total count was not requested (see {@link com.gentics.mesh.parameter.PagingParameters#getCount()})
 	 */
 	long getTotalElements();
 
@@ -34,6 +34,23 @@ public interface BinaryStorage {
 	 */
 	Completable storeInTemp(Flowable<Buffer> stream, String temporaryId);
 
+	/**
+	 * Stores the contents of the stream in the temporary location, starting at the given offset. Data which was previously stored after the offset will be
+	 * overwritten. This is used to store the chunks of resumable uploads.
+	 * 
+	 * @param stream
+	 * @param temporaryId
+	 * @param offset
+	 *            Position in the temporary file at which the data will be written
+	 * @return
+	 */
+	default Completable storeInTemp(Flowable<Buffer> stream, String temporaryId, long offset) {
+		if (offset == 0) {
+			return storeInTemp(stream, temporaryId);
+		}
+		return Completable.error(new UnsupportedOperationException("The binary storage does not support chunked uploads."));
+	}
+
 	/**
 	 * Store the stream directly.
 	 * 
@@ -102,6 +119,16 @@ public interface BinaryStorage {
 		return null;
 	}
 
+	/**
+	 * Return the local path to the temporary upload if possible.
+	 * 
+	 * @param temporaryId
+	 * @return
+	 */
+	default String getTemporaryLocalPath(String temporaryId) {
+		return null;
+	}
+
 	/**
 	 * Delete the binary with the given uuid.
 	 * 
@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.data.user;
+
+import java.util.Objects;
+
+/**
+ * Snapshot of the authentication relevant information of a user. The snapshot can be used to authenticate requests without an active transaction.
+ */
+public class MeshAuthUserSnapshot {
+
+	private final MeshAuthUser user;
+
+	private final String uuid;
+
+	private final String username;
+
+	private final boolean enabled;
+
+	private final String apiKeyTokenCode;
+
+	/**
+	 * Create a snapshot of the given user. An active transaction is required in order to load the user information.
+	 *
+	 * @param user
+	 * @return Snapshot or null if the user is null
+	 */
+	public static MeshAuthUserSnapshot of(MeshAuthUser user) {
+		if (user == null) {
+			return null;
+		}
+		HibUser delegate = user.getDelegate();
+		return new MeshAuthUserSnapshot(user, delegate.getUuid(), delegate.getUsername(), delegate.isEnabled(), delegate.getAPIKeyTokenCode());
+	}
+
+	public MeshAuthUserSnapshot(MeshAuthUser user, String uuid, String username, boolean enabled, String apiKeyTokenCode) {
+		this.user = Objects.requireNonNull(user);
+		this.uuid = uuid;
+		this.username = username;
+		this.enabled = enabled;
+		this.apiKeyTokenCode = apiKeyTokenCode;
+	}
+
+	/**
+	 * Return the auth user.
+	 *
+	 * @return
+	 */
+	public MeshAuthUser getUser() {
+		return user;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Return the API token id at the time the snapshot was created.
+	 *
+	 * @return API token id or null if no token was generated
+	 */
+	public String getAPIKeyTokenCode() {
+		return apiKeyTokenCode;
+	}
+}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.endpoint.migration;
 
+import java.util.List;
+
 import com.gentics.mesh.core.data.branch.HibBranchVersionAssignment;
 import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobWarningList;
@@ -66,4 +68,27 @@ public interface MigrationStatusHandler {
 	 * Increment the completion counter.
 	 */
 	void incCompleted(int increment);
+
+	/**
+	 * Set the amount of partitions which are migrated in parallel. The completion counts of the partitions will be restored from the checkpoint of the job,
+	 * if the checkpoint was created for the same amount of partitions.
+	 * 
+	 * @param partitionCount
+	 */
+	void setPartitionCount(int partitionCount);
+
+	/**
+	 * Increment the completion counter of the given partition. This will also increment the overall completion counter.
+	 * 
+	 * @param partition
+	 * @param increment
+	 */
+	void incCompleted(int partition, int increment);
+
+	/**
+	 * Return the completion counts of the partitions.
+	 * 
+	 * @return List of completion counts. The list is empty when the migration is not partitioned
+	 */
+	List<Long> getPartitionCompletionCounts();
 }
@@ -13,13 +13,24 @@ public interface WriteLock extends AutoCloseable {
 	void close();
 
 	/**
-	 * Return the write lock that is configured according to the provided context.
+	 * Return the write lock that is configured according to the provided context. The lock will use the {@link WriteLockScope#GLOBAL} scope.
 	 * 
 	 * @param ac
 	 * @return Fluent API
 	 */
 	WriteLock lock(InternalActionContext ac);
 
+	/**
+	 * Return the write lock for the given scope. Implementations which do not support scoped locks will use the global lock.
+	 * 
+	 * @param ac
+	 * @param scope
+	 * @return Fluent API
+	 */
+	default WriteLock lock(InternalActionContext ac, WriteLockScope scope) {
+		return lock(ac);
+	}
+
 	/**
 	 * Are the writes to DB synchronized?
 	 * 
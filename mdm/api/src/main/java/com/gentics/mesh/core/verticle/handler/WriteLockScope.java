@@ -0,0 +1,80 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import java.util.Objects;
+
+/**
+ * Scope of a {@link WriteLock}. Writes with the global scope exclude all other writes. Writes with a project scope only exclude writes to the same project and
+ * writes with the global scope.
+ */
+public final class WriteLockScope {
+
+	/**
+	 * Scope for structural changes (e.g. schemas, branches, roles and permissions) which may affect all projects.
+	 */
+	public static final WriteLockScope GLOBAL = new WriteLockScope(null);
+
+	private final String projectUuid;
+
+	private WriteLockScope(String projectUuid) {
+		this.projectUuid = projectUuid;
+	}
+
+	/**
+	 * Create the scope for writes which only affect the contents of the given project.
+	 *
+	 * @param projectUuid
+	 * @return
+	 */
+	public static WriteLockScope project(String projectUuid) {
+		Objects.requireNonNull(projectUuid, "The project uuid must not be null");
+		return new WriteLockScope(projectUuid);
+	}
+
+	/**
+	 * Check whether this is the global scope.
+	 *
+	 * @return
+	 */
+	public boolean isGlobal() {
+		return projectUuid == null;
+	}
+
+	/**
+	 * Return the uuid of the project or null for the global scope.
+	 *
+	 * @return
+	 */
+	public String getProjectUuid() {
+		return projectUuid;
+	}
+
+	/**
+	 * Return the key of the lock for this scope.
+	 *
+	 * @return
+	 */
+	public String key() {
+		return isGlobal() ? WriteLock.GLOBAL_LOCK_KEY : WriteLock.GLOBAL_LOCK_KEY + "-" + projectUuid;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof WriteLockScope)) {
+			return false;
+		}
+		return Objects.equals(projectUuid, ((WriteLockScope) obj).projectUuid);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(projectUuid);
+	}
+
+	@Override
+	public String toString() {
+		return isGlobal() ? "global" : "project:" + projectUuid;
+	}
+}
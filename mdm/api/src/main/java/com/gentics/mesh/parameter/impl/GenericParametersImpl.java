@@ -50,6 +50,12 @@ public class GenericParametersImpl extends AbstractParameters implements Generic
 		etagParam.setDefaultValue("true");
 		parameters.put(FIELDS_PARAM_KEY, etagParam);
 
+		QueryParameter prettyParam = new QueryParameter();
+		prettyParam.setDescription("Parameter which can be used to pretty print the JSON response. By default the response is returned in compact form.");
+		prettyParam.setType(ParamType.BOOLEAN);
+		prettyParam.setDefaultValue("false");
+		parameters.put(PRETTY_PARAM_KEY, prettyParam);
+
 		return parameters;
 	}
 
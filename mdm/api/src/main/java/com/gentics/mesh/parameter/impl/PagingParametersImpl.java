@@ -98,6 +98,16 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// count
+		QueryParameter countParameter = new QueryParameter();
+		countParameter.setDefaultValue("true");
+		countParameter.setDescription(
+			"Parameter which can be used to skip the determination of the total count of elements. The total count and the page count of the response will be -1. This increases the performance for large lists since only the elements of the requested page need to be loaded.");
+		countParameter.setExample("false");
+		countParameter.setRequired(false);
+		countParameter.setType(ParamType.BOOLEAN);
+		parameters.put(COUNT_PARAMETER_KEY, countParameter);
 		return parameters;
 	}
 
@@ -6,7 +6,7 @@ import com.gentics.mesh.parameter.SearchParameters;
 import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -39,7 +39,17 @@ public class SearchParametersImpl extends AbstractParameters implements SearchPa
 		waitParameter.setRequired(false);
 		waitParameter.setType(ParamType.BOOLEAN);
 
-		return Collections.singletonMap(WAIT_PARAMETER_KEY, waitParameter);
+		QueryParameter sourceParameter = new QueryParameter();
+		sourceParameter.setDescription(
+			"Specify whether the documents of the search index should be returned instead of the elements. The documents are returned without loading the elements from the database.");
+		sourceParameter.setExample("true");
+		sourceParameter.setRequired(false);
+		sourceParameter.setType(ParamType.BOOLEAN);
+
+		Map<String, QueryParameter> parameters = new HashMap<>();
+		parameters.put(WAIT_PARAMETER_KEY, waitParameter);
+		parameters.put(SOURCE_PARAMETER_KEY, sourceParameter);
+		return parameters;
 	}
 
 }
@@ -1,8 +1,11 @@
 package com.gentics.mesh.context;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.json.JsonUtil;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -22,7 +25,8 @@ public abstract class AbstractInternalActionContext extends AbstractActionContex
 
 	@Override
 	public void send(RestModel restModel, HttpResponseStatus status) {
-		send(restModel.toJson(), status);
+		boolean minify = !getGenericParameters().getPretty();
+		send(JsonUtil.toJsonBuffer(restModel, minify), status, APPLICATION_JSON_UTF8);
 	}
 
 	@Override
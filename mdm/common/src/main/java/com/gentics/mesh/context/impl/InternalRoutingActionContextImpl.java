@@ -20,6 +20,7 @@ import com.gentics.mesh.util.ETag;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
@@ -75,6 +76,15 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 
 	@Override
 	public void send(String body, HttpResponseStatus status, String contentType) {
+		prepareResponse(status, contentType).end(body);
+	}
+
+	@Override
+	public void send(Buffer body, HttpResponseStatus status, String contentType) {
+		prepareResponse(status, contentType).end(body);
+	}
+
+	private HttpServerResponse prepareResponse(HttpResponseStatus status, String contentType) {
 		HttpServerResponse response = rc.response();
 		response.putHeader(CONTENT_TYPE, contentType);
 
@@ -82,7 +92,7 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		if (!response.headers().contains(CACHE_CONTROL)) {
 			response.putHeader(CACHE_CONTROL, "no-cache");
 		}
-		response.setStatusCode(status.code()).end(body);
+		return response.setStatusCode(status.code());
 	}
 
 	@Override
@@ -1,11 +1,11 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.context.NodeMigrationActionContext;
@@ -31,7 +31,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = ConcurrentHashMap.newKeySet();
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -268,6 +268,19 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 		Objects.requireNonNull(toContainerVersion, "The target schema reference is missing in the context.");
 	}
 
+	@Override
+	public NodeMigrationActionContextImpl fork() {
+		NodeMigrationActionContextImpl fork = new NodeMigrationActionContextImpl();
+		fork.setProject(project);
+		fork.setBranch(branch);
+		fork.setCause(cause);
+		fork.setFromVersion(fromContainerVersion);
+		fork.setToVersion(toContainerVersion);
+		fork.setStatus(status);
+		fork.conflicts = conflicts;
+		return fork;
+	}
+
 	@Override
 	public boolean isPurgeAllowed() {
 		// The purge operation is not allowed during schema migrations. Instead the purge will be executed after containers have been migrated.
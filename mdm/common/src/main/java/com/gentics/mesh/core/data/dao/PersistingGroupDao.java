@@ -159,7 +159,7 @@ public interface PersistingGroupDao extends GroupDao, PersistingDaoGlobal<HibGro
 		}
 		bac.process();
 
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().clearRoleSets();
 	}
 
 	@Override
@@ -188,7 +188,7 @@ public interface PersistingGroupDao extends GroupDao, PersistingDaoGlobal<HibGro
 	@Override
 	default void addUser(HibGroup group, HibUser user) {
 		addUserPersisting(group, user);
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().clearRoleSets();
 	}
 
 	/**
@@ -201,7 +201,7 @@ public interface PersistingGroupDao extends GroupDao, PersistingDaoGlobal<HibGro
 	@Override
 	default void removeUser(HibGroup group, HibUser user) {
 		removeUserPersisting(group, user);
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().clearRoleSets();
 	}
 
 	/**
@@ -214,7 +214,7 @@ public interface PersistingGroupDao extends GroupDao, PersistingDaoGlobal<HibGro
 	@Override
 	default void addRole(HibGroup group, HibRole role) {
 		addRolePersisting(group, role);
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().clearRoleSets();
 	}
 
 	/**
@@ -227,7 +227,7 @@ public interface PersistingGroupDao extends GroupDao, PersistingDaoGlobal<HibGro
 	@Override
 	default void removeRole(HibGroup group, HibRole role) {
 		removeRolePersisting(group, role);
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().clearRoleSets();
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.dao;
 
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.NotImplementedException;
 
@@ -14,6 +15,7 @@ import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobWarningList;
+import com.gentics.mesh.core.rest.job.MigrationCheckpoint;
 import com.gentics.mesh.event.EventQueueBatch;
 
 import io.vertx.core.logging.Logger;
@@ -57,6 +59,13 @@ public interface PersistingJobDao extends JobDao, PersistingDaoGlobal<HibJob> {
 		}
 
 		Map<String, String> props = response.getProperties();
+		MigrationCheckpoint checkpoint = job.getCheckpoint();
+		if (checkpoint != null) {
+			props.put("partitionCompletionCounts", checkpoint.getPartitionCompletionCounts().stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(",")));
+		}
+
 		HibBranch branch = job.getBranch();
 		if (branch != null) {
 			props.put("branchName", branch.getName());
@@ -35,15 +35,17 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.gentics.mesh.core.rest.node.FieldMap;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.WebrootSegmentCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.HibCoreElement;
 import com.gentics.mesh.core.data.HibLanguage;
 import com.gentics.mesh.core.data.HibNodeFieldContainer;
 import com.gentics.mesh.core.data.HibNodeFieldContainerEdge;
@@ -51,6 +53,7 @@ import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.diff.FieldContainerChange;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.node.NodeTransformBatch;
 import com.gentics.mesh.core.data.node.field.nesting.HibNodeField;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.perm.InternalPermission;
@@ -63,6 +66,7 @@ import com.gentics.mesh.core.db.CommonTx;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
 import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
@@ -96,7 +100,6 @@ import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.DeleteParameters;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.LinkType;
-import com.gentics.mesh.parameter.NavigationParameters;
 import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PublishParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
@@ -190,6 +193,49 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		return restNode;
 	}
 
+	/**
+	 * Load the parents, children, tags and contents of all nodes of the page with batch reads, when they are requested.
+	 */
+	@Override
+	default void beforeTransformPage(Page<? extends HibCoreElement<? extends RestModel>> page, InternalActionContext ac) {
+		FieldsSet fields = ac.getGenericParameters().getFields();
+		if (page.getSize() < 2 || (fields.has("uuid") && fields.size() == 1)) {
+			return;
+		}
+		Tx tx = Tx.get();
+		List<HibNode> nodes = page.getWrappedList().stream().map(HibNode.class::cast).collect(Collectors.toList());
+		// The branch depends on the project. Pages with nodes of multiple branches are not loaded in batches.
+		Map<String, HibBranch> branches = new HashMap<>();
+		for (HibNode node : nodes) {
+			HibBranch branch = tx.getBranch(ac, node.getProject());
+			branches.put(branch.getUuid(), branch);
+		}
+		if (branches.size() != 1) {
+			return;
+		}
+		HibBranch branch = branches.values().iterator().next();
+		NodeTransformBatch batch = new NodeTransformBatch(branch.getUuid());
+		if (fields.has("parent")) {
+			batch.setParents(getParentNodes(nodes, branch.getUuid()));
+		}
+		if (fields.has("children")) {
+			batch.setChildren(getChildren(nodes, branch.getUuid()));
+		}
+		if (fields.has("tags")) {
+			batch.setTags(tx.tagDao().getTags(nodes, branch));
+		}
+		ContainerType type = forVersion(ac.getVersioningParameters().getVersion());
+		if (type == DRAFT || type == PUBLISHED) {
+			batch.setContainers(type, tx.contentDao().getFieldsContainers(new HashSet<>(nodes), branch.getUuid(), type));
+		}
+		ac.put(NodeTransformBatch.KEY, batch);
+	}
+
+	@Override
+	default void afterTransformPage(Page<? extends HibCoreElement<? extends RestModel>> page, InternalActionContext ac) {
+		ac.data().remove(NodeTransformBatch.KEY);
+	}
+
 	private void setBreadcrumbToRest(HibNode node, InternalActionContext ac, NodeResponse restNode) {
 		List<NodeReference> breadcrumbs = getBreadcrumbNodeStream(node, ac)
 			.map(node1 -> transformToReference(node1, ac))
@@ -338,7 +384,8 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 	 * @return
 	 */
 	private void setParentNodeInfo(HibNode node, InternalActionContext ac, HibBranch branch, NodeResponse restNode) {
-		HibNode parentNode = getParentNode(node, branch.getUuid());
+		NodeTransformBatch batch = NodeTransformBatch.get(ac, branch.getUuid());
+		HibNode parentNode = batch != null && batch.hasParent(node) ? batch.getParent(node) : getParentNode(node, branch.getUuid());
 		if (parentNode != null) {
 			restNode.setParentNode(transformToReference(parentNode, ac));
 		} else {
@@ -386,7 +433,11 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 
 		// First check whether the NGFC for the requested language,branch and version could be found.
 		ContentDao contentDao = Tx.get().contentDao();
-		HibNodeFieldContainer fieldContainer = contentDao.findVersion(node, requestedLanguageTags, branch.getUuid(), versioiningParameters.getVersion());
+		NodeTransformBatch batch = NodeTransformBatch.get(ac, branch.getUuid());
+		List<HibNodeFieldContainer> loadedContainers = batch == null ? null : batch.getContainers(node, forVersion(versioiningParameters.getVersion()));
+		HibNodeFieldContainer fieldContainer = loadedContainers != null
+			? contentDao.findForLanguages(loadedContainers, requestedLanguageTags)
+			: contentDao.findVersion(node, requestedLanguageTags, branch.getUuid(), versioiningParameters.getVersion());
 		if (fieldContainer == null) {
 			// If a published version was requested, we check whether any
 			// published language variant exists for the node, if not, response
@@ -495,7 +546,10 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
 		UserDao userDao = Tx.get().userDao();
 
-		for (HibNode child : getChildren(node, branch.getUuid())) {
+		NodeTransformBatch batch = NodeTransformBatch.get(ac, branch.getUuid());
+		List<HibNode> loadedChildren = batch == null ? null : batch.getChildren(node);
+		Iterable<? extends HibNode> children = loadedChildren != null ? loadedChildren : getChildren(node, branch.getUuid());
+		for (HibNode child : children) {
 			if (userDao.hasPermission(ac.getUser(), child, READ_PERM)) {
 				String schemaName = child.getSchemaContainer().getName();
 				NodeChildrenInfo info = childrenInfo.get(schemaName);
@@ -524,7 +578,10 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 	 * @return
 	 */
 	private void setTagsToRest(HibNode node, InternalActionContext ac, NodeResponse restNode, HibBranch branch) {
-		List<TagReference> list = node.getTags(branch).stream()
+		NodeTransformBatch batch = NodeTransformBatch.get(ac, branch.getUuid());
+		List<HibTag> loadedTags = batch == null ? null : batch.getTags(node);
+		Stream<? extends HibTag> tags = loadedTags != null ? loadedTags.stream() : node.getTags(branch).stream();
+		List<TagReference> list = tags
 			.map(HibTag::transformToReference)
 			.collect(Collectors.toList());
 		restNode.setTags(list);
@@ -644,127 +701,186 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 		if (parameters.getMaxDepth() < 0) {
 			throw error(BAD_REQUEST, "navigation_error_invalid_max_depth");
 		}
-		Tx tx = Tx.get();
+		CommonTx tx = CommonTx.get();
 		// TODO assure that the schema version is correct
 		if (!node.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 			throw error(BAD_REQUEST, "navigation_error_no_container");
 		}
 		List<String> languageList = ac.getNodeParameters().getLanguageList(tx.data().options());
-
-		String etagKey = buildNavigationEtagKey(ac, node, parameters.getMaxDepth(), 0, tx.getBranch(ac, node.getProject()).getUuid(), forVersion(ac
-				.getVersioningParameters().getVersion()), languageList);
-		String etag = ETag.hash(etagKey);
-		ac.setEtag(etag, true);
-		if (ac.matches(etag, true)) {
-			throw new NotModifiedException();
-		} else {
+		HibBranch branch = tx.getBranch(ac, node.getProject());
+		ContainerType type = forVersion(ac.getVersioningParameters().getVersion());
+
+		NavigationCache navigationCache = tx.data().mesh().navigationCache();
+		String cacheKey = navigationCache.isDisabled() ? null : navigationCache.createKey(ac, node, branch.getUuid(), type, languageList);
+		NavigationCache.Entry cached = cacheKey == null ? null : navigationCache.get(cacheKey);
+		if (cached != null) {
+			ac.setEtag(cached.getETag(), true);
+			if (ac.matches(cached.getETag(), true)) {
+				throw new NotModifiedException();
+			}
+			return cached.getResponse();
+		}
+
+		NodeTransformBatch batch = new NodeTransformBatch(branch.getUuid());
+		Map<HibNode, List<HibNode>> navigationChildren = loadNavigationTree(ac, node, parameters.getMaxDepth(), parameters.isIncludeAll(), branch, type,
+			languageList, batch);
+		ac.put(NodeTransformBatch.KEY, batch);
+		try {
+			StringBuilder etagKey = new StringBuilder();
+			buildNavigationEtagKey(ac, node, navigationChildren, etagKey);
+			String etag = ETag.hash(etagKey.toString());
+			ac.setEtag(etag, true);
+			if (ac.matches(etag, true)) {
+				throw new NotModifiedException();
+			}
 			NavigationResponse response = new NavigationResponse();
-			return buildNavigationResponse(ac, node, parameters.getMaxDepth(), 0, response, response, tx.getBranch(ac, node.getProject()).getUuid(),
-					forVersion(ac.getVersioningParameters().getVersion()), languageList);
+			buildNavigationResponse(ac, node, response, navigationChildren);
+			if (cacheKey != null) {
+				navigationCache.store(cacheKey, etag, response);
+			}
+			return response;
+		} finally {
+			ac.data().remove(NodeTransformBatch.KEY);
 		}
 	}
 
 	/**
-	 * Generate the etag key for the requested navigation.
+	 * Load the navigation tree breadth first. The children, permissions and contents of all nodes of one level are loaded with batch reads. The loaded
+	 * parents, children, contents and tags are added to the given batch, so that the nodes of the navigation can be transformed without further reads per
+	 * node.
 	 *
 	 * @param ac
-	 * @param node       Current node to start building the navigation
-	 * @param maxDepth   Maximum depth of navigation
-	 * @param level      Current level of recursion
-	 * @param branchUuid Branch uuid used to extract selected tree structure
-	 * @param type
-	 * @param languages list of languages
-	 * @return
+	 * @param root           Root node of the navigation
+	 * @param maxDepth       Maximum depth of navigation
+	 * @param includeAll     Whether nodes which are no containers should be included
+	 * @param branch         Branch used to load the children
+	 * @param type           Container type used to filter the children
+	 * @param languageTags   Languages of which at least one must exist for a child
+	 * @param batch          Batch which will be filled with the loaded data
+	 * @return Children of the expanded nodes which are visible in the navigation
 	 */
-	private String buildNavigationEtagKey(InternalActionContext ac, HibNode node, int maxDepth, int level, String branchUuid, ContainerType type, List<String> languages) {
-		NavigationParametersImpl parameters = new NavigationParametersImpl(ac);
-		StringBuilder builder = new StringBuilder();
-		builder.append(node.getETag(ac));
+	private Map<HibNode, List<HibNode>> loadNavigationTree(InternalActionContext ac, HibNode root, int maxDepth, boolean includeAll, HibBranch branch,
+		ContainerType type, List<String> languageTags, NodeTransformBatch batch) {
+		CommonTx tx = CommonTx.get();
+		PersistingUserDao userDao = tx.userDao();
+		ContentDao contentDao = tx.contentDao();
+		HibUser user = ac.getUser();
+		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+		String branchUuid = branch.getUuid();
+		boolean loadAllChildren = ac.getGenericParameters().getFields().has("children");
+
+		Map<HibNode, List<HibNode>> navigationChildren = new HashMap<>();
+		Map<HibNode, List<HibNode>> loadedChildren = new HashMap<>();
+		Map<HibNode, HibNode> parents = new HashMap<>();
+		Map<HibNode, List<HibNodeFieldContainer>> containers = new HashMap<>(contentDao.getFieldsContainers(Collections.singleton(root), branchUuid, type));
+		Map<String, Boolean> containerSchemas = new HashMap<>();
+
+		// Nodes of the current level and their zero based navigation level. Nodes which are no containers keep the level of their parent.
+		Map<HibNode, Integer> levels = Collections.singletonMap(root, 0);
+		while (!levels.isEmpty()) {
+			// The children of nodes at the maximum depth are not part of the navigation. They are only loaded for the children info of the node responses.
+			Set<HibNode> expanded = levels.entrySet().stream()
+				.filter(entry -> entry.getValue() < maxDepth)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toSet());
+			Map<HibNode, List<HibNode>> children = getChildren(loadAllChildren ? levels.keySet() : expanded, branchUuid);
+			loadedChildren.putAll(children);
+			if (expanded.isEmpty()) {
+				break;
+			}
 
-		List<HibNode> nodes = getChildren(node, ac.getUser(), branchUuid, languages, type).collect(Collectors.toList());
+			List<HibNode> candidates = expanded.stream().flatMap(node -> children.get(node).stream()).collect(Collectors.toList());
+			userDao.preparePermissionsForElementIds(user, candidates.stream().map(HibNode::getId).collect(Collectors.toList()));
+			Set<HibNode> permitted = candidates.stream()
+				.filter(child -> userDao.hasPermissionForId(user, child.getId(), perm))
+				.collect(Collectors.toSet());
+			Map<HibNode, List<HibNodeFieldContainer>> childContainers = contentDao.getFieldsContainers(permitted, branchUuid, type);
+			containers.putAll(childContainers);
+
+			Map<HibNode, Integer> nextLevels = new HashMap<>();
+			for (HibNode node : expanded) {
+				int level = levels.get(node);
+				List<HibNode> visibleChildren = new ArrayList<>();
+				for (HibNode child : children.get(node)) {
+					if (!permitted.contains(child) || !hasAnyLanguage(childContainers.get(child), languageTags)) {
+						continue;
+					}
+					// TODO assure that the schema version is correct?
+					// TODO also allow navigations over containers
+					HibSchema schema = child.getSchemaContainer();
+					boolean container = containerSchemas.computeIfAbsent(schema.getUuid(), uuid -> schema.getLatestVersion().getSchema().getContainer());
+					if (container) {
+						nextLevels.put(child, level + 1);
+					} else if (includeAll) {
+						nextLevels.put(child, level);
+					} else {
+						continue;
+					}
+					visibleChildren.add(child);
+					parents.put(child, node);
+				}
+				navigationChildren.put(node, visibleChildren);
+			}
+			levels = nextLevels;
+		}
 
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return builder.toString();
+		batch.setParents(parents);
+		batch.setChildren(loadedChildren);
+		if (type == DRAFT || type == PUBLISHED) {
+			batch.setContainers(type, containers);
 		}
-		for (HibNode child : nodes) {
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level + 1, branchUuid, type, languages));
-			} else if (parameters.isIncludeAll()) {
-				builder.append(buildNavigationEtagKey(ac, child, maxDepth, level, branchUuid, type, languages));
-			}
+		if (ac.getGenericParameters().getFields().has("tags")) {
+			batch.setTags(tx.tagDao().getTags(containers.keySet(), branch));
 		}
-		return builder.toString();
+		return navigationChildren;
 	}
 
-	private Stream<? extends HibNode> getChildren(HibNode node, HibUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
-		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
-		UserDao userRoot = Tx.get().userDao();
-		ContentDao contentDao = Tx.get().contentDao();
-
-		Predicate<HibNode> languageFilter = languageTags == null || languageTags.isEmpty()
-				? item -> true
-				: item -> languageTags.stream().anyMatch(languageTag -> contentDao.getFieldContainer(item, languageTag, branchUuid, type) != null);
-
-		return getChildren(node, branchUuid)
-				.stream()
-				.filter(languageFilter.and(item -> userRoot.hasPermission(requestUser, item, perm)));
+	private boolean hasAnyLanguage(List<HibNodeFieldContainer> containers, List<String> languageTags) {
+		if (languageTags == null || languageTags.isEmpty()) {
+			return true;
+		}
+		return containers != null && containers.stream().anyMatch(container -> languageTags.contains(container.getLanguageTag()));
 	}
 
 	/**
-	 * Recursively build the navigation response.
+	 * Generate the etag key for the loaded navigation tree.
 	 *
-	 * @param ac             Action context
-	 * @param node           Current node that should be handled in combination with the given navigation element
-	 * @param maxDepth       Maximum depth for the navigation
-	 * @param level          Zero based level of the current navigation element
-	 * @param navigation     Current navigation response
-	 * @param currentElement Current navigation element for the given level
-	 * @param branchUuid     Branch uuid to be used for loading children of nodes
-	 * @param type           container type to be used for transformation
-	 * @param languages      languages
-	 * @return
+	 * @param ac
+	 * @param node               Current node of the navigation
+	 * @param navigationChildren Visible children of the expanded nodes
+	 * @param builder            Builder for the etag key
 	 */
-	private NavigationResponse buildNavigationResponse(InternalActionContext ac, HibNode node, int maxDepth, int level,
-													   NavigationResponse navigation, NavigationElement currentElement, String branchUuid, ContainerType type, List<String> languages) {
-		List<HibNode> nodes = getChildren(node, ac.getUser(), branchUuid, languages, type).collect(Collectors.toList());
-		List<NavigationResponse> responses = new ArrayList<>();
+	private void buildNavigationEtagKey(InternalActionContext ac, HibNode node, Map<HibNode, List<HibNode>> navigationChildren, StringBuilder builder) {
+		builder.append(node.getETag(ac));
+		for (HibNode child : navigationChildren.getOrDefault(node, Collections.emptyList())) {
+			buildNavigationEtagKey(ac, child, navigationChildren, builder);
+		}
+	}
 
+	/**
+	 * Build the navigation response for the loaded navigation tree.
+	 *
+	 * @param ac                 Action context
+	 * @param node               Current node that should be handled in combination with the given navigation element
+	 * @param currentElement     Current navigation element for the given node
+	 * @param navigationChildren Visible children of the expanded nodes
+	 */
+	private void buildNavigationResponse(InternalActionContext ac, HibNode node, NavigationElement currentElement,
+		Map<HibNode, List<HibNode>> navigationChildren) {
 		NodeResponse response = transformToRestSync(node, ac, 0);
 		currentElement.setUuid(response.getUuid());
 		currentElement.setNode(response);
-		responses.add(navigation);
-
-		// Abort recursion when we reach the max level or when no more children
-		// can be found.
-		if (level == maxDepth || nodes.isEmpty()) {
-			return responses.get(responses.size() - 1);
-		}
-		NavigationParameters parameters = new NavigationParametersImpl(ac);
-		// Add children
-		for (HibNode child : nodes) {
-			// TODO assure that the schema version is correct?
-			// TODO also allow navigations over containers
-			if (child.getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
-				NavigationElement childElement = new NavigationElement();
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				currentElement.getChildren().add(childElement);
-				responses.add(buildNavigationResponse(ac, child, maxDepth, level + 1, navigation, childElement, branchUuid, type, languages));
-			} else if (parameters.isIncludeAll()) {
-				// We found at least one child so lets create the array
-				if (currentElement.getChildren() == null) {
-					currentElement.setChildren(new ArrayList<>());
-				}
-				NavigationElement childElement = new NavigationElement();
-				currentElement.getChildren().add(childElement);
-				responses.add(buildNavigationResponse(ac, child, maxDepth, level, navigation, childElement, branchUuid, type, languages));
-			}
+
+		List<HibNode> children = navigationChildren.get(node);
+		if (children == null || children.isEmpty()) {
+			return;
+		}
+		currentElement.setChildren(new ArrayList<>(children.size()));
+		for (HibNode child : children) {
+			NavigationElement childElement = new NavigationElement();
+			currentElement.getChildren().add(childElement);
+			buildNavigationResponse(ac, child, childElement, navigationChildren);
 		}
-		return responses.get(responses.size() - 1);
 	}
 
 	@Override
@@ -1853,6 +1969,19 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 			log.debug("Resolving for path segment {" + segment + "}");
 		}
 
+		// Check the segment cache first. Cached children are only used when they still have the segment and the parent.
+		WebrootSegmentCache segmentCache = CommonTx.get().data().mesh().webrootSegmentCache();
+		HibNode cachedNode = segmentCache.getChild(node, branchUuid, type, segment);
+		if (cachedNode != null) {
+			PathSegment pathSegment = contentDao.getSegment(cachedNode, branchUuid, type, segment);
+			HibNode parentNode = pathSegment == null ? null : getParentNode(cachedNode, branchUuid);
+			if (parentNode != null && parentNode.getUuid().equals(node.getUuid())) {
+				path.addSegment(pathSegment);
+				return resolvePath(cachedNode, branchUuid, type, path, pathStack);
+			}
+			segmentCache.invalidate(node, branchUuid, type, segment);
+		}
+
 		String segmentInfo = contentDao.composeSegmentInfo(node, segment);
 		Iterator<? extends HibNodeFieldContainerEdge> edges = getWebrootEdges(node, segmentInfo, branchUuid, type);
 		if (edges.hasNext()) {
@@ -1860,6 +1989,7 @@ public interface PersistingNodeDao extends NodeDao, PersistingRootDao<HibProject
 			HibNode childNode = edge.getNode();
 			PathSegment pathSegment = contentDao.getSegment(childNode, branchUuid, type, segment);
 			if (pathSegment != null) {
+				segmentCache.store(node, branchUuid, type, segment, childNode);
 				path.addSegment(pathSegment);
 				return resolvePath(childNode, branchUuid, type, path, pathStack);
 			}
@@ -98,7 +98,7 @@ public interface PersistingRoleDao extends RoleDao, PersistingDaoGlobal<HibRole>
         boolean permissionsGranted = grantRolePermissions(role, element, permissions);
         if (permissionsGranted) {
             PermissionCache cache = Tx.get().permissionCache();
-            cache.clear();
+            cache.invalidateElement(element.getId());
         }
         return permissionsGranted;
     }
@@ -115,7 +115,7 @@ public interface PersistingRoleDao extends RoleDao, PersistingDaoGlobal<HibRole>
         boolean permissionsRevoked = revokeRolePermissions(role, element, permissions);
         if (permissionsRevoked) {
             PermissionCache cache = Tx.get().permissionCache();
-            cache.clear();
+            cache.invalidateElement(element.getId());
         }
         return permissionsRevoked;
     }
@@ -88,7 +88,8 @@ public interface PersistingUserDao extends UserDao, PersistingDaoGlobal<HibUser>
 	@Override
 	default boolean hasPermissionForId(HibUser user, Object elementId, InternalPermission permission) {
 		PermissionCache permissionCache = Tx.get().permissionCache();
-		Boolean cached = permissionCache.hasPermission(user.getId(), permission, elementId);
+		String roleSetId = permissionCache.getRoleSetId(user.getId(), () -> getRolesHash(user));
+		Boolean cached = permissionCache.hasPermission(roleSetId, permission, elementId);
 		if (cached != null) {
 			if (!cached && permission == READ_PUBLISHED_PERM) {
 				return hasPermissionForId(user, elementId, READ_PERM);
@@ -98,12 +99,12 @@ public interface PersistingUserDao extends UserDao, PersistingDaoGlobal<HibUser>
 		} else {
 			// Admin users have all permissions
 			if (user.isAdmin()) {
-				permissionCache.store(user.getId(), EnumSet.allOf(InternalPermission.class), elementId);
+				permissionCache.store(roleSetId, EnumSet.allOf(InternalPermission.class), elementId);
 				return true;
 			}
 
 			EnumSet<InternalPermission> permissions = getPermissionsForElementId(user, elementId);
-			permissionCache.store(user.getId(), permissions, elementId);
+			permissionCache.store(roleSetId, permissions, elementId);
 			if (permissions.contains(permission)) {
 				return true;
 			}
@@ -574,7 +575,7 @@ public interface PersistingUserDao extends UserDao, PersistingDaoGlobal<HibUser>
 		bac.add(user.onDeleted());
 		deletePersisted(user);
 		bac.process();
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().clearRoleSets();
 	}
 
 	// TODO change this to an async call since hashing of the password is
@@ -620,8 +621,8 @@ public interface PersistingUserDao extends UserDao, PersistingDaoGlobal<HibUser>
 		if (shouldUpdate(requestModel.getAdmin(), user.isAdmin())) {
 			if (ac.getUser().isAdmin()) {
 				user.setAdmin(requestModel.getAdmin());
-				// Permissions need to be purged
-				Tx.get().permissionCache().clear();
+				// The admin flag is part of the role set of the user
+				Tx.get().permissionCache().clearRoleSets();
 			} else {
 				throw error(FORBIDDEN, "user_error_admin_privilege_needed_for_admin_flag");
 			}
@@ -0,0 +1,124 @@
+package com.gentics.mesh.core.data.node;
+
+import java.util.List;
+import java.util.Map;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.tag.HibTag;
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+/**
+ * Data of the nodes of a page, which was loaded with batch reads before the nodes are transformed. The transformation of the single nodes uses this data
+ * instead of loading it for each node. Data which was not loaded is returned as null.
+ */
+public class NodeTransformBatch {
+
+	/**
+	 * Key of the batch in the action context.
+	 */
+	public static final String KEY = "nodeTransformBatch";
+
+	private final String branchUuid;
+
+	private Map<HibNode, HibNode> parents;
+
+	private Map<HibNode, List<HibNode>> children;
+
+	private Map<HibNode, List<HibTag>> tags;
+
+	private ContainerType containerType;
+
+	private Map<HibNode, List<HibNodeFieldContainer>> containers;
+
+	public NodeTransformBatch(String branchUuid) {
+		this.branchUuid = branchUuid;
+	}
+
+	/**
+	 * Return the batch of the action context if it was loaded for the given branch.
+	 *
+	 * @param ac
+	 * @param branchUuid
+	 * @return Batch or null
+	 */
+	public static NodeTransformBatch get(InternalActionContext ac, String branchUuid) {
+		NodeTransformBatch batch = ac.get(KEY);
+		if (batch == null || !batch.branchUuid.equals(branchUuid)) {
+			return null;
+		}
+		return batch;
+	}
+
+	/**
+	 * Check whether the parent of the node was loaded.
+	 *
+	 * @param node
+	 * @return
+	 */
+	public boolean hasParent(HibNode node) {
+		return parents != null && parents.containsKey(node);
+	}
+
+	/**
+	 * Return the loaded parent of the node.
+	 *
+	 * @param node
+	 * @return Parent or null if the node has no parent
+	 */
+	public HibNode getParent(HibNode node) {
+		return parents.get(node);
+	}
+
+	public NodeTransformBatch setParents(Map<HibNode, HibNode> parents) {
+		this.parents = parents;
+		return this;
+	}
+
+	/**
+	 * Return the loaded children of the node.
+	 *
+	 * @param node
+	 * @return Children or null if they were not loaded
+	 */
+	public List<HibNode> getChildren(HibNode node) {
+		return children == null ? null : children.get(node);
+	}
+
+	public NodeTransformBatch setChildren(Map<HibNode, List<HibNode>> children) {
+		this.children = children;
+		return this;
+	}
+
+	/**
+	 * Return the loaded tags of the node.
+	 *
+	 * @param node
+	 * @return Tags or null if they were not loaded
+	 */
+	public List<HibTag> getTags(HibNode node) {
+		return tags == null ? null : tags.get(node);
+	}
+
+	public NodeTransformBatch setTags(Map<HibNode, List<HibTag>> tags) {
+		this.tags = tags;
+		return this;
+	}
+
+	/**
+	 * Return the loaded field containers of the node.
+	 *
+	 * @param node
+	 * @param type
+	 * @return Field containers of all languages or null if they were not loaded for the type
+	 */
+	public List<HibNodeFieldContainer> getContainers(HibNode node, ContainerType type) {
+		return containers == null || containerType != type ? null : containers.get(node);
+	}
+
+	public NodeTransformBatch setContainers(ContainerType type, Map<HibNode, List<HibNodeFieldContainer>> containers) {
+		this.containerType = type;
+		this.containers = containers;
+		return this;
+	}
+}
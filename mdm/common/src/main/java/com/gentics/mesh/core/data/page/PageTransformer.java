@@ -37,7 +37,19 @@ public class PageTransformer {
 	 * @return
 	 */
 	public ListResponse<RestModel> transformToRestSync(Page<? extends HibCoreElement<? extends RestModel>> page, InternalActionContext ac, int level) {
-		List<RestModel> responses = transformToRestSync(page.stream(), ac, level).collect(Collectors.toList());
+		DaoTransformable<HibCoreElement<? extends RestModel>, RestModel> dao = null;
+		if (page.getSize() > 0) {
+			dao = daos.get(page.getWrappedList().get(0).getTypeInfo().getType());
+			dao.beforeTransformPage(page, ac);
+		}
+		List<RestModel> responses;
+		try {
+			responses = transformToRestSync(page.stream(), ac, level).collect(Collectors.toList());
+		} finally {
+			if (dao != null) {
+				dao.afterTransformPage(page, ac);
+			}
+		}
 		ListResponse<RestModel> listResponse = new ListResponse<>();
 		page.setPaging(listResponse);
 		listResponse.getData().addAll(responses);
@@ -60,7 +72,7 @@ public class PageTransformer {
 	/**
 	 * Return the eTag of the page. The etag is calculated using the following information:
 	 * <ul>
-	 * <li>Number of total elements (all pages)</li>
+	 * <li>Number of total elements (all pages) or whether a next page exists, if the total count was not determined</li>
 	 * <li>All etags for all found elements</li>
 	 * <li>Number of the current page</li>
 	 * </ul>
@@ -70,7 +82,11 @@ public class PageTransformer {
 	 */
 	public String getETag(Page<? extends HibCoreElement<? extends RestModel>> page, InternalActionContext ac) {
 		StringBuilder builder = new StringBuilder();
-		builder.append(page.getTotalElements());
+		long totalElements = page.getTotalElements();
+		builder.append(totalElements);
+		if (totalElements < 0) {
+			builder.append(page.hasNextPage());
+		}
 		builder.append(page.getNumber());
 		builder.append(page.getPerPage());
 		if (page.getSize() > 0) {
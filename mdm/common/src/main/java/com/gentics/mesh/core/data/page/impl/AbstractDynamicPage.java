@@ -39,12 +39,23 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected AtomicLong totalCounter = new AtomicLong();
 
+	/**
+	 * Flag which indicates whether the total count should be determined.
+	 */
+	protected boolean countTotal;
+
+	/**
+	 * Total count which was determined without iterating over the elements (e.g. by counting index entries).
+	 */
+	protected Long knownTotalCount = null;
+
 	protected Iterator<? extends T> visibleItems;
 
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
 		ValidationUtil.validate(pagingInfo);
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
+		this.countTotal = pagingInfo.getCount();
 
 		if (perPage == null) {
 			this.lowerBound = null;
@@ -67,6 +78,8 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 			totalPages = 0L;
 			if (perPage == null) {
 				totalPages = 1L;
+			} else if (!countTotal) {
+				totalPages = -1L;
 			} else if (perPage != 0) {
 				totalPages = (long) Math.ceil(getTotalElements() / (double) (perPage));
 			}
@@ -81,6 +94,12 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (!countTotal) {
+			return -1;
+		}
+		if (knownTotalCount != null) {
+			return knownTotalCount;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
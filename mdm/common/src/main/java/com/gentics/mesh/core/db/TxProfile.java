@@ -0,0 +1,168 @@
+package com.gentics.mesh.core.db;
+
+import com.gentics.mesh.core.rest.admin.tx.TxProfileModel;
+import com.gentics.mesh.util.DateUtils;
+
+/**
+ * Counters of a single profiled transaction. The profile of the transaction which is currently running can be accessed via {@link #current()}. Counters
+ * are only modified by the thread which runs the transaction.
+ *
+ * @see TxProfiler
+ */
+public class TxProfile {
+
+	private static final ThreadLocal<String> ORIGIN = new ThreadLocal<>();
+
+	private static final ThreadLocal<TxProfile> CURRENT = new ThreadLocal<>();
+
+	private final String origin;
+
+	private final String thread;
+
+	private final long start;
+
+	private final long startNanos;
+
+	private long duration;
+
+	private int retries;
+
+	private long lockWait;
+
+	private long commitTime;
+
+	private long vertexReads;
+
+	private long vertexWrites;
+
+	private long edgeReads;
+
+	private long edgeWrites;
+
+	private long indexLookups;
+
+	TxProfile(String origin, String thread) {
+		this.origin = origin;
+		this.thread = thread;
+		this.start = System.currentTimeMillis();
+		this.startNanos = System.nanoTime();
+	}
+
+	/**
+	 * Return the profile of the transaction which is running in the current thread.
+	 *
+	 * @return Profile or null if no transaction is profiled
+	 */
+	public static TxProfile current() {
+		return CURRENT.get();
+	}
+
+	static void setCurrent(TxProfile profile) {
+		if (profile == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(profile);
+		}
+	}
+
+	/**
+	 * Set the origin (route or job) for all transactions which are started by the current thread.
+	 *
+	 * @param origin
+	 *            Origin or null to remove the origin
+	 * @return Previously set origin, which should be restored once the origin is no longer valid
+	 */
+	public static String setOrigin(String origin) {
+		String previous = ORIGIN.get();
+		if (origin == null) {
+			ORIGIN.remove();
+		} else {
+			ORIGIN.set(origin);
+		}
+		return previous;
+	}
+
+	/**
+	 * Return the origin which was set for the current thread.
+	 *
+	 * @return
+	 */
+	public static String getOrigin() {
+		return ORIGIN.get();
+	}
+
+	/**
+	 * Count an index lookup for the profiled transaction of the current thread.
+	 */
+	public static void countIndexLookup() {
+		TxProfile profile = current();
+		if (profile != null) {
+			profile.indexLookups++;
+		}
+	}
+
+	/**
+	 * Finish the profile.
+	 *
+	 * @return Duration of the transaction in milliseconds
+	 */
+	long finish() {
+		duration = (System.nanoTime() - startNanos) / 1_000_000;
+		return duration;
+	}
+
+	public void retry() {
+		retries++;
+	}
+
+	public void addLockWait(long ms) {
+		lockWait += ms;
+	}
+
+	public void addCommitTime(long ms) {
+		commitTime += ms;
+	}
+
+	public void vertexRead() {
+		vertexReads++;
+	}
+
+	public void vertexWrite() {
+		vertexWrites++;
+	}
+
+	public void edgeRead() {
+		edgeReads++;
+	}
+
+	public void edgeWrite() {
+		edgeWrites++;
+	}
+
+	/**
+	 * Transform the profile into the rest model.
+	 *
+	 * @return
+	 */
+	public TxProfileModel toModel() {
+		return new TxProfileModel()
+			.setOrigin(origin)
+			.setThread(thread)
+			.setStart(DateUtils.toISO8601(start))
+			.setDuration(duration)
+			.setRetries(retries)
+			.setLockWait(lockWait)
+			.setCommitTime(commitTime)
+			.setVertexReads(vertexReads)
+			.setVertexWrites(vertexWrites)
+			.setEdgeReads(edgeReads)
+			.setEdgeWrites(edgeWrites)
+			.setIndexLookups(indexLookups);
+	}
+
+	@Override
+	public String toString() {
+		return "origin {" + origin + "}, vertex reads {" + vertexReads + "}, vertex writes {" + vertexWrites + "}, edge reads {" + edgeReads
+			+ "}, edge writes {" + edgeWrites + "}, index lookups {" + indexLookups + "}, retries {" + retries + "}";
+	}
+}
@@ -0,0 +1,118 @@
+package com.gentics.mesh.core.db;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.rest.admin.tx.TxProfileListResponse;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.MonitoringConfig;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Profiler for transactions. When enabled via {@link MonitoringConfig#isTxProfilerEnabled()}, the database creates a {@link TxProfile} for each
+ * transaction. Transactions which take longer than the configured threshold are kept in a ring buffer, which only holds the latest slow transactions.
+ */
+@Singleton
+public class TxProfiler {
+
+	private static final Logger log = LoggerFactory.getLogger(TxProfiler.class);
+
+	private final MonitoringConfig config;
+
+	private final Deque<TxProfile> slowTransactions = new ArrayDeque<>();
+
+	@Inject
+	public TxProfiler(MeshOptions options) {
+		this.config = options.getMonitoringOptions() == null ? new MonitoringConfig() : options.getMonitoringOptions();
+	}
+
+	/**
+	 * Check whether transactions are profiled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return config.isTxProfilerEnabled();
+	}
+
+	/**
+	 * Start the profile for a transaction in the current thread. Nested transactions are counted in the profile of the outer transaction.
+	 *
+	 * @return Started profile or null if the profiler is disabled or a transaction is already profiled
+	 */
+	public TxProfile start() {
+		if (!isEnabled() || TxProfile.current() != null) {
+			return null;
+		}
+		Thread thread = Thread.currentThread();
+		String origin = TxProfile.getOrigin();
+		TxProfile profile = new TxProfile(origin == null ? thread.getName() : origin, thread.getName());
+		TxProfile.setCurrent(profile);
+		return profile;
+	}
+
+	/**
+	 * Stop the given profile and record it if the transaction exceeded the threshold.
+	 *
+	 * @param profile
+	 *            Profile which was returned by {@link #start()}. Nothing is done for null
+	 */
+	public void stop(TxProfile profile) {
+		if (profile == null) {
+			return;
+		}
+		TxProfile.setCurrent(null);
+		long duration = profile.finish();
+		if (duration >= config.getTxProfilerThreshold()) {
+			if (log.isDebugEnabled()) {
+				log.debug("Slow transaction with duration {" + duration + "} ms: " + profile);
+			}
+			record(profile);
+		}
+	}
+
+	private synchronized void record(TxProfile profile) {
+		while (slowTransactions.size() >= Math.max(1, config.getTxProfilerBufferSize())) {
+			slowTransactions.removeLast();
+		}
+		slowTransactions.addFirst(profile);
+	}
+
+	/**
+	 * Return the recorded slow transactions. The latest transaction is listed first.
+	 *
+	 * @return
+	 */
+	public synchronized List<TxProfile> getSlowTransactions() {
+		return new ArrayList<>(slowTransactions);
+	}
+
+	/**
+	 * Remove all recorded slow transactions.
+	 */
+	public synchronized void clear() {
+		slowTransactions.clear();
+	}
+
+	/**
+	 * Create the response which lists the recorded slow transactions.
+	 *
+	 * @return
+	 */
+	public TxProfileListResponse toListResponse() {
+		TxProfileListResponse response = new TxProfileListResponse()
+			.setEnabled(isEnabled())
+			.setThreshold(config.getTxProfilerThreshold());
+		for (TxProfile profile : getSlowTransactions()) {
+			response.getData().add(profile.toModel());
+		}
+		return response;
+	}
+}
@@ -1,79 +1,241 @@
 package com.gentics.mesh.core.jobs;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
-import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
-import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
+import static com.gentics.mesh.core.rest.job.JobStatus.QUEUED;
+import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
-import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_QUEUE_DEPTH;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_RUN_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.JOB_WAIT_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.JobDao;
 import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.job.HibVersionPurgeJob;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.db.CommonTx;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.db.TxProfile;
+import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Tags;
 import io.reactivex.Completable;
-import io.reactivex.CompletableSource;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.shareddata.Lock;
+import io.vertx.reactivex.RxHelper;
 
 /**
- * This class is responsible for fetching all jobs and running them
+ * This class is responsible for fetching the pending jobs and running them.
+ *
+ * The pending jobs are grouped by the project they affect. Jobs of the same project are processed one after another in the order of their creation, while
+ * jobs of different projects may be processed concurrently. A lock is acquired for each project whose jobs are processed. The lock is cluster wide in
+ * clustered mode, thus the jobs of different projects can be processed by different instances.
  */
 @Singleton
 public class JobProcessorImpl implements JobProcessor {
 
 	public static final Logger log = LoggerFactory.getLogger(JobProcessorImpl.class);
 
+	private static final String JOB_LOCK_PREFIX = "mesh.internal.joblock.";
+
+	private static final String GLOBAL_LANE = "global";
+
+	private static final long LOCK_TIMEOUT = 1000;
+
 	final Map<JobType, SingleJobProcessor> jobProcessors;
-	private Database db;
+	private final Database db;
+	private final Vertx vertx;
+	private final MeshOptions options;
+	private final MetricsService metrics;
+	private final Map<JobType, AtomicLong> queueDepth = new EnumMap<>(JobType.class);
 
 	@Inject
-	public JobProcessorImpl(Map<JobType, SingleJobProcessor> jobProcessors, Database db) {
+	public JobProcessorImpl(Map<JobType, SingleJobProcessor> jobProcessors, Database db, Vertx vertx, MeshOptions options, MetricsService metrics) {
 		this.jobProcessors = jobProcessors;
 		this.db = db;
+		this.vertx = vertx;
+		this.options = options;
+		this.metrics = metrics;
+		if (metrics.isEnabled()) {
+			for (JobType type : JobType.values()) {
+				queueDepth.put(type, metrics.getMetricRegistry().gauge(JOB_QUEUE_DEPTH.key(), Tags.of("type", type.name()), new AtomicLong()));
+			}
+		}
 	}
 
 	@Override
 	public Completable process() {
-		List<Completable> jobsActions = getJobsToExecute().stream()
-				.map(this::process)
-				.collect(Collectors.toList());
+		return Completable.defer(() -> {
+			Set<String> lanes = db.tx(() -> {
+				List<PendingJob> pendingJobs = findPendingJobs();
+				updateQueueDepth(pendingJobs);
+				return pendingJobs.stream()
+					.map(job -> job.lane)
+					.collect(Collectors.toCollection(LinkedHashSet::new));
+			});
+			int concurrency = Math.max(1, options.getJobConcurrency());
+			return Completable.merge(Flowable.fromIterable(lanes).map(this::processLane), concurrency);
+		});
+	}
 
-		return Completable.concat(jobsActions);
+	/**
+	 * Process all pending jobs of the lane. Jobs which are added to the lane while the lane is processed will also be processed. Nothing is done if the lane
+	 * is already processed elsewhere.
+	 *
+	 * @param lane
+	 * @return
+	 */
+	private Completable processLane(String lane) {
+		Scheduler scheduler = RxHelper.blockingScheduler(vertx, false);
+		return lock(lane).observeOn(scheduler).flatMapCompletable(lock -> {
+			Set<String> processedJobs = new HashSet<>();
+			AtomicBoolean done = new AtomicBoolean();
+			Completable next = Completable.defer(() -> {
+				PendingJob job = db.tx(() -> {
+					return findPendingJobs().stream()
+						.filter(pending -> pending.lane.equals(lane) && !processedJobs.contains(pending.uuid))
+						.findFirst()
+						.orElse(null);
+				});
+				if (job == null) {
+					done.set(true);
+					return Completable.complete();
+				}
+				// Each job is only processed once per run, even if it is still pending afterwards
+				processedJobs.add(job.uuid);
+				return process(job).onErrorComplete(e -> {
+					log.error("Error while processing job {" + job.uuid + "}", e);
+					return true;
+				});
+			});
+			return next.repeatUntil(done::get).doFinally(lock::release);
+		});
 	}
 
-	private List<? extends HibJob> getJobsToExecute() {
-		return db.tx((tx) -> {
-			return Tx.get().jobDao().findAll().stream()
-					// Don't execute failed or completed jobs again
-					.filter(job -> !(job.hasFailed() || (job.getStatus() == COMPLETED || job.getStatus() == FAILED || job.getStatus() == UNKNOWN)))
-					.collect(Collectors.toList());
+	private Maybe<Lock> lock(String lane) {
+		return Maybe.create(emitter -> {
+			vertx.sharedData().getLockWithTimeout(JOB_LOCK_PREFIX + lane, LOCK_TIMEOUT, rh -> {
+				if (rh.succeeded()) {
+					emitter.onSuccess(rh.result());
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("The jobs of lane {" + lane + "} are already being processed.");
+					}
+					emitter.onComplete();
+				}
+			});
 		});
 	}
 
-	private Completable process(HibJob job) {
+	/**
+	 * Load the pending jobs via the status index. Failed, completed or unknown jobs will not be executed again.
+	 *
+	 * @return Pending jobs in the order of their creation
+	 */
+	private List<PendingJob> findPendingJobs() {
+		JobDao jobDao = Tx.get().jobDao();
+		return Stream.of(QUEUED, STARTING, RUNNING)
+			.flatMap(status -> jobDao.findByStatus(status).stream())
+			.filter(job -> !job.hasFailed())
+			.map(PendingJob::new)
+			.sorted(Comparator.comparingLong(job -> job.created))
+			.collect(Collectors.toList());
+	}
+
+	private boolean isPending(HibJob job) {
+		JobStatus status = job.getStatus();
+		return !job.hasFailed() && (status == QUEUED || status == STARTING || status == RUNNING);
+	}
+
+	private void updateQueueDepth(List<PendingJob> pendingJobs) {
+		if (!metrics.isEnabled()) {
+			return;
+		}
+		Map<JobType, Long> counts = pendingJobs.stream()
+			.filter(job -> job.type != null && job.status == QUEUED)
+			.collect(Collectors.groupingBy(job -> job.type, Collectors.counting()));
+		queueDepth.forEach((type, gauge) -> gauge.set(counts.getOrDefault(type, 0L)));
+	}
+
+	private Completable process(PendingJob pending) {
 		return Completable.defer(() -> {
-			HibJob startedJob = db.tx(() -> {
+			HibJob startedJob = db.tx(tx -> {
+				HibJob job = tx.jobDao().findByUuid(pending.uuid);
+				// The job may have been processed by another instance in the meantime
+				if (job == null || !isPending(job)) {
+					return null;
+				}
 				log.info("Processing job {" + job.getUuid() + "}");
 				job.setStartTimestamp();
 				job.setStatus(STARTING);
 				job.setNodeName();
 				return CommonTx.get().jobDao().mergeIntoPersisted(job);
 			});
+			if (startedJob == null) {
+				return Completable.complete();
+			}
+
+			if (metrics.isEnabled() && pending.type != null) {
+				metrics.getMetricRegistry().timer(JOB_WAIT_TIME.key(), "type", pending.type.name())
+					.record(Math.max(0, System.currentTimeMillis() - pending.created), TimeUnit.MILLISECONDS);
+			}
+			long start = System.nanoTime();
+			return withTxOrigin(pending, processTask(startedJob)).doFinally(() -> {
+				if (metrics.isEnabled() && pending.type != null) {
+					metrics.getMetricRegistry().timer(JOB_RUN_TIME.key(), "type", pending.type.name())
+						.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				}
+			});
+		});
+	}
 
-			return processTask(startedJob);
+	/**
+	 * Tag the transactions which are started while subscribing to the given completable with the job. Transactions which are run asynchronously in other
+	 * threads are not tagged.
+	 *
+	 * @param pending
+	 * @param completable
+	 * @return
+	 */
+	private Completable withTxOrigin(PendingJob pending, Completable completable) {
+		String origin = "job " + pending.type + " " + pending.uuid;
+		return Completable.create(emitter -> {
+			String previous = TxProfile.setOrigin(origin);
+			try {
+				emitter.setDisposable(completable.subscribe(emitter::onComplete, emitter::onError));
+			} finally {
+				TxProfile.setOrigin(previous);
+			}
 		});
 	}
 
-	private CompletableSource processTask(HibJob job) {
+	private Completable processTask(HibJob job) {
 		JobType jobType = db.tx((tx) -> {
 			JobType type = job.getType();
 			if (type == null) {
@@ -87,6 +249,47 @@ public class JobProcessorImpl implements JobProcessor {
 		if (jobProcessor == null) {
 			throw new RuntimeException("Do not know how to process jobs of type {" + jobType + "}");
 		}
-		return jobProcessor.process(job);
+		return Completable.wrap(jobProcessor.process(job));
+	}
+
+	/**
+	 * Snapshot of the scheduling relevant information of a pending job.
+	 */
+	private static class PendingJob {
+
+		private final String uuid;
+
+		private final JobType type;
+
+		private final JobStatus status;
+
+		private final String lane;
+
+		private final long created;
+
+		PendingJob(HibJob job) {
+			this.uuid = job.getUuid();
+			this.type = job.getType();
+			this.status = job.getStatus();
+			this.lane = getLane(job);
+			Long timestamp = job.getCreationTimestamp();
+			this.created = timestamp == null ? 0 : timestamp;
+		}
+
+		/**
+		 * Return the lane of the job. Jobs of the same lane must not be processed concurrently.
+		 */
+		private static String getLane(HibJob job) {
+			HibProject project = null;
+			if (job instanceof HibVersionPurgeJob) {
+				project = ((HibVersionPurgeJob) job).getProject();
+			} else {
+				HibBranch branch = job.getBranch();
+				if (branch != null) {
+					project = branch.getProject();
+				}
+			}
+			return project == null ? GLOBAL_LANE : project.getUuid();
+		}
 	}
 }
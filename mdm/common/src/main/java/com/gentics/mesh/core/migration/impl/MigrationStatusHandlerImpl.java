@@ -4,6 +4,10 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 
 import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -19,6 +23,7 @@ import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.rest.job.JobStatus;
 
 import com.gentics.mesh.core.rest.job.JobWarningList;
+import com.gentics.mesh.core.rest.job.MigrationCheckpoint;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -35,6 +40,8 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private long completionCount = 0;
 
+	private long[] partitionCompletionCounts;
+
 	private JobStatus status;
 	private final String jobUUID;
 
@@ -43,12 +50,12 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public MigrationStatusHandler commit() {
+	public synchronized MigrationStatusHandler commit() {
 		HibJob job = getJob();
 		return commit(job);
 	}
 
-	private MigrationStatusHandler commit(HibJob job) {
+	private synchronized MigrationStatusHandler commit(HibJob job) {
 		// Load the status if it has not yet been set or loaded.
 		if (status == null) {
 			status = job.getStatus();
@@ -58,6 +65,9 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 			versionEdge.setMigrationStatus(status);
 		}
 		job.setCompletionCount(completionCount);
+		if (partitionCompletionCounts != null) {
+			job.setCheckpoint(new MigrationCheckpoint(getPartitionCompletionCounts()));
+		}
 		job.setStatus(status);
 
 		Database db = CommonTx.get().data().mesh().database();
@@ -134,7 +144,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public void setCompletionCount(long completionCount) {
+	public synchronized void setCompletionCount(long completionCount) {
 		this.completionCount = completionCount;
 	}
 
@@ -144,8 +154,41 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public void incCompleted(int increment) {
+	public synchronized void incCompleted(int increment) {
+		completionCount += increment;
+	}
+
+	@Override
+	public synchronized void setPartitionCount(int partitionCount) {
+		HibJob job = getJob();
+		partitionCompletionCounts = new long[partitionCount];
+		MigrationCheckpoint checkpoint = job.getCheckpoint();
+		if (checkpoint != null) {
+			// Resume the counts of a previous run of the job. The containers which were already migrated will not be migrated again.
+			completionCount = job.getCompletionCount();
+			List<Long> counts = checkpoint.getPartitionCompletionCounts();
+			if (counts.size() == partitionCount) {
+				for (int i = 0; i < partitionCount; i++) {
+					partitionCompletionCounts[i] = counts.get(i);
+				}
+			}
+		}
+	}
+
+	@Override
+	public synchronized void incCompleted(int partition, int increment) {
 		completionCount += increment;
+		if (partitionCompletionCounts != null && partition < partitionCompletionCounts.length) {
+			partitionCompletionCounts[partition] += increment;
+		}
+	}
+
+	@Override
+	public synchronized List<Long> getPartitionCompletionCounts() {
+		if (partitionCompletionCounts == null) {
+			return Collections.emptyList();
+		}
+		return Arrays.stream(partitionCompletionCounts).boxed().collect(Collectors.toList());
 	}
 
 	private HibJob getJob() {
@@ -28,6 +28,7 @@ import com.gentics.mesh.core.data.HibCoreElement;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.PageTransformer;
 import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.TxEventAction;
 import com.gentics.mesh.core.db.Tx;
@@ -118,7 +119,24 @@ public class HandlerUtilities {
 	public <T extends HibCoreElement<RM>, RM extends RestModel> void deleteElement(InternalActionContext ac, Function<Tx, Object> parentLoader,
 		DAOActions<T, RM> actions,
 		String uuid) {
-		try (WriteLock lock = writeLock.lock(ac)) {
+		deleteElement(ac, parentLoader, actions, uuid, WriteLockScope.GLOBAL);
+	}
+
+	/**
+	 * Delete the specified element while holding the write lock of the given scope.
+	 * 
+	 * @param ac
+	 * @param parentLoader
+	 * @param actions
+	 *            Handler which provides the root vertex which will be used to load the element
+	 * @param uuid
+	 *            Uuid of the element which should be deleted
+	 * @param scope
+	 *            Scope of the write lock
+	 */
+	public <T extends HibCoreElement<RM>, RM extends RestModel> void deleteElement(InternalActionContext ac, Function<Tx, Object> parentLoader,
+		DAOActions<T, RM> actions, String uuid, WriteLockScope scope) {
+		try (WriteLock lock = writeLock.lock(ac, scope)) {
 			syncTx(ac, tx -> {
 				Object parent = null;
 				if (parentLoader != null) {
@@ -183,7 +201,24 @@ public class HandlerUtilities {
 	 */
 	public <T extends HibCoreElement<RM>, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, Function<Tx, Object> parentLoader,
 		String uuid, DAOActions<T, RM> actions) {
-		try (WriteLock lock = writeLock.lock(ac)) {
+		createOrUpdateElement(ac, parentLoader, uuid, actions, WriteLockScope.GLOBAL);
+	}
+
+	/**
+	 * Either create or update an element with the given uuid while holding the write lock of the given scope.
+	 * 
+	 * @param ac
+	 * @param parentLoader
+	 *            Parent element to be used for the operation
+	 * @param uuid
+	 *            Uuid of the element to create or update. If null, an element will be created with random Uuid
+	 * @param actions
+	 * @param scope
+	 *            Scope of the write lock
+	 */
+	public <T extends HibCoreElement<RM>, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, Function<Tx, Object> parentLoader,
+		String uuid, DAOActions<T, RM> actions, WriteLockScope scope) {
+		try (WriteLock lock = writeLock.lock(ac, scope)) {
 			AtomicBoolean created = new AtomicBoolean(false);
 			syncTx(ac, (batch, tx) -> {
 				// 1. Load the element from the root element using the given uuid (if not null)
@@ -404,6 +439,23 @@ public class HandlerUtilities {
 		}
 	}
 
+	/**
+	 * Return the write lock scope for the project of the given context. The global scope will be returned if the context does not reference a project.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	public WriteLockScope projectScope(InternalActionContext ac) {
+		if (!writeLock.isSyncWrites()) {
+			return WriteLockScope.GLOBAL;
+		}
+		String projectUuid = database.tx(tx -> {
+			HibProject project = tx.getProject(ac);
+			return project == null ? null : project.getUuid();
+		});
+		return projectUuid == null ? WriteLockScope.GLOBAL : WriteLockScope.project(projectUuid);
+	}
+
 	/**
 	 * Invoke a bulkable action.
 	 * 
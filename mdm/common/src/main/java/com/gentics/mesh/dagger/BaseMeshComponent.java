@@ -5,10 +5,13 @@ import javax.inject.Provider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.gentics.mesh.annotation.Getter;
+import com.gentics.mesh.cache.NavigationCache;
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.WebrootPathCache;
+import com.gentics.mesh.cache.WebrootSegmentCache;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.generic.UserProperties;
 import com.gentics.mesh.core.data.page.PageTransformer;
@@ -82,6 +85,15 @@ public interface BaseMeshComponent {
 	@Getter
 	WebrootPathCache pathCache();
 
+	@Getter
+	WebrootSegmentCache webrootSegmentCache();
+
+	@Getter
+	NodeResponseCache nodeResponseCache();
+
+	@Getter
+	NavigationCache navigationCache();
+
 	@Getter
 	PermissionCache permissionCache();
 
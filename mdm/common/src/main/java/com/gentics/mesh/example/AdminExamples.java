@@ -19,6 +19,8 @@ import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity;
 import com.gentics.mesh.core.rest.admin.consistency.RepairAction;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileListResponse;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileModel;
 import com.gentics.mesh.core.rest.plugin.PluginDeploymentRequest;
 import com.gentics.mesh.core.rest.plugin.PluginListResponse;
 import com.gentics.mesh.core.rest.plugin.PluginResponse;
@@ -131,4 +133,35 @@ public class AdminExamples {
 		return config;
 	}
 
+	public TxProfileListResponse createTxProfileListResponse() {
+		TxProfileListResponse response = new TxProfileListResponse().setEnabled(true).setThreshold(1000);
+		response.getData().add(new TxProfileModel()
+			.setOrigin("GET /api/v2/demo/nodes")
+			.setThread("vert.x-worker-thread-3")
+			.setStart("2019-11-04T13:54:59.131Z")
+			.setDuration(2310)
+			.setRetries(0)
+			.setLockWait(0)
+			.setCommitTime(2)
+			.setVertexReads(51230)
+			.setVertexWrites(0)
+			.setEdgeReads(102400)
+			.setEdgeWrites(0)
+			.setIndexLookups(1250));
+		response.getData().add(new TxProfileModel()
+			.setOrigin("job schema " + UUID_1)
+			.setThread("vert.x-worker-thread-1")
+			.setStart("2019-11-04T13:52:12.512Z")
+			.setDuration(1204)
+			.setRetries(1)
+			.setLockWait(0)
+			.setCommitTime(320)
+			.setVertexReads(4200)
+			.setVertexWrites(1250)
+			.setEdgeReads(9800)
+			.setEdgeWrites(2500)
+			.setIndexLookups(850));
+		return response;
+	}
+
 }
@@ -106,6 +106,28 @@ public interface NodeGraphFieldContainer extends HibNodeFieldContainer, GraphFie
 	 */
 	HibSchemaVersion getSchemaContainerVersion();
 
+	/**
+	 * Return the distance of the container to the first container of its version chain.
+	 *
+	 * @return Depth or 0 if the depth was not yet set
+	 */
+	int getVersionDepth();
+
+	/**
+	 * Return the older version of the version chain to which the version lookup may jump from this container.
+	 *
+	 * @return Jump target or null
+	 */
+	NodeGraphFieldContainer getVersionJump();
+
+	/**
+	 * Update the version depth and the version jump of the container, which follows the given previous container in the version chain.
+	 *
+	 * @param previous
+	 *            Previous version or null if the container is the first version
+	 */
+	void updateVersionJump(NodeGraphFieldContainer previous);
+
 	/**
 	 * Delete the field container. This will also delete linked elements like lists. If the container has a "next" container, that container will be deleted as
 	 * well.
@@ -9,6 +9,8 @@ import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.result.Result;
 
 import io.reactivex.Completable;
 
@@ -77,6 +79,14 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	HibJob enqueueVersionPurge(HibUser user, HibProject project);
 
+	/**
+	 * Find all jobs with the given status. The jobs are located via the status index.
+	 * 
+	 * @param status
+	 * @return
+	 */
+	Result<? extends Job> findByStatus(JobStatus status);
+
 	/**
 	 * Delete all the jobs referencing the provided project.
 	 * @param project
@@ -25,7 +25,7 @@ import com.tinkerpop.blueprints.Vertex;
 /**
  * This page implementation will handle paging internally and on-demand. The internal paging will only iterate over as many items as the needed operation
  * requires. Loading the first page will thus only iterate over the elements of the first page. Loading the total count on the other hand requires the
- * implementation to iterate over all edges.
+ * implementation to iterate over all edges, unless the count can be determined via the index because no element will be filtered out.
  *
  * @param <T>
  */
@@ -78,7 +78,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	public DynamicTransformablePageImpl(HibUser requestUser, RootVertex<? extends T> root, PagingParameters pagingInfo, InternalPermission perm,
 		Predicate<T> extraFilter, boolean frameExplicitly) {
 		this(requestUser, pagingInfo, extraFilter, frameExplicitly);
-		init(root.getPersistanceClass(), "e." + root.getRootLabel().toLowerCase() + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		String indexName = "e." + root.getRootLabel().toLowerCase() + "_out";
+		// The total count can be determined via the index if no element will be filtered out
+		if (countTotal && extraFilter == null && (perm == null || isAdmin())) {
+			knownTotalCount = root.db().countEdges(indexName, root.id());
+		}
+		init(root.getPersistanceClass(), indexName, root.id(), Direction.IN, root.getGraph(), perm);
 	}
 
 	/**
@@ -150,8 +155,8 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 		UserDao userDao = GraphDBTx.getGraphTx().userDao();
 
-		// Only handle elements which are visible to the user
-		if (perm != null) {
+		// Only handle elements which are visible to the user. Admin users have all permissions.
+		if (perm != null && !isAdmin()) {
 			stream = stream.filter(item -> userDao.hasPermissionForId(requestUser, item.getId(), perm));
 		}
 
@@ -198,6 +203,10 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 	}
 
+	private boolean isAdmin() {
+		return requestUser != null && requestUser.isAdmin();
+	}
+
 	/**
 	 * Initialize the dynamic iterator which is bound to the most getters of this class. A stream is setup which is used to filter out the unwanted data. Paging
 	 * is also handled via the stream. At the end only a iterator is provided for the other methods. The iterator next method is invoked until the needed data
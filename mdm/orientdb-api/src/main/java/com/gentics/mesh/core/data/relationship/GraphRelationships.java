@@ -57,6 +57,7 @@ public class GraphRelationships {
 		// Versioning
 		type.createType(edgeType(HAS_CHANGE));
 		type.createType(edgeType(HAS_VERSION));
+		type.createType(edgeType(HAS_VERSION_JUMP));
 		type.createType(edgeType(HAS_LATEST_VERSION));
 		type.createType(edgeType(HAS_PARENT_CONTAINER));
 
@@ -158,6 +159,7 @@ public class GraphRelationships {
 
 	// Versioning
 	public static final String HAS_VERSION = "HAS_VERSION";
+	public static final String HAS_VERSION_JUMP = "HAS_VERSION_JUMP";
 	public static final String HAS_CHANGE = "HAS_CHANGE";
 	public static final String HAS_LATEST_VERSION = "HAS_LATEST_VERSION";
 
@@ -25,6 +25,7 @@ public class GraphStorageOptions implements Option {
 	public static final boolean DEFAULT_START_SERVER = false;
 	public static final boolean DEFAULT_SYNC_WRITES = true;
 	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
+	public static final boolean DEFAULT_SYNC_WRITES_PER_PROJECT = false;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
@@ -36,6 +37,7 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
 	public static final String MESH_GRAPH_SYNC_WRITES_ENV = "MESH_GRAPH_SYNC_WRITES";
 	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
+	public static final String MESH_GRAPH_SYNC_WRITES_PER_PROJECT_ENV = "MESH_GRAPH_SYNC_WRITES_PER_PROJECT";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
@@ -71,6 +73,12 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV, description = "Override the graph database sync write timeout.")
 	private long synchronizeWritesTimeout = DEFAULT_SYNC_WRITES_TIMEOUT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether synchronized writes to the contents of different projects may run concurrently. If enabled, only structural changes (e.g. schemas, branches, roles and permissions) will lock all writes. Default: "
+		+ DEFAULT_SYNC_WRITES_PER_PROJECT)
+	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_PER_PROJECT_ENV, description = "Override the graph database sync writes per project flag.")
+	private boolean synchronizeWritesPerProject = DEFAULT_SYNC_WRITES_PER_PROJECT;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_DELAY + "ms")
 	@JsonPropertyDescription("The delay in milliseconds when a transaction has to be retried.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the transaction retry delay. Default: "
@@ -194,6 +202,16 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public boolean isSynchronizeWritesPerProject() {
+		return synchronizeWritesPerProject;
+	}
+
+	@Setter
+	public GraphStorageOptions setSynchronizeWritesPerProject(boolean synchronizeWritesPerProject) {
+		this.synchronizeWritesPerProject = synchronizeWritesPerProject;
+		return this;
+	}
+
 	public int getTxRetryLimit() {
 		return txRetryLimit;
 	}
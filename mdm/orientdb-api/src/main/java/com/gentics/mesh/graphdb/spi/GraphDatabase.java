@@ -1,6 +1,9 @@
 package com.gentics.mesh.graphdb.spi;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -9,6 +12,7 @@ import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.madl.frame.VertexFrame;
 import com.syncleus.ferma.EdgeFrame;
+import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.blueprints.TransactionalGraph;
 import com.tinkerpop.blueprints.Vertex;
@@ -30,6 +34,18 @@ public interface GraphDatabase extends Database {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues);
 
+	/**
+	 * Utilize the index and locate the vertices for all given keys with a single index lookup.
+	 *
+	 * @param classOfVertex
+	 * @param indexPostfix
+	 *            Postfix of the vertex index
+	 * @param indexKeys
+	 *            Keys of the index entries
+	 * @return Found vertices per key. Keys without vertices are not contained
+	 */
+	Map<Object, List<Vertex>> getVertices(Class<?> classOfVertex, String indexPostfix, Collection<?> indexKeys);
+
 	/**
 	 * Utilize the index and locate the matching vertices for the given parameters and the given range.
 	 * 
@@ -99,6 +115,29 @@ public interface GraphDatabase extends Database {
 	 */
 	<T extends EdgeFrame> T findEdge(String propertyKey, Object propertyValue, Class<T> clazz);
 
+	/**
+	 * Count the edges which are referenced by the given edge index for the given key. The count is determined by using the index entries and thus the edges
+	 * and their vertices do not need to be loaded.
+	 *
+	 * @param indexName
+	 *            Name of the edge index
+	 * @param indexKey
+	 *            Key of the index entries
+	 * @return Amount of edges
+	 */
+	long countEdges(String indexName, Object indexKey);
+
+	/**
+	 * Locate the edges which are referenced by the given edge index for all given keys with a single index lookup.
+	 *
+	 * @param indexName
+	 *            Name of the edge index
+	 * @param indexKeys
+	 *            Keys of the index entries
+	 * @return Found edges per key. Keys without edges are not contained
+	 */
+	Map<Object, List<Edge>> getEdges(String indexName, Collection<?> indexKeys);
+
 	/**
 	 * Return the index handler for the database.
 	 * 
@@ -6,6 +6,7 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.changelog.highlevel.change.AddNodeVersionJumps;
 import com.gentics.mesh.changelog.highlevel.change.FixNodeVersionOrder;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
@@ -25,6 +26,9 @@ public class OrientDBHighLevelChangesList extends HighLevelChangesList {
 	@Inject
 	public FixNodeVersionOrder fixNodeVersionOrder;
 
+	@Inject
+	public AddNodeVersionJumps addNodeVersionJumps;
+
 	@Inject
 	public OrientDBHighLevelChangesList() {
 	}
@@ -40,6 +44,7 @@ public class OrientDBHighLevelChangesList extends HighLevelChangesList {
 		// WARNING!
 		changeList.add(restructureWebroot);
 		changeList.add(fixNodeVersionOrder);
+		changeList.add(addNodeVersionJumps);
 
 		return changeList;
 	}
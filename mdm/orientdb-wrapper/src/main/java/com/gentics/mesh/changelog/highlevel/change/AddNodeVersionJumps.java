@@ -0,0 +1,91 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
+import com.gentics.mesh.core.db.GraphDBTx;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Adds the version depth and the version jump to all existing node versions. New versions get them when they are linked to their previous version.
+ *
+ * @see NodeGraphFieldContainer#updateVersionJump(NodeGraphFieldContainer)
+ */
+@Singleton
+public class AddNodeVersionJumps extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(AddNodeVersionJumps.class);
+
+	@Inject
+	public AddNodeVersionJumps() {
+	}
+
+	@Override
+	public String getUuid() {
+		return "74CC7C3B3D0A422E8E87071BB0800247";
+	}
+
+	@Override
+	public String getName() {
+		return "AddNodeVersionJumps";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Adds the jumps for the version lookup to all node versions";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = GraphDBTx.getGraphTx().getGraph();
+		Iterable<? extends NodeGraphFieldContainerImpl> containers = graph.getFramedVertices("@class",
+			NodeGraphFieldContainerImpl.class.getSimpleName(), NodeGraphFieldContainerImpl.class);
+		long chains = 0;
+		long total = 0;
+		Deque<NodeGraphFieldContainer> pending = new ArrayDeque<>();
+		for (NodeGraphFieldContainerImpl first : containers) {
+			// Each chain is updated starting with its first version, so that the previous version of a container is always updated before the container
+			if (first.hasPreviousVersion()) {
+				continue;
+			}
+			first.updateVersionJump(null);
+			pending.push(first);
+			while (!pending.isEmpty()) {
+				NodeGraphFieldContainer container = pending.pop();
+				for (HibNodeFieldContainer next : container.getNextVersions()) {
+					NodeGraphFieldContainer nextContainer = toGraph(next);
+					nextContainer.updateVersionJump(container);
+					pending.push(nextContainer);
+				}
+				total++;
+				if (total % 1000 == 0) {
+					graph.commit();
+				}
+			}
+			chains++;
+			if (chains % 1000 == 0) {
+				log.info("Updated {" + chains + "} version chains with {" + total + "} versions");
+			}
+		}
+		log.info("Done updating all version chains. Updated {" + chains + "} version chains with {" + total + "} versions");
+	}
+
+	@Override
+	public boolean isAllowedInCluster(MeshOptions options) {
+		return false;
+	}
+}
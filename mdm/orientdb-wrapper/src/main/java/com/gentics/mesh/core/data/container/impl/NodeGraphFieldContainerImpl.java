@@ -8,6 +8,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIE
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_LIST;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_VERSION;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_VERSION_JUMP;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.MICROSCHEMA_VERSION_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_VERSION_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
@@ -82,6 +83,8 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	public static final String VERSION_PROPERTY_KEY = "version";
 
+	public static final String VERSION_DEPTH_PROPERTY_KEY = "versionDepth";
+
 	// Cached instance of the parent node.
 	private NodeImpl parentNodeRef;
 
@@ -268,7 +271,73 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	@Override
 	public void setNextVersion(HibNodeFieldContainer container) {
-		linkOut(toGraph(container), HAS_VERSION);
+		NodeGraphFieldContainer next = toGraph(container);
+		linkOut(next, HAS_VERSION);
+		next.updateVersionJump(this);
+	}
+
+	@Override
+	public int getVersionDepth() {
+		Integer depth = property(VERSION_DEPTH_PROPERTY_KEY);
+		return depth == null ? 0 : depth;
+	}
+
+	@Override
+	public NodeGraphFieldContainer getVersionJump() {
+		return out(HAS_VERSION_JUMP, NodeGraphFieldContainerImpl.class).nextOrNull();
+	}
+
+	/**
+	 * The jump targets are chosen like the jump pointers of a skew-binary random access list. This way each container only stores a single jump, but any older
+	 * version can be reached from the latest version in a logarithmic amount of steps.
+	 *
+	 * A jump is only added if the versions strictly decrease between the container and the jump target, since otherwise the lookup could skip the requested
+	 * version. Legacy chains of multiple branches may contain versions which are lower than their previous version.
+	 */
+	@Override
+	public void updateVersionJump(NodeGraphFieldContainer previous) {
+		unlinkOut(null, HAS_VERSION_JUMP);
+		if (previous == null) {
+			property(VERSION_DEPTH_PROPERTY_KEY, 0);
+			return;
+		}
+		int previousDepth = previous.getVersionDepth();
+		property(VERSION_DEPTH_PROPERTY_KEY, previousDepth + 1);
+		if (getVersion().compareTo(previous.getVersion()) <= 0) {
+			return;
+		}
+		// The existing jumps already span strictly decreasing versions
+		NodeGraphFieldContainer target = previous;
+		NodeGraphFieldContainer jump = previous.getVersionJump();
+		if (jump != null) {
+			NodeGraphFieldContainer jumpOfJump = jump.getVersionJump();
+			int jumpDepth = jump.getVersionDepth();
+			if (jumpOfJump != null && previousDepth - jumpDepth == jumpDepth - jumpOfJump.getVersionDepth()) {
+				target = jumpOfJump;
+			}
+		}
+		linkOut(target, HAS_VERSION_JUMP);
+	}
+
+	@Override
+	public HibNodeFieldContainer findPreviousVersion(VersionNumber version) {
+		NodeGraphFieldContainer container = this;
+		while (container != null) {
+			VersionNumber currentVersion = container.getVersion();
+			int comparison = currentVersion.compareTo(version);
+			if (comparison == 0) {
+				return container;
+			}
+			// Only jump to versions which are not older than the requested version. Legacy chains may contain older versions before newer versions, thus the
+			// chain is walked if the jump can't be used.
+			NodeGraphFieldContainer jump = comparison > 0 ? container.getVersionJump() : null;
+			if (jump != null && jump.getVersion().compareTo(version) >= 0) {
+				container = jump;
+			} else {
+				container = toGraph(container.getPreviousVersion());
+			}
+		}
+		return null;
 	}
 
 	@Override
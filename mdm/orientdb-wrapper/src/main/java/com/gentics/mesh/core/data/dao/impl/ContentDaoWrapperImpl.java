@@ -3,6 +3,9 @@ package com.gentics.mesh.core.data.dao.impl;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -42,7 +45,6 @@ import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.util.StreamUtil;
 import com.gentics.mesh.util.VersionNumber;
-import org.apache.commons.lang3.tuple.Pair;
 
 public class ContentDaoWrapperImpl implements ContentDaoWrapper {
 
@@ -70,16 +72,26 @@ public class ContentDaoWrapperImpl implements ContentDaoWrapper {
 
 	@Override
 	public Map<HibNode, List<HibNodeFieldContainer>> getFieldsContainers(Set<HibNode> nodes, String branchUuid, ContainerType type) {
-		return nodes.stream()
-				.map(node -> Pair.of(node, getFieldEdges(node, branchUuid, type).stream().map(HibNodeFieldContainerEdge::getNodeContainer).collect(Collectors.toList())))
-				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+		Map<Object, List<NodeGraphFieldContainer>> containersById = GraphFieldContainerEdgeImpl.findContainers(
+			nodes.stream().map(HibNode::getId).collect(Collectors.toList()), branchUuid, type);
+		Map<HibNode, List<HibNodeFieldContainer>> containers = new HashMap<>(nodes.size());
+		for (HibNode node : nodes) {
+			containers.put(node, new ArrayList<>(containersById.getOrDefault(node.getId(), Collections.emptyList())));
+		}
+		return containers;
 	}
 
 	@Override
 	public Map<HibNode, List<HibNodeFieldContainer>> getFieldsContainers(Set<HibNode> nodes, String branchUuid, VersionNumber versionNumber) {
-		return nodes.stream()
-				.map(node -> Pair.of(node, getFieldContainersForVersion(node, branchUuid, versionNumber)))
-				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+		Map<HibNode, List<HibNodeFieldContainer>> drafts = getFieldsContainers(nodes, branchUuid, ContainerType.DRAFT);
+		Map<HibNode, List<HibNodeFieldContainer>> containers = new HashMap<>(nodes.size());
+		drafts.forEach((node, draftContainers) -> {
+			containers.put(node, draftContainers.stream()
+				.map(container -> container.findPreviousVersion(versionNumber))
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList()));
+		});
+		return containers;
 	}
 
 	public List<HibNodeFieldContainer> getFieldContainersForVersion(HibNode node, String branchUuid, VersionNumber versionNumber) {
@@ -87,14 +99,7 @@ public class ContentDaoWrapperImpl implements ContentDaoWrapper {
 
 		return edges.stream().map(edge -> {
 			HibNodeFieldContainer container = edge.getNodeContainer();
-
-			if (container != null) {
-				while (container != null && !versionNumber.equals(container.getVersion())) {
-					container = container.getPreviousVersion();
-				}
-			}
-
-			return container;
+			return container == null ? null : container.findPreviousVersion(versionNumber);
 		}).filter(Objects::nonNull)
 		  .collect(Collectors.toList());
 	}
@@ -26,6 +26,7 @@ import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -60,6 +61,11 @@ public class JobDaoWrapperImpl extends AbstractCoreDaoWrapper<JobResponse, HibJo
 		});
 	}
 
+	@Override
+	public Result<? extends HibJob> findByStatus(JobStatus status) {
+		return boot.get().meshRoot().getJobRoot().findByStatus(status);
+	}
+
 	@Override
 	public HibJob findByName(String name) {
 		return boot.get().meshRoot().getJobRoot().findByName(name);
@@ -3,12 +3,18 @@ package com.gentics.mesh.core.data.dao.impl;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -18,7 +24,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.branch.HibBranch;
-import org.apache.commons.lang3.tuple.Pair;
 
 import com.gentics.mesh.cli.OrientDBBootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
@@ -31,6 +36,7 @@ import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
 import com.gentics.mesh.core.data.dao.UserDao;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.node.field.nesting.HibNodeField;
 import com.gentics.mesh.core.data.page.Page;
@@ -108,9 +114,12 @@ public class NodeDaoWrapperImpl extends AbstractRootDaoWrapper<NodeResponse, Hib
 
 	@Override
 	public Map<HibNode, List<HibNode>> getChildren(Collection<HibNode> nodes, String branchUuid) {
-		return nodes.stream()
-				.map(node -> Pair.of(node, (List<HibNode>) getChildren(node, branchUuid).list()))
-				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+		Map<String, List<HibNode>> childrenByUuid = NodeImpl.findChildren(nodes.stream().map(HibNode::getUuid).collect(Collectors.toSet()), branchUuid);
+		Map<HibNode, List<HibNode>> children = new HashMap<>(nodes.size());
+		for (HibNode node : nodes) {
+			children.put(node, childrenByUuid.getOrDefault(node.getUuid(), Collections.emptyList()));
+		}
+		return children;
 	}
 
 	@Override
@@ -120,9 +129,19 @@ public class NodeDaoWrapperImpl extends AbstractRootDaoWrapper<NodeResponse, Hib
 
 	@Override
 	public Map<HibNode, HibNode> getParentNodes(Collection<HibNode> nodes, String branchUuid) {
-		return nodes.stream()
-				.map(node -> Pair.of(node, getParentNode(node, branchUuid)))
-				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+		Map<HibNode, String> parentUuids = new HashMap<>(nodes.size());
+		for (HibNode node : nodes) {
+			parentUuids.put(node, getParentNodeUuid(node, branchUuid));
+		}
+		Map<String, NodeImpl> parentsByUuid = NodeImpl.findByUuids(parentUuids.values().stream().filter(Objects::nonNull).collect(Collectors.toSet()));
+		Map<HibNode, HibNode> parents = new HashMap<>(nodes.size());
+		parentUuids.forEach((node, parentUuid) -> parents.put(node, parentUuid == null ? null : parentsByUuid.get(parentUuid)));
+		return parents;
+	}
+
+	@Override
+	public String getParentNodeUuid(HibNode node, String branchUuid) {
+		return ((NodeImpl) toGraph(node)).getParentNodeUuid(branchUuid);
 	}
 
 	@Override
@@ -143,23 +162,36 @@ public class NodeDaoWrapperImpl extends AbstractRootDaoWrapper<NodeResponse, Hib
 
 	@Override
 	public Map<HibNode, List<NodeContent>> getChildren(Set<HibNode> nodes, InternalActionContext ac, String branchUuid, List<String> languageTags, ContainerType type) {
+		Tx tx = Tx.get();
 		HibUser user = ac.getUser();
-		return nodes.stream()
-				.map(node -> Pair.of(node, getContentFromNode(Tx.get(), user, node, branchUuid, languageTags, type)))
-				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
-	}
-
-	private List<NodeContent> getContentFromNode(Tx tx, HibUser user, HibNode sourceNode, String branchUuid, List<String> languageTags, ContainerType type) {
 		UserDao userDao = tx.userDao();
 		ContentDao contentDao = tx.contentDao();
-		return toGraph(sourceNode).getChildren(branchUuid)
-				.stream()
-				.filter(node -> userDao.hasPermissionForId(user, node.getId(), type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM))
-				.map(node -> {
-					HibNodeFieldContainer container = contentDao.findVersion(node, languageTags, branchUuid, type.getHumanCode());
-					return new NodeContent(node, container, languageTags, type);
-				})
-				.collect(Collectors.toList());
+		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+
+		Map<HibNode, List<HibNode>> childrenByNode = getChildren(nodes, branchUuid);
+		childrenByNode.replaceAll((node, children) -> children.stream()
+			.filter(child -> userDao.hasPermissionForId(user, child.getId(), perm))
+			.collect(Collectors.toList()));
+
+		// Load the contents of all visible children at once and apply the language fallback afterwards
+		Map<HibNode, List<HibNodeFieldContainer>> containers = null;
+		if (type == DRAFT || type == PUBLISHED) {
+			Set<HibNode> children = childrenByNode.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+			containers = contentDao.getFieldsContainers(children, branchUuid, type);
+		}
+
+		Map<HibNode, List<NodeContent>> contents = new HashMap<>(childrenByNode.size());
+		for (Map.Entry<HibNode, List<HibNode>> entry : childrenByNode.entrySet()) {
+			List<NodeContent> contentsOfNode = new ArrayList<>(entry.getValue().size());
+			for (HibNode child : entry.getValue()) {
+				HibNodeFieldContainer container = containers == null
+					? contentDao.findVersion(child, languageTags, branchUuid, type.getHumanCode())
+					: contentDao.findForLanguages(containers.getOrDefault(child, Collections.emptyList()), languageTags);
+				contentsOfNode.add(new NodeContent(child, container, languageTags, type));
+			}
+			contents.put(entry.getKey(), contentsOfNode);
+		}
+		return contents;
 	}
 
 	@Override
@@ -209,6 +241,11 @@ public class NodeDaoWrapperImpl extends AbstractRootDaoWrapper<NodeResponse, Hib
 		return boot.get().meshRoot().findNodeByUuid(uuid);
 	}
 
+	@Override
+	public Map<String, HibNode> findByUuidsGlobal(Collection<String> uuids) {
+		return new HashMap<>(NodeImpl.findByUuids(uuids));
+	}
+
 	@Override
 	public long globalCount() {
 		return boot.get().meshRoot().nodeCount();
@@ -216,13 +253,35 @@ public class NodeDaoWrapperImpl extends AbstractRootDaoWrapper<NodeResponse, Hib
 
 	@Override
 	public Map<HibNode, List<HibNode>> getBreadcrumbNodesMap(Collection<HibNode> nodes, InternalActionContext ac) {
-		return nodes.stream().map(node -> Pair.of(node,
-				getBreadcrumbNodes(node, ac)
-						.stream()
-						.map(HibNode.class::cast)
-						.collect(Collectors.toList()))
-		)
-				.collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+		Tx tx = Tx.get();
+		Map<HibNode, List<HibNode>> breadcrumbs = new HashMap<>(nodes.size());
+		// The branch depends on the project of the node
+		Map<String, List<HibNode>> nodesByBranch = nodes.stream()
+			.collect(Collectors.groupingBy(node -> tx.getBranch(ac, node.getProject()).getUuid()));
+
+		nodesByBranch.forEach((branchUuid, nodesOfBranch) -> {
+			// Load the parents of all nodes level by level
+			Map<HibNode, HibNode> current = new HashMap<>();
+			for (HibNode node : nodesOfBranch) {
+				List<HibNode> breadcrumb = new ArrayList<>();
+				breadcrumb.add(node);
+				breadcrumbs.put(node, breadcrumb);
+				current.put(node, node);
+			}
+			while (!current.isEmpty()) {
+				Map<HibNode, HibNode> parents = getParentNodes(new HashSet<>(current.values()), branchUuid);
+				Map<HibNode, HibNode> next = new HashMap<>();
+				current.forEach((node, ancestor) -> {
+					HibNode parent = parents.get(ancestor);
+					if (parent != null) {
+						breadcrumbs.get(node).add(0, parent);
+						next.put(node, parent);
+					}
+				});
+				current = next;
+			}
+		});
+		return breadcrumbs;
 	}
 
 	@Override
@@ -3,8 +3,13 @@ package com.gentics.mesh.core.data.dao.impl;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -17,6 +22,7 @@ import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.AbstractCoreDaoWrapper;
 import com.gentics.mesh.core.data.dao.TagDao;
 import com.gentics.mesh.core.data.dao.TagDaoWrapper;
+import com.gentics.mesh.core.data.impl.TagEdgeImpl;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
@@ -157,6 +163,16 @@ public class TagDaoWrapperImpl extends AbstractCoreDaoWrapper<TagResponse, HibTa
 		return toGraph(node).getTags(branch);
 	}
 
+	@Override
+	public Map<HibNode, List<HibTag>> getTags(Collection<HibNode> nodes, HibBranch branch) {
+		Map<Object, List<HibTag>> tagsById = TagEdgeImpl.getTags(nodes.stream().map(HibClassConverter::toGraph).collect(Collectors.toList()), branch);
+		Map<HibNode, List<HibTag>> tags = new HashMap<>(nodes.size());
+		for (HibNode node : nodes) {
+			tags.put(node, tagsById.getOrDefault(node.getId(), Collections.emptyList()));
+		}
+		return tags;
+	}
+
 	@Override
 	public Page<? extends HibTag> getTags(HibNode node, HibUser user, PagingParameters params, HibBranch branch) {
 		return toGraph(node).getTags(user, params, branch);
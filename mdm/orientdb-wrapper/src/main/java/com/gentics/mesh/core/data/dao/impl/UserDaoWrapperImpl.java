@@ -136,7 +136,7 @@ public class UserDaoWrapperImpl extends AbstractCoreDaoWrapper<UserResponse, Hib
 			String key = perm.propertyKey();
 			toGraph(target).property(key, toGraph(source).property(key));
 		}
-		Tx.get().permissionCache().clear();
+		Tx.get().permissionCache().invalidateElement(target.getId());
 		return user;
 	}
 
@@ -7,8 +7,12 @@ import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
 import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
 import static com.gentics.mesh.madl.type.EdgeTypeDefinition.edgeType;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import com.gentics.madl.annotations.GraphElement;
 import com.gentics.madl.index.IndexHandler;
@@ -35,6 +39,7 @@ import com.syncleus.ferma.traversals.EdgeTraversal;
 import com.syncleus.ferma.traversals.Traversal;
 import com.syncleus.ferma.traversals.TraversalFunction;
 import com.syncleus.ferma.traversals.VertexTraversal;
+import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 
 /**
@@ -249,4 +254,38 @@ public class GraphFieldContainerEdgeImpl extends MeshEdgeImpl implements GraphFi
 		return new TraversalResult<>(() -> frames);
 	}
 
+	/**
+	 * Use the graph index to lookup the contents of all given nodes for the given parameters. All index keys are resolved with a single index lookup and the
+	 * contents are loaded directly from the found edges, thus no traversal is needed per node.
+	 *
+	 * @param nodeIds
+	 * @param branchUuid
+	 * @param type
+	 * @return Contents per node id. Nodes without contents are not contained
+	 */
+	public static Map<Object, List<NodeGraphFieldContainer>> findContainers(Collection<Object> nodeIds, String branchUuid, ContainerType type) {
+		FramedGraph graph = GraphDBTx.getGraphTx().getGraph();
+		OrientDBMeshComponent mesh = graph.getAttribute(GraphAttribute.MESH_COMPONENT);
+		GraphDatabase db = mesh.database();
+		Map<Object, Object> nodeIdsByKey = new HashMap<>(nodeIds.size());
+		for (Object nodeId : nodeIds) {
+			nodeIdsByKey.put(db.index().createComposedIndexKey(nodeId, branchUuid, type.getCode()), nodeId);
+		}
+
+		Map<Object, List<NodeGraphFieldContainer>> containers = new HashMap<>(nodeIds.size());
+		db.getEdges("e." + HAS_FIELD_CONTAINER.toLowerCase() + "_field", nodeIdsByKey.keySet()).forEach((key, edges) -> {
+			List<NodeGraphFieldContainer> containersOfNode = new ArrayList<>(edges.size());
+			for (Edge edge : edges) {
+				containersOfNode.add(graph.frameElementExplicit(edge.getVertex(Direction.IN), NodeGraphFieldContainerImpl.class));
+			}
+			Object nodeId = nodeIdsByKey.get(key);
+			if (nodeId == null) {
+				// The key was not returned in the requested form
+				nodeId = edges.get(0).getVertex(Direction.OUT).getId();
+			}
+			containers.put(nodeId, containersOfNode);
+		});
+		return containers;
+	}
+
 }
@@ -4,6 +4,12 @@ import static com.gentics.mesh.core.data.MeshVertex.UUID_KEY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.madl.type.EdgeTypeDefinition.edgeType;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.gentics.madl.annotations.GraphElement;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -12,9 +18,13 @@ import com.gentics.mesh.core.data.TagEdge;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.generic.MeshEdgeImpl;
 import com.gentics.mesh.core.data.tag.HibTag;
+import com.gentics.mesh.core.db.GraphDBTx;
 import com.gentics.mesh.madl.field.FieldType;
+import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.traversals.VertexTraversal;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
 
 /**
  * @see TagEdge
@@ -46,6 +56,29 @@ public class TagEdgeImpl extends MeshEdgeImpl implements TagEdge {
 		return vertex.outE(HAS_TAG).has(BRANCH_UUID_KEY, branch.getUuid()).inV();
 	}
 
+	/**
+	 * Load the tags which are assigned to the given vertices for the given branch. The tag edges of the vertices are read directly without creating a
+	 * traversal per vertex.
+	 *
+	 * @param vertices
+	 * @param branch
+	 * @return Tags per vertex id. Vertices without tags are not contained
+	 */
+	public static Map<Object, List<HibTag>> getTags(Collection<? extends VertexFrame> vertices, HibBranch branch) {
+		FramedGraph graph = GraphDBTx.getGraphTx().getGraph();
+		String branchUuid = branch.getUuid();
+		Map<Object, List<HibTag>> tags = new HashMap<>(vertices.size());
+		for (VertexFrame vertex : vertices) {
+			for (Edge edge : vertex.getElement().getEdges(Direction.OUT, HAS_TAG)) {
+				if (branchUuid.equals(edge.getProperty(BRANCH_UUID_KEY))) {
+					tags.computeIfAbsent(vertex.getId(), k -> new ArrayList<>())
+						.add(graph.frameElementExplicit(edge.getVertex(Direction.IN), TagImpl.class));
+				}
+			}
+		}
+		return tags;
+	}
+
 	/**
 	 * Get the traversal for the tag assigned to the given vertex for the given branch
 	 *
@@ -18,5 +18,6 @@ public class BranchMigrationJobImpl extends JobImpl implements JobCore {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(BranchMigrationJobImpl.class, MeshVertexImpl.class);
+		createStatusIndex(BranchMigrationJobImpl.class, index);
 	}
 }
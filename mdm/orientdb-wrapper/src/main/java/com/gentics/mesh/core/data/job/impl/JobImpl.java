@@ -5,9 +5,12 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FRO
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toGraph;
 import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
+import static com.gentics.mesh.madl.field.FieldType.STRING;
+import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 
 import org.apache.commons.lang.NotImplementedException;
 
+import com.gentics.madl.index.IndexHandler;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
@@ -25,6 +28,7 @@ import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.rest.job.JobWarningList;
+import com.gentics.mesh.core.rest.job.MigrationCheckpoint;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 
@@ -38,6 +42,18 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse> implem
 
 	private static final Logger log = LoggerFactory.getLogger(JobImpl.class);
 
+	/**
+	 * Create the status index for the given job vertex type. The index is used to find pending jobs without loading all jobs.
+	 * 
+	 * @param clazz
+	 * @param index
+	 */
+	protected static void createStatusIndex(Class<? extends JobImpl> clazz, IndexHandler index) {
+		index.createIndex(vertexIndex(clazz)
+			.withPostfix("status")
+			.withField(STATUS_PROPERTY_KEY, STRING));
+	}
+
 	@Override
 	public boolean update(InternalActionContext ac, EventQueueBatch batch) {
 		throw new NotImplementedException("Jobs can't be updated");
@@ -59,6 +75,25 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse> implem
 		property(WARNING_PROPERTY_KEY, json);
 	}
 
+	@Override
+	public MigrationCheckpoint getCheckpoint() {
+		String json = property(CHECKPOINT_PROPERTY_KEY);
+		if (json == null) {
+			return null;
+		} else {
+			return JsonUtil.readValue(json, MigrationCheckpoint.class);
+		}
+	}
+
+	@Override
+	public void setCheckpoint(MigrationCheckpoint checkpoint) {
+		if (checkpoint == null) {
+			removeProperty(CHECKPOINT_PROPERTY_KEY);
+		} else {
+			property(CHECKPOINT_PROPERTY_KEY, JsonUtil.toJson(checkpoint, true));
+		}
+	}
+
 	@Override
 	public String getSubETag(InternalActionContext ac) {
 		return getErrorMessage() + getErrorDetail();
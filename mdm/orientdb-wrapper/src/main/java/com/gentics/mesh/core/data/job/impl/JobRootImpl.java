@@ -9,7 +9,9 @@ import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Stack;
 import java.util.function.Predicate;
 
@@ -34,8 +36,10 @@ import com.gentics.mesh.core.data.schema.HibMicroschemaVersion;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.db.GraphDBTx;
+import com.gentics.mesh.core.rest.job.JobStatus;
 import com.gentics.mesh.core.rest.job.JobType;
 import com.gentics.mesh.core.result.Result;
+import com.gentics.mesh.core.result.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.FramedGraph;
 import com.tinkerpop.blueprints.Edge;
@@ -46,6 +50,9 @@ import com.tinkerpop.blueprints.Vertex;
  */
 public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 
+	private static final List<Class<? extends JobImpl>> JOB_CLASSES = Arrays.asList(NodeMigrationJobImpl.class, MicronodeMigrationJobImpl.class,
+		BranchMigrationJobImpl.class, VersionPurgeJobImpl.class);
+
 	/**
 	 * Initialize the vertex type and index.
 	 * 
@@ -102,6 +109,14 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return super.findAllDynamic();
 	}
 
+	@Override
+	public Result<? extends Job> findByStatus(JobStatus status) {
+		String[] keys = { HibJob.STATUS_PROPERTY_KEY };
+		Object[] values = { status.name() };
+		return new TraversalResult<>(JOB_CLASSES.stream()
+			.flatMap(clazz -> db().getVerticesTraversal(clazz, keys, values).stream()));
+	}
+
 	@Override
 	public Job enqueueSchemaMigration(HibUser creator, HibBranch branch, HibSchemaVersion fromVersion, HibSchemaVersion toVersion) {
 		NodeMigrationJobImpl job = getGraph().addFramedVertex(NodeMigrationJobImpl.class);
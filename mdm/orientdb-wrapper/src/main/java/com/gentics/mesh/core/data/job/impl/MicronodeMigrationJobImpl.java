@@ -18,5 +18,6 @@ public class MicronodeMigrationJobImpl extends JobImpl implements JobCore {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(MicronodeMigrationJobImpl.class, MeshVertexImpl.class);
+		createStatusIndex(MicronodeMigrationJobImpl.class, index);
 	}
 }
@@ -20,5 +20,6 @@ public class NodeMigrationJobImpl extends JobImpl implements JobCore {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(NodeMigrationJobImpl.class, MeshVertexImpl.class);
+		createStatusIndex(NodeMigrationJobImpl.class, index);
 	}
 }
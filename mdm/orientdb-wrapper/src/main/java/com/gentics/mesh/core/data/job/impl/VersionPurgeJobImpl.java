@@ -31,6 +31,7 @@ public class VersionPurgeJobImpl extends JobImpl implements JobCore, HibVersionP
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(VersionPurgeJobImpl.class, MeshVertexImpl.class);
+		createStatusIndex(VersionPurgeJobImpl.class, index);
 	}
 
 	public Project getProject() {
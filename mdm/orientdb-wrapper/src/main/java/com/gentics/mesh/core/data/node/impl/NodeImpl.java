@@ -22,6 +22,8 @@ import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static com.gentics.mesh.madl.type.VertexTypeDefinition.vertexType;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +71,7 @@ import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.db.GraphDBTx;
 import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.graph.GraphAttribute;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.event.MeshElementEventModel;
@@ -77,6 +80,7 @@ import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.result.Result;
 import com.gentics.mesh.core.result.TraversalResult;
+import com.gentics.mesh.dagger.OrientDBMeshComponent;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.FramedGraph;
@@ -256,17 +260,74 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public NodeImpl getParentNode(String branchUuid) {
+		String parentUuid = getParentNodeUuid(branchUuid);
+		if (parentUuid == null) {
+			return null;
+		} else {
+			return db().index().findByUuid(NodeImpl.class, parentUuid);
+		}
+	}
+
+	/**
+	 * Return the uuid of the parent node in the given branch. The uuid is read from the node and thus the parent node does not need to be loaded.
+	 *
+	 * @param branchUuid
+	 * @return Uuid of the parent node or null if the node has no parent in the branch
+	 */
+	public String getParentNodeUuid(String branchUuid) {
 		Set<String> parents = property(BRANCH_PARENTS_KEY_PROPERTY);
 		if (parents == null) {
 			return null;
-		} else {
-			return parents.stream()
-				.map(BranchParentEntry::fromString)
-				.filter(entry -> entry.getBranchUuid().equals(branchUuid))
-				.findAny()
-				.map(entry -> db().index().findByUuid(NodeImpl.class, entry.getParentUuid()))
-				.orElse(null);
 		}
+		return parents.stream()
+			.map(BranchParentEntry::fromString)
+			.filter(entry -> entry.getBranchUuid().equals(branchUuid))
+			.findAny()
+			.map(BranchParentEntry::getParentUuid)
+			.orElse(null);
+	}
+
+	/**
+	 * Load the children of all given parent nodes in the given branch with a single index lookup.
+	 *
+	 * @param parentUuids
+	 * @param branchUuid
+	 * @return Children per parent node uuid. Parents without children are not contained
+	 */
+	public static Map<String, List<HibNode>> findChildren(Collection<String> parentUuids, String branchUuid) {
+		FramedGraph graph = GraphDBTx.getGraphTx().getGraph();
+		OrientDBMeshComponent mesh = graph.getAttribute(GraphAttribute.MESH_COMPONENT);
+		Map<String, String> parentUuidsByKey = new HashMap<>(parentUuids.size());
+		for (String parentUuid : parentUuids) {
+			parentUuidsByKey.put(branchParentEntry(branchUuid, parentUuid).encode(), parentUuid);
+		}
+
+		Map<String, List<HibNode>> children = new HashMap<>(parentUuids.size());
+		mesh.database().getVertices(NodeImpl.class, "branch_parents", parentUuidsByKey.keySet()).forEach((key, vertices) -> {
+			String parentUuid = parentUuidsByKey.get(key);
+			if (parentUuid != null) {
+				children.put(parentUuid, vertices.stream()
+					.<HibNode>map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class))
+					.collect(Collectors.toList()));
+			}
+		});
+		return children;
+	}
+
+	/**
+	 * Load the nodes with the given uuids with a single index lookup.
+	 *
+	 * @param uuids
+	 * @return Nodes per uuid. Uuids without a node are not contained
+	 */
+	public static Map<String, NodeImpl> findByUuids(Collection<String> uuids) {
+		FramedGraph graph = GraphDBTx.getGraphTx().getGraph();
+		OrientDBMeshComponent mesh = graph.getAttribute(GraphAttribute.MESH_COMPONENT);
+		Map<String, NodeImpl> nodes = new HashMap<>(uuids.size());
+		mesh.database().getVertices(NodeImpl.class, "uuid", uuids).forEach((key, vertices) -> {
+			nodes.put(String.valueOf(key), graph.frameElementExplicit(vertices.get(0), NodeImpl.class));
+		});
+		return nodes;
 	}
 
 	@Override
@@ -28,6 +28,11 @@ public class OrientDBWriteLockImpl extends AbstractGenericWriteLock {
 		return options.getStorageOptions().isSynchronizeWrites();
 	}
 
+	@Override
+	protected boolean isSyncWritesPerProject() {
+		return options.getStorageOptions().isSynchronizeWritesPerProject();
+	}
+
 	@Override
 	protected long getSyncWritesTimeoutMillis() {
 		return options.getStorageOptions().getSynchronizeWritesTimeout();
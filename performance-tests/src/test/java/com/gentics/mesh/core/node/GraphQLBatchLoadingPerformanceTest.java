@@ -0,0 +1,88 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.NONE;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.HibNodeFieldContainerEdge;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+/**
+ * Benchmark for lists of 1000 nodes with content fields. The contents are loaded with a single batch read for the whole list. The batch read is compared with
+ * loading the contents for each node.
+ */
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = true)
+public class GraphQLBatchLoadingPerformanceTest extends AbstractMeshTest {
+
+	private static final int NODE_COUNT = 1000;
+
+	private static final String QUERY = "{ nodes(perPage: " + NODE_COUNT + ") { elements { uuid "
+		+ "fields { ... on content { slug title teaser } } "
+		+ "parent { uuid } } } }";
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	private void addNodes() {
+		String uuid = tx(() -> folder("news").getUuid());
+		for (int i = 0; i < NODE_COUNT; i++) {
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setLanguage("en");
+			request.setParentNodeUuid(uuid);
+			request.setSchema(new SchemaReferenceImpl().setName("content"));
+			request.getFields().put("slug", FieldUtil.createStringField("batchNode_" + i));
+			request.getFields().put("title", FieldUtil.createStringField("Title " + i));
+			request.getFields().put("teaser", FieldUtil.createStringField("Teaser " + i));
+			call(() -> client().createNode(PROJECT_NAME, request));
+		}
+	}
+
+	@Test
+	public void testNodeList() {
+		addNodes();
+
+		loggingStopWatch(logger, "graphql.node-list-1000-fields", 20, (step) -> {
+			call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setQuery(QUERY)));
+		});
+
+		loggingStopWatch(logger, "node.read-page-1000", 20, (step) -> {
+			call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setPerPage((long) NODE_COUNT)));
+		});
+
+		// Compare the batch read with the read for each single node
+		loggingStopWatch(logger, "content.load-1000-per-node", 20, (step) -> {
+			tx(tx -> {
+				ContentDao contentDao = tx.contentDao();
+				String branchUuid = latestBranch().getUuid();
+				for (HibNode node : tx.nodeDao().findAll(project())) {
+					for (HibNodeFieldContainerEdge edge : contentDao.getFieldEdges(node, branchUuid, ContainerType.DRAFT)) {
+						edge.getNodeContainer();
+					}
+				}
+			});
+		});
+
+		loggingStopWatch(logger, "content.load-1000-batch", 20, (step) -> {
+			tx(tx -> {
+				Set<HibNode> nodes = new HashSet<>(tx.nodeDao().findAll(project()).list());
+				tx.contentDao().getFieldsContainers(nodes, latestBranch().getUuid(), ContainerType.DRAFT);
+			});
+		});
+	}
+}
@@ -0,0 +1,73 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.NONE;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.dao.UserDao;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Benchmark for the latency of paged list requests on large element sets. The amount of elements can be set via the system property
+ * {@value #SIZE_PROPERTY}.
+ */
+@MeshTestSetting(elasticsearch = NONE, testSize = FULL, startServer = true)
+public class PagedListPerformanceTest extends AbstractMeshTest {
+
+	private static final Logger log = LoggerFactory.getLogger(PagedListPerformanceTest.class);
+
+	private static final String SIZE_PROPERTY = "mesh.benchmark.listSize";
+
+	private static final int BATCH_SIZE = 10_000;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	private void addUsers(int count) {
+		for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+			int start = offset;
+			tx(tx -> {
+				UserDao userDao = tx.userDao();
+				HibUser creator = user();
+				for (int i = start; i < Math.min(start + BATCH_SIZE, count); i++) {
+					userDao.create("benchmark_" + i, creator);
+				}
+			});
+			log.info("Created {" + Math.min(offset + BATCH_SIZE, count) + "} of {" + count + "} users");
+		}
+	}
+
+	@Test
+	public void testReadPage() {
+		addUsers(Integer.getInteger(SIZE_PROPERTY, 1_000_000));
+
+		// Admin users see all elements, thus the total count can be determined via the index
+		grantAdmin();
+		loggingStopWatch(logger, "user.read-page-25-admin", 20, (step) -> {
+			call(() -> client().findUsers(new PagingParametersImpl().setPerPage(25L)));
+		});
+
+		loggingStopWatch(logger, "user.read-page-25-admin-nocount", 20, (step) -> {
+			call(() -> client().findUsers(new PagingParametersImpl().setPerPage(25L).setCount(false)));
+		});
+
+		// The permissions of all elements need to be checked in order to determine the total count
+		revokeAdmin();
+		loggingStopWatch(logger, "user.read-page-25", 5, (step) -> {
+			call(() -> client().findUsers(new PagingParametersImpl().setPerPage(25L)));
+		});
+
+		loggingStopWatch(logger, "user.read-page-25-nocount", 20, (step) -> {
+			call(() -> client().findUsers(new PagingParametersImpl().setPerPage(25L).setCount(false)));
+		});
+	}
+}
@@ -27,6 +27,9 @@ public class MeshRestClientConfig {
 	private final boolean hostnameVerification;
 	private final int maxRetries;
 	private final int retryDelayMs;
+	private final long responseCacheSize;
+	private final File responseCacheDirectory;
+	private final long responseCacheDirectorySize;
 
 	public MeshRestClientConfig(Builder builder) {
 		this.host = Objects.requireNonNull(builder.host);
@@ -41,6 +44,9 @@ public class MeshRestClientConfig {
 		this.clientKey = builder.clientKey;
 		this.maxRetries = builder.maxRetries;
 		this.retryDelayMs = builder.retryDelayMs;
+		this.responseCacheSize = builder.responseCacheSize;
+		this.responseCacheDirectory = builder.responseCacheDirectory;
+		this.responseCacheDirectorySize = builder.responseCacheDirectorySize;
 	}
 
 	/**
@@ -106,6 +112,27 @@ public class MeshRestClientConfig {
 		return retryDelayMs;
 	}
 
+	public long getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	public File getResponseCacheDirectory() {
+		return responseCacheDirectory;
+	}
+
+	public long getResponseCacheDirectorySize() {
+		return responseCacheDirectorySize;
+	}
+
+	/**
+	 * Check whether the response cache is enabled.
+	 * 
+	 * @return
+	 */
+	public boolean isResponseCacheEnabled() {
+		return responseCacheSize > 0 || responseCacheDirectory != null;
+	}
+
 	/**
 	 * Create a fresh config builder.
 	 * 
@@ -134,6 +161,9 @@ public class MeshRestClientConfig {
 		// maximum number of retries with the chosen delay fit inside the
 		// max call timeout.
 		private int retryDelayMs = -1;
+		private long responseCacheSize = 0;
+		private File responseCacheDirectory;
+		private long responseCacheDirectorySize = 100 * 1024 * 1024;
 
 		public Builder() {
 			trustedCAs = new HashSet<>();
@@ -163,6 +193,9 @@ public class MeshRestClientConfig {
 			}
 			setMaxRetries(config.getMaxRetries());
 			setRetryDelayMs(config.getRetryDelayMs());
+			setResponseCacheSize(config.getResponseCacheSize());
+			setResponseCacheDirectory(config.getResponseCacheDirectory());
+			setResponseCacheDirectorySize(config.getResponseCacheDirectorySize());
 		}
 
 		/**
@@ -401,6 +434,56 @@ public class MeshRestClientConfig {
 			return this;
 		}
 
+		/**
+		 * Set the size of the response cache in memory. Responses to GET requests which provide an ETag are cached and revalidated via
+		 * <code>If-None-Match</code>, thus unchanged responses do not need to be transferred again.
+		 *
+		 * <p>
+		 * Default: 0 (disabled)
+		 * </p>
+		 *
+		 * @param responseCacheSize
+		 *            Size in bytes
+		 * @return
+		 */
+		public Builder setResponseCacheSize(long responseCacheSize) {
+			this.responseCacheSize = responseCacheSize;
+			return this;
+		}
+
+		/**
+		 * Set the directory in which cached responses are additionally stored. Responses which were evicted from memory are loaded from this directory.
+		 *
+		 * <p>
+		 * Default: null (disabled)
+		 * </p>
+		 *
+		 * @see #setResponseCacheSize(long)
+		 * @param responseCacheDirectory
+		 * @return
+		 */
+		public Builder setResponseCacheDirectory(File responseCacheDirectory) {
+			this.responseCacheDirectory = responseCacheDirectory;
+			return this;
+		}
+
+		/**
+		 * Set the maximum size of the response cache directory.
+		 *
+		 * <p>
+		 * Default: 100 MB
+		 * </p>
+		 *
+		 * @see #setResponseCacheDirectory(File)
+		 * @param responseCacheDirectorySize
+		 *            Size in bytes
+		 * @return
+		 */
+		public Builder setResponseCacheDirectorySize(long responseCacheDirectorySize) {
+			this.responseCacheDirectorySize = responseCacheDirectorySize;
+			return this;
+		}
+
 		private static byte[] readFile(String path) {
 			Objects.requireNonNull(path);
 			File keyFile = new File(path);
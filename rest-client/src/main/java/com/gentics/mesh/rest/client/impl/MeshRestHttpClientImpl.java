@@ -11,6 +11,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.security.InvalidParameterException;
 import java.util.Arrays;
 import java.util.Objects;
@@ -28,6 +29,7 @@ import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorMasterRes
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.localconfig.LocalConfigModel;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileListResponse;
 import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
 import com.gentics.mesh.core.rest.branch.BranchListResponse;
 import com.gentics.mesh.core.rest.branch.BranchResponse;
@@ -1122,6 +1124,36 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 			NodeResponse.class, completeStream, fileSize, bodyContentType);
 	}
 
+	@Override
+	public MeshRequest<NodeResponse> streamNodeBinaryField(String projectName, String nodeUuid, String languageTag, String version, String fieldKey,
+		InputStream fileData, long fileSize, String fileName, String contentType, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(nodeUuid, "nodeUuid must not be null");
+		Objects.requireNonNull(fileData, "fileData must not be null");
+		Objects.requireNonNull(fileName, "fileName must not be null");
+		Objects.requireNonNull(version, "version must not be null");
+		Objects.requireNonNull(contentType, "contentType must not be null");
+		if (contentType.isEmpty()) {
+			throw new IllegalArgumentException("The contentType of the binary field cannot be empty.");
+		}
+
+		StringBuilder query = new StringBuilder();
+		try {
+			query.append("?language=").append(URLEncoder.encode(languageTag, "UTF-8"));
+			query.append("&nodeVersion=").append(URLEncoder.encode(version, "UTF-8"));
+			query.append("&filename=").append(URLEncoder.encode(fileName, "UTF-8"));
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+		String additional = getQuery(parameters);
+		if (!additional.isEmpty()) {
+			query.append("&").append(additional.substring(1));
+		}
+
+		return prepareRequest(POST, "/" + encodeSegment(projectName) + "/nodes/" + nodeUuid + "/binary/" + fieldKey + "/stream" + query,
+			NodeResponse.class, fileData, fileSize, contentType);
+	}
+
 	@Override
 	public MeshRequest<S3RestResponse> updateNodeS3BinaryField(String projectName, String nodeUuid, String fieldKey, S3BinaryUploadRequest request, ParameterProvider... parameters) {
 		Objects.requireNonNull(projectName, "projectName must not be null");
@@ -1533,6 +1565,11 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return prepareRequest(DELETE, "/admin/cache", GenericMessageResponse.class);
 	}
 
+	@Override
+	public MeshRequest<TxProfileListResponse> slowTransactions() {
+		return prepareRequest(GET, "/admin/transactions/slow", TxProfileListResponse.class);
+	}
+
 	@Override
 	public MeshRequest<EmptyResponse> ready() {
 		return prepareRequest(GET, "/health/ready", EmptyResponse.class);
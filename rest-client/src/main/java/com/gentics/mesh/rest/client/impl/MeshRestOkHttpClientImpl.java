@@ -19,14 +19,23 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 
 	private final OkHttpClient client;
 	private final MeshRestClientConfig config;
+	private final ResponseCache responseCache;
 
 	public MeshRestOkHttpClientImpl(MeshRestClientConfig config) {
 		this(config, OkHttpClientUtil.createClient(config));
 	}
 
 	public MeshRestOkHttpClientImpl(MeshRestClientConfig config, OkHttpClient client) {
-		this.client = client;
 		this.config = config;
+		if (config.isResponseCacheEnabled()) {
+			this.responseCache = new ResponseCache(config);
+			long maxEntrySize = Math.max(config.getResponseCacheSize(), config.getResponseCacheDirectory() == null ? 0 : config.getResponseCacheDirectorySize());
+			// The derived client shares the connection pool and dispatcher with the given client
+			this.client = client.newBuilder().addInterceptor(new ResponseCacheInterceptor(responseCache, maxEntrySize)).build();
+		} else {
+			this.responseCache = null;
+			this.client = client;
+		}
 	}
 
 	@Override
@@ -81,6 +90,15 @@ public class MeshRestOkHttpClientImpl extends MeshRestHttpClientImpl {
 		// * A user provided client. The user could use the client somewhere else, so we should not close it here.
 	}
 
+	/**
+	 * Return the response cache.
+	 * 
+	 * @return Cache or null if the response cache is not enabled
+	 */
+	public ResponseCache getResponseCache() {
+		return responseCache;
+	}
+
 	@Override
 	public MeshRestClientConfig getConfig() {
 		return config;
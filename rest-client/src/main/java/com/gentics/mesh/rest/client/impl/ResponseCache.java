@@ -0,0 +1,354 @@
+package com.gentics.mesh.rest.client.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.gentics.mesh.rest.client.MeshRestClientConfig;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for the bodies of responses which provide an ETag. The cached bodies are only served after the server confirmed via <code>304 Not Modified</code>
+ * that they are still valid, thus the cache never returns stale data.
+ *
+ * The entries are kept in memory up to the configured size. If a directory is configured, the entries are also written to disk and loaded from there once
+ * they were evicted from memory.
+ */
+public class ResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+	private static final String FILE_SUFFIX = ".cache";
+
+	private static final int FILE_LOCK_COUNT = 64;
+
+	private final long memorySize;
+
+	private final File directory;
+
+	private final long directorySize;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long memoryBytes = 0;
+
+	private final AtomicLong directoryBytes = new AtomicLong();
+
+	/**
+	 * Locks which guard the files of the directory. A file is always written or deleted while holding its lock, thus concurrent writes of the same response
+	 * don't corrupt the file or the tracked directory size.
+	 */
+	private final Object[] fileLocks = new Object[FILE_LOCK_COUNT];
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	public ResponseCache(MeshRestClientConfig config) {
+		this.memorySize = config.getResponseCacheSize();
+		this.directory = config.getResponseCacheDirectory();
+		this.directorySize = config.getResponseCacheDirectorySize();
+		for (int i = 0; i < fileLocks.length; i++) {
+			fileLocks[i] = new Object();
+		}
+		if (directory != null) {
+			if (!directory.exists() && !directory.mkdirs()) {
+				throw new RuntimeException("Could not create the response cache directory {" + directory + "}");
+			}
+			for (File file : listFiles()) {
+				directoryBytes.addAndGet(file.length());
+			}
+		}
+	}
+
+	/**
+	 * Create the cache key for the request. The key contains the credentials, since the response may depend on the permissions of the user.
+	 *
+	 * @param url
+	 * @param credentials
+	 *            Value of the headers which identify the user or null for anonymous requests
+	 * @return
+	 */
+	public String createKey(String url, String credentials) {
+		return url + "|" + (credentials == null ? "" : hash(credentials));
+	}
+
+	/**
+	 * Return the cached entry.
+	 *
+	 * @param key
+	 * @return Entry or null if the response is not cached
+	 */
+	public Entry get(String key) {
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		if (entry == null && directory != null) {
+			entry = read(key);
+			if (entry != null) {
+				putInMemory(key, entry);
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * Store the response.
+	 *
+	 * @param key
+	 * @param entry
+	 */
+	public void put(String key, Entry entry) {
+		putInMemory(key, entry);
+		if (directory != null) {
+			write(key, entry);
+		}
+	}
+
+	/**
+	 * Remove the response from the cache.
+	 *
+	 * @param key
+	 */
+	public void remove(String key) {
+		synchronized (entries) {
+			Entry removed = entries.remove(key);
+			if (removed != null) {
+				memoryBytes -= removed.size();
+			}
+		}
+		if (directory != null) {
+			delete(getFile(key));
+		}
+	}
+
+	/**
+	 * Remove all cached responses.
+	 */
+	public void invalidate() {
+		synchronized (entries) {
+			entries.clear();
+			memoryBytes = 0;
+		}
+		if (directory != null) {
+			for (File file : listFiles()) {
+				delete(file);
+			}
+		}
+	}
+
+	/**
+	 * Record whether a cached body could be used for the response.
+	 *
+	 * @param hit
+	 */
+	void record(boolean hit) {
+		if (hit) {
+			hits.increment();
+		} else {
+			misses.increment();
+		}
+	}
+
+	/**
+	 * Return the amount of responses which were served from the cache.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Return the amount of responses which had to be loaded from the server.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Return the size of the bodies which are kept in memory.
+	 *
+	 * @return Size in bytes
+	 */
+	public long getMemoryBytes() {
+		synchronized (entries) {
+			return memoryBytes;
+		}
+	}
+
+	/**
+	 * Return the size of the files which are stored in the directory.
+	 *
+	 * @return Size in bytes
+	 */
+	public long getDirectoryBytes() {
+		return directoryBytes.get();
+	}
+
+	private void putInMemory(String key, Entry entry) {
+		if (entry.size() > memorySize) {
+			return;
+		}
+		synchronized (entries) {
+			Entry previous = entries.put(key, entry);
+			if (previous != null) {
+				memoryBytes -= previous.size();
+			}
+			memoryBytes += entry.size();
+			Iterator<Entry> it = entries.values().iterator();
+			while (memoryBytes > memorySize && it.hasNext()) {
+				memoryBytes -= it.next().size();
+				it.remove();
+			}
+		}
+	}
+
+	private Entry read(String key) {
+		File file = getFile(key);
+		synchronized (getLock(file)) {
+			if (!file.exists()) {
+				return null;
+			}
+			try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+				String storedKey = in.readUTF();
+				if (!storedKey.equals(key)) {
+					return null;
+				}
+				String etag = in.readUTF();
+				String contentType = in.readUTF();
+				byte[] body = new byte[in.readInt()];
+				in.readFully(body);
+				return new Entry(etag, contentType, body);
+			} catch (IOException e) {
+				log.warn("Could not read the cached response {" + file + "}", e);
+				delete(file);
+				return null;
+			}
+		}
+	}
+
+	private void write(String key, Entry entry) {
+		File file = getFile(key);
+		synchronized (getLock(file)) {
+			delete(file);
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+				out.writeUTF(key);
+				out.writeUTF(entry.getETag());
+				out.writeUTF(entry.getContentType());
+				out.writeInt(entry.getBody().length);
+				out.write(entry.getBody());
+			} catch (IOException e) {
+				log.warn("Could not write the cached response {" + file + "}", e);
+				delete(file);
+				return;
+			}
+			directoryBytes.addAndGet(file.length());
+		}
+		// The directory is trimmed after the file lock was released, since trimming acquires the locks of other files
+		if (directoryBytes.get() > directorySize) {
+			trimDirectory();
+		}
+	}
+
+	/**
+	 * Delete the least recently written files until the directory size is within the limit again.
+	 */
+	private synchronized void trimDirectory() {
+		File[] files = listFiles();
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (File file : files) {
+			if (directoryBytes.get() <= directorySize) {
+				break;
+			}
+			delete(file);
+		}
+	}
+
+	private void delete(File file) {
+		synchronized (getLock(file)) {
+			long length = file.length();
+			if (file.delete()) {
+				directoryBytes.addAndGet(-length);
+			}
+		}
+	}
+
+	private Object getLock(File file) {
+		return fileLocks[Math.floorMod(file.getName().hashCode(), fileLocks.length)];
+	}
+
+	private File[] listFiles() {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+		return files == null ? new File[0] : files;
+	}
+
+	private File getFile(String key) {
+		return new File(directory, hash(key) + FILE_SUFFIX);
+	}
+
+	private static String hash(String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			StringBuilder builder = new StringBuilder();
+			for (byte b : digest) {
+				builder.append(String.format("%02x", b));
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Cached response.
+	 */
+	public static class Entry {
+
+		private final String etag;
+
+		private final String contentType;
+
+		private final byte[] body;
+
+		public Entry(String etag, String contentType, byte[] body) {
+			this.etag = etag;
+			this.contentType = contentType;
+			this.body = body;
+		}
+
+		public String getETag() {
+			return etag;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public byte[] getBody() {
+			return body;
+		}
+
+		public long size() {
+			return body.length;
+		}
+	}
+}
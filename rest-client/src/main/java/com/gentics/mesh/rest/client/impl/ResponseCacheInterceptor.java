@@ -0,0 +1,108 @@
+package com.gentics.mesh.rest.client.impl;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Interceptor which uses the {@link ResponseCache} for GET requests. The ETag of a cached response is sent via <code>If-None-Match</code> and the cached body is
+ * returned if the server responds with <code>304 Not Modified</code>.
+ */
+public class ResponseCacheInterceptor implements Interceptor {
+
+	private static final String ETAG = "ETag";
+
+	private static final String IF_NONE_MATCH = "If-None-Match";
+
+	private static final String CONTENT_TYPE = "Content-Type";
+
+	private final ResponseCache cache;
+
+	private final long maxEntrySize;
+
+	public ResponseCacheInterceptor(ResponseCache cache, long maxEntrySize) {
+		this.cache = cache;
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	@Override
+	public Response intercept(Chain chain) throws IOException {
+		Request request = chain.request();
+		// Conditional requests of the caller are not handled, since the caller expects the 304 response
+		if (!request.method().equals("GET") || request.header(IF_NONE_MATCH) != null) {
+			return chain.proceed(request);
+		}
+
+		String key = cache.createKey(request.url().toString(), getCredentials(request));
+		ResponseCache.Entry cached = cache.get(key);
+		Request networkRequest = cached == null ? request : request.newBuilder().header(IF_NONE_MATCH, cached.getETag()).build();
+		Response response = chain.proceed(networkRequest);
+
+		if (cached != null && response.code() == 304) {
+			cache.record(true);
+			response.close();
+			return response.newBuilder()
+				.request(request)
+				.code(200)
+				.message("OK")
+				.header(CONTENT_TYPE, cached.getContentType())
+				.header(ETAG, cached.getETag())
+				.removeHeader("Content-Length")
+				.body(ResponseBody.create(MediaType.parse(cached.getContentType()), cached.getBody()))
+				.build();
+		}
+		cache.record(false);
+
+		String etag = response.header(ETAG);
+		String contentType = response.header(CONTENT_TYPE);
+		ResponseBody body = response.body();
+		if (response.code() != 200 || etag == null || contentType == null || !contentType.startsWith("application/json") || body == null
+			|| body.contentLength() > maxEntrySize) {
+			return uncacheable(key, cached, response);
+		}
+
+		// The length of compressed or chunked responses is unknown, thus the body is buffered up to the limit. Peeking leaves the body of the response
+		// readable.
+		byte[] data = response.peekBody(maxEntrySize + 1).bytes();
+		if (data.length > maxEntrySize) {
+			return uncacheable(key, cached, response);
+		}
+		cache.put(key, new ResponseCache.Entry(etag, contentType, data));
+		return response;
+	}
+
+	/**
+	 * Remove the outdated entry of a response which can't be cached.
+	 *
+	 * @param key
+	 * @param cached
+	 *            Cached entry or null
+	 * @param response
+	 * @return The unchanged response
+	 */
+	private Response uncacheable(String key, ResponseCache.Entry cached, Response response) {
+		if (cached != null) {
+			cache.remove(key);
+		}
+		return response;
+	}
+
+	/**
+	 * Return the values of the headers which identify the user.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private String getCredentials(Request request) {
+		String authorization = request.header("Authorization");
+		String cookie = request.header("Cookie");
+		if (authorization == null && cookie == null) {
+			return null;
+		}
+		return authorization + "|" + cookie;
+	}
+}
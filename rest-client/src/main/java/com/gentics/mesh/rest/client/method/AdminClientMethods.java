@@ -7,6 +7,7 @@ import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorConfig;
 import com.gentics.mesh.core.rest.admin.cluster.coordinator.CoordinatorMasterResponse;
 import com.gentics.mesh.core.rest.admin.consistency.ConsistencyCheckResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileListResponse;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.parameter.BackupParameters;
 import com.gentics.mesh.rest.client.MeshBinaryResponse;
@@ -140,4 +141,11 @@ public interface AdminClientMethods {
 	 * @return
 	 */
 	MeshRequest<GenericMessageResponse> clearCache();
+
+	/**
+	 * Load the slow transactions which were recorded by the transaction profiler of the instance.
+	 * 
+	 * @return
+	 */
+	MeshRequest<TxProfileListResponse> slowTransactions();
 }
@@ -37,6 +37,30 @@ public interface NodeBinaryFieldClientMethods {
 	MeshRequest<NodeResponse> updateNodeBinaryField(String projectName, String nodeUuid, String languageTag, String nodeVersion,
 													String fieldKey, InputStream fileData, long fileSize, String fileName, String contentType, ParameterProvider... parameters);
 
+	/**
+	 * Update the binary field for the node with the given nodeUuid in the given project by streaming the provided input stream in the request body. The data
+	 * is not wrapped in a multipart form data request.
+	 *
+	 * @param projectName
+	 *            Name of the project which contains the node
+	 * @param nodeUuid
+	 *            Uuid of the node
+	 * @param languageTag
+	 *            Language tag of the node
+	 * @param nodeVersion
+	 *            Node version
+	 * @param fieldKey
+	 *            Key of the field which holds the binary data
+	 * @param fileData
+	 *            InputStream that serves the binary data
+	 * @param fileSize
+	 * @param fileName
+	 * @param contentType
+	 * @return
+	 */
+	MeshRequest<NodeResponse> streamNodeBinaryField(String projectName, String nodeUuid, String languageTag, String nodeVersion,
+													String fieldKey, InputStream fileData, long fileSize, String fileName, String contentType, ParameterProvider... parameters);
+
 	/**
 	 * Download the binary field of the given node in the given project.
 	 * 
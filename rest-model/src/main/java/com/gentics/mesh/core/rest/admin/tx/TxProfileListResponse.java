@@ -0,0 +1,53 @@
+package com.gentics.mesh.core.rest.admin.tx;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the list of recorded slow transactions.
+ */
+public class TxProfileListResponse implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Flag which indicates whether the transaction profiler is enabled.")
+	private boolean enabled;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Duration in milliseconds after which a transaction is recorded.")
+	private long threshold;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Recorded slow transactions. The latest transaction is listed first.")
+	private List<TxProfileModel> data = new ArrayList<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public TxProfileListResponse setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		return this;
+	}
+
+	public long getThreshold() {
+		return threshold;
+	}
+
+	public TxProfileListResponse setThreshold(long threshold) {
+		this.threshold = threshold;
+		return this;
+	}
+
+	public List<TxProfileModel> getData() {
+		return data;
+	}
+
+	public TxProfileListResponse setData(List<TxProfileModel> data) {
+		this.data = data;
+		return this;
+	}
+}
@@ -0,0 +1,244 @@
+package com.gentics.mesh.core.rest.admin.tx;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * REST POJO for the profile of a single slow transaction.
+ */
+public class TxProfileModel implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Route or job which started the transaction.")
+	private String origin;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Name of the thread which ran the transaction.")
+	private String thread;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("ISO8601 formatted start date of the transaction.")
+	private String start;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Duration of the transaction in milliseconds, including all retries.")
+	private long duration;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of retries of the transaction.")
+	private int retries;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Time in milliseconds which the transaction waited for the cluster topology lock.")
+	private long lockWait;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Time in milliseconds which was needed to commit the transaction.")
+	private long commitTime;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of vertices which were read.")
+	private long vertexReads;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of vertices which were created, updated or deleted.")
+	private long vertexWrites;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of edges which were read.")
+	private long edgeReads;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of edges which were created, updated or deleted.")
+	private long edgeWrites;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of index lookups.")
+	private long indexLookups;
+
+	/**
+	 * Return the route or job which started the transaction.
+	 *
+	 * @return
+	 */
+	public String getOrigin() {
+		return origin;
+	}
+
+	/**
+	 * Set the route or job which started the transaction.
+	 *
+	 * @param origin
+	 * @return Fluent API
+	 */
+	public TxProfileModel setOrigin(String origin) {
+		this.origin = origin;
+		return this;
+	}
+
+	/**
+	 * Return the name of the thread which ran the transaction.
+	 *
+	 * @return
+	 */
+	public String getThread() {
+		return thread;
+	}
+
+	/**
+	 * Set the name of the thread which ran the transaction.
+	 *
+	 * @param thread
+	 * @return Fluent API
+	 */
+	public TxProfileModel setThread(String thread) {
+		this.thread = thread;
+		return this;
+	}
+
+	/**
+	 * Return the start date.
+	 *
+	 * @return
+	 */
+	public String getStart() {
+		return start;
+	}
+
+	/**
+	 * Set the start date.
+	 *
+	 * @param start
+	 * @return Fluent API
+	 */
+	public TxProfileModel setStart(String start) {
+		this.start = start;
+		return this;
+	}
+
+	/**
+	 * Return the duration in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Set the duration in milliseconds.
+	 *
+	 * @param duration
+	 * @return Fluent API
+	 */
+	public TxProfileModel setDuration(long duration) {
+		this.duration = duration;
+		return this;
+	}
+
+	/**
+	 * Return the amount of retries.
+	 *
+	 * @return
+	 */
+	public int getRetries() {
+		return retries;
+	}
+
+	/**
+	 * Set the amount of retries.
+	 *
+	 * @param retries
+	 * @return Fluent API
+	 */
+	public TxProfileModel setRetries(int retries) {
+		this.retries = retries;
+		return this;
+	}
+
+	/**
+	 * Return the topology lock wait time in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getLockWait() {
+		return lockWait;
+	}
+
+	/**
+	 * Set the topology lock wait time in milliseconds.
+	 *
+	 * @param lockWait
+	 * @return Fluent API
+	 */
+	public TxProfileModel setLockWait(long lockWait) {
+		this.lockWait = lockWait;
+		return this;
+	}
+
+	/**
+	 * Return the commit time in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getCommitTime() {
+		return commitTime;
+	}
+
+	/**
+	 * Set the commit time in milliseconds.
+	 *
+	 * @param commitTime
+	 * @return Fluent API
+	 */
+	public TxProfileModel setCommitTime(long commitTime) {
+		this.commitTime = commitTime;
+		return this;
+	}
+
+	public long getVertexReads() {
+		return vertexReads;
+	}
+
+	public TxProfileModel setVertexReads(long vertexReads) {
+		this.vertexReads = vertexReads;
+		return this;
+	}
+
+	public long getVertexWrites() {
+		return vertexWrites;
+	}
+
+	public TxProfileModel setVertexWrites(long vertexWrites) {
+		this.vertexWrites = vertexWrites;
+		return this;
+	}
+
+	public long getEdgeReads() {
+		return edgeReads;
+	}
+
+	public TxProfileModel setEdgeReads(long edgeReads) {
+		this.edgeReads = edgeReads;
+		return this;
+	}
+
+	public long getEdgeWrites() {
+		return edgeWrites;
+	}
+
+	public TxProfileModel setEdgeWrites(long edgeWrites) {
+		this.edgeWrites = edgeWrites;
+		return this;
+	}
+
+	public long getIndexLookups() {
+		return indexLookups;
+	}
+
+	public TxProfileModel setIndexLookups(long indexLookups) {
+		this.indexLookups = indexLookups;
+		return this;
+	}
+}
@@ -17,11 +17,11 @@ public class PagingMetaInfo {
 	private Long perPage;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of the pages which can be found for the given per page count.")
+	@JsonPropertyDescription("Number of the pages which can be found for the given per page count. The value is -1 if the total count was not determined.")
 	private long pageCount;
 
 	@JsonProperty(required = true)
-	@JsonPropertyDescription("Number of all elements which could be found.")
+	@JsonPropertyDescription("Number of all elements which could be found. The value is -1 if the total count was not determined.")
 	private long totalCount;
 
 	public PagingMetaInfo() {
@@ -19,4 +19,15 @@ public interface RestModel extends Shareable {
 	default String toJson() {
 		return JsonUtil.toJson(this);
 	}
+
+	/**
+	 * Transforms the model into a JSON string.
+	 * 
+	 * @param minify
+	 *            Whether to omit the whitespace of the pretty printer
+	 * @return
+	 */
+	default String toJson(boolean minify) {
+		return JsonUtil.toJson(this, minify);
+	}
 }
@@ -24,6 +24,10 @@ public class GraphQLResponse implements RestModel {
 	@JsonPropertyDescription("Array of errors which were encoutered when handling the query.")
 	private List<GraphQLError> errors;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("JSON object which contains the response extensions. The filterPlans extension lists the used node filter plans, if the debug extension was set in the request.")
+	private JsonObject extensions;
+
 	/**
 	 * Return the response data.
 	 * 
@@ -61,4 +65,24 @@ public class GraphQLResponse implements RestModel {
 	public void setErrors(List<GraphQLError> errors) {
 		this.errors = errors;
 	}
+
+	/**
+	 * Return the response extensions.
+	 * 
+	 * @return
+	 */
+	public JsonObject getExtensions() {
+		return extensions;
+	}
+
+	/**
+	 * Set the response extensions.
+	 * 
+	 * @param extensions
+	 * @return Fluent API
+	 */
+	public GraphQLResponse setExtensions(JsonObject extensions) {
+		this.extensions = extensions;
+		return this;
+	}
 }
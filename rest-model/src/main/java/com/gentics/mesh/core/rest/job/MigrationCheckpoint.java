@@ -0,0 +1,38 @@
+package com.gentics.mesh.core.rest.job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gentics.mesh.annotation.Setter;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO for the checkpoint of a migration. The checkpoint contains the completion counts of the partitions which are migrated in parallel.
+ */
+public class MigrationCheckpoint implements RestModel {
+
+	private List<Long> partitionCompletionCounts = new ArrayList<>();
+
+	public MigrationCheckpoint() {
+	}
+
+	public MigrationCheckpoint(List<Long> partitionCompletionCounts) {
+		this.partitionCompletionCounts = partitionCompletionCounts;
+	}
+
+	/**
+	 * Return the completion counts of the partitions.
+	 * 
+	 * @return
+	 */
+	public List<Long> getPartitionCompletionCounts() {
+		return partitionCompletionCounts;
+	}
+
+	@Setter
+	public MigrationCheckpoint setPartitionCompletionCounts(List<Long> partitionCompletionCounts) {
+		this.partitionCompletionCounts = partitionCompletionCounts;
+		return this;
+	}
+
+}
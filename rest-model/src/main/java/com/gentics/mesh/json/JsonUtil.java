@@ -4,6 +4,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -17,6 +19,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -60,6 +63,10 @@ import com.gentics.mesh.json.serializer.FieldListSerializer;
 import com.gentics.mesh.json.serializer.JsonArraySerializer;
 import com.gentics.mesh.json.serializer.JsonObjectSerializer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -160,17 +167,80 @@ public final class JsonUtil {
 	 * @throws GenericRestException
 	 */
 	public static <T> String toJson(T obj) throws GenericRestException {
+		return toJson(obj, false);
+	}
+
+	/**
+	 * Transform the given object into a JSON string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether to omit the whitespace of the pretty printer
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJson(T obj, boolean minify) throws GenericRestException {
 		if (obj instanceof JSONObject) {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return getWriter(minify).writeValueAsString(obj);
 		} catch (IOException e) {
-			// TODO i18n
-			String message = "Could not generate json from object";
-			// TODO 500?
-			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+			throw error(e);
+		}
+	}
+
+	/**
+	 * Transform the given object into JSON and write it directly into a buffer. This avoids the creation of an intermediate string.
+	 * 
+	 * @param obj
+	 * @param minify
+	 *            Whether to omit the whitespace of the pretty printer
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> Buffer toJsonBuffer(T obj, boolean minify) throws GenericRestException {
+		if (obj instanceof JSONObject) {
+			return Buffer.buffer(((JSONObject) obj).toString());
 		}
+		ByteBuf byteBuf = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(byteBuf)) {
+			getWriter(minify).writeValue(out, obj);
+		} catch (IOException e) {
+			byteBuf.release();
+			throw error(e);
+		}
+		return Buffer.buffer(byteBuf);
+	}
+
+	/**
+	 * Transform the given object into a {@link JsonObject} without serializing it into a string first. This is used for payloads of the event bus.
+	 * 
+	 * @param obj
+	 * @return
+	 * @throws GenericRestException
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JsonObject toJsonObject(T obj) throws GenericRestException {
+		if (obj instanceof JSONObject) {
+			return new JsonObject(((JSONObject) obj).toString());
+		}
+		try {
+			return new JsonObject(defaultMapper.convertValue(obj, Map.class));
+		} catch (IllegalArgumentException e) {
+			throw error(e);
+		}
+	}
+
+	private static ObjectWriter getWriter(boolean minify) {
+		return minify ? defaultMapper.writer() : defaultMapper.writerWithDefaultPrettyPrinter();
+	}
+
+	private static GenericRestException error(Exception e) {
+		// TODO i18n
+		String message = "Could not generate json from object";
+		// TODO 500?
+		return new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
 	}
 
 	/**
@@ -18,6 +18,11 @@ public interface GenericParameters extends ParameterProvider {
 	 */
 	public static final String ETAG_PARAM_KEY = "etag";
 
+	/**
+	 * Query parameter key: {@value #PRETTY_PARAM_KEY}
+	 */
+	public static final String PRETTY_PARAM_KEY = "pretty";
+
 	/**
 	 * Return the fields which should be included in the response.
 	 * 
@@ -66,4 +71,23 @@ public interface GenericParameters extends ParameterProvider {
 		setParameter(ETAG_PARAM_KEY, String.valueOf(includeEtag));
 		return this;
 	}
+
+	/**
+	 * Return whether the JSON response should be pretty printed. By default the response is serialized in compact form.
+	 * 
+	 * @return
+	 */
+	default boolean getPretty() {
+		return Boolean.valueOf(getParameter(PRETTY_PARAM_KEY));
+	}
+
+	/**
+	 * Set the pretty print flag.
+	 * 
+	 * @param pretty
+	 */
+	default GenericParameters setPretty(boolean pretty) {
+		setParameter(PRETTY_PARAM_KEY, String.valueOf(pretty));
+		return this;
+	}
 }
@@ -12,6 +12,7 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String COUNT_PARAMETER_KEY = "count";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -59,6 +60,31 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return whether the total count of the elements should be determined. Determining the total count may require iterating over all elements.
+	 * 
+	 * @return Flag which is true by default
+	 */
+	default boolean getCount() {
+		String value = getParameter(COUNT_PARAMETER_KEY);
+		if (value != null) {
+			return Boolean.valueOf(value);
+		} else {
+			return true;
+		}
+	}
+
+	/**
+	 * Set whether the total count of the elements should be determined. When disabled, the total count and the page count of the list response will be -1.
+	 * 
+	 * @param count
+	 * @return Fluent API
+	 */
+	default PagingParameters setCount(boolean count) {
+		setParameter(COUNT_PARAMETER_KEY, String.valueOf(count));
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
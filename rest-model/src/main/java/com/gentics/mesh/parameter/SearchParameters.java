@@ -9,6 +9,8 @@ public interface SearchParameters extends ParameterProvider {
 
 	String WAIT_PARAMETER_KEY = "wait";
 
+	String SOURCE_PARAMETER_KEY = "source";
+
 	/**
 	 * Set the recursive flag. When enabled the deletion will also effect subelements.
 	 * 
@@ -37,4 +39,24 @@ public interface SearchParameters extends ParameterProvider {
 				}
 			});
 	}
+
+	/**
+	 * Set the source flag. When enabled the documents of the search index are returned instead of the elements which are loaded from the database.
+	 *
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default SearchParameters setSource(boolean flag) {
+		setParameter(SOURCE_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the documents of the search index should be returned.
+	 *
+	 * @return
+	 */
+	default boolean isSource() {
+		return Boolean.parseBoolean(getParameter(SOURCE_PARAMETER_KEY));
+	}
 }
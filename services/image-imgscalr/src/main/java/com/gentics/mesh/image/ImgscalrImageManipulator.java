@@ -41,6 +41,7 @@ import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -68,12 +69,16 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private S3BinaryStorage s3BinaryStorage;
 
-	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, S3BinaryStorage s3BinaryStorage) {
-		this(vertx, options.getImageOptions(), s3BinaryStorage);
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, S3BinaryStorage s3BinaryStorage, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), s3BinaryStorage, metrics);
 	}
 
 	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, S3BinaryStorage s3BinaryStorage) {
-		super(vertx, options);
+		this(vertx, options, s3BinaryStorage, null);
+	}
+
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, S3BinaryStorage s3BinaryStorage, MetricsService metrics) {
+		super(vertx, options, metrics);
 		focalPointModifier = new FocalPointModifier(options);
 		// 10 seconds
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
@@ -318,57 +323,54 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 		Supplier<InputStream> stream = binary.openBlockingStream();
 
-		return getCacheFilePath(binary.getSHA512Sum(), parameters).flatMap(cacheFileInfo -> {
-			if (cacheFileInfo.exists) {
-				return Single.just(cacheFileInfo.path);
-			} else {
-				// TODO handle execution timeout
-				// Make sure to run that code in the dedicated thread pool it may be CPU
-				// intensive for larger images and we don't want to exhaust the
-				// regular worker
-				// pool
-				return workerPool.<String>rxExecuteBlocking(bh -> {
-					try (InputStream is = stream.get(); ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-						BufferedImage image;
-						ImageReader reader = getImageReader(ins);
-
-						try {
-							image = reader.read(0);
-						} catch (IOException e) {
-							log.error("Could not read input image", e);
-
-							throw error(BAD_REQUEST, "image_error_reading_failed");
-						}
-
-						if (log.isDebugEnabled()) {
-							log.debug("Read image from stream " + ins.hashCode() + " with reader "
-									+ reader.getClass().getName());
-						}
+		return variantCache.getOrCreate(binary.getSHA512Sum(), parameters, cacheFileBasePath -> {
+			// TODO handle execution timeout
+			// Make sure to run that code in the dedicated thread pool it may be CPU
+			// intensive for larger images and we don't want to exhaust the
+			// regular worker
+			// pool
+			return workerPool.<String>rxExecuteBlocking(bh -> {
+				try (InputStream is = stream.get(); ImageInputStream ins = ImageIO.createImageInputStream(is)) {
+					BufferedImage image;
+					ImageReader reader = getImageReader(ins);
+
+					try {
+						image = reader.read(0);
+					} catch (IOException e) {
+						log.error("Could not read input image", e);
+
+						throw error(BAD_REQUEST, "image_error_reading_failed");
+					}
 
-						image = cropAndResize(image, parameters);
+					if (log.isDebugEnabled()) {
+						log.debug("Read image from stream " + ins.hashCode() + " with reader "
+								+ reader.getClass().getName());
+					}
 
-						String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-						String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-						String cacheFilePath = cacheFileInfo.path + "." + extension;
-						File outCacheFile = new File(cacheFilePath);
+					image = cropAndResize(image, parameters);
 
-						// Write image
-						try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-							ImageWriteParam params = getImageWriteparams(extension);
+					String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+					String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+					String cacheFilePath = cacheFileBasePath + "." + extension;
+					File outCacheFile = new File(cacheFilePath);
+					outCacheFile.getParentFile().mkdirs();
 
-							// same as write(image), but with image parameters
-							getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-						} catch (Exception e) {
-							throw error(BAD_REQUEST, "image_error_writing_failed");
-						}
+					// Write image
+					try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
+						ImageWriteParam params = getImageWriteparams(extension);
 
-						// Return buffer to written cache file
-						bh.complete(cacheFilePath);
+						// same as write(image), but with image parameters
+						getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
 					} catch (Exception e) {
-						bh.fail(e);
+						throw error(BAD_REQUEST, "image_error_writing_failed");
 					}
-				}, false).toSingle();
-			}
+
+					// Return buffer to written cache file
+					bh.complete(cacheFilePath);
+				} catch (Exception e) {
+					bh.fail(e);
+				}
+			}, false).toSingle();
 		});
 	}
 
@@ -380,7 +382,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		parameters.validateLimits(options);
 
 		return s3BinaryStorage.read(bucketName, s3ObjectKey)
-				.flatMapSingle(originalFile -> workerPool.<File>rxExecuteBlocking(bh -> {
+				.flatMapSingle(originalFile -> variantCache.queued(workerPool.<File>rxExecuteBlocking(bh -> {
 					try (InputStream is = new ByteArrayInputStream(originalFile.getBytes());
 							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
 						BufferedImage image;
@@ -419,7 +421,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 					} catch (Exception e) {
 						bh.fail(e);
 					}
-				}).toSingle()).flatMapSingle(file ->
+				}).toSingle())).flatMapSingle(file ->
 				// write cache to AWS
 				s3BinaryStorage.uploadFile(bucketName, s3ObjectKey, file, true)
 						.flatMap(ignoreElement -> Single.just(file)))
@@ -449,7 +451,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 								});
 					else {
 						return s3BinaryStorage.read(bucketName, s3ObjectKey)
-								.flatMapSingle(originalFile -> workerPool.<File>rxExecuteBlocking(bh -> {
+								.flatMapSingle(originalFile -> variantCache.queued(workerPool.<File>rxExecuteBlocking(bh -> {
 									try (InputStream is = new ByteArrayInputStream(originalFile.getBytes());
 											ImageInputStream ins = ImageIO.createImageInputStream(is)) {
 										BufferedImage image;
@@ -489,7 +491,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 									} catch (Exception e) {
 										bh.fail(e);
 									}
-								}).toSingle()).flatMapSingle(file ->
+								}).toSingle())).flatMapSingle(file ->
 						// write cache to AWS
 						s3BinaryStorage.uploadFile(cacheBucketName, cacheS3ObjectKey, file, true)).ignoreElements();
 					}
@@ -21,6 +21,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.auth.AuthHandlerContainer;
 import com.gentics.mesh.auth.AuthServicePluginRegistry;
 import com.gentics.mesh.auth.MeshOAuthService;
+import com.gentics.mesh.cache.MeshAuthUserCache;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.HibBaseElement;
@@ -32,6 +33,7 @@ import com.gentics.mesh.core.data.group.HibGroup;
 import com.gentics.mesh.core.data.role.HibRole;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.data.user.MeshAuthUser;
+import com.gentics.mesh.core.data.user.MeshAuthUserSnapshot;
 import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
@@ -52,6 +54,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.reactivex.Completable;
+import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
@@ -90,11 +93,15 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 
 	private final RequestDelegator delegator;
 
+	private final MeshAuthUserCache authUserCache;
+
 	@Inject
 	public MeshOAuth2ServiceImpl(Database db, MeshOptions meshOptions,
 		Provider<EventQueueBatch> batchProvider, AuthServicePluginRegistry authPluginRegistry,
-		AuthHandlerContainer authHandlerContainer, LocalConfigApi localConfigApi, RequestDelegator delegator, PermissionRoots permissionRoots) {
+		AuthHandlerContainer authHandlerContainer, LocalConfigApi localConfigApi, RequestDelegator delegator, PermissionRoots permissionRoots,
+		MeshAuthUserCache authUserCache) {
 		this.db = db;
+		this.authUserCache = authUserCache;
 		this.batchProvider = batchProvider;
 		this.authPluginRegistry = authPluginRegistry;
 		this.authOptions = meshOptions.getAuthenticationOptions();
@@ -226,11 +233,13 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 		String cachingId = currentTokenId;
 
 		EventQueueBatch batch = batchProvider.get();
-		return db.maybeTx(tx -> tx.userDao().findMeshAuthUserByUsername(username))
-			.flatMapSingleElement(user -> db.singleTx(user.getDelegate()::getUuid).flatMap(uuid -> {
+		return loadUser(username)
+			.flatMapSingleElement(snapshot -> {
+				MeshAuthUser user = snapshot.getUser();
+				String uuid = snapshot.getUuid();
 				// Compare the stored and current token id to see whether the current token is different.
 				// In that case a sync must be invoked.
-				String lastSeenTokenId = TOKEN_ID_LOG.getIfPresent(user.getDelegate().getUuid());
+				String lastSeenTokenId = TOKEN_ID_LOG.getIfPresent(uuid);
 				if (lastSeenTokenId == null || !lastSeenTokenId.equals(cachingId)) {
 					return assertReadOnlyDeactivated().andThen(db.singleTx(tx -> {
 						HibUser admin = tx.userDao().findByUsername("admin");
@@ -242,7 +251,7 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 					log.debug("The request does not need mapping since we have already processed the token before.");
 				}
 				return Single.just(user);
-			}))
+			})
 			// Create the user if it can't be found.
 			.switchIfEmpty(
 				assertReadOnlyDeactivated()
@@ -265,6 +274,22 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 			.doOnSuccess(ignore -> batch.dispatch());
 	}
 
+	/**
+	 * Load the user with the given username. Cached users are returned without starting a transaction.
+	 * 
+	 * @param username
+	 * @return
+	 */
+	private Maybe<MeshAuthUserSnapshot> loadUser(String username) {
+		MeshAuthUserSnapshot cached = authUserCache.getByUsername(username, name -> null);
+		if (cached != null) {
+			return Maybe.just(cached);
+		}
+		return db.maybeTx(tx -> authUserCache.getByUsername(username, name -> {
+			return MeshAuthUserSnapshot.of(tx.userDao().findMeshAuthUserByUsername(name));
+		}));
+	}
+
 	private Completable assertReadOnlyDeactivated() {
 		if (db.isReadOnly(true)) {
 			return Completable.error(error(METHOD_NOT_ALLOWED, "error_readonly_mode_oauth"));
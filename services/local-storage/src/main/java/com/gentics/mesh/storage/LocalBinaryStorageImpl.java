@@ -10,6 +10,7 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -125,6 +126,33 @@ public class LocalBinaryStorageImpl extends AbstractBinaryStorage implements Loc
 		});
 	}
 
+	@Override
+	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId, long offset) {
+		Objects.requireNonNull(temporaryId, "The temporary id was not specified.");
+		return Completable.defer(() -> {
+			String path = getTemporaryFilePath(temporaryId);
+			if (log.isDebugEnabled()) {
+				log.debug("Saving data for field to path '{}' at offset {}.", path, offset);
+			}
+			File tempFolder = new File(options.getDirectory(), "temp");
+			return createParentPath(tempFolder.getAbsolutePath())
+				.andThen(fileSystem.rxOpen(path, new OpenOptions().setTruncateExisting(offset == 0)).flatMapCompletable(file -> {
+					AtomicLong position = new AtomicLong(offset);
+					// Each buffer is written before the next one is requested, so that slow disks throttle the stream
+					return stream
+						.concatMapCompletable(buffer -> file.rxWrite(new io.vertx.reactivex.core.buffer.Buffer(buffer), position.getAndAdd(buffer.length())))
+						.andThen(file.rxFlush())
+						.andThen(file.rxClose())
+						.doOnError(err -> file.close());
+				}));
+		});
+	}
+
+	@Override
+	public String getTemporaryLocalPath(String temporaryId) {
+		return getTemporaryFilePath(temporaryId);
+	}
+
 	private Completable createParentPath(String folderPath) {
 		return fileSystem.rxExists(folderPath)
 			.flatMapCompletable(exists -> {
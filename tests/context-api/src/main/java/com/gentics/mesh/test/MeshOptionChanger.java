@@ -13,12 +13,20 @@ public enum MeshOptionChanger {
 		options.getSearchOptions().setEventBufferSize(100);
 	}), NO_PATH_CACHE(options -> {
 		options.getCacheConfig().setPathCacheSize(0);
+	}), NODE_RESPONSE_CACHE(options -> {
+		options.getCacheConfig().setNodeResponseCacheSize(1000);
+	}), NAVIGATION_CACHE(options -> {
+		options.getCacheConfig().setNavigationCacheSize(1000);
 	}), NO_UPLOAD_PARSER(options -> {
 		options.getUploadOptions().setParser(false);
 	}), EXCLUDE_BINARY_SEARCH(options -> {
 		options.getSearchOptions().setIncludeBinaryFields(false);
+	}), PARALLEL_MIGRATION(options -> {
+		options.setMigrationThreads(4);
 	}), INITIAL_ADMIN_PASSWORD(options -> {
 		options.setInitialAdminPassword("debug99");
+	}), TX_PROFILER(options -> {
+		options.getMonitoringOptions().setTxProfilerEnabled(true).setTxProfilerThreshold(0).setTxProfilerBufferSize(10);
 	}), ES_STRICT_MODE(options -> {
 		options.getSearchOptions().setMappingMode(MappingMode.STRICT);
 	}), RANDOM_ES_PORT(options -> {
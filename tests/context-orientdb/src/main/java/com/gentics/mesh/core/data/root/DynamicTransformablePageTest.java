@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.root;
 import static com.gentics.mesh.mock.Mocks.getMockedInternalActionContext;
 import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
@@ -45,4 +46,33 @@ public class DynamicTransformablePageTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testCountDisabled() {
+		try (Tx tx = tx()) {
+			UserRoot root = ((OrientDBBootstrapInitializer) boot()).meshRoot().getUserRoot();
+			PagingParametersImpl pagingInfo = new PagingParametersImpl(2, 2L);
+			pagingInfo.setCount(false);
+			InternalActionContext ac = getMockedInternalActionContext("", user(), project());
+			Page<?> page = new DynamicTransformablePageImpl<>(ac.getUser(), root, pagingInfo);
+			assertEquals(-1, page.getTotalElements());
+			assertEquals(-1, page.getPageCount());
+			assertEquals(1, page.getSize());
+			assertFalse(page.hasNextPage());
+		}
+	}
+
+	@Test
+	public void testIndexCountForAdmin() {
+		try (Tx tx = tx()) {
+			user().setAdmin(true);
+			UserRoot root = ((OrientDBBootstrapInitializer) boot()).meshRoot().getUserRoot();
+			PagingParametersImpl pagingInfo = new PagingParametersImpl(1, 1L);
+			InternalActionContext ac = getMockedInternalActionContext("", user(), project());
+			Page<?> page = new DynamicTransformablePageImpl<>(ac.getUser(), root, pagingInfo);
+			assertEquals("The count of the index entries should match the amount of users", root.computeCount(), page.getTotalElements());
+			assertEquals(3, page.getPageCount());
+			assertEquals(1, page.getSize());
+		}
+	}
+
 }
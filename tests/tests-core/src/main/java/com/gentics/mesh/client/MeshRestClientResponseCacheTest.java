@@ -0,0 +1,117 @@
+package com.gentics.mesh.client;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.rest.client.MeshRestClientConfig;
+import com.gentics.mesh.rest.client.impl.MeshRestOkHttpClientImpl;
+import com.gentics.mesh.rest.client.impl.ResponseCache;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(testSize = PROJECT_AND_NODE, startServer = true)
+public class MeshRestClientResponseCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testRevalidation() {
+		MeshRestOkHttpClientImpl cachingClient = createClient(client().getConfig().asBuilder().setResponseCacheSize(1024 * 1024).build());
+		ResponseCache cache = cachingClient.getResponseCache();
+		String uuid = tx(() -> content().getUuid());
+
+		NodeResponse first = call(() -> cachingClient.findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals(0, cache.getHitCount());
+		NodeResponse second = call(() -> cachingClient.findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals("The unchanged response should have been served from the cache", 1, cache.getHitCount());
+		assertEquals(first.toJson(), second.toJson());
+
+		// Update the node with the regular client
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(first.getVersion());
+		request.getFields().put("slug", FieldUtil.createStringField("client-cached-slug"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+		NodeResponse updated = call(() -> cachingClient.findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals("The changed response must not be served from the cache", 1, cache.getHitCount());
+		assertEquals("client-cached-slug", updated.getFields().getStringField("slug").getString());
+	}
+
+	@Test
+	public void testDirectory() throws IOException {
+		File directory = Files.createTempDirectory("response-cache").toFile();
+		try {
+			// Responses are not kept in memory and thus need to be loaded from the directory
+			MeshRestOkHttpClientImpl cachingClient = createClient(client().getConfig().asBuilder()
+				.setResponseCacheDirectory(directory)
+				.build());
+			ResponseCache cache = cachingClient.getResponseCache();
+			String uuid = tx(() -> content().getUuid());
+
+			NodeResponse first = call(() -> cachingClient.findNodeByUuid(PROJECT_NAME, uuid));
+			assertEquals(0, cache.getMemoryBytes());
+			assertEquals(1, directory.list().length);
+
+			NodeResponse second = call(() -> cachingClient.findNodeByUuid(PROJECT_NAME, uuid));
+			assertEquals(1, cache.getHitCount());
+			assertEquals(first.toJson(), second.toJson());
+
+			cache.invalidate();
+			assertEquals(0, directory.list().length);
+		} finally {
+			FileUtils.deleteDirectory(directory);
+		}
+	}
+
+	@Test
+	public void testConcurrentDirectoryWrites() throws Exception {
+		File directory = Files.createTempDirectory("response-cache").toFile();
+		try {
+			ResponseCache cache = new ResponseCache(client().getConfig().asBuilder()
+				.setResponseCacheDirectory(directory)
+				.build());
+			String key = cache.createKey("/api/v2/dummy/nodes", null);
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < 200; i++) {
+					byte[] body = new byte[100 + i % 10];
+					futures.add(executor.submit(() -> cache.put(key, new ResponseCache.Entry("etag", "application/json", body))));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			File[] files = directory.listFiles();
+			assertEquals(1, files.length);
+			assertEquals("The tracked size must match the size of the stored file", files[0].length(), cache.getDirectoryBytes());
+		} finally {
+			FileUtils.deleteDirectory(directory);
+		}
+	}
+
+	private MeshRestOkHttpClientImpl createClient(MeshRestClientConfig config) {
+		MeshRestOkHttpClientImpl cachingClient = new MeshRestOkHttpClientImpl(config);
+		cachingClient.setLogin(tx(() -> user().getUsername()), data().getUserInfo().getPassword());
+		cachingClient.login().blockingGet();
+		return cachingClient;
+	}
+}
@@ -46,6 +46,7 @@ public class DebugInfoTest extends AbstractMeshTest {
 			"versions.json",
 			"plugins.json",
 			"systemInfo.json",
+			"slowTransactions.json",
 			"entities/projects.json",
 			"entities/branches/dummy.json",
 			"entities/schemas.json",
@@ -77,6 +78,7 @@ public class DebugInfoTest extends AbstractMeshTest {
 			"versions.json",
 			"plugins.json",
 			"systemInfo.json",
+			"slowTransactions.json",
 			"entities/projects.json",
 			"entities/branches/dummy.json",
 			"entities/schemas.json",
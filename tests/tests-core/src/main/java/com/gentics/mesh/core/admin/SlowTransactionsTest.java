@@ -0,0 +1,84 @@
+package com.gentics.mesh.core.admin;
+
+import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.MeshOptionChanger.TX_PROFILER;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.db.TxProfile;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileListResponse;
+import com.gentics.mesh.core.rest.admin.tx.TxProfileModel;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+/**
+ * Test the recording of slow transactions. The threshold is set to 0, thus every transaction is recorded.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = TX_PROFILER)
+public class SlowTransactionsTest extends AbstractMeshTest {
+
+	@Test
+	public void testReadWithoutPerm() {
+		call(() -> client().slowTransactions(), FORBIDDEN, "error_admin_permission_required");
+	}
+
+	@Test
+	public void testRequestTransactions() {
+		call(() -> client().findNodes(PROJECT_NAME));
+
+		grantAdmin();
+		TxProfileListResponse response = call(() -> client().slowTransactions());
+		assertThat(response.isEnabled()).isTrue();
+		assertThat(response.getThreshold()).isEqualTo(0);
+		assertThat(response.getData()).isNotEmpty();
+
+		String origin = "GET " + CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes";
+		Optional<TxProfileModel> profile = response.getData().stream().filter(model -> origin.equals(model.getOrigin())).findFirst();
+		assertThat(profile).as("Profile of the node list request").isPresent();
+		assertThat(profile.get().getVertexReads()).isGreaterThan(0);
+		assertThat(profile.get().getEdgeReads()).isGreaterThan(0);
+		assertThat(profile.get().getStart()).isNotNull();
+	}
+
+	@Test
+	public void testTransactionCounters() {
+		String previous = TxProfile.setOrigin("testTransactionCounters");
+		try {
+			tx(tx -> {
+				tx.userDao().findByUsername("admin");
+				tx.nodeDao().findByUuid(project(), contentUuid());
+			});
+			tx(tx -> {
+				tx.userDao().findByUuid(userUuid()).setFirstname("Changed");
+			});
+		} finally {
+			TxProfile.setOrigin(previous);
+		}
+
+		grantAdmin();
+		TxProfileListResponse response = call(() -> client().slowTransactions());
+		List<TxProfileModel> profiles = response.getData().stream()
+			.filter(model -> "testTransactionCounters".equals(model.getOrigin()))
+			.collect(Collectors.toList());
+		assertThat(profiles).as("Profiles of the test transactions").hasSize(2);
+
+		// The latest transaction is listed first
+		TxProfileModel write = profiles.get(0);
+		TxProfileModel read = profiles.get(1);
+		assertThat(read.getVertexReads()).isGreaterThan(0);
+		assertThat(read.getIndexLookups()).isGreaterThan(0);
+		assertThat(read.getVertexWrites()).isEqualTo(0);
+
+		assertThat(write.getVertexWrites()).isGreaterThan(0);
+		assertThat(write.getRetries()).isEqualTo(0);
+	}
+}
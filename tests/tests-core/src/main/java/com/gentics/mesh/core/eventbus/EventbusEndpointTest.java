@@ -14,6 +14,8 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,6 +27,7 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.event.EventBatchEnvelope;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.MeshRestClientUtil;
 import com.gentics.mesh.rest.client.MeshWebsocket;
@@ -77,6 +80,26 @@ public class EventbusEndpointTest extends AbstractMeshTest {
 		vertx().eventBus().publish(allowedAddress.address, new JsonObject().put("test", "someValue"));
 	}
 
+	@Test(timeout = 4_000)
+	public void testBatchedEventbusMessage(TestContext context) throws Exception {
+		Async async = context.async();
+		MeshEvent allowedAddress = USER_CREATED;
+
+		ws.registerEvents(allowedAddress);
+
+		// The events of the envelope are received one by one
+		ws.events().take(2).toList().subscribe(events -> {
+			MeshAssertions.assertThat(events.get(0).getBodyAsJson().get("test").textValue()).isEqualTo("first");
+			MeshAssertions.assertThat(events.get(1).getBodyAsJson().get("test").textValue()).isEqualTo("second");
+			async.complete();
+		});
+
+		Thread.sleep(1000);
+		vertx().eventBus().publish(allowedAddress.address, EventBatchEnvelope.wrap(Arrays.asList(
+			new JsonObject().put("test", "first"),
+			new JsonObject().put("test", "second"))));
+	}
+
 	@Test(timeout = 4_000)
 	public void testNodeDeleteEvent(TestContext context) throws Exception {
 		Async async = context.async();
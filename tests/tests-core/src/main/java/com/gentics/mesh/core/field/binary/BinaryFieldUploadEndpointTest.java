@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.field.binary;
 
+import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
 import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
@@ -8,6 +9,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -45,6 +47,7 @@ import com.gentics.mesh.core.rest.node.field.BinaryField;
 import com.gentics.mesh.core.rest.node.field.binary.BinaryMetadata;
 import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
 import com.gentics.mesh.core.rest.schema.impl.StringFieldSchemaImpl;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.client.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
@@ -53,11 +56,18 @@ import com.gentics.mesh.rest.client.MeshBinaryResponse;
 import com.gentics.mesh.test.MeshTestSetting;
 import com.gentics.mesh.test.assertj.MeshCoreAssertion;
 import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.VersionNumber;
 
 import io.reactivex.Observable;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
 import io.vertx.test.core.TestUtils;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
 
 @MeshTestSetting(testSize = FULL, startServer = true)
 public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
@@ -491,6 +501,166 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testStreamingUpload() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		Buffer buffer = getBuffer("/pictures/android-gps.jpg");
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		MeshCoreAssertion.assertThat(testContext).hasTempFiles(0).hasTempUploads(0);
+
+		NodeResponse response = call(() -> client().streamNodeBinaryField(PROJECT_NAME, node.getUuid(), "en", "0.1", "binary",
+			new ByteArrayInputStream(buffer.getBytes()), buffer.length(), "test.jpg", "image/jpeg"));
+		MeshCoreAssertion.assertThat(testContext).hasTempFiles(0).hasTempUploads(0);
+
+		BinaryField binaryField = response.getFields().getBinaryField("binary");
+		assertEquals("test.jpg", binaryField.getFileName());
+		assertEquals("image/jpeg", binaryField.getMimeType());
+		assertEquals(buffer.length(), binaryField.getFileSize());
+		assertEquals("The hash must match the hash of the data.", FileUtils.hash(buffer).blockingGet(), binaryField.getSha512sum());
+		assertNotNull("The image should have been processed.", binaryField.getWidth());
+		assertEquals(1727, binaryField.getMetadata().getLocation().getAlt().intValue());
+
+		MeshBinaryResponse downloadResponse = call(() -> client().downloadBinaryField(PROJECT_NAME, node.getUuid(), "en", "binary"));
+		byte[] bytes = IOUtils.toByteArray(downloadResponse.getStream());
+		downloadResponse.close();
+		assertArrayEquals("The downloaded data must match the uploaded data.", buffer.getBytes(), bytes);
+	}
+
+	@Test
+	public void testStreamingUploadInChunks() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		byte[] data = getBuffer("/pictures/android-gps.jpg").getBytes();
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		int firstEnd = data.length / 3;
+		int secondEnd = 2 * data.length / 3;
+
+		JsonObject first = streamChunk(node.getUuid(), data, 0, firstEnd, null, 202);
+		String uploadId = first.getJsonObject("properties").getString("uploadId");
+		assertNotNull("The upload id must be returned for the first chunk.", uploadId);
+		assertEquals(firstEnd, first.getJsonObject("properties").getLong("offset").intValue());
+		MeshCoreAssertion.assertThat(testContext).hasTempUploads(1);
+
+		JsonObject second = streamChunk(node.getUuid(), data, firstEnd, secondEnd, uploadId, 202);
+		assertEquals(secondEnd, second.getJsonObject("properties").getLong("offset").intValue());
+
+		JsonObject last = streamChunk(node.getUuid(), data, secondEnd, data.length, uploadId, 201);
+		BinaryField binaryField = JsonUtil.readValue(last.encode(), NodeResponse.class).getFields().getBinaryField("binary");
+		assertEquals("test.jpg", binaryField.getFileName());
+		assertEquals(data.length, binaryField.getFileSize());
+		assertEquals("The hash must match the hash of the data.", FileUtils.hash(Buffer.buffer(data)).blockingGet(), binaryField.getSha512sum());
+		MeshCoreAssertion.assertThat(testContext).hasTempFiles(0).hasTempUploads(0);
+
+		MeshBinaryResponse downloadResponse = call(() -> client().downloadBinaryField(PROJECT_NAME, node.getUuid(), "en", "binary"));
+		byte[] bytes = IOUtils.toByteArray(downloadResponse.getStream());
+		downloadResponse.close();
+		assertArrayEquals("The downloaded data must match the uploaded data.", data, bytes);
+
+		// The completed upload can't be continued
+		streamChunk(node.getUuid(), data, secondEnd, data.length, uploadId, 404);
+	}
+
+	@Test
+	public void testResumeStreamingUpload() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		byte[] data = getBuffer("/pictures/android-gps.jpg").getBytes();
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+
+		JsonObject first = streamChunk(node.getUuid(), data, 0, data.length / 2, null, 202);
+		String uploadId = first.getJsonObject("properties").getString("uploadId");
+
+		// Load the offset at which the interrupted upload must be resumed
+		Response statusResponse = httpClient().newCall(new Request.Builder()
+			.url(streamUrl(node.getUuid()).addQueryParameter("uploadId", uploadId).build())
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.get()
+			.build()).execute();
+		assertEquals(200, statusResponse.code());
+		JsonObject status = new JsonObject(statusResponse.body().string());
+		int offset = status.getJsonObject("properties").getLong("offset").intValue();
+		assertEquals(data.length / 2, offset);
+		assertEquals(data.length, status.getJsonObject("properties").getLong("total").intValue());
+
+		JsonObject last = streamChunk(node.getUuid(), data, offset, data.length, uploadId, 201);
+		BinaryField binaryField = JsonUtil.readValue(last.encode(), NodeResponse.class).getFields().getBinaryField("binary");
+		assertEquals("The hash must match the hash of the data.", FileUtils.hash(Buffer.buffer(data)).blockingGet(), binaryField.getSha512sum());
+		MeshCoreAssertion.assertThat(testContext).hasTempFiles(0).hasTempUploads(0);
+	}
+
+	@Test
+	public void testStreamingUploadOffsetMismatch() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		byte[] data = getBuffer("/pictures/android-gps.jpg").getBytes();
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		int firstEnd = data.length / 2;
+
+		JsonObject first = streamChunk(node.getUuid(), data, 0, firstEnd, null, 202);
+		String uploadId = first.getJsonObject("properties").getString("uploadId");
+
+		// The chunk skips some of the data
+		JsonObject error = streamChunk(node.getUuid(), data, firstEnd + 10, data.length, uploadId, 400);
+		assertFailure(error, "upload_error_offset_mismatch", String.valueOf(firstEnd), String.valueOf(firstEnd + 10));
+
+		// The first chunk of an upload must start at 0
+		error = streamChunk(node.getUuid(), data, 10, data.length, null, 400);
+		assertFailure(error, "upload_error_offset_mismatch", "0", "10");
+
+		// The upload can still be completed from the correct offset
+		streamChunk(node.getUuid(), data, firstEnd, data.length, uploadId, 201);
+	}
+
+	@Test
+	public void testStreamingUploadWithNoPerm() throws IOException {
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		byte[] data = getBuffer("/pictures/android-gps.jpg").getBytes();
+		NodeResponse node = createBinaryNode(parentNodeUuid);
+		JsonObject first = streamChunk(node.getUuid(), data, 0, data.length / 2, null, 202);
+		String uploadId = first.getJsonObject("properties").getString("uploadId");
+
+		try (Tx tx = tx()) {
+			RoleDao roleDao = tx.roleDao();
+			roleDao.revokePermissions(role(), tx.nodeDao().findByUuid(project(), node.getUuid()), UPDATE_PERM);
+			tx.success();
+		}
+
+		// Neither a new upload nor the started upload are accepted
+		JsonObject error = streamChunk(node.getUuid(), data, 0, data.length, null, 403);
+		assertFailure(error, "error_missing_perm", node.getUuid(), UPDATE_PERM.getRestPerm().getName());
+		error = streamChunk(node.getUuid(), data, data.length / 2, data.length, uploadId, 403);
+		assertFailure(error, "error_missing_perm", node.getUuid(), UPDATE_PERM.getRestPerm().getName());
+
+		// Only the data of the chunk which was accepted before the permission was revoked is stored
+		MeshCoreAssertion.assertThat(testContext).hasTempUploads(1);
+	}
+
+	private HttpUrl.Builder streamUrl(String nodeUuid) {
+		return prepareUrl(CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/nodes/" + nodeUuid + "/binary/binary/stream").newBuilder();
+	}
+
+	/**
+	 * Send the data from start (inclusive) to end (exclusive) as a chunk of a streaming upload and assert the response status.
+	 */
+	private JsonObject streamChunk(String nodeUuid, byte[] data, int start, int end, String uploadId, int expectedStatus) throws IOException {
+		HttpUrl.Builder url = streamUrl(nodeUuid)
+			.addQueryParameter("language", "en")
+			.addQueryParameter("nodeVersion", "0.1");
+		if (uploadId == null) {
+			url.addQueryParameter("filename", "test.jpg");
+		} else {
+			url.addQueryParameter("uploadId", uploadId);
+		}
+		Request request = new Request.Builder()
+			.url(url.build())
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.addHeader("Content-Range", "bytes " + start + "-" + (end - 1) + "/" + data.length)
+			.post(RequestBody.create(MediaType.parse("image/jpeg"), Arrays.copyOfRange(data, start, end)))
+			.build();
+		try (Response response = httpClient().newCall(request).execute()) {
+			String body = response.body().string();
+			assertEquals("Unexpected response: " + body, expectedStatus, response.code());
+			return new JsonObject(body);
+		}
+	}
+
 	/**
 	 * Assert that deleting a binary node will also remove the stored binary file.
 	 * 
@@ -0,0 +1,130 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.parameter.client.SchemaUpdateParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLFilterPlanTest extends AbstractMeshTest {
+
+	@Test
+	public void testSchemaFilter() {
+		GraphQLResponse response = query("{ nodes(filter: { schema: { is: folder } }, perPage: 1000) { elements { uuid } } }");
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		JsonObject plan = getPlan(response);
+		assertThat(plan.getString("path")).isEqualTo("/nodes");
+		assertThat(plan.getString("source")).isEqualTo("schema");
+		assertThat(plan.getBoolean("inMemory")).isTrue();
+
+		// The regex can not be used for a lookup, thus all nodes of the project will be filtered
+		GraphQLResponse fallbackResponse = query("{ nodes(filter: { schema: { name: { regex: \"^folder$\" } } }, perPage: 1000) { elements { uuid } } }");
+		assertThat(fallbackResponse.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(getPlan(fallbackResponse).getString("source")).isEqualTo("project");
+
+		assertThat(getUuids(response)).as("Found folders").isNotEmpty().containsExactlyInAnyOrderElementsOf(getUuids(fallbackResponse));
+	}
+
+	@Test
+	public void testSchemaFilterWithOlderSchemaVersion() {
+		// Create a new schema version which is not assigned to the branch
+		String contentSchemaUuid = tx(() -> schemaContainer("content").getUuid());
+		SchemaUpdateRequest request = JsonUtil.readValue(tx(() -> schemaContainer("content").getLatestVersion().getJson()), SchemaUpdateRequest.class);
+		request.addField(FieldUtil.createStringFieldSchema("extraField"));
+		call(() -> client().updateSchema(contentSchemaUuid, request, new SchemaUpdateParametersImpl().setUpdateAssignedBranches(false)));
+
+		GraphQLResponse response = query("{ nodes(filter: { schema: { is: content } }, perPage: 1000) { elements { uuid } } }");
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(getPlan(response).getString("source")).isEqualTo("schema");
+
+		GraphQLResponse fallbackResponse = query("{ nodes(filter: { schema: { name: { regex: \"^content$\" } } }, perPage: 1000) { elements { uuid } } }");
+		assertThat(fallbackResponse.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(getPlan(fallbackResponse).getString("source")).isEqualTo("project");
+
+		assertThat(getUuids(response)).as("Found contents").isNotEmpty().containsExactlyElementsOf(getUuids(fallbackResponse));
+	}
+
+	@Test
+	public void testUuidFilterOrder() {
+		List<String> uuids = tx(() -> List.of(folder("2015").getUuid(), content().getUuid(), folder("news").getUuid()));
+		List<String> reversed = new ArrayList<>(uuids);
+		Collections.reverse(reversed);
+
+		GraphQLResponse response = query("{ nodes(filter: { uuid: { oneOf: [\"" + String.join("\", \"", reversed) + "\"] } }) { elements { uuid } } }");
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(getPlan(response).getString("source")).isEqualTo("uuid");
+
+		GraphQLResponse fallbackResponse = query("{ nodes(filter: { uuid: { regex: \"^(" + String.join("|", uuids) + ")$\" } }) { elements { uuid } } }");
+		assertThat(fallbackResponse.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(getPlan(fallbackResponse).getString("source")).isEqualTo("project");
+
+		// The nodes are returned in the order of the project and not in the order of the filter
+		assertThat(getUuids(response)).hasSize(3).containsExactlyElementsOf(getUuids(fallbackResponse));
+	}
+
+	@Test
+	public void testUuidFilter() {
+		String uuid = tx(() -> content().getUuid());
+		String otherUuid = tx(() -> folder("2015").getUuid());
+		GraphQLResponse response = query("{ nodes(filter: { uuid: { oneOf: [\"" + uuid + "\", \"" + otherUuid
+			+ "\", \"bogus\"] }, schema: { is: content } }) { elements { uuid } } }");
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+
+		// The schema filter is applied in memory
+		assertThat(getUuids(response)).containsExactly(uuid);
+		assertThat(getPlan(response).getString("source")).isEqualTo("uuid");
+	}
+
+	@Test
+	public void testFallback() {
+		GraphQLResponse response = query("{ nodes(filter: { fields: { content: { slug: { equals: \"News_2015.en.html\" } } } }) { elements { uuid } } }");
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(getPlan(response).getString("source")).isEqualTo("project");
+		assertThat(getPlan(response).getString("pushedDown")).isNull();
+	}
+
+	@Test
+	public void testNoDebug() {
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME,
+			new GraphQLRequest().setQuery("{ nodes(filter: { schema: { is: folder } }) { elements { uuid } } }")));
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(response.getExtensions()).as("Extensions").isNull();
+	}
+
+	private GraphQLResponse query(String query) {
+		GraphQLRequest request = new GraphQLRequest().setQuery(query).setExtensions(new JsonObject().put("debug", true));
+		return call(() -> client().graphql(PROJECT_NAME, request));
+	}
+
+	private List<String> getUuids(GraphQLResponse response) {
+		return response.getData().getJsonObject("nodes").getJsonArray("elements").stream()
+			.map(element -> ((JsonObject) element).getString("uuid"))
+			.collect(Collectors.toList());
+	}
+
+	private JsonObject getPlan(GraphQLResponse response) {
+		assertThat(response.getExtensions()).as("Extensions").isNotNull();
+		JsonArray plans = response.getExtensions().getJsonArray("filterPlans");
+		assertThat(plans).as("Filter plans").hasSize(1);
+		return plans.getJsonObject(0);
+	}
+}
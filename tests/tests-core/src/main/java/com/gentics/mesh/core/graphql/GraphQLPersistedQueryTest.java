@@ -0,0 +1,59 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.google.common.hash.Hashing;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.PROJECT, startServer = true)
+public class GraphQLPersistedQueryTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ me { uuid } }";
+
+	@Test
+	public void testPersistedQuery() {
+		String hash = Hashing.sha256().hashString(QUERY, StandardCharsets.UTF_8).toString();
+
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, persistedQueryRequest(hash)));
+		assertThat(response.getData()).as("Data of unknown persisted query").isNull();
+		assertThat(response.getErrors()).hasSize(1);
+		assertThat(response.getErrors().get(0).getMessage()).isEqualTo("PersistedQueryNotFound");
+
+		// Register the query
+		response = call(() -> client().graphql(PROJECT_NAME, persistedQueryRequest(hash).setQuery(QUERY)));
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(response.getData().getJsonObject("me").getString("uuid")).isEqualTo(userUuid());
+
+		// Only send the hash
+		response = call(() -> client().graphql(PROJECT_NAME, persistedQueryRequest(hash)));
+		assertThat(response.getErrors()).as("Errors").isNullOrEmpty();
+		assertThat(response.getData().getJsonObject("me").getString("uuid")).isEqualTo(userUuid());
+	}
+
+	@Test
+	public void testHashMismatch() {
+		String hash = Hashing.sha256().hashString("{ project { name } }", StandardCharsets.UTF_8).toString();
+
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, persistedQueryRequest(hash).setQuery(QUERY)));
+		assertThat(response.getData()).isNull();
+		assertThat(response.getErrors()).hasSize(1);
+		assertThat(response.getErrors().get(0).getMessage()).isEqualTo("provided sha does not match query");
+	}
+
+	private GraphQLRequest persistedQueryRequest(String hash) {
+		JsonObject persistedQuery = new JsonObject().put("version", 1).put("sha256Hash", hash);
+		return new GraphQLRequest().setExtensions(new JsonObject().put("persistedQuery", persistedQuery));
+	}
+}
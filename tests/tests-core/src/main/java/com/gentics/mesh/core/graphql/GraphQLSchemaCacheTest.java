@@ -0,0 +1,72 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.PROJECT, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	private static final String SCHEMA_NAME = "cachetest";
+
+	private static final String FIELDS_QUERY = "{ __type(name: \"" + SCHEMA_NAME + "Fields\") { fields { name } } }";
+
+	@Test
+	public void testSchemaChangesAreVisible() {
+		// Build and cache the schema without the new type
+		assertThat(fieldNames()).as("Fields of the not yet created schema").isNull();
+
+		SchemaCreateRequest createRequest = new SchemaCreateRequest();
+		createRequest.setName(SCHEMA_NAME);
+		createRequest.addField(FieldUtil.createStringFieldSchema("title"));
+		SchemaResponse schema = call(() -> client().createSchema(createRequest));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, schema.getUuid()));
+
+		assertThat(fieldNames()).as("Fields of the created schema").containsExactly("title");
+
+		SchemaUpdateRequest updateRequest = new SchemaUpdateRequest().setName(SCHEMA_NAME);
+		updateRequest.addField(FieldUtil.createStringFieldSchema("title"));
+		updateRequest.addField(FieldUtil.createStringFieldSchema("teaser"));
+		call(() -> client().updateSchema(schema.getUuid(), updateRequest));
+
+		assertThat(fieldNames()).as("Fields of the updated schema").containsExactly("title", "teaser");
+	}
+
+	@Test
+	public void testRepeatedQueries() {
+		for (int i = 0; i < 5; i++) {
+			GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ project { name } }"));
+			assertThat(response.getData().getJsonObject("project").getString("name")).isEqualTo(PROJECT_NAME);
+		}
+	}
+
+	private List<String> fieldNames() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, FIELDS_QUERY));
+		JsonObject type = response.getData().getJsonObject("__type");
+		if (type == null) {
+			return null;
+		}
+		JsonArray fields = type.getJsonArray("fields");
+		return fields.stream()
+			.map(JsonObject.class::cast)
+			.map(field -> field.getString("name"))
+			.collect(Collectors.toList());
+	}
+}
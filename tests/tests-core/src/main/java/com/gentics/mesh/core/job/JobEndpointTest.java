@@ -213,6 +213,25 @@ public class JobEndpointTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testFindByStatus() {
+		String jobUuid = tx(tx -> {
+			return tx.jobDao().enqueueBranchMigration(user(), initialBranch()).getUuid();
+		});
+
+		tx(tx -> {
+			assertThat(tx.jobDao().findByStatus(QUEUED).stream().map(HibJob::getUuid)).as("Queued jobs").contains(jobUuid);
+			assertThat(tx.jobDao().findByStatus(COMPLETED).stream().map(HibJob::getUuid)).as("Completed jobs").doesNotContain(jobUuid);
+		});
+
+		triggerAndWaitForJob(jobUuid, FAILED);
+
+		tx(tx -> {
+			assertThat(tx.jobDao().findByStatus(QUEUED).stream().map(HibJob::getUuid)).as("Queued jobs").doesNotContain(jobUuid);
+			assertThat(tx.jobDao().findByStatus(FAILED).stream().map(HibJob::getUuid)).as("Failed jobs").contains(jobUuid);
+		});
+	}
+
 	@Test
 	public void testLoadBogusJob() {
 		grantAdmin();
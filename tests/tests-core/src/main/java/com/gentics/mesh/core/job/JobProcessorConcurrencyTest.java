@@ -0,0 +1,105 @@
+package com.gentics.mesh.core.job;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.test.TestSize.PROJECT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.job.HibJob;
+import com.gentics.mesh.core.data.job.HibVersionPurgeJob;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.db.CommonTx;
+import com.gentics.mesh.core.jobs.JobProcessorImpl;
+import com.gentics.mesh.core.jobs.SingleJobProcessor;
+import com.gentics.mesh.core.rest.job.JobType;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.reactivex.Completable;
+
+/**
+ * Test that the jobs of different projects are processed concurrently, while the jobs of the same project are processed one after another.
+ */
+@MeshTestSetting(testSize = PROJECT, startServer = false)
+public class JobProcessorConcurrencyTest extends AbstractMeshTest {
+
+	private static final long JOB_DURATION = 500;
+
+	private final AtomicInteger running = new AtomicInteger();
+
+	private final AtomicInteger maxRunning = new AtomicInteger();
+
+	private final Map<String, AtomicInteger> runningPerProject = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicInteger> maxRunningPerProject = new ConcurrentHashMap<>();
+
+	private final List<String> processed = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void testConcurrentProjects() {
+		List<String> jobUuids = tx(tx -> {
+			HibProject otherProject = createProject("otherProject", "folder");
+			return List.of(
+				tx.jobDao().enqueueVersionPurge(user(), project()).getUuid(),
+				tx.jobDao().enqueueVersionPurge(user(), otherProject).getUuid(),
+				tx.jobDao().enqueueVersionPurge(user(), project()).getUuid(),
+				tx.jobDao().enqueueVersionPurge(user(), otherProject).getUuid());
+		});
+
+		MeshOptions options = mock(MeshOptions.class);
+		when(options.getJobConcurrency()).thenReturn(2);
+		SingleJobProcessor purgeProcessor = this::process;
+		JobProcessorImpl processor = new JobProcessorImpl(Map.of(JobType.versionpurge, purgeProcessor), db(), vertx(), options,
+			mock(MetricsService.class));
+		processor.process().blockingAwait(10, TimeUnit.SECONDS);
+
+		assertThat(processed).as("Processed jobs").containsExactlyInAnyOrderElementsOf(jobUuids);
+		assertThat(processed.indexOf(jobUuids.get(0))).as("Position of the first job of the project")
+			.isLessThan(processed.indexOf(jobUuids.get(2)));
+		assertThat(processed.indexOf(jobUuids.get(1))).as("Position of the first job of the other project")
+			.isLessThan(processed.indexOf(jobUuids.get(3)));
+		assertThat(maxRunning.get()).as("Maximum amount of concurrent jobs").isEqualTo(2);
+		assertThat(maxRunningPerProject).hasSize(2);
+		maxRunningPerProject.forEach((project, max) -> {
+			assertThat(max.get()).as("Maximum amount of concurrent jobs of project " + project).isEqualTo(1);
+		});
+	}
+
+	private Completable process(HibJob job) {
+		return Completable.fromAction(() -> {
+			String jobUuid = tx(() -> job.getUuid());
+			String projectUuid = tx(() -> ((HibVersionPurgeJob) job).getProject().getUuid());
+			AtomicInteger projectRunning = runningPerProject.computeIfAbsent(projectUuid, key -> new AtomicInteger());
+			AtomicInteger projectMax = maxRunningPerProject.computeIfAbsent(projectUuid, key -> new AtomicInteger());
+
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			projectMax.accumulateAndGet(projectRunning.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(JOB_DURATION);
+			} finally {
+				projectRunning.decrementAndGet();
+				running.decrementAndGet();
+			}
+
+			tx(tx -> {
+				HibJob loaded = tx.jobDao().findByUuid(jobUuid);
+				loaded.setStopTimestamp();
+				loaded.setStatus(COMPLETED);
+				CommonTx.get().jobDao().mergeIntoPersisted(loaded);
+			});
+			processed.add(jobUuid);
+		});
+	}
+}
@@ -0,0 +1,59 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.navigation.NavigationElement;
+import com.gentics.mesh.core.rest.navigation.NavigationResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.NavigationParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.MeshOptionChanger;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = MeshOptionChanger.NAVIGATION_CACHE)
+public class NavigationCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testReadCachedNavigation() {
+		String uuid = tx(() -> project().getBaseNode().getUuid());
+		NavigationResponse first = call(() -> client().loadNavigation(PROJECT_NAME, uuid, new NavigationParametersImpl().setMaxDepth(2),
+			new VersioningParametersImpl().draft()));
+		NavigationResponse second = call(() -> client().loadNavigation(PROJECT_NAME, uuid, new NavigationParametersImpl().setMaxDepth(2),
+			new VersioningParametersImpl().draft()));
+		assertEquals(first.toJson(), second.toJson());
+		assertTrue("The navigation should have been cached", mesh().navigationCache().size() > 0);
+
+		// A different depth must not return the cached navigation
+		NavigationResponse depthOne = call(() -> client().loadNavigation(PROJECT_NAME, uuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertThat(depthOne).hasDepth(1).isValid(4);
+	}
+
+	@Test
+	public void testCreateInvalidatesNavigation() {
+		String uuid = tx(() -> project().getBaseNode().getUuid());
+		NavigationResponse before = call(() -> client().loadNavigation(PROJECT_NAME, uuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+
+		NodeResponse[] created = new NodeResponse[1];
+		waitForEvent(NODE_CREATED.getAddress(), () -> {
+			created[0] = createNode(uuid, "slug", FieldUtil.createStringField("navigation-cache"));
+		});
+
+		NavigationResponse after = call(() -> client().loadNavigation(PROJECT_NAME, uuid, new NavigationParametersImpl().setMaxDepth(1),
+			new VersioningParametersImpl().draft()));
+		assertEquals(before.getChildren().size() + 1, after.getChildren().size());
+		assertThat(after.getChildren().stream().map(NavigationElement::getUuid).collect(Collectors.toList())).contains(created[0].getUuid());
+	}
+}
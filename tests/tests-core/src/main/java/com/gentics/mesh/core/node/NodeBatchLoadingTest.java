@@ -0,0 +1,105 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.HibBaseElement;
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.tag.HibTag;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+/**
+ * Test that the batch reads of the DAOs return the same data as the reads for the single nodes.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class NodeBatchLoadingTest extends AbstractMeshTest {
+
+	@Test
+	public void testContents() {
+		try (Tx tx = tx()) {
+			ContentDao contentDao = tx.contentDao();
+			String branchUuid = latestBranch().getUuid();
+			Set<HibNode> nodes = getNodes(tx);
+			for (ContainerType type : new ContainerType[] { ContainerType.DRAFT, ContainerType.PUBLISHED }) {
+				Map<HibNode, List<HibNodeFieldContainer>> containers = contentDao.getFieldsContainers(nodes, branchUuid, type);
+				assertThat(containers).hasSameSizeAs(nodes);
+				for (HibNode node : nodes) {
+					assertThat(uuids(containers.get(node)))
+						.as("Contents of " + node.getUuid())
+						.containsExactlyInAnyOrderElementsOf(uuids(contentDao.getFieldContainers(node, latestBranch(), type).list()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testChildrenAndParents() {
+		try (Tx tx = tx()) {
+			NodeDao nodeDao = tx.nodeDao();
+			String branchUuid = latestBranch().getUuid();
+			Set<HibNode> nodes = getNodes(tx);
+
+			Map<HibNode, List<HibNode>> children = nodeDao.getChildren(nodes, branchUuid);
+			Map<HibNode, HibNode> parents = nodeDao.getParentNodes(nodes, branchUuid);
+			for (HibNode node : nodes) {
+				assertThat(uuids(children.get(node)))
+					.as("Children of " + node.getUuid())
+					.containsExactlyInAnyOrderElementsOf(uuids(nodeDao.getChildren(node, branchUuid).list()));
+				HibNode parent = nodeDao.getParentNode(node, branchUuid);
+				if (parent == null) {
+					assertThat(parents.get(node)).as("Parent of " + node.getUuid()).isNull();
+				} else {
+					assertThat(parents.get(node).getUuid()).as("Parent of " + node.getUuid()).isEqualTo(parent.getUuid());
+				}
+			}
+			assertThat(children.get(project().getBaseNode())).as("Children of the base node").isNotEmpty();
+
+			Map<HibNode, List<HibNode>> breadcrumbs = nodeDao.getBreadcrumbNodesMap(nodes, mockActionContext());
+			for (HibNode node : nodes) {
+				assertThat(uuids(breadcrumbs.get(node)))
+					.as("Breadcrumb of " + node.getUuid())
+					.containsExactlyElementsOf(uuids(nodeDao.getBreadcrumbNodes(node, mockActionContext()).list()));
+			}
+		}
+	}
+
+	@Test
+	public void testTags() {
+		try (Tx tx = tx()) {
+			HibBranch branch = latestBranch();
+			Set<HibNode> nodes = getNodes(tx);
+			Map<HibNode, List<HibTag>> tags = tx.tagDao().getTags(nodes, branch);
+			for (HibNode node : nodes) {
+				assertThat(uuids(tags.get(node)))
+					.as("Tags of " + node.getUuid())
+					.containsExactlyInAnyOrderElementsOf(uuids(tx.tagDao().getTags(node, branch).list()));
+			}
+			assertThat(tags.values().stream().mapToInt(List::size).sum()).as("Total amount of tags").isGreaterThan(0);
+		}
+	}
+
+	private Set<HibNode> getNodes(Tx tx) {
+		return new HashSet<>(tx.nodeDao().findAll(project()).list());
+	}
+
+	private List<String> uuids(Iterable<? extends HibBaseElement> elements) {
+		List<String> uuids = new ArrayList<>();
+		elements.forEach(element -> uuids.add(element.getUuid()));
+		return uuids;
+	}
+}
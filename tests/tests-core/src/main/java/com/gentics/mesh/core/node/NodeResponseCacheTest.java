@@ -0,0 +1,68 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.dao.RoleDao;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.MeshOptionChanger;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = MeshOptionChanger.NODE_RESPONSE_CACHE)
+public class NodeResponseCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testReadCachedResponse() {
+		String uuid = tx(() -> content().getUuid());
+		NodeResponse first = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeResponse second = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertEquals(first.toJson(), second.toJson());
+		assertTrue("The response should have been cached", mesh().nodeResponseCache().size() > 0);
+
+		// Different parameters must not return the cached response
+		NodeResponse german = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new NodeParametersImpl().setLanguages("de")));
+		assertEquals("de", german.getLanguage());
+	}
+
+	@Test
+	public void testUpdateInvalidatesResponse() {
+		String uuid = tx(() -> content().getUuid());
+		NodeResponse before = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(before.getVersion());
+		request.getFields().put("slug", FieldUtil.createStringField("cached-slug"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+		NodeResponse after = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		assertNotEquals(before.getVersion(), after.getVersion());
+		assertEquals("cached-slug", after.getFields().getStringField("slug").getString());
+	}
+
+	@Test
+	public void testPermissionsAreChecked() {
+		String uuid = tx(() -> content().getUuid());
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+
+		try (Tx tx = tx()) {
+			RoleDao roleDao = tx.roleDao();
+			roleDao.revokePermissions(role(), content(), READ_PERM);
+			tx.success();
+		}
+
+		call(() -> client().findNodeByUuid(PROJECT_NAME, uuid), FORBIDDEN, "error_missing_perm", uuid, READ_PERM.getRestPerm().getName());
+	}
+}
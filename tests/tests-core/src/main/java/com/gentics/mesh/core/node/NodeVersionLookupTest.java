@@ -0,0 +1,88 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.HibNodeFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.util.VersionNumber;
+
+/**
+ * Test the lookup of node versions in long version chains.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class NodeVersionLookupTest extends AbstractMeshTest {
+
+	private static final int VERSION_COUNT = 200;
+
+	@Test
+	public void testFindVersion() {
+		try (Tx tx = tx()) {
+			ContentDao contentDao = tx.contentDao();
+			HibNode node = content();
+			HibBranch branch = latestBranch();
+			List<VersionNumber> versions = new ArrayList<>();
+			for (int i = 0; i < VERSION_COUNT; i++) {
+				HibNodeFieldContainer draft = contentDao.getLatestDraftFieldContainer(node, english());
+				HibNodeFieldContainer container = contentDao.createFieldContainer(node, english(), branch, user(), draft, true);
+				versions.add(container.getVersion());
+			}
+
+			HibNodeFieldContainer draft = contentDao.getLatestDraftFieldContainer(node, english());
+			for (VersionNumber version : versions) {
+				HibNodeFieldContainer found = contentDao.findVersion(node, english(), branch.getUuid(), version.toString());
+				assertThat(found).as("Container of version " + version).isNotNull();
+				assertThat(found.getVersion()).isEqualTo(version);
+				assertThat(found.getUuid()).isEqualTo(walkToVersion(draft, version).getUuid());
+			}
+
+			// The versions before the created versions must be found as well
+			HibNodeFieldContainer first = walkToVersion(draft, new VersionNumber());
+			assertThat(draft.findPreviousVersion(new VersionNumber()).getUuid()).isEqualTo(first.getUuid());
+
+			assertThat(contentDao.findVersion(node, english(), branch.getUuid(), "1000.0")).isNull();
+			assertThat(contentDao.findVersion(node, english(), branch.getUuid(), "0.1000")).isNull();
+			assertThat(contentDao.findVersion(node, english(), branch.getUuid(), "bogus")).isNull();
+		}
+	}
+
+	@Test
+	public void testFindVersionInUnorderedChain() {
+		try (Tx tx = tx()) {
+			ContentDao contentDao = tx.contentDao();
+			HibNode node = content();
+			HibBranch branch = latestBranch();
+			List<HibNodeFieldContainer> containers = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				HibNodeFieldContainer draft = contentDao.getLatestDraftFieldContainer(node, english());
+				containers.add(contentDao.createFieldContainer(node, english(), branch, user(), draft, true));
+			}
+
+			// Legacy chains of multiple branches may contain versions which are lower than the versions of their previous containers
+			HibNodeFieldContainer draft = contentDao.getLatestDraftFieldContainer(node, english());
+			contentDao.setVersion(draft, new VersionNumber(0, 0));
+			for (HibNodeFieldContainer container : containers) {
+				HibNodeFieldContainer found = draft.findPreviousVersion(container.getVersion());
+				assertThat(found).as("Container of version " + container.getVersion()).isNotNull();
+				assertThat(found.getUuid()).isEqualTo(container.getUuid());
+			}
+		}
+	}
+
+	private HibNodeFieldContainer walkToVersion(HibNodeFieldContainer container, VersionNumber version) {
+		while (container != null && !version.equals(container.getVersion())) {
+			container = container.getPreviousVersion();
+		}
+		return container;
+	}
+}
@@ -78,7 +78,7 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			tx.groupDao().removeUser(group, user);
 		});
 
-		assertPermissions("removing user from group");
+		assertPermissions("removing user from group", false);
 
 		// add user to group
 		db().tx(tx -> {
@@ -87,7 +87,7 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			tx.groupDao().addUser(group, user);
 		});
 
-		assertPermissions("adding user to group", InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
+		assertPermissions("adding user to group", false, InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
 				InternalPermission.UPDATE_PERM, InternalPermission.DELETE_PERM);
 	}
 
@@ -103,7 +103,7 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			tx.groupDao().removeRole(group, role);
 		});
 
-		assertPermissions("removing role from group");
+		assertPermissions("removing role from group", false);
 
 		// add role to group
 		db().tx(tx -> {
@@ -112,7 +112,7 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			tx.groupDao().addRole(group, role);
 		});
 
-		assertPermissions("adding role to group", InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
+		assertPermissions("adding role to group", false, InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
 				InternalPermission.UPDATE_PERM, InternalPermission.DELETE_PERM);
 	}
 
@@ -141,11 +141,11 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			tx.groupDao().delete(group, new DummyBulkActionContext());
 		});
 
-		assertPermissions("deleting group");
+		assertPermissions("deleting group", false);
 	}
 
 	/**
-	 * Test deleting the user
+	 * Test deleting the user. The cached permissions of the role set are still valid for other users.
 	 */
 	@Test
 	public void testDeleteUser() {
@@ -157,7 +157,47 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			HibUser user = tx.userDao().findByUuid(userUuid);
 			tx.userDao().delete(user, new DummyBulkActionContext());
 		});
-		assertThat(getPermissionCacheSize()).as("Cache size after deleting user").isEqualTo(0);
+		assertThat(getPermissionCacheSize()).as("Cache size after deleting user").isEqualTo(1);
+		assertPermissions("deleting another user", false, InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
+				InternalPermission.UPDATE_PERM, InternalPermission.DELETE_PERM);
+	}
+
+	/**
+	 * Test that users with the same roles share the cached permissions
+	 */
+	@Test
+	public void testSharedRoleSet() {
+		db().tx(tx -> {
+			HibGroup group = tx.groupDao().findByUuid(groupUuid());
+			HibUser otherUser = tx.userDao().create("blub", user());
+			tx.groupDao().addUser(group, otherUser);
+		});
+
+		db().tx(tx -> {
+			HibProject project = tx.projectDao().findByUuid(projectUuid());
+			HibUser otherUser = tx.userDao().findByUsername("blub");
+			String roleSetId = tx.permissionCache().getRoleSetId(otherUser.getId(), () -> tx.userDao().getRolesHash(otherUser));
+			assertThat(roleSetId).as("Role set of the other user").isEqualTo(tx.userDao().getRolesHash(tx.userDao().findByUuid(userUuid())));
+			assertThat(tx.permissionCache().hasPermission(roleSetId, InternalPermission.READ_PERM, project.getId()))
+					.as("Cached permission for the other user").isTrue();
+		});
+		assertThat(getPermissionCacheSize()).as("Cache size after checking the permissions of the other user").isEqualTo(1);
+	}
+
+	/**
+	 * Test that changing the permissions on another element does not invalidate the cached permissions
+	 */
+	@Test
+	public void testChangePermissionOnOtherElement() {
+		db().tx(tx -> {
+			HibGroup group = tx.groupDao().findByUuid(groupUuid());
+			HibRole role = tx.roleDao().findByUuid(roleUuid());
+			tx.roleDao().revokePermissions(role, group, InternalPermission.UPDATE_PERM);
+		});
+
+		assertThat(getPermissionCacheSize()).as("Cache size after changing permissions on another element").isEqualTo(1);
+		assertPermissions("changing permissions on another element", false, InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
+				InternalPermission.UPDATE_PERM, InternalPermission.DELETE_PERM);
 	}
 
 	/**
@@ -189,7 +229,7 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			InternalActionContext ac = getMockedInternalActionContext("", admin, project(), request);
 			tx.userDao().update(user, ac, new DummyEventQueueBatch());
 		});
-		assertPermissions("granting admin flag", InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
+		assertPermissions("granting admin flag", false, InternalPermission.CREATE_PERM, InternalPermission.READ_PERM,
 				InternalPermission.UPDATE_PERM, InternalPermission.DELETE_PERM);
 	}
 
@@ -222,7 +262,7 @@ public class PermissionCacheTest extends AbstractMeshTest {
 			InternalActionContext ac = getMockedInternalActionContext("", admin, project(), request);
 			tx.userDao().update(user, ac, new DummyEventQueueBatch());
 		});
-		assertPermissions("revoking admin flag");
+		assertPermissions("revoking admin flag", false);
 	}
 
 	/**
@@ -249,19 +289,31 @@ public class PermissionCacheTest extends AbstractMeshTest {
 		});
 	}
 
+	/**
+	 * Assert that the permission cache was cleared and that the user has exactly the given permissions.
+	 * @param state "state" of the test procedure (e.g. what was the last action performed)
+	 * @param perms expected permissions
+	 */
+	protected void assertPermissions(String state, InternalPermission...perms) {
+		assertPermissions(state, true, perms);
+	}
+
 	/**
 	 * Assert that
 	 * <ol>
-	 * <li>Permission cache is empty before checking the permissions</li>
+	 * <li>Permission cache is empty before checking the permissions (if expected to be cleared)</li>
 	 * <li>The user has exactly the given permissions on the project</li>
 	 * <li>Permission cache is no longer empty after checking the permissions</li>
 	 * </ol>
 	 * @param state "state" of the test procedure (e.g. what was the last action performed)
+	 * @param cleared whether the cached permissions are expected to be cleared. Changes of the role assignments only clear the role sets of the users.
 	 * @param perms expected permissions
 	 */
-	protected void assertPermissions(String state, InternalPermission...perms) {
-		// cache is supposed to be cleared
-		assertThat(getPermissionCacheSize()).as("Cache size after " + state).isEqualTo(0);
+	protected void assertPermissions(String state, boolean cleared, InternalPermission...perms) {
+		if (cleared) {
+			// cache is supposed to be cleared
+			assertThat(getPermissionCacheSize()).as("Cache size after " + state).isEqualTo(0);
+		}
 
 		// get permissions
 		assertThat(getPermissionsOnProject()).as("Permissions after " + state).containsOnly(perms);
@@ -0,0 +1,54 @@
+package com.gentics.mesh.core.schema;
+
+import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.schema.HibSchemaVersion;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.test.MeshOptionChanger;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = MeshOptionChanger.PARALLEL_MIGRATION)
+public class NodeMigrationParallelTest extends AbstractMeshTest {
+
+	@Test
+	public void testParallelMigration() {
+		String schemaUuid = tx(() -> schemaContainer("content").getUuid());
+		HibSchemaVersion fromVersion = tx(() -> schemaContainer("content").getLatestVersion());
+		long containerCount = tx(tx -> {
+			return tx.schemaDao().findDraftFieldContainers(fromVersion, initialBranchUuid()).count();
+		});
+		assertThat(containerCount).as("Containers to be migrated").isGreaterThan(1);
+
+		SchemaResponse schema = call(() -> client().findSchemaByUuid(schemaUuid));
+		SchemaUpdateRequest request = schema.toUpdateRequest();
+		request.getFields().add(FieldUtil.createStringFieldSchema("extraField"));
+
+		JobListResponse jobs = waitForJobs(() -> {
+			call(() -> client().updateSchema(schemaUuid, request));
+		}, COMPLETED, 1);
+
+		tx(tx -> {
+			assertThat(tx.schemaDao().findDraftFieldContainers(fromVersion, initialBranchUuid()).count())
+				.as("Containers which were not migrated").isEqualTo(0);
+		});
+
+		JobResponse job = jobs.getData().get(0);
+		assertThat(job.getCompletionCount()).as("Completion count").isEqualTo(containerCount);
+		String partitionCounts = job.getProperties().get("partitionCompletionCounts");
+		assertThat(partitionCounts).as("Partition completion counts").isNotNull();
+		long sum = Arrays.stream(partitionCounts.split(",")).mapToLong(Long::parseLong).sum();
+		assertThat(sum).as("Sum of partition completion counts").isEqualTo(containerCount);
+	}
+}
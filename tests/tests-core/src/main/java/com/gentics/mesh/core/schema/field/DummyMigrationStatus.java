@@ -1,5 +1,8 @@
 package com.gentics.mesh.core.schema.field;
 
+import java.util.Collections;
+import java.util.List;
+
 import com.gentics.mesh.core.data.branch.HibBranchVersionAssignment;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.rest.job.JobStatus;
@@ -59,4 +62,19 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted(int increment) {
 
 	}
+
+	@Override
+	public void setPartitionCount(int partitionCount) {
+
+	}
+
+	@Override
+	public void incCompleted(int partition, int increment) {
+
+	}
+
+	@Override
+	public List<Long> getPartitionCompletionCounts() {
+		return Collections.emptyList();
+	}
 }
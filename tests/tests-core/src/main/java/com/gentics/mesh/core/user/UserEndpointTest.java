@@ -309,6 +309,28 @@ public class UserEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		call(() -> client().findUserByUuid(uuid), UNAUTHORIZED, "error_not_authorized");
 	}
 
+	@Test
+	public void testAPITokenOfDeletedUser() {
+		String uuid = createUser("apiuser").getUuid();
+		String token = call(() -> client().issueAPIToken(uuid)).getToken();
+		String username = tx(() -> user().getUsername());
+
+		// Authenticate once so that the user is cached
+		client().setLogin(null, null);
+		client().setAPIKey(token);
+		assertEquals("apiuser", call(() -> client().me()).getUsername());
+
+		client().setAPIKey(null);
+		client().setLogin(username, data().getUserInfo().getPassword());
+		client().login().blockingGet();
+		waitForEvent(USER_DELETED, () -> call(() -> client().deleteUser(uuid)));
+
+		// The cached user must not be used anymore
+		client().setLogin(null, null);
+		client().setAPIKey(token);
+		call(() -> client().me(), UNAUTHORIZED, "error_not_authorized");
+	}
+
 	@Test
 	public void testIssueAPIKeyWithoutPerm() {
 		tx((tx) -> {
@@ -0,0 +1,99 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.etc.config.ClusterOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WriteLockTest {
+
+	private static final WriteLockScope PROJECT_A = WriteLockScope.project("a");
+
+	private static final WriteLockScope PROJECT_B = WriteLockScope.project("b");
+
+	@Test
+	public void testProjectLocksAreIndependent() {
+		WriteLock writeLock = createLock(true);
+		try (WriteLock a = writeLock.lock(null, PROJECT_A)) {
+			try (WriteLock b = writeLock.lock(null, PROJECT_B)) {
+				assertThatThrownBy(() -> writeLock.lock(null, PROJECT_A)).hasMessageContaining("timeout");
+			}
+		}
+		// The lock has been released
+		writeLock.lock(null, PROJECT_A).close();
+	}
+
+	@Test
+	public void testGlobalLockExcludesProjectLocks() {
+		WriteLock writeLock = createLock(true);
+		try (WriteLock a = writeLock.lock(null, PROJECT_A)) {
+			assertThatThrownBy(() -> writeLock.lock(null)).hasMessageContaining("timeout");
+		}
+		try (WriteLock global = writeLock.lock(null)) {
+			assertThatThrownBy(() -> writeLock.lock(null, PROJECT_B)).hasMessageContaining("timeout");
+		}
+		writeLock.lock(null, PROJECT_B).close();
+	}
+
+	@Test
+	public void testSingleLockWithoutProjectScopes() {
+		WriteLock writeLock = createLock(false);
+		try (WriteLock a = writeLock.lock(null, PROJECT_A)) {
+			assertThatThrownBy(() -> writeLock.lock(null, PROJECT_B)).hasMessageContaining("timeout");
+		}
+		writeLock.lock(null, PROJECT_B).close();
+	}
+
+	@Test
+	public void testSkippedLockIsNotReleased() {
+		WriteLock writeLock = createLock(false);
+		InternalActionContext ac = mock(InternalActionContext.class);
+		when(ac.isSkipWriteLock()).thenReturn(true);
+		try (WriteLock outer = writeLock.lock(null)) {
+			writeLock.lock(ac).close();
+			assertThatThrownBy(() -> writeLock.lock(null)).hasMessageContaining("timeout");
+		}
+	}
+
+	@Test
+	public void testCloseIsIdempotent() {
+		WriteLock writeLock = createLock(true);
+		WriteLock lock = writeLock.lock(null, PROJECT_A);
+		lock.close();
+		lock.close();
+		try (WriteLock a = writeLock.lock(null, PROJECT_A)) {
+			assertThat(a).isNotNull();
+			assertThatThrownBy(() -> writeLock.lock(null, PROJECT_A)).hasMessageContaining("timeout");
+		}
+	}
+
+	private WriteLock createLock(boolean perProject) {
+		MeshOptions options = mock(MeshOptions.class);
+		when(options.getClusterOptions()).thenReturn(new ClusterOptions());
+		MetricsService metrics = mock(MetricsService.class, CALLS_REAL_METHODS);
+		doReturn(new SimpleMeterRegistry()).when(metrics).getMetricRegistry();
+
+		return new AbstractGenericWriteLock(options, () -> null, metrics, null) {
+			@Override
+			protected boolean isSyncWritesPerProject() {
+				return perProject;
+			}
+
+			@Override
+			protected long getSyncWritesTimeoutMillis() {
+				return 50;
+			}
+		};
+	}
+}
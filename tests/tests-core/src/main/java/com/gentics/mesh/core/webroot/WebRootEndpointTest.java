@@ -184,6 +184,29 @@ public class WebRootEndpointTest extends AbstractMeshTest {
 		assertThat(response.getNodeResponse()).is(node).hasLanguage("en");
 	}
 
+	@Test
+	public void testSegmentCacheInvalidation() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		String renamedPath = "/News/2015-renamed";
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015", new VersioningParametersImpl().draft()));
+		call(() -> client().webroot(PROJECT_NAME, "/News/2014", new VersioningParametersImpl().draft()));
+
+		updateSlug(uuid, "en", "2015-renamed", initialBranchUuid());
+
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015", new VersioningParametersImpl().draft()), NOT_FOUND,
+				"node_not_found_for_path", "/News/2015");
+		MeshWebrootResponse response = call(
+				() -> client().webroot(PROJECT_NAME, renamedPath, new VersioningParametersImpl().draft()));
+		assertEquals(uuid, response.getNodeUuid());
+
+		// The segment of the sibling must not have been invalidated
+		tx(() -> {
+			HibNode child = mesh().webrootSegmentCache().getChild(folder("news"), initialBranchUuid(), ContainerType.DRAFT, "2014");
+			assertNotNull("The segment of the unchanged folder should still be cached", child);
+			assertEquals(folder("2014").getUuid(), child.getUuid());
+		});
+	}
+
 	@Test
 	public void testReadFolderByPathAndResolveLinks() {
 		HibNode content = content("news_2015");
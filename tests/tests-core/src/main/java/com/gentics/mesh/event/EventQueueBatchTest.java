@@ -0,0 +1,116 @@
+package com.gentics.mesh.event;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.VertxOptions;
+import com.gentics.mesh.event.impl.EventQueueBatchImpl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+public class EventQueueBatchTest {
+
+	private Vertx vertx;
+
+	private MeshOptions options;
+
+	private List<Message<JsonObject>> messages = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void setup() throws Exception {
+		vertx = Vertx.vertx();
+		options = mock(MeshOptions.class);
+		when(options.getVertxOptions()).thenReturn(new VertxOptions());
+		when(options.getNodeName()).thenReturn("dummy");
+		vertx.eventBus().<JsonObject>consumer(NODE_CREATED.address, messages::add);
+		vertx.eventBus().<JsonObject>consumer(NODE_UPDATED.address, messages::add);
+		vertx.eventBus().<JsonObject>consumer(NODE_DELETED.address, messages::add);
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testCoalescing() throws Exception {
+		EventQueueBatch batch = new EventQueueBatchImpl(vertx, options);
+		batch.add(event(NODE_UPDATED, "a"));
+		batch.add(event(NODE_UPDATED, "a"));
+		batch.add(event(NODE_UPDATED, "b"));
+		batch.dispatch();
+
+		waitForMessages(2);
+		assertThat(messages).extracting(message -> message.body().getString("uuid")).containsExactly("a", "b");
+	}
+
+	@Test
+	public void testNonConsecutiveDuplicates() throws Exception {
+		EventQueueBatch batch = new EventQueueBatchImpl(vertx, options);
+		batch.add(event(NODE_CREATED, "a"));
+		batch.add(event(NODE_DELETED, "a"));
+		batch.add(event(NODE_CREATED, "a"));
+		batch.dispatch();
+
+		waitForMessages(3);
+		assertThat(messages).extracting(Message::address).containsExactly(NODE_CREATED.address, NODE_DELETED.address, NODE_CREATED.address);
+	}
+
+	@Test
+	public void testBatching() throws Exception {
+		options.getVertxOptions().getEventBusOptions().setBatchEvents(true);
+		EventQueueBatch batch = new EventQueueBatchImpl(vertx, options);
+		batch.add(event(NODE_CREATED, "a"));
+		batch.add(event(NODE_UPDATED, "a"));
+		batch.add(event(NODE_UPDATED, "b"));
+		batch.add(event(NODE_UPDATED, "c"));
+		batch.add(event(NODE_CREATED, "d"));
+		batch.dispatch();
+
+		waitForMessages(3);
+		assertThat(messages).extracting(Message::address).containsExactly(NODE_CREATED.address, NODE_UPDATED.address, NODE_CREATED.address);
+		assertThat(EventBatchEnvelope.isEnvelope(messages.get(0).body())).as("Single event is sent in envelope").isFalse();
+		assertThat(EventBatchEnvelope.isEnvelope(messages.get(1).body())).as("Consecutive events are sent in envelope").isTrue();
+		assertThat(EventBatchEnvelope.unpack(messages.get(1)))
+			.extracting(message -> message.body().getString("uuid"))
+			.containsExactly("a", "b", "c");
+		assertThat(EventBatchEnvelope.unpack(messages.get(1)))
+			.extracting(Message::address)
+			.containsOnly(NODE_UPDATED.address);
+	}
+
+	private NodeMeshEventModel event(MeshEvent event, String uuid) {
+		NodeMeshEventModel model = new NodeMeshEventModel();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		return model;
+	}
+
+	private void waitForMessages(int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+		while (messages.size() < count) {
+			assertThat(System.currentTimeMillis()).as("Timeout while waiting for messages").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+		// Make sure that no additional messages are received
+		Thread.sleep(100);
+		assertThat(messages).hasSize(count);
+	}
+}
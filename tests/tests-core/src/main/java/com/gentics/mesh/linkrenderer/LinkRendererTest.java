@@ -276,6 +276,26 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testMultipleLinks() {
+		try (Tx tx = tx()) {
+			String uuid = content("news overview").getUuid();
+			String missingUuid = UUIDUtil.randomUUID();
+			final String content = "{{mesh.link('" + uuid + "')}} - {{mesh.link(\"" + missingUuid + "\")}} - {{mesh.link('" + uuid + "', 'en')}}";
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.SHORT, null,
+					null);
+
+			assertEquals("Check rendered content", "/News/News%20Overview.en.html - /error/404 - /News/News%20Overview.en.html", replacedContent);
+
+			// Render the content again to use the cached paths
+			replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.MEDIUM, "dummy",
+					null);
+			assertEquals("Check rendered content", "/dummy/News/News%20Overview.en.html - /dummy/error/404 - /dummy/News/News%20Overview.en.html",
+					replacedContent);
+		}
+	}
+
 	@Test
 	public void testNodeReplace() throws IOException, InterruptedException, ExecutionException {
 		try (Tx tx = tx()) {
@@ -0,0 +1,68 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.MeshVersion.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.ElasticsearchTestMode.CONTAINER_ES6;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.role.RolePermissionRequest;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
+import com.gentics.mesh.test.MeshTestSetting;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+@MeshTestSetting(elasticsearch = CONTAINER_ES6, testSize = TestSize.PROJECT_AND_NODE, startServer = true)
+public class NodeSearchSourceTest extends AbstractMeshTest {
+
+	@Test
+	public void testSourceResponse() throws Exception {
+		recreateIndices();
+		NodeResponse response = createNode("slug", FieldUtil.createStringField("slugblub"));
+		String json = getESText("nodeWildcard.es");
+		waitForSearchIdleEvent();
+
+		NodeListResponse list = call(() -> client().searchNodes(PROJECT_NAME, json));
+		JsonObject sourceList = searchSource(json);
+		JsonArray data = sourceList.getJsonArray("data");
+		assertEquals("The documents of the same nodes should be returned", list.getData().size(), data.size());
+		assertEquals(list.getMetainfo().getTotalCount(), sourceList.getJsonObject("_metainfo").getLong("totalCount").longValue());
+
+		JsonObject document = data.getJsonObject(0);
+		assertEquals(response.getUuid(), document.getString("uuid"));
+		assertEquals("en", document.getString("language"));
+		assertFalse("The role uuids must not be returned", document.containsKey("_roleUuids"));
+
+		// Revoke read permission
+		RolePermissionRequest request = new RolePermissionRequest();
+		request.getPermissions().setRead(false);
+		call(() -> client().updateRolePermissions(roleUuid(), "/projects/" + PROJECT_NAME + "/nodes/" + response.getUuid(), request));
+
+		waitForSearchIdleEvent();
+		assertEquals("The document should not be returned since the requestor has no permission to see it", 0,
+			searchSource(json).getJsonArray("data").size());
+	}
+
+	private JsonObject searchSource(String query) throws IOException {
+		String body = httpClient().newCall(new Request.Builder()
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.url(prepareUrl(CURRENT_API_BASE_PATH + "/search/nodes", new SearchParametersImpl().setSource(true)))
+			.post(RequestBody.create(MediaType.parse("application/json"), query))
+			.build()).execute().body().string();
+		return new JsonObject(body);
+	}
+}
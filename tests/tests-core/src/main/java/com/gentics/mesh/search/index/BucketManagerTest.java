@@ -108,6 +108,26 @@ public class BucketManagerTest extends AbstractMeshTest {
 		}
 	}
 
+	/**
+	 * Assert that split buckets cover the range of the split bucket without gaps.
+	 */
+	@Test
+	public void testSplit() {
+		options().getSearchOptions().setSyncBatchSize(0);
+		Bucket bucket = mesh().bucketManager().getBuckets(1).blockingFirst();
+		List<Bucket> subBuckets = bucket.split(8);
+		assertEquals(8, subBuckets.size());
+		assertBuckets(subBuckets, 0);
+
+		// Small buckets are split into single element buckets
+		List<Bucket> smallBuckets = new Bucket(10, 12, 0, 1).split(8);
+		assertEquals(3, smallBuckets.size());
+		for (int i = 0; i < smallBuckets.size(); i++) {
+			assertEquals(10 + i, smallBuckets.get(i).start());
+			assertEquals(10 + i, smallBuckets.get(i).end());
+		}
+	}
+
 	private void assertBuckets(List<Bucket> buckets, int batchSize) {
 		Bucket prev = null;
 		for (Bucket bucket : buckets) {
@@ -57,4 +57,27 @@ public class NodeIndexSyncTest extends AbstractMeshTest {
 		assertThat(response.getData()).as("Published search result").usingElementComparatorOnFields("uuid").containsOnly(concorde);
 
 	}
+
+	/**
+	 * Assert that the sync also restores missing documents when the buckets are compared by checksums and split down to single documents.
+	 */
+	@Test
+	public void testNodeSyncWithChecksums() throws Exception {
+		options().getSearchOptions().setSyncChecksumLeafSize(1);
+		recreateIndices();
+
+		String uuid = db().tx(() -> content("concorde").getUuid());
+		NodeResponse concorde = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		call(() -> client().publishNode(PROJECT_NAME, uuid));
+		waitForSearchIdleEvent();
+
+		grantAdmin();
+		searchProvider().clear().blockingAwait();
+
+		call(() -> client().invokeIndexSync());
+		waitForSearchIdleEvent();
+
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleQuery("fields.content", "supersonic")));
+		assertThat(response.getData()).as("Published search result").usingElementComparatorOnFields("uuid").containsOnly(concorde);
+	}
 }
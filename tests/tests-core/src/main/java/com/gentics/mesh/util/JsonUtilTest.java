@@ -99,6 +99,40 @@ public class JsonUtilTest {
 		assertEquals("anonymous", username);
 	}
 
+	@Test
+	public void testMinify() {
+		NodeResponse node = createNode();
+
+		String pretty = JsonUtil.toJson(node);
+		String minified = JsonUtil.toJson(node, true);
+		assertThat(pretty).contains("\n");
+		assertThat(minified).doesNotContain("\n").doesNotContain(" : ");
+		assertEquals(new JsonObject(pretty), new JsonObject(minified));
+		assertEquals(minified, JsonUtil.toJsonBuffer(node, true).toString());
+		assertEquals(pretty, JsonUtil.toJsonBuffer(node, false).toString());
+	}
+
+	@Test
+	public void testToJsonObject() {
+		NodeResponse node = createNode();
+
+		JsonObject json = JsonUtil.toJsonObject(node);
+		assertEquals(new JsonObject(node.toJson()), json);
+		assertEquals("testtext", json.getJsonObject("fields").getString("test"));
+
+		NodeResponse node2 = JsonUtil.readValue(json.encode(), NodeResponse.class);
+		assertEquals("testtext", node2.getFields().getStringField("test").getString());
+	}
+
+	private NodeResponse createNode() {
+		NodeResponse node = new NodeResponse();
+		node.setUuid("dummyUuid");
+		FieldMap fields = new FieldMapImpl();
+		fields.put("test", FieldUtil.createStringField("testtext"));
+		node.setFields(fields);
+		return node;
+	}
+
 	@Test
 	public void testSchema() throws JsonProcessingException {
 		String json = JsonUtil.getJsonSchema(NodeResponse.class);
@@ -0,0 +1,129 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.search.index.metric.BulkMeters;
+import com.gentics.mesh.search.verticle.bulk.BulkDispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Flowable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+
+public class BulkDispatcherTest {
+
+	private BulkMeters meters;
+	private Map<SearchRequest, PublishProcessor<Object>> responses;
+
+	@Before
+	public void setUp() {
+		MetricsService metrics = mock(MetricsService.class, CALLS_REAL_METHODS);
+		doReturn(new SimpleMeterRegistry()).when(metrics).getMetricRegistry();
+		meters = new BulkMeters(metrics);
+		responses = new HashMap<>();
+	}
+
+	@Test
+	public void testConcurrency() {
+		BulkDispatcher dispatcher = new BulkDispatcher(2, meters);
+		SearchRequest a = bulkable("a");
+		SearchRequest b = bulkable("b");
+		SearchRequest c = bulkable("c");
+
+		dispatch(dispatcher, a).assertComplete();
+		dispatch(dispatcher, b).assertComplete();
+		TestObserver<Void> third = dispatch(dispatcher, c).assertNotComplete();
+		assertThat(dispatcher.getInFlight()).isEqualTo(2);
+		assertThat(meters.getInFlight()).isEqualTo(2);
+
+		complete(b);
+		third.assertComplete();
+		assertThat(dispatcher.getInFlight()).isEqualTo(2);
+
+		complete(a);
+		complete(c);
+		assertThat(dispatcher.getInFlight()).isEqualTo(0);
+		assertThat(meters.getInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	public void testSameDocumentIsNotSentConcurrently() {
+		BulkDispatcher dispatcher = new BulkDispatcher(4, meters);
+		SearchRequest first = bulkable("a", "b");
+		SearchRequest second = bulkable("b", "c");
+
+		dispatch(dispatcher, first).assertComplete();
+		TestObserver<Void> waiting = dispatch(dispatcher, second).assertNotComplete();
+		assertThat(responses).doesNotContainKey(second);
+
+		complete(first);
+		waiting.assertComplete();
+		assertThat(responses).containsKey(second);
+	}
+
+	@Test
+	public void testNonBulkableIsExclusive() {
+		BulkDispatcher dispatcher = new BulkDispatcher(4, meters);
+		SearchRequest bulk = bulkable("a");
+		SearchRequest createIndex = mock(SearchRequest.class);
+		SearchRequest other = bulkable("b");
+
+		dispatch(dispatcher, bulk).assertComplete();
+		TestObserver<Void> exclusive = dispatch(dispatcher, createIndex).assertNotComplete();
+
+		complete(bulk);
+		exclusive.assertComplete();
+
+		TestObserver<Void> following = dispatch(dispatcher, other).assertNotComplete();
+		complete(createIndex);
+		following.assertComplete();
+	}
+
+	@Test
+	public void testFailedRequestIsReleased() {
+		BulkDispatcher dispatcher = new BulkDispatcher(1, meters);
+		SearchRequest first = bulkable("a");
+		SearchRequest second = bulkable("a");
+
+		dispatch(dispatcher, first).assertComplete();
+		TestObserver<Void> waiting = dispatch(dispatcher, second).assertNotComplete();
+
+		responses.get(first).onError(new RuntimeException("Request failed"));
+		waiting.assertComplete();
+	}
+
+	private TestObserver<Void> dispatch(BulkDispatcher dispatcher, SearchRequest request) {
+		return dispatcher.dispatch(request, this::send).test();
+	}
+
+	private Flowable<?> send(SearchRequest request) {
+		PublishProcessor<Object> response = PublishProcessor.create();
+		responses.put(request, response);
+		return response;
+	}
+
+	private void complete(SearchRequest request) {
+		responses.get(request).onComplete();
+	}
+
+	private Bulkable bulkable(String... ids) {
+		Bulkable request = mock(Bulkable.class);
+		when(request.requestCount()).thenReturn(1);
+		when(request.documentKeys()).thenReturn(Arrays.asList(ids));
+		return request;
+	}
+}
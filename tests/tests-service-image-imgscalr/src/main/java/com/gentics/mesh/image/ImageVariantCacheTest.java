@@ -0,0 +1,155 @@
+package com.gentics.mesh.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.image.CacheFileInfo;
+import com.gentics.mesh.core.image.spi.ImageVariantCache;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageVariantCacheTest extends AbstractImageTest {
+
+	private static final String SHA512SUM = String.join("", Collections.nCopies(16, "0123abcd"));
+
+	private final Vertx vertx = Vertx.vertx();
+
+	private ImageManipulatorOptions options;
+
+	@Before
+	public void setup() {
+		super.setup();
+		options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
+	}
+
+	@Test
+	public void testCoalescing() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+		SingleSubject<String> resize = SingleSubject.create();
+		AtomicInteger resizes = new AtomicInteger();
+
+		TestObserver<String> first = cache.getOrCreate(SHA512SUM, params(100), basePath -> {
+			resizes.incrementAndGet();
+			return resize;
+		}).test();
+		waitFor(() -> resizes.get() == 1);
+
+		TestObserver<String> second = cache.getOrCreate(SHA512SUM, params(100), basePath -> {
+			resizes.incrementAndGet();
+			return resize;
+		}).test();
+
+		String path = cache.get(SHA512SUM, params(100)).blockingGet().path;
+		resize.onSuccess(write(path + ".jpg", 10));
+
+		first.await(5, TimeUnit.SECONDS);
+		second.await(5, TimeUnit.SECONDS);
+		first.assertValue(path + ".jpg");
+		second.assertValue(path + ".jpg");
+		assertThat(resizes.get()).as("Amount of resize operations").isEqualTo(1);
+
+		CacheFileInfo info = cache.get(SHA512SUM, params(100)).blockingGet();
+		assertThat(info.exists).as("Variant is cached").isTrue();
+		assertThat(info.path).isEqualTo(path + ".jpg");
+		assertThat(cache.getBytes()).isEqualTo(10);
+	}
+
+	@Test
+	public void testEvictionBySize() throws Exception {
+		options.setImageCacheMaxSize(150);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+
+		String first = create(cache, params(100), 100);
+		String second = create(cache, params(200), 100);
+
+		assertThat(cache.getBytes()).isEqualTo(100);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get(SHA512SUM, params(100)).blockingGet().exists).as("Evicted variant is cached").isFalse();
+		assertThat(cache.get(SHA512SUM, params(200)).blockingGet().exists).as("Recent variant is cached").isTrue();
+		waitFor(() -> !new File(first).exists());
+		assertThat(new File(second)).exists();
+	}
+
+	@Test
+	public void testEvictionByAge() throws Exception {
+		options.setImageCacheMaxAge(100);
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+
+		String path = create(cache, params(100), 10);
+		Thread.sleep(200);
+
+		assertThat(cache.get(SHA512SUM, params(100)).blockingGet().exists).as("Expired variant is cached").isFalse();
+		assertThat(cache.getBytes()).isEqualTo(0);
+		waitFor(() -> !new File(path).exists());
+	}
+
+	@Test
+	public void testRemovedFile() throws Exception {
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+		String path = create(cache, params(100), 10);
+		assertThat(new File(path).delete()).as("Cache file was deleted").isTrue();
+
+		CacheFileInfo info = cache.get(SHA512SUM, params(100)).blockingGet();
+		assertThat(info.exists).as("Removed variant is cached").isFalse();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.getBytes()).isEqualTo(0);
+
+		// The variant is created again
+		String recreated = create(cache, params(100), 20);
+		assertThat(recreated).isEqualTo(path);
+		assertThat(new File(recreated)).exists();
+		assertThat(cache.getBytes()).isEqualTo(20);
+	}
+
+	@Test
+	public void testLoadIndex() throws Exception {
+		String path = create(new ImageVariantCache(vertx, options, null), params(100), 42);
+
+		ImageVariantCache cache = new ImageVariantCache(vertx, options, null);
+		CacheFileInfo info = cache.get(SHA512SUM, params(100)).blockingGet();
+		assertThat(info.exists).as("Variant is cached").isTrue();
+		assertThat(info.path).isEqualTo(path);
+		assertThat(cache.getBytes()).isEqualTo(42);
+		assertThat(cache.get(SHA512SUM, params(200)).blockingGet().exists).as("Other variant is cached").isFalse();
+	}
+
+	private String create(ImageVariantCache cache, ImageManipulationParameters params, int size) {
+		return cache.getOrCreate(SHA512SUM, params, basePath -> Single.fromCallable(() -> write(basePath + ".jpg", size))).blockingGet();
+	}
+
+	private String write(String path, int size) throws IOException {
+		File file = new File(path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), new byte[size]);
+		return path;
+	}
+
+	private ImageManipulationParameters params(int width) {
+		return new ImageManipulationParametersImpl().setWidth(width);
+	}
+
+	private void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertThat(System.currentTimeMillis()).as("Timeout while waiting for condition").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+}
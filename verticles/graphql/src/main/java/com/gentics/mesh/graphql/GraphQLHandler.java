@@ -17,8 +17,12 @@ import com.gentics.mesh.core.db.Database;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
 import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.cache.GraphQLQueryCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
+import com.gentics.mesh.graphql.cache.PersistedQueryCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
+import com.gentics.mesh.graphql.filter.NodeFilterPlanner;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.metric.SimpleMetric;
@@ -46,6 +50,10 @@ import org.dataloader.DataLoaderRegistry;
 public class GraphQLHandler {
 	public static final String SLOW_QUERY_LOGGER_NAME = "com.gentics.mesh.graphql.SlowQuery";
 
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
+	public static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
+
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
 	private static final Logger slowQueryLog = LoggerFactory.getLogger(SLOW_QUERY_LOGGER_NAME);
@@ -59,6 +67,15 @@ public class GraphQLHandler {
 	@Inject
 	public Vertx vertx;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLQueryCache queryCache;
+
+	@Inject
+	public PersistedQueryCache persistedQueryCache;
+
 	private Timer graphQlTimer;
 
 	private GraphQLOptions graphQLOptions;
@@ -83,15 +100,30 @@ public class GraphQLHandler {
 			AtomicReference<String> loggableQuery = new AtomicReference<>();
 			AtomicReference<Map<String, Object>> loggableVariables = new AtomicReference<>();
 			try {
+				JsonObject queryJson = new JsonObject(body);
+				// extract query body and variables from the sent body
+				String persistedQueryHash = extractPersistedQueryHash(queryJson);
+				String query = persistedQueryHash == null
+					? queryJson.getString("query")
+					: resolvePersistedQuery(gc, persistedQueryHash, queryJson.getString("query"));
+				if (query == null && persistedQueryHash != null) {
+					// The error response has already been sent
+					promise.complete();
+					return;
+				}
+				Map<String, Object> variables = extractVariables(queryJson);
+				if (isDebugRequested(queryJson)) {
+					gc.put(NodeFilterPlanner.DEBUG_KEY, true);
+				}
+				// store for possibly logging it later
+				loggableQuery.set(query);
+				loggableVariables.set(variables);
 				db.tx(tx -> {
-					JsonObject queryJson = new JsonObject(body);
-					// extract query body and variables from the sent body
-					String query = queryJson.getString("query");
-					Map<String, Object> variables = extractVariables(queryJson);
-					// store for possibly logging it later
-					loggableQuery.set(query);
-					loggableVariables.set(variables);
-					GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).instrumentation(new DataLoaderDispatcherInstrumentation()).build();
+					String schemaKey = schemaCache.createCacheKey(gc);
+					GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc, schemaKey))
+						.instrumentation(new DataLoaderDispatcherInstrumentation())
+						.preparsedDocumentProvider(queryCache.forSchema(schemaKey))
+						.build();
 
 					DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
 					DataLoaderOptions options = DataLoaderOptions.newOptions().setBatchLoaderContextProvider(() -> gc);
@@ -127,6 +159,10 @@ public class GraphQLHandler {
 						Map<String, Object> data = result.getData();
 						response.put("data", new JsonObject(data));
 					}
+					List<JsonObject> filterPlans = gc.get(NodeFilterPlanner.PLANS_KEY);
+					if (filterPlans != null) {
+						response.put("extensions", new JsonObject().put("filterPlans", new JsonArray(filterPlans)));
+					}
 					gc.send(response.encodePrettily(), OK);
 					promise.complete();
 				});
@@ -147,6 +183,79 @@ public class GraphQLHandler {
 		.subscribe();
 	}
 
+	/**
+	 * Extract the hash of the persisted query from the <code>persistedQuery</code> extension of the request.
+	 *
+	 * @param request
+	 *            The request body
+	 * @return The SHA-256 hash or null, if the request does not reference a persisted query
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
+	/**
+	 * Check whether the request enables the debug information via the <code>debug</code> extension.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private boolean isDebugRequested(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		return extensions != null && extensions.getBoolean("debug", false);
+	}
+
+	/**
+	 * Resolve the persisted query. If the request contains only the hash, the query will be loaded from the {@link PersistedQueryCache}. If it contains both
+	 * the query and the hash, the query will be registered. Errors are sent in the format which is expected by clients that support automatic persisted
+	 * queries.
+	 *
+	 * @param gc
+	 *            Context which is used to send error responses
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @param query
+	 *            Query of the request or null, if only the hash was sent
+	 * @return The query or null, if an error response has been sent
+	 */
+	private String resolvePersistedQuery(GraphQLContext gc, String hash, String query) {
+		if (persistedQueryCache.isDisabled()) {
+			sendPersistedQueryError(gc, PERSISTED_QUERY_NOT_SUPPORTED, "PERSISTED_QUERY_NOT_SUPPORTED");
+			return null;
+		}
+		String normalizedHash = hash.toLowerCase();
+		if (query == null) {
+			query = persistedQueryCache.get(normalizedHash);
+			if (query == null) {
+				sendPersistedQueryError(gc, PERSISTED_QUERY_NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND");
+			}
+			return query;
+		}
+		if (!normalizedHash.equals(GraphQLQueryCache.hash(query))) {
+			sendPersistedQueryError(gc, "provided sha does not match query", "INVALID_PERSISTED_QUERY_HASH");
+			return null;
+		}
+		persistedQueryCache.store(normalizedHash, query);
+		return query;
+	}
+
+	private void sendPersistedQueryError(GraphQLContext gc, String message, String code) {
+		JsonObject error = new JsonObject()
+			.put("message", message)
+			.put("type", code)
+			.put("extensions", new JsonObject().put("code", code));
+		JsonObject response = new JsonObject().put("errors", new JsonArray().add(error));
+		gc.send(response.encodePrettily(), OK);
+	}
+
 	/**
 	 * Extracts the variables of a query as a map. Returns empty map if no variables are found.
 	 *
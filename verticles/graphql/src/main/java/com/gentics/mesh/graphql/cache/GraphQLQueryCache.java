@@ -0,0 +1,83 @@
+package com.gentics.mesh.graphql.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.SimpleMetric;
+import com.google.common.hash.Hashing;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache for parsed and validated GraphQL query documents. The validation result depends on the GraphQL schema which was used. Thus the entries are keyed by
+ * the {@link GraphQLSchemaCache#createCacheKey(com.gentics.mesh.graphql.context.GraphQLContext) schema key} and the SHA-256 hash of the query.
+ */
+@Singleton
+public class GraphQLQueryCache extends AbstractMeshCache<String, PreparsedDocumentEntry> {
+
+	private final Timer parseTimer;
+
+	@Inject
+	public GraphQLQueryCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics) {
+		super(createCache(factory, options.getGraphQLOptions().getQueryCacheSize()), registry, options.getGraphQLOptions().getQueryCacheSize());
+		this.parseTimer = metrics.timer(SimpleMetric.GRAPHQL_PARSE_TIME);
+	}
+
+	private static EventAwareCache<String, PreparsedDocumentEntry> createCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, PreparsedDocumentEntry>builder()
+			.events(GraphQLSchemaCache.EVENTS)
+			.action((event, cache) -> {
+				cache.invalidate();
+			})
+			.name("graphqlquery")
+			.maxSize(maxSize)
+			.build();
+	}
+
+	/**
+	 * Return a document provider which uses the cache to lookup documents that were validated against the schema with the given key.
+	 *
+	 * @param schemaKey
+	 *            Key of the schema which is used to execute the query
+	 * @return
+	 */
+	public PreparsedDocumentProvider forSchema(String schemaKey) {
+		return (executionInput, computeFunction) -> {
+			Function<ExecutionInput, PreparsedDocumentEntry> timedFunction = input -> {
+				Timer.Sample sample = Timer.start();
+				try {
+					return computeFunction.apply(input);
+				} finally {
+					sample.stop(parseTimer);
+				}
+			};
+			if (isDisabled()) {
+				return timedFunction.apply(executionInput);
+			}
+			String key = schemaKey + "-" + hash(executionInput.getQuery());
+			return get(key, k -> timedFunction.apply(executionInput));
+		};
+	}
+
+	/**
+	 * Return the hex encoded SHA-256 hash of the query.
+	 *
+	 * @param query
+	 * @return
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+}
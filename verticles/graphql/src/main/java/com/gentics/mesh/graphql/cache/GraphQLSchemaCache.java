@@ -0,0 +1,148 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
+import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_REGISTERED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_UNDEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.schema.HibMicroschema;
+import com.gentics.mesh.core.data.schema.HibSchema;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.plugin.GraphQLPluginRegistry;
+import com.gentics.mesh.plugin.graphql.GraphQLPlugin;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for built {@link GraphQLSchema} instances. Building the schema for a project with many schemas and microschemas is expensive and the result only
+ * depends on the project, branch, API version, the used schema and microschema versions and the deployed GraphQL plugins. All of these are part of the
+ * cache key. Thus a changed schema version will never lead to a stale schema being used. The invalidating events are only used to free up entries which are no
+ * longer needed.
+ */
+@Singleton
+public class GraphQLSchemaCache extends AbstractMeshCache<String, GraphQLSchema> {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	/**
+	 * Events which change the GraphQL schema of a project.
+	 */
+	static final MeshEvent EVENTS[] = {
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PLUGIN_REGISTERED,
+		PLUGIN_UNDEPLOYED,
+		CLUSTER_NODE_JOINED,
+		CLUSTER_DATABASE_CHANGE_STATUS
+	};
+
+	private final GraphQLPluginRegistry pluginRegistry;
+
+	@Inject
+	public GraphQLSchemaCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, GraphQLPluginRegistry pluginRegistry) {
+		super(createCache(factory, options.getGraphQLOptions().getSchemaCacheSize()), registry, options.getGraphQLOptions().getSchemaCacheSize());
+		this.pluginRegistry = pluginRegistry;
+	}
+
+	private static EventAwareCache<String, GraphQLSchema> createCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, GraphQLSchema>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqlschema")
+			.maxSize(maxSize)
+			.build();
+	}
+
+	/**
+	 * Create the cache key for the schema which would be built for the given context. The key contains the uuids of all schema and microschema versions which
+	 * are used to build the schema types, so that a new schema version results in a new key.
+	 *
+	 * @param context
+	 * @return
+	 */
+	public String createCacheKey(GraphQLContext context) {
+		Tx tx = Tx.get();
+		HibProject project = tx.getProject(context);
+		HibBranch branch = tx.getBranch(context);
+
+		Set<String> schemaVersions = new TreeSet<>();
+		for (HibSchema schema : tx.schemaDao().findAll(project)) {
+			schemaVersions.add(schema.getLatestVersion().getUuid());
+		}
+		Set<String> microschemaVersions = new TreeSet<>();
+		for (HibMicroschema microschema : tx.microschemaDao().findAll(project)) {
+			microschemaVersions.add(microschema.getLatestVersion().getUuid());
+		}
+		Set<String> plugins = new TreeSet<>();
+		for (GraphQLPlugin plugin : pluginRegistry.getPlugins()) {
+			plugins.add(plugin.id());
+		}
+
+		StringBuilder key = new StringBuilder();
+		key.append(project.getUuid());
+		key.append("-").append(branch.getUuid());
+		key.append("-v").append(context.getApiVersion());
+		key.append("-").append(String.join(",", schemaVersions));
+		key.append("-").append(String.join(",", microschemaVersions));
+		key.append("-").append(String.join(",", plugins));
+		return key.toString();
+	}
+}
@@ -0,0 +1,46 @@
+package com.gentics.mesh.graphql.cache;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+/**
+ * Store for persisted GraphQL queries. Clients may register a query once and afterwards only send the SHA-256 hash of the query. Entries only depend on the
+ * query text and are thus never invalidated by events. Clients which reference an evicted query will receive an error and need to send the full query again.
+ */
+@Singleton
+public class PersistedQueryCache extends AbstractMeshCache<String, String> {
+
+	@Inject
+	public PersistedQueryCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getGraphQLOptions().getPersistedQueryCacheSize()), registry,
+			options.getGraphQLOptions().getPersistedQueryCacheSize());
+	}
+
+	private static EventAwareCache<String, String> createCache(EventAwareCacheFactory factory, long maxSize) {
+		return factory.<String, String>builder()
+			.events()
+			.name("graphqlpersistedquery")
+			.maxSize(maxSize)
+			.build();
+	}
+
+	/**
+	 * Store the query.
+	 *
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @param query
+	 */
+	public void store(String hash, String query) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(hash, query);
+	}
+}
@@ -0,0 +1,238 @@
+package com.gentics.mesh.graphql.filter;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.dao.ContentDao;
+import com.gentics.mesh.core.data.dao.NodeDao;
+import com.gentics.mesh.core.data.dao.SchemaDao;
+import com.gentics.mesh.core.data.dao.UserDao;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.data.schema.HibSchema;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Planner for node filters. The planner translates the supported parts of a {@link NodeFilter} into index based lookups, which narrow down the nodes that
+ * need to be loaded. The whole filter is still applied in memory to the found nodes, thus unsupported parts (e.g. field filters) will work as before.
+ *
+ * Supported are:
+ * <ul>
+ * <li>Node uuid via <code>uuid.equals</code> and <code>uuid.oneOf</code></li>
+ * <li>Schema via <code>schema.is</code>, <code>schema.name.equals</code> and <code>schema.uuid.equals</code></li>
+ * </ul>
+ *
+ * The candidates are returned in the same order as the contents of the project, so that the paging of the result does not depend on the chosen plan.
+ */
+public class NodeFilterPlanner {
+
+	/**
+	 * Context key of the flag which enables the collection of the used plans.
+	 */
+	public static final String DEBUG_KEY = "graphql.filterPlan.debug";
+
+	/**
+	 * Context key of the list of the used plans.
+	 */
+	public static final String PLANS_KEY = "graphql.filterPlans";
+
+	private static final String SOURCE_PROJECT = "project";
+
+	private static final String SOURCE_UUID = "uuid";
+
+	private static final String SOURCE_SCHEMA = "schema";
+
+	private final GraphQLContext context;
+
+	public NodeFilterPlanner(GraphQLContext context) {
+		this.context = context;
+	}
+
+	/**
+	 * Return the contents of the project which may match the filter. An active transaction is required.
+	 *
+	 * @param path
+	 *            Path of the filtered field, which is used for the debug information
+	 * @param filter
+	 *            Filter argument
+	 * @param languageTags
+	 * @param type
+	 * @param fallback
+	 *            Supplier of all contents of the project, which is used when no part of the filter can be used for a lookup
+	 * @return Candidates which still need to be filtered
+	 */
+	public Stream<NodeContent> plan(String path, Map<String, ?> filter, List<String> languageTags, ContainerType type,
+		Supplier<Stream<NodeContent>> fallback) {
+		Set<String> uuids = getStringValues(filter.get("uuid"));
+		if (uuids != null) {
+			record(path, SOURCE_UUID, "uuid");
+			return loadByUuids(uuids, languageTags, type);
+		}
+
+		Object schemaFilter = filter.get("schema");
+		if (schemaFilter instanceof Map) {
+			Map<?, ?> schemaArgs = (Map<?, ?>) schemaFilter;
+			String schemaUuid = schemaArgs.get("is") instanceof String ? (String) schemaArgs.get("is") : getSingleValue(schemaArgs.get("uuid"));
+			String schemaName = getSingleValue(schemaArgs.get("name"));
+			if (schemaUuid != null || schemaName != null) {
+				record(path, SOURCE_SCHEMA, "schema");
+				return loadBySchema(schemaUuid, schemaName, languageTags, type);
+			}
+		}
+
+		record(path, SOURCE_PROJECT, null);
+		return fallback.get();
+	}
+
+	private Stream<NodeContent> loadByUuids(Set<String> uuids, List<String> languageTags, ContainerType type) {
+		Tx tx = Tx.get();
+		NodeDao nodeDao = tx.nodeDao();
+		UserDao userDao = tx.userDao();
+		HibProject project = tx.getProject(context);
+		InternalPermission perm = type == ContainerType.PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
+
+		Stream<HibNode> nodes = uuids.stream()
+			.map(uuid -> nodeDao.findByUuid(project, uuid))
+			.filter(Objects::nonNull)
+			.filter(node -> userDao.hasPermission(context.getUser(), node, perm));
+		return toContents(inProjectOrder(nodes), languageTags, type);
+	}
+
+	private Stream<NodeContent> loadBySchema(String schemaUuid, String schemaName, List<String> languageTags, ContainerType type) {
+		Tx tx = Tx.get();
+		SchemaDao schemaDao = tx.schemaDao();
+		HibProject project = tx.getProject(context);
+
+		HibSchema schema = StreamSupport.stream(schemaDao.findAll(project).spliterator(), false)
+			.filter(s -> schemaUuid == null || schemaUuid.equals(s.getUuid()))
+			.filter(s -> schemaName == null || schemaName.equals(s.getName()))
+			.findFirst()
+			.orElse(null);
+		if (schema == null) {
+			// No node can match a schema which is not assigned to the project
+			return Stream.empty();
+		}
+		HibBranch branch = tx.getBranch(context, project);
+		String branchUuid = branch.getUuid();
+		// The lookup returns the nodes of the schema in all projects
+		String projectUuid = project.getUuid();
+		// The branch may not use the latest version of the schema and the contents of a node may use different versions while they are migrated
+		Stream<? extends HibNode> nodes = schemaDao.findActiveSchemaVersions(branch).stream()
+			.filter(version -> schema.getUuid().equals(version.getSchemaContainer().getUuid()))
+			.flatMap(version -> schemaDao.findNodes(version, branchUuid, context.getUser(), type).stream())
+			.filter(node -> projectUuid.equals(node.getProject().getUuid()))
+			.filter(distinctByUuid());
+		return toContents(inProjectOrder(nodes), languageTags, type);
+	}
+
+	/**
+	 * Sort the nodes by their ids, which is the order in which the nodes of the project are returned when no lookup is used. This way the order of the
+	 * result does not depend on the chosen plan.
+	 *
+	 * @param nodes
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Stream<? extends HibNode> inProjectOrder(Stream<? extends HibNode> nodes) {
+		List<HibNode> list = nodes.collect(Collectors.toList());
+		if (list.stream().allMatch(node -> node.getId() instanceof Comparable)) {
+			list.sort((a, b) -> ((Comparable) a.getId()).compareTo(b.getId()));
+		}
+		return list.stream();
+	}
+
+	private static Predicate<HibNode> distinctByUuid() {
+		Set<String> seen = new HashSet<>();
+		return node -> seen.add(node.getUuid());
+	}
+
+	private Stream<NodeContent> toContents(Stream<? extends HibNode> nodes, List<String> languageTags, ContainerType type) {
+		ContentDao contentDao = Tx.get().contentDao();
+		return nodes
+			.map(node -> new NodeContent(node, contentDao.findVersion(node, context, languageTags, type), languageTags, type))
+			.filter(content -> content.getContainer() != null);
+	}
+
+	/**
+	 * Record the used plan, if debugging is enabled for the request.
+	 *
+	 * @param path
+	 * @param source
+	 * @param pushedDown
+	 *            Filter which was used for the lookup or null if no part of the filter was used
+	 */
+	private void record(String path, String source, String pushedDown) {
+		if (!Boolean.TRUE.equals(context.get(DEBUG_KEY))) {
+			return;
+		}
+		List<JsonObject> plans = context.getOrStore(PLANS_KEY, ArrayList::new);
+		synchronized (plans) {
+			plans.add(new JsonObject()
+				.put("path", path)
+				.put("source", source)
+				.put("pushedDown", pushedDown)
+				.put("inMemory", true));
+		}
+	}
+
+	/**
+	 * Return the value of a string filter which only matches a single value.
+	 *
+	 * @param filter
+	 * @return Value or null if the filter does not only match a single value
+	 */
+	private static String getSingleValue(Object filter) {
+		Set<String> values = getStringValues(filter);
+		return values != null && values.size() == 1 ? values.iterator().next() : null;
+	}
+
+	/**
+	 * Return the values of a string filter which only matches a fixed set of values (<code>equals</code> or <code>oneOf</code>).
+	 *
+	 * @param filter
+	 * @return Values or null if the filter does not match a fixed set of values
+	 */
+	private static Set<String> getStringValues(Object filter) {
+		if (!(filter instanceof Map)) {
+			return null;
+		}
+		Map<?, ?> args = (Map<?, ?>) filter;
+		Object equals = args.get("equals");
+		if (equals instanceof String) {
+			return Set.of((String) equals);
+		}
+		Object oneOf = args.get("oneOf");
+		if (oneOf instanceof Collection) {
+			Set<String> values = new LinkedHashSet<>();
+			for (Object value : (Collection<?>) oneOf) {
+				if (!(value instanceof String)) {
+					return null;
+				}
+				values.add((String) value);
+			}
+			return values;
+		}
+		return null;
+	}
+}
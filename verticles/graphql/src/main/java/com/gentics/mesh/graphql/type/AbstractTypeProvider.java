@@ -42,6 +42,7 @@ import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.NodeFilter;
+import com.gentics.mesh.graphql.filter.NodeFilterPlanner;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
@@ -563,7 +564,15 @@ public abstract class AbstractTypeProvider {
 		List<String> languageTags = getLanguageArgument(env);
 		ContainerType type = getNodeVersion(env);
 
-		Stream<NodeContent> contents = nodeDao.findAllContent(project, gc, languageTags, type);
+		Map<String, ?> filterArgument = env.getArgument("filter");
+		Stream<NodeContent> contents;
+		if (filterArgument != null) {
+			// Narrow down the candidates via lookups for the supported parts of the filter
+			contents = new NodeFilterPlanner(gc).plan(env.getExecutionStepInfo().getPath().toString(), filterArgument, languageTags, type,
+				() -> nodeDao.findAllContent(project, gc, languageTags, type));
+		} else {
+			contents = nodeDao.findAllContent(project, gc, languageTags, type);
+		}
 
 		return applyNodeFilter(env, contents);
 	}
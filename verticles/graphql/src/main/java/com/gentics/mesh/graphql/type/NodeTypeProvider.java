@@ -421,12 +421,14 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				.argument(createNodeVersionArg())
 				.type(new GraphQLTypeReference(NODE_REFERENCE_PAGE_TYPE_NAME))
 				.dataFetcher(env -> {
+					// The schema may be cached and reused for other requests, thus the context of the current request must be used
+					GraphQLContext gc = env.getContext();
 					NodeContent content = env.getSource();
 					ContainerType type = getNodeVersion(env);
-					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(context, content, type);
+					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(gc, content, type);
 					Map<String, ?> filterInput = env.getArgument("filter");
 					if (filterInput != null) {
-						stream = stream.filter(nodeReferenceFilter(context).createPredicate(filterInput));
+						stream = stream.filter(nodeReferenceFilter(gc).createPredicate(filterInput));
 					}
 
 					return new DynamicStreamPageImpl<>(stream, getPagingInfo(env));
@@ -67,6 +67,7 @@ import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.core.rest.error.UuidNotFoundException;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.filter.GroupFilter;
 import com.gentics.mesh.graphql.filter.NodeFilter;
@@ -187,6 +188,9 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 	@Inject
 	public DAOActionsCollection actions;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
 	@Inject
 	public QueryTypeProvider(MeshOptions options) {
 		super(options);
@@ -573,12 +577,37 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 	}
 
 	/**
-	 * Construct the root schema.
+	 * Return the root schema for the project, branch and API version of the context. Previously built schemas will be loaded from the
+	 * {@link GraphQLSchemaCache}.
 	 * 
 	 * @param context
 	 * @return
 	 */
 	public GraphQLSchema getRootSchema(GraphQLContext context) {
+		if (schemaCache.isDisabled()) {
+			return createRootSchema(context);
+		}
+		return getRootSchema(context, schemaCache.createCacheKey(context));
+	}
+
+	/**
+	 * Return the root schema for the context using the given, previously created {@link GraphQLSchemaCache#createCacheKey(GraphQLContext) cache key}.
+	 * 
+	 * @param context
+	 * @param schemaKey
+	 * @return
+	 */
+	public GraphQLSchema getRootSchema(GraphQLContext context, String schemaKey) {
+		return schemaCache.get(schemaKey, key -> createRootSchema(context));
+	}
+
+	/**
+	 * Construct the root schema.
+	 * 
+	 * @param context
+	 * @return
+	 */
+	protected GraphQLSchema createRootSchema(GraphQLContext context) {
 		HibProject project = Tx.get().getProject(context);
 		graphql.schema.GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
 
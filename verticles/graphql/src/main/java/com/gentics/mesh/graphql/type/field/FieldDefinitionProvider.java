@@ -329,7 +329,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			.description(schema.getLabel())
 			.type(new GraphQLList(type))
 			.argument(createPagingArgs());
-		NodeFilter nodeFilter = NodeFilter.filter(context);
 
 		// Add link resolving arg to html and string lists
 		switch (schema.getListType()) {
@@ -339,7 +338,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			break;
 		case "node":
 			fieldType.argument(createNodeVersionArg());
-			fieldType.argument(nodeFilter.createFilterArgument());
+			fieldType.argument(NodeFilter.filter(context).createFilterArgument());
 			break;
 		}
 
@@ -417,7 +416,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					return new NodeContent(node, itemContainer, languageTags, nodeType);
 				}).filter(Objects::nonNull);
 				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
+					nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 				}
 				return nodes
 					.filter(content -> content.getContainer() != null)